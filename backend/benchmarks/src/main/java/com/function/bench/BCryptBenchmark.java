@@ -0,0 +1,54 @@
+package com.function.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de BCrypt por factor: UsuariosFunction hashea con gensalt(12) al crear y al
+ * cambiar la contraseña. Cada +1 duplica el tiempo; sirve para decidir el factor
+ * según lo que tarda una invocación en el plan de la Function App.
+ *
+ * <pre>java -jar target/benchmarks.jar BCryptBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class BCryptBenchmark {
+
+  @Param({ "10", "11", "12" })
+  int costo;
+
+  String password = "Acuarela-2025!";
+  String hash;
+
+  @Setup
+  public void setup() {
+    hash = BCrypt.hashpw(password, BCrypt.gensalt(costo));
+  }
+
+  // como UsuariosFunction: sal nueva en cada hash
+  @Benchmark
+  public String hashpw() {
+    return BCrypt.hashpw(password, BCrypt.gensalt(costo));
+  }
+
+  @Benchmark
+  public boolean checkpw() {
+    return BCrypt.checkpw(password, hash);
+  }
+}
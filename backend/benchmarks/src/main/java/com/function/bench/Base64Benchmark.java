@@ -0,0 +1,55 @@
+package com.function.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Imágenes de obras en Base64: encode es la lectura con includeImage=true
+ * (ObrasFunction.map), decode el POST/PUT con imagenBase64. Tamaños: miniatura, foto
+ * típica y una foto grande; el texto Base64 pesa 4/3 de la imagen, y eso es lo que
+ * viaja en el JSON.
+ *
+ * <pre>java -jar target/benchmarks.jar Base64Benchmark -prof gc</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class Base64Benchmark {
+
+  @Param({ "16384", "262144", "2097152" })
+  int bytes;
+
+  byte[] imagen;
+  String base64;
+
+  @Setup
+  public void setup() {
+    imagen = Datos.imagen(bytes);
+    base64 = Base64.getEncoder().encodeToString(imagen);
+  }
+
+  @Benchmark
+  public String encode() {
+    return Base64.getEncoder().encodeToString(imagen);
+  }
+
+  @Benchmark
+  public byte[] decode() {
+    return Base64.getDecoder().decode(base64);
+  }
+}
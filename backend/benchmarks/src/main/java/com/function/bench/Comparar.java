@@ -0,0 +1,86 @@
+package com.function.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compara dos resultados de JMH en JSON (-rf json), benchmark por benchmark y con los
+ * mismos @Param. Marca "ruido" cuando la diferencia entra en la suma de los errores
+ * (99.9%) de ambas corridas; si no, "mejor"/"peor" según el modo (en thrpt más es
+ * mejor, en avgt/ss/sample menos). Si las dos corridas tienen -prof gc agrega B/op.
+ *
+ * <pre>java -cp target/benchmarks.jar com.function.bench.Comparar results/antes.json results/despues.json</pre>
+ */
+public final class Comparar {
+
+  private static final String ALLOC = "gc.alloc.rate.norm";
+
+  private Comparar() {}
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("uso: Comparar <antes.json> <despues.json>");
+      System.exit(2);
+    }
+    Map<String, JsonNode> antes = leer(args[0]);
+    Map<String, JsonNode> despues = leer(args[1]);
+
+    System.out.printf("%-72s %14s %14s %8s  %-6s %s%n", "benchmark", "antes", "despues", "delta", "", "unidad");
+    for (Map.Entry<String, JsonNode> e : despues.entrySet()) {
+      JsonNode b = e.getValue();
+      JsonNode a = antes.get(e.getKey());
+      String unidad = b.path("primaryMetric").path("scoreUnit").asText();
+      double vb = b.path("primaryMetric").path("score").asDouble();
+      if (a == null) {
+        System.out.printf("%-72s %14s %14.3f %8s  %-6s %s%n", e.getKey(), "-", vb, "", "nuevo", unidad);
+        continue;
+      }
+      double va = a.path("primaryMetric").path("score").asDouble();
+      double ruido = error(a.path("primaryMetric")) + error(b.path("primaryMetric"));
+      boolean masEsMejor = "thrpt".equals(b.path("mode").asText());
+      String veredicto = Math.abs(vb - va) <= ruido ? "ruido" : (vb > va) == masEsMejor ? "mejor" : "peor";
+      System.out.printf("%-72s %14.3f %14.3f %7.1f%%  %-6s %s%n",
+          e.getKey(), va, vb, (vb - va) / va * 100, veredicto, unidad);
+
+      JsonNode allocA = a.path("secondaryMetrics").path(ALLOC);
+      JsonNode allocB = b.path("secondaryMetrics").path(ALLOC);
+      if (!allocA.isMissingNode() && !allocB.isMissingNode()) {
+        System.out.printf("%-72s %14.0f %14.0f %8s  %-6s %s%n", "  " + ALLOC,
+            allocA.path("score").asDouble(), allocB.path("score").asDouble(), "", "", "B/op");
+      }
+    }
+    for (String k : antes.keySet()) {
+      if (!despues.containsKey(k)) System.out.printf("%-72s %14s%n", k, "(ya no está)");
+    }
+  }
+
+  private static Map<String, JsonNode> leer(String archivo) throws IOException {
+    Map<String, JsonNode> out = new LinkedHashMap<>();
+    for (JsonNode r : new ObjectMapper().readTree(new File(archivo))) {
+      out.put(clave(r), r);
+    }
+    return out;
+  }
+
+  // "SerializationBenchmark.obrasWriter [avgt] blackbird=true filas=50"
+  private static String clave(JsonNode r) {
+    String nombre = r.path("benchmark").asText();
+    StringBuilder sb = new StringBuilder(nombre.substring(nombre.lastIndexOf('.', nombre.lastIndexOf('.') - 1) + 1))
+        .append(" [").append(r.path("mode").asText()).append(']');
+    Map<String, String> params = new TreeMap<>();
+    r.path("params").fields().forEachRemaining(p -> params.put(p.getKey(), p.getValue().asText()));
+    params.forEach((k, v) -> sb.append(' ').append(k).append('=').append(v));
+    return sb.toString();
+  }
+
+  private static double error(JsonNode metrica) {
+    double e = metrica.path("scoreError").asDouble(0);
+    return Double.isNaN(e) ? 0 : e;
+  }
+}
@@ -0,0 +1,85 @@
+package com.function.bench;
+
+import com.function.datagen.Generador;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Datos fijos para los benchmarks: las filas salen del {@link Generador} de datagen
+ * (las mismas distribuciones que la carga de prueba) con semilla y fecha fijas, así
+ * dos corridas (o dos commits) miden exactamente las mismas filas e imágenes.
+ */
+public final class Datos {
+
+  private static final long SEMILLA = 20250301L;
+  private static final LocalDate REFERENCIA = LocalDate.of(2025, 3, 1);
+  private static final String[] TIPOS_OBRA = { "Pintura", "Escultura" };
+  private static final String[] TIPOS_EVENTO = { "Exposición", "Subasta" };
+  private static final String[] ROLES = { "admin", "artista", "visitante" };
+
+  private Datos() {}
+
+  /** Bytes pseudoaleatorios (incompresibles, como un JPEG) de la longitud pedida. */
+  public static byte[] imagen(int bytes) {
+    byte[] b = new byte[bytes];
+    new Random(SEMILLA + bytes).nextBytes(b);
+    return b;
+  }
+
+  /** Filas con las columnas de los SELECT de ObrasFunction; imagen solo si imagenBytes > 0. */
+  public static List<Map<String, Object>> filasObras(int n, int imagenBytes) {
+    byte[] imagen = imagenBytes > 0 ? imagen(imagenBytes) : null;
+    List<Map<String, Object>> out = new ArrayList<>(n);
+    generador(n).obras(1).limit(n).forEach(o -> out.add(Filas.fila(
+        "id_obra", o.id(),
+        "id_tipo_obra", o.tipo(),
+        "tipo_nombre", TIPOS_OBRA[(int) o.tipo() - 1],
+        "titulo", o.titulo(),
+        "descripcion", o.descripcion(),
+        "imagen", imagen,
+        "id_azure", o.propietarios().get(0).usuario().toString())));
+    return out;
+  }
+
+  /** Filas con las columnas del SELECT base de EventosFunction (tipo, usuario y rol unidos). */
+  public static List<Map<String, Object>> filasEventos(int n) {
+    Generador g = generador(n);
+    Map<UUID, Generador.Usuario> usuarios = g.usuarios().stream()
+        .collect(Collectors.toMap(Generador.Usuario::id, Function.identity()));
+    List<Map<String, Object>> out = new ArrayList<>(n);
+    g.eventos(1).limit(n).forEach(e -> {
+      Generador.Usuario autor = usuarios.get(e.autor());
+      out.add(Filas.fila(
+          "id_eventos", e.id(),
+          "titulo", e.titulo(),
+          "descripcion", e.descripcion(),
+          "fechaInicio", Timestamp.from(e.inicio()),
+          "fechaTermino", Timestamp.from(e.termino()),
+          "precio", e.precio(),
+          "direccion", e.direccion(),
+          "lat", e.lat(),
+          "lon", e.lon(),
+          "id_tipo_evento", e.tipo(),
+          "tipoevento_nombre", TIPOS_EVENTO[(int) e.tipo() - 1],
+          "id_azure", e.autor().toString(),
+          "usuario_username", autor.username(),
+          "usuario_nombre", autor.nombreCompleto(),
+          "id_rol", e.rol(),
+          "nombre_rol", ROLES[(int) e.rol() - 1]));
+    });
+    return out;
+  }
+
+  /** Sin imágenes (las pone filasObras con el tamaño pedido) y con al menos n eventos. */
+  private static Generador generador(int n) {
+    return new Generador(SEMILLA, Math.max(n, 1) / (double) Generador.EVENTOS_BASE, 0, REFERENCIA);
+  }
+}
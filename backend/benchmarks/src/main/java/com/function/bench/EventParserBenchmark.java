@@ -0,0 +1,67 @@
+package com.function.bench;
+
+import com.function.consumer.EventStreamParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payload de Event Grid en fn-consumidora: el parser por streaming (EventStreamParser,
+ * data como tramo del texto) contra el árbol completo de Gson de antes. 5000 eventos
+ * es el lote máximo (~1 MB). Que ambos entregan lo mismo lo comprueba
+ * EventStreamParserTest.
+ *
+ * <pre>java -jar target/benchmarks.jar EventParserBenchmark -prof gc</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EventParserBenchmark {
+
+  @Param({ "50", "5000" })
+  int eventos;
+
+  String payload;
+
+  @Setup
+  public void setup() {
+    StringBuilder sb = new StringBuilder(eventos * 220).append('[');
+    for (int i = 0; i < eventos; i++) {
+      if (i > 0) sb.append(',');
+      sb.append("{\"id\":\"").append(String.format(Locale.ROOT, "00000000-0000-0000-0000-%012d", i))
+          .append("\",\"eventType\":\"Arte.Obra.Actualizada\",\"subject\":\"/obras/").append(i)
+          .append("\",\"eventTime\":\"2024-05-01T12:00:00Z\",\"dataVersion\":\"1.0\",")
+          .append("\"data\":{\"id_obra\":").append(i)
+          .append(",\"titulo\":\"Obra número ").append(i).append(" con un título de largo realista\"}}");
+    }
+    payload = sb.append(']').toString();
+  }
+
+  @Benchmark
+  public void gson(Blackhole bh) {
+    for (GsonEventParser.Evento ev : GsonEventParser.parse(payload)) {
+      bh.consume(ev);
+    }
+  }
+
+  @Benchmark
+  public int streaming(Blackhole bh) throws IOException {
+    return EventStreamParser.parse(payload, bh::consume);
+  }
+}
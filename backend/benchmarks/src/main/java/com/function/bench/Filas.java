@@ -0,0 +1,75 @@
+package com.function.bench;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * ResultSet en memoria sobre filas fijas, para medir los mappers de las Functions sin
+ * base de datos. Las columnas se buscan sin distinguir mayúsculas, como hace el driver
+ * de PostgreSQL con los alias ("fechaInicio" llega como fechainicio).
+ *
+ * Es un Proxy: cada acceso a columna suma un costo fijo igual en todas las versiones,
+ * así que sirve para comparar commits, no como tiempo absoluto del mapper.
+ */
+public final class Filas implements InvocationHandler {
+
+  private final List<Map<String, Object>> filas;
+  private int actual = -1;
+  private boolean nulo;
+
+  private Filas(List<Map<String, Object>> filas) {
+    this.filas = filas;
+  }
+
+  public static ResultSet de(List<Map<String, Object>> filas) {
+    return (ResultSet) Proxy.newProxyInstance(Filas.class.getClassLoader(),
+        new Class<?>[] { ResultSet.class }, new Filas(filas));
+  }
+
+  /** fila("id_obra", 1L, "titulo", "...", ...) */
+  public static Map<String, Object> fila(Object... columnasYValores) {
+    Map<String, Object> m = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    for (int i = 0; i < columnasYValores.length; i += 2) {
+      m.put((String) columnasYValores[i], columnasYValores[i + 1]);
+    }
+    return m;
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) {
+    switch (method.getName()) {
+      case "next":
+        return ++actual < filas.size();
+      case "beforeFirst":
+        actual = -1;
+        return null;
+      case "wasNull":
+        return nulo;
+      case "close":
+        return null;
+      case "isClosed":
+        return false;
+      default:
+        if (method.getName().startsWith("get") && args != null && args[0] instanceof String columna) {
+          Object v = filas.get(actual).get(columna);
+          nulo = v == null;
+          return convertir(v, method.getReturnType());
+        }
+        throw new UnsupportedOperationException("Filas no implementa " + method.getName());
+    }
+  }
+
+  private static Object convertir(Object v, Class<?> tipo) {
+    if (tipo == long.class) return v == null ? 0L : ((Number) v).longValue();
+    if (tipo == int.class) return v == null ? 0 : ((Number) v).intValue();
+    if (tipo == double.class) return v == null ? 0.0 : ((Number) v).doubleValue();
+    if (tipo == boolean.class) return v != null && (Boolean) v;
+    if (tipo == String.class) return v == null ? null : v.toString();
+    return v;
+  }
+}
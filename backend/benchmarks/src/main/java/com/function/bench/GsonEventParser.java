@@ -0,0 +1,55 @@
+package com.function.bench;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copia del parser anterior de fn-consumidora con Gson (árbol completo + data.toString()
+ * por evento), solo como línea base de EventParserBenchmark. Devuelve data como String
+ * porque RawJson no se puede armar fuera de su paquete; envolverlo no costaba nada.
+ */
+final class GsonEventParser {
+
+  record Evento(String id, String eventType, String subject, String eventTime, String data) {}
+
+  private GsonEventParser() {}
+
+  static List<Evento> parse(String content) {
+    JsonElement root = JsonParser.parseString(content);
+    List<Evento> out = new ArrayList<>();
+    if (root.isJsonArray()) {
+      JsonArray arr = root.getAsJsonArray();
+      for (JsonElement el : arr) {
+        if (el.isJsonObject()) out.add(toEvento(el.getAsJsonObject()));
+      }
+    } else if (root.isJsonObject()) {
+      out.add(toEvento(root.getAsJsonObject()));
+    } else {
+      throw new IllegalArgumentException("Contenido no reconocido");
+    }
+    return out;
+  }
+
+  private static Evento toEvento(JsonObject ev) {
+    String eventType = getString(ev, "eventType");
+    if (eventType == null) eventType = getString(ev, "type");
+
+    String subject = getString(ev, "subject");
+    if (subject == null) subject = getString(ev, "source");
+
+    String time = getString(ev, "eventTime");
+    if (time == null) time = getString(ev, "time");
+
+    JsonElement data = ev.get("data");
+    return new Evento(getString(ev, "id"), eventType, subject, time, data != null ? data.toString() : null);
+  }
+
+  private static String getString(JsonObject obj, String prop) {
+    return (obj.has(prop) && !obj.get(prop).isJsonNull()) ? obj.get(prop).getAsString() : null;
+  }
+}
@@ -0,0 +1,78 @@
+package com.function.bench;
+
+import com.function.auth.JwtAuthService;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthService.validate (firma RS256 + audiencia + expiración) contra un JWKS
+ * local (AZURE_AD_B2C_JWKS como system property, con FN_JWKS_LOCAL), sin B2C ni
+ * red. La clave RSA se genera en cada fork; el costo de verificar no depende de la
+ * clave, solo del tamaño.
+ *
+ * <pre>java -jar target/benchmarks.jar JwtBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JwtBenchmark {
+
+  static final String ISSUER = "https://tallerpinturas.b2clogin.com/bench/v2.0/";
+  static final String AUDIENCIA = "api://tallerpinturas-bench";
+
+  String header;
+
+  @Setup
+  public void setup() throws JOSEException {
+    RSAKey clave = new RSAKeyGenerator(2048).keyID("bench").generate();
+    System.setProperty("FN_JWKS_LOCAL", "true");
+    System.setProperty("AZURE_AD_B2C_JWKS", new JWKSet(clave.toPublicJWK()).toString());
+    System.setProperty("AZURE_AD_B2C_ISSUER", ISSUER);
+    System.setProperty("API_APP_ID_URI", AUDIENCIA);
+
+    Instant ahora = Instant.now();
+    JWTClaimsSet claims = new JWTClaimsSet.Builder()
+        .issuer(ISSUER)
+        .audience(AUDIENCIA)
+        .subject("5f784b53-452d-438f-a2b3-3772f76f23db")
+        .claim("name", "Artista Bench")
+        .claim("emails", List.of("artista@taller.cl"))
+        .issueTime(Date.from(ahora))
+        .expirationTime(Date.from(ahora.plus(1, ChronoUnit.DAYS)))
+        .build();
+    SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("bench").build(), claims);
+    jwt.sign(new RSASSASigner(clave));
+    header = "Bearer " + jwt.serialize();
+  }
+
+  @Benchmark
+  public JWTClaimsSet validate() throws Exception {
+    return JwtAuthService.validate(header);
+  }
+}
@@ -0,0 +1,75 @@
+package com.function.bench;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.function.dto.EventoDTO;
+import com.function.dto.ObraDTO;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Copia del binding anterior de las Functions (Map intermedio + RequestMapper, mapper
+ * case-insensitive), solo como línea base de RequestBindingBenchmark.
+ */
+final class LegacyBinding {
+
+  private static final ObjectMapper MAPPER = JsonMapper.builder()
+      .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true)
+      .build();
+
+  private LegacyBinding() {}
+
+  static ObraDTO obra(String body) throws IOException {
+    Map<String, Object> in = MAPPER.readValue(body, new TypeReference<Map<String, Object>>() {
+    });
+    return new ObraDTO(asLong(in.get("id_tipo_obra")), asString(in.get("titulo")),
+        asString(in.get("descripcion")), asString(in.get("imagenBase64")), asUUID(in.get("id_azure")));
+  }
+
+  static EventoDTO evento(String body) throws IOException {
+    Map<String, Object> in = MAPPER.readValue(body, new TypeReference<Map<String, Object>>() {
+    });
+    return new EventoDTO(asLong(in.get("id_tipo_evento")), asUUID(in.get("id_azure")), asLong(in.get("id_rol")),
+        asString(in.get("titulo")), asString(in.get("descripcion")), asInstant(in.get("fechaInicio")),
+        asInstant(in.get("fechaTermino")), asBigDecimal(in.get("precio")), asString(in.get("direccion")),
+        asDouble(in.get("lat")), asDouble(in.get("lon")));
+  }
+
+  private static String asString(Object o) {
+    return o != null ? o.toString() : null;
+  }
+
+  private static Long asLong(Object o) {
+    return o instanceof Number number ? number.longValue() : null;
+  }
+
+  private static Double asDouble(Object o) {
+    return o instanceof Number number ? number.doubleValue() : null;
+  }
+
+  private static BigDecimal asBigDecimal(Object o) {
+    return o instanceof Number ? new BigDecimal(o.toString()) : null;
+  }
+
+  private static Instant asInstant(Object o) {
+    try {
+      return o != null ? Instant.parse(o.toString()) : null;
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  private static UUID asUUID(Object o) {
+    try {
+      return o instanceof String str && !str.isBlank() ? UUID.fromString(str) : null;
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.function.bench;
+
+import com.function.dto.EventoDTO;
+import com.function.dto.ObraDTO;
+import com.function.dto.RequestReaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binding del body de escritura: Map + RequestMapper (antes) contra ObjectReader al
+ * record (ahora). Lo que interesa es gc.alloc.rate.norm (bytes por operación):
+ *
+ * <pre>java -jar target/benchmarks.jar RequestBindingBenchmark -prof gc</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestBindingBenchmark {
+
+  // formas reales que llegan desde el BFF
+  String obra = "{\"id_tipo_obra\":3,\"titulo\":\"Atardecer en Valparaíso\","
+      + "\"descripcion\":\"Óleo sobre tela, 60x80\",\"id_azure\":\"5f784b53-452d-438f-a2b3-3772f76f23db\"}";
+
+  String evento = "{\"id_tipo_evento\":2,\"id_rol\":2,\"titulo\":\"Taller de acuarela\","
+      + "\"descripcion\":\"Nivel inicial, materiales incluidos\",\"fechaInicio\":\"2025-03-01T18:00:00Z\","
+      + "\"fechaTermino\":\"2025-03-01T20:00:00Z\",\"precio\":15000,\"direccion\":\"Av. Brasil 2950, Valparaíso\","
+      + "\"lat\":-33.0458,\"lon\":-71.6197,\"id_azure\":\"5f784b53-452d-438f-a2b3-3772f76f23db\"}";
+
+  @Benchmark
+  public ObraDTO obraMapa() throws IOException {
+    return LegacyBinding.obra(obra);
+  }
+
+  @Benchmark
+  public ObraDTO obraRecord() {
+    return RequestReaders.leer(RequestReaders.OBRA, obra);
+  }
+
+  @Benchmark
+  public EventoDTO eventoMapa() throws IOException {
+    return LegacyBinding.evento(evento);
+  }
+
+  @Benchmark
+  public EventoDTO eventoRecord() {
+    return RequestReaders.leer(RequestReaders.EVENTO, evento);
+  }
+}
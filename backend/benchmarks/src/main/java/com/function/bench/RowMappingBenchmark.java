@@ -0,0 +1,79 @@
+package com.function.bench;
+
+import com.function.EventosFunction;
+import com.function.ObrasFunction;
+import com.function.model.Evento;
+import com.function.model.Obra;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResultSet -> modelo con los mappers de las Functions (ObrasFunction.map y
+ * EventosFunction.mapEvento). Las filas son las de Datos sobre el ResultSet en
+ * memoria de Filas.
+ *
+ * obraConImagen es GET /api/obras/{id}?includeImage=true: una fila cuyo costo es
+ * casi todo el Base64 de la imagen.
+ *
+ * <pre>java -jar target/benchmarks.jar RowMappingBenchmark -prof gc</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RowMappingBenchmark {
+
+  @Param({ "50", "500" })
+  int filas;
+
+  ResultSet obras;
+  ResultSet obraConImagen;
+  ResultSet eventos;
+
+  @Setup
+  public void setup() {
+    obras = Filas.de(Datos.filasObras(filas, 0));
+    obraConImagen = Filas.de(Datos.filasObras(1, 256 * 1024));
+    eventos = Filas.de(Datos.filasEventos(filas));
+  }
+
+  @Benchmark
+  public List<Obra> obras() throws SQLException {
+    obras.beforeFirst();
+    List<Obra> out = new ArrayList<>();
+    while (obras.next()) out.add(ObrasFunction.map(obras, false));
+    return out;
+  }
+
+  @Benchmark
+  public Obra obraConImagen() throws SQLException {
+    obraConImagen.beforeFirst();
+    obraConImagen.next();
+    return ObrasFunction.map(obraConImagen, true);
+  }
+
+  @Benchmark
+  public List<Evento> eventos() throws SQLException {
+    eventos.beforeFirst();
+    List<Evento> out = new ArrayList<>();
+    while (eventos.next()) out.add(EventosFunction.mapEvento(eventos));
+    return out;
+  }
+}
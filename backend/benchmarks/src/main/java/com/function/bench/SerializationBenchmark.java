@@ -0,0 +1,132 @@
+package com.function.bench;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.function.json.Json;
+import com.function.model.Evento;
+import com.function.model.Obra;
+import com.function.model.RolRef;
+import com.function.model.TipoEvento;
+import com.function.model.TipoObra;
+import com.function.model.UsuarioRef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Respuestas de listado (Obra y Evento): writeValueAsString genérico, como antes,
+ * contra el writer ya resuelto escribiendo al buffer reutilizado de Json, con y sin
+ * Blackbird. El String del camino genérico todavía se recodifica a UTF-8 al
+ * responder; ese costo no entra en la medición.
+ *
+ * <pre>java -jar target/benchmarks.jar SerializationBenchmark -prof gc</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SerializationBenchmark {
+
+  @Param({ "false", "true" })
+  boolean blackbird;
+
+  @Param({ "50" })
+  int filas;
+
+  ObjectMapper mapper;
+  ObjectWriter obrasWriter;
+  ObjectWriter eventosWriter;
+  List<Obra> obras;
+  List<Evento> eventos;
+
+  @Setup
+  public void setup() {
+    mapper = Json.nuevoMapper(blackbird);
+    obrasWriter = mapper.writerFor(new TypeReference<List<Obra>>() {
+    });
+    eventosWriter = mapper.writerFor(new TypeReference<List<Evento>>() {
+    });
+    obras = new ArrayList<>();
+    eventos = new ArrayList<>();
+    for (int i = 0; i < filas; i++) {
+      obras.add(obra(i));
+      eventos.add(evento(i));
+    }
+  }
+
+  @Benchmark
+  public String obrasGenerico() throws Exception {
+    return mapper.writeValueAsString(obras);
+  }
+
+  @Benchmark
+  public byte[] obrasWriter() throws Exception {
+    return Json.bytes(obrasWriter, obras);
+  }
+
+  @Benchmark
+  public String eventosGenerico() throws Exception {
+    return mapper.writeValueAsString(eventos);
+  }
+
+  @Benchmark
+  public byte[] eventosWriter() throws Exception {
+    return Json.bytes(eventosWriter, eventos);
+  }
+
+  private static Obra obra(int i) {
+    TipoObra t = new TipoObra();
+    t.setId_tipo_obra((long) (i % 4 + 1));
+    t.setNombre("Óleo");
+    Obra o = new Obra();
+    o.setId_obra((long) i);
+    o.setTipo(t);
+    o.setTitulo("Obra " + i);
+    o.setDescripcion("Óleo sobre tela, 60x80, serie " + i);
+    return o;
+  }
+
+  private static Evento evento(int i) {
+    TipoEvento t = new TipoEvento();
+    t.setId_tipo_evento(2L);
+    t.setNombre("Taller");
+    UsuarioRef u = new UsuarioRef();
+    u.setId_azure("5f784b53-452d-438f-a2b3-3772f76f23db");
+    u.setUsername("artista" + i + "@taller.cl");
+    u.setNombre_completo("Artista " + i);
+    RolRef r = new RolRef();
+    r.setId_rol(2L);
+    r.setNombre_rol("Artista");
+    Evento e = new Evento();
+    e.setId_eventos((long) i);
+    e.setTipo(t);
+    e.setUsuario(u);
+    e.setRol(r);
+    e.setTitulo("Taller de acuarela " + i);
+    e.setDescripcion("Nivel inicial, materiales incluidos");
+    e.setFechaInicio("2025-03-01T18:00:00Z");
+    e.setFechaTermino("2025-03-01T20:00:00Z");
+    e.setPrecio(new BigDecimal("15000"));
+    e.setDireccion("Av. Brasil 2950, Valparaíso");
+    e.setId_azure(u.getId_azure());
+    e.setLat(-33.0458);
+    e.setLon(-71.6197);
+    return e;
+  }
+}
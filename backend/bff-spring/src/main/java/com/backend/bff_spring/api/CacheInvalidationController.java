@@ -0,0 +1,54 @@
+package com.backend.bff_spring.api;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.*;
+import org.springframework.web.bind.annotation.*;
+
+import com.backend.bff_spring.cache.CacheInvalidatedEvent;
+import com.backend.bff_spring.cache.ResponseCache;
+
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoint interno al que fn-consumidora empuja las claves a invalidar
+ * (CACHE_INVALIDATION_URLS apunta aquí). Protegido con X-Invalidation-Token.
+ */
+@RestController
+@RequestMapping("/bff/internal/cache")
+public class CacheInvalidationController {
+
+  private final ResponseCache cache;
+  private final ApplicationEventPublisher events;
+  private final String token;
+
+  public CacheInvalidationController(ResponseCache cache,
+                                     ApplicationEventPublisher events,
+                                     @Value("${cache.invalidation.token:}") String token) {
+    this.cache = cache;
+    this.events = events;
+    this.token = token;
+  }
+
+  public record InvalidationRequest(List<String> keys) {}
+
+  @PostMapping(value = "/invalidate", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<Map<String, Object>>> invalidate(
+      @RequestHeader(name = "X-Invalidation-Token", required = false) String recibido,
+      @RequestBody InvalidationRequest body) {
+    if (token == null || token.isBlank() || recibido == null
+        || !MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), recibido.getBytes(StandardCharsets.UTF_8))) {
+      return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+    }
+    List<String> keys = body.keys() == null ? List.of() : body.keys();
+    int eliminadas = cache.invalidate(keys);
+    // otros consumidores (p. ej. el índice de sugerencias) se actualizan a partir de las mismas claves
+    events.publishEvent(new CacheInvalidatedEvent(keys));
+    return Mono.just(ResponseEntity.ok(Map.of("keys", keys.size(), "eliminadas", eliminadas)));
+  }
+}
@@ -1,16 +1,24 @@
 package com.backend.bff_spring.api;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import com.backend.bff_spring.cache.CacheKeys;
+import com.backend.bff_spring.cache.ResponseCache;
 import com.backend.bff_spring.dto.EventoDto;
 import com.backend.bff_spring.util.HttpForwarder;
+import com.backend.bff_spring.util.StreamingForwarder;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/bff/eventos")
@@ -21,48 +29,60 @@ public class EventosController {
 
   private static final String EVENTOS_ID = "/api/eventos/{id}"; // Definición de la constante para la URI con ID
 
-  public EventosController(@Qualifier("eventosClient") WebClient eventosClient) {
+  private final ResponseCache cache;
+
+  public EventosController(@Qualifier("eventosClient") WebClient eventosClient, ResponseCache cache) {
     this.eventosClient = eventosClient;
+    this.cache = cache;
   }
 
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-  public Mono<ResponseEntity<String>> listar(@RequestHeader Map<String,String> headers) {
-    return eventosClient.get().uri("/api/eventos")
-        .headers(h -> HttpForwarder.copyAuthHeaders(h, headers))
-        .exchangeToMono(resp ->
-            resp.bodyToMono(String.class).defaultIfEmpty("[]")
-                .map(body -> ResponseEntity.status(resp.statusCode().value()).contentType(MediaType.APPLICATION_JSON).body(body)));
+  public Mono<ResponseEntity<byte[]>> listar(@RequestHeader Map<String,String> headers,
+                                             @RequestParam(name="cuando", required=false) String cuando,
+                                             @RequestParam(name="desde", required=false) String desde,
+                                             @RequestParam(name="hasta", required=false) String hasta,
+                                             @RequestParam(name="id_azure", required=false) UUID idAzure,
+                                             @RequestParam(name="limit", required=false) Integer limit) {
+    String query = UriComponentsBuilder.newInstance()
+        .queryParamIfPresent("cuando", Optional.ofNullable(cuando))
+        .queryParamIfPresent("desde", Optional.ofNullable(desde))
+        .queryParamIfPresent("hasta", Optional.ofNullable(hasta))
+        .queryParamIfPresent("id_azure", Optional.ofNullable(idAzure))
+        .queryParamIfPresent("limit", Optional.ofNullable(limit))
+        .build().encode().getQuery();
+    String key = query == null ? CacheKeys.EVENTOS_LIST : CacheKeys.EVENTOS_LIST + "?" + query;
+    return cache.getOrLoad(key, headers, () ->
+        StreamingForwarder.buffered(eventosClient.get().uri(b -> b.path("/api/eventos")
+                .queryParamIfPresent("cuando", Optional.ofNullable(cuando))
+                .queryParamIfPresent("desde", Optional.ofNullable(desde))
+                .queryParamIfPresent("hasta", Optional.ofNullable(hasta))
+                .queryParamIfPresent("id_azure", Optional.ofNullable(idAzure))
+                .queryParamIfPresent("limit", Optional.ofNullable(limit))
+                .build())
+            .headers(h -> HttpForwarder.copyAuthHeaders(h, headers)), "[]"));
   }
 
   @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
-  public Mono<ResponseEntity<String>> uno(@PathVariable Long id, @RequestHeader Map<String,String> headers) {
-    return eventosClient.get().uri(EVENTOS_ID, id)
-        .headers(h -> HttpForwarder.copyAuthHeaders(h, headers))
-        .exchangeToMono(resp ->
-            resp.bodyToMono(String.class).defaultIfEmpty("")
-                .map(body -> ResponseEntity.status(resp.statusCode().value()).contentType(MediaType.APPLICATION_JSON).body(body)));
+  public Mono<ResponseEntity<byte[]>> uno(@PathVariable Long id, @RequestHeader Map<String,String> headers) {
+    return cache.getOrLoad(CacheKeys.evento(id), headers, () ->
+        StreamingForwarder.buffered(eventosClient.get().uri(EVENTOS_ID, id)
+            .headers(h -> HttpForwarder.copyAuthHeaders(h, headers)), null));
   }
 
   @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-  public Mono<ResponseEntity<String>> crear(@RequestBody EventoDto dto, @RequestHeader Map<String,String> headers) {
-    return eventosClient.post().uri("/api/eventos")
+  public Mono<ResponseEntity<Flux<DataBuffer>>> crear(@RequestBody EventoDto dto, @RequestHeader Map<String,String> headers) {
+    return StreamingForwarder.relay(eventosClient.post().uri("/api/eventos")
         .headers(h -> HttpForwarder.copyAuthHeaders(h, headers))
         .contentType(MediaType.APPLICATION_JSON)
-        .bodyValue(dto)
-        .exchangeToMono(resp ->
-            resp.bodyToMono(String.class).defaultIfEmpty("")
-                .map(body -> ResponseEntity.status(resp.statusCode().value()).contentType(MediaType.APPLICATION_JSON).body(body)));
+        .bodyValue(dto));
   }
 
   @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-  public Mono<ResponseEntity<String>> actualizar(@PathVariable Long id, @RequestBody EventoDto dto, @RequestHeader Map<String,String> headers) {
-    return eventosClient.put().uri(EVENTOS_ID, id)
+  public Mono<ResponseEntity<Flux<DataBuffer>>> actualizar(@PathVariable Long id, @RequestBody EventoDto dto, @RequestHeader Map<String,String> headers) {
+    return StreamingForwarder.relay(eventosClient.put().uri(EVENTOS_ID, id)
         .headers(h -> HttpForwarder.copyAuthHeaders(h, headers))
         .contentType(MediaType.APPLICATION_JSON)
-        .bodyValue(dto)
-        .exchangeToMono(resp ->
-            resp.bodyToMono(String.class).defaultIfEmpty("")
-                .map(body -> ResponseEntity.status(resp.statusCode().value()).contentType(MediaType.APPLICATION_JSON).body(body)));
+        .bodyValue(dto));
   }
 
   @DeleteMapping(value = "/{id}")
@@ -1,13 +1,18 @@
 package com.backend.bff_spring.api;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.backend.bff_spring.cache.CacheKeys;
+import com.backend.bff_spring.cache.ResponseCache;
 import com.backend.bff_spring.dto.ObrasDto;
 import com.backend.bff_spring.util.HttpForwarder;
+import com.backend.bff_spring.util.StreamingForwarder;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -18,58 +23,53 @@ import java.util.Map;
 public class ObrasController {
 
   private final WebClient obrasClient;
+  private final ResponseCache cache;
 
-  public ObrasController(@Qualifier("obrasClient") WebClient obrasClient) {
+  public ObrasController(@Qualifier("obrasClient") WebClient obrasClient, ResponseCache cache) {
     this.obrasClient = obrasClient;
+    this.cache = cache;
   }
 
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-  public Mono<ResponseEntity<String>> listar(@RequestHeader Map<String,String> headers,
+  public Mono<ResponseEntity<byte[]>> listar(@RequestHeader Map<String,String> headers,
                                              @RequestParam(name="includeImage", required=false) Boolean includeImage) {
-    String uri = "/api/obras" + (Boolean.TRUE.equals(includeImage) ? "?includeImage=true" : "");
-    return obrasClient.get().uri(uri)
-        .headers(h -> HttpForwarder.copyAuthHeaders(h, headers))
-        .exchangeToMono(resp ->
-            resp.bodyToMono(String.class).defaultIfEmpty("[]")
-                .map(body -> ResponseEntity.status(resp.statusCode().value())
-                    .contentType(MediaType.APPLICATION_JSON).body(body)));
+    boolean img = Boolean.TRUE.equals(includeImage);
+    String uri = "/api/obras" + (img ? "?includeImage=true" : "");
+    return cache.getOrLoad(CacheKeys.variante(CacheKeys.OBRAS_LIST, img), headers, () ->
+        StreamingForwarder.buffered(obrasClient.get().uri(uri)
+            .headers(h -> HttpForwarder.copyAuthHeaders(h, headers)), "[]"));
   }
 
   @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
-  public Mono<ResponseEntity<String>> uno(@PathVariable("id") Long id,
+  public Mono<ResponseEntity<byte[]>> uno(@PathVariable("id") Long id,
                                           @RequestHeader Map<String,String> headers,
                                           @RequestParam(name="includeImage", required=false) Boolean includeImage) {
-    String uri = "/api/obras/" + id + (Boolean.TRUE.equals(includeImage) ? "?includeImage=true" : "");
-    return obrasClient.get().uri(uri)
-        .headers(h -> HttpForwarder.copyAuthHeaders(h, headers))
-        .exchangeToMono(resp ->
-            resp.bodyToMono(String.class).defaultIfEmpty("")
-                .map(body -> ResponseEntity.status(resp.statusCode().value()).contentType(MediaType.APPLICATION_JSON).body(body)));
+    boolean img = Boolean.TRUE.equals(includeImage);
+    String uri = "/api/obras/" + id + (img ? "?includeImage=true" : "");
+    return cache.getOrLoad(CacheKeys.variante(CacheKeys.obra(id), img), headers, () ->
+        StreamingForwarder.buffered(obrasClient.get().uri(uri)
+            .headers(h -> HttpForwarder.copyAuthHeaders(h, headers)), null));
   }
 
   @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-  public Mono<ResponseEntity<String>> crear(@RequestBody ObrasDto dto,
-                                            @RequestHeader Map<String,String> headers) {
-    return obrasClient.post().uri("/api/obras")
+  public Mono<ResponseEntity<Flux<DataBuffer>>> crear(@RequestBody ObrasDto dto,
+                                                      @RequestHeader Map<String,String> headers) {
+    // con Prefer: return=minimal la Function responde 201 + Location sin body;
+    // StreamingForwarder reescribe Location a /bff/ y pasa Preference-Applied
+    return StreamingForwarder.relay(obrasClient.post().uri("/api/obras")
         .headers(h -> HttpForwarder.copyAuthHeaders(h, headers))
         .contentType(MediaType.APPLICATION_JSON)
-        .bodyValue(dto)
-        .exchangeToMono(resp ->
-            resp.bodyToMono(String.class).defaultIfEmpty("")
-                .map(body -> ResponseEntity.status(resp.statusCode().value()).contentType(MediaType.APPLICATION_JSON).body(body)));
+        .bodyValue(dto));
   }
 
   @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-  public Mono<ResponseEntity<String>> actualizar(@PathVariable Long id,
-                                                 @RequestBody ObrasDto dto,
-                                                 @RequestHeader Map<String,String> headers) {
-    return obrasClient.put().uri("/api/obras/{id}", id)
+  public Mono<ResponseEntity<Flux<DataBuffer>>> actualizar(@PathVariable Long id,
+                                                           @RequestBody ObrasDto dto,
+                                                           @RequestHeader Map<String,String> headers) {
+    return StreamingForwarder.relay(obrasClient.put().uri("/api/obras/{id}", id)
         .headers(h -> HttpForwarder.copyAuthHeaders(h, headers))
         .contentType(MediaType.APPLICATION_JSON)
-        .bodyValue(dto)
-        .exchangeToMono(resp ->
-            resp.bodyToMono(String.class).defaultIfEmpty("")
-                .map(body -> ResponseEntity.status(resp.statusCode().value()).contentType(MediaType.APPLICATION_JSON).body(body)));
+        .bodyValue(dto));
   }
 
   @DeleteMapping(value = "/{id}")
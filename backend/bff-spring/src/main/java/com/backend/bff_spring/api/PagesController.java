@@ -0,0 +1,161 @@
+package com.backend.bff_spring.api;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.*;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.backend.bff_spring.cache.CacheKeys;
+import com.backend.bff_spring.cache.ResponseCache;
+import com.backend.bff_spring.util.HttpForwarder;
+import com.backend.bff_spring.util.StreamingForwarder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Páginas compuestas: una sola llamada del navegador que el BFF reparte en paralelo
+ * (Mono.zip) entre las Functions.
+ *
+ * Cada rama tiene su timeout (pages.timeout.*). Si una rama falla o no llega a
+ * tiempo la página sale igual, con esa sección en null, "parcial": true y el motivo
+ * en "errores"; solo un 404 del usuario en /perfil corta la respuesta. Las ramas de
+ * listados pasan por ResponseCache con las mismas claves que los endpoints
+ * individuales, así que comparten entradas e invalidaciones.
+ */
+@RestController
+@RequestMapping("/bff/pages")
+@CrossOrigin(origins = "*")
+public class PagesController {
+
+  private record Rama(String nombre, JsonNode valor, int status, String error) {
+    boolean ok() {
+      return error == null;
+    }
+  }
+
+  private final WebClient usuariosClient;
+  private final WebClient obrasClient;
+  private final WebClient eventosClient;
+  private final ResponseCache cache;
+  private final ObjectMapper mapper;
+  private final Duration timeoutUsuario;
+  private final Duration timeoutObras;
+  private final Duration timeoutEventos;
+  private final int eventosHome;
+
+  public PagesController(@Qualifier("usuariosClient") WebClient usuariosClient,
+                         @Qualifier("obrasClient") WebClient obrasClient,
+                         @Qualifier("eventosClient") WebClient eventosClient,
+                         ResponseCache cache,
+                         ObjectMapper mapper,
+                         @Value("${pages.timeout.usuario:1500ms}") Duration timeoutUsuario,
+                         @Value("${pages.timeout.obras:2s}") Duration timeoutObras,
+                         @Value("${pages.timeout.eventos:2s}") Duration timeoutEventos,
+                         @Value("${pages.home.eventos:6}") int eventosHome) {
+    this.usuariosClient = usuariosClient;
+    this.obrasClient = obrasClient;
+    this.eventosClient = eventosClient;
+    this.cache = cache;
+    this.mapper = mapper;
+    this.timeoutUsuario = timeoutUsuario;
+    this.timeoutObras = timeoutObras;
+    this.timeoutEventos = timeoutEventos;
+    this.eventosHome = eventosHome;
+  }
+
+  /** Perfil: usuario, sus obras y los eventos que publicó. */
+  @GetMapping(value = "/perfil/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<ObjectNode>> perfil(@PathVariable UUID id, @RequestHeader Map<String,String> headers) {
+    Map<String,String> auth = sinEncoding(headers);
+    String idAzure = id.toString();
+
+    Mono<Rama> usuario = rama("usuario", timeoutUsuario,
+        StreamingForwarder.buffered(usuariosClient.get().uri("/api/usuarios/{id}", idAzure)
+            .headers(h -> HttpForwarder.copyAuthHeaders(h, auth)), null));
+    Mono<Rama> obras = rama("obras", timeoutObras,
+        cache.getOrLoad(CacheKeys.obrasUsuario(idAzure), auth, () ->
+            StreamingForwarder.buffered(usuariosClient.get().uri("/api/usuarios/{id}/obras", idAzure)
+                .headers(h -> HttpForwarder.copyAuthHeaders(h, auth)), "[]")));
+    // el filtro lo hace la Function (índice de eventos_feed por id_azure); misma clave
+    // que EventosController.listar con ?id_azure=
+    String query = "id_azure=" + idAzure;
+    Mono<Rama> eventos = rama("eventos", timeoutEventos,
+        eventosLista(auth, "/api/eventos?" + query, CacheKeys.EVENTOS_LIST + "?" + query));
+
+    return Mono.zip(usuario, obras, eventos).map(t -> {
+      if (t.getT1().status() == HttpStatus.NOT_FOUND.value()) {
+        ObjectNode err = mapper.createObjectNode().put("error", "usuario no encontrado");
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(err);
+      }
+      return ResponseEntity.ok(pagina(t.getT1(), t.getT2(), t.getT3()));
+    });
+  }
+
+  /** Home: catálogo de obras (sin imágenes) y próximos eventos. */
+  @GetMapping(value = "/home", produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<ObjectNode>> home(@RequestHeader Map<String,String> headers) {
+    Map<String,String> auth = sinEncoding(headers);
+
+    Mono<Rama> obras = rama("obras", timeoutObras,
+        cache.getOrLoad(CacheKeys.variante(CacheKeys.OBRAS_LIST, false), auth, () ->
+            StreamingForwarder.buffered(obrasClient.get().uri("/api/obras")
+                .headers(h -> HttpForwarder.copyAuthHeaders(h, auth)), "[]")));
+    // misma clave que EventosController.listar con ?cuando=proximos&limit=N
+    String query = "cuando=proximos&limit=" + eventosHome;
+    Mono<Rama> eventos = rama("eventos", timeoutEventos,
+        eventosLista(auth, "/api/eventos?" + query, CacheKeys.EVENTOS_LIST + "?" + query));
+
+    return Mono.zip(obras, eventos).map(t -> ResponseEntity.ok(pagina(t.getT1(), t.getT2())));
+  }
+
+  private Mono<ResponseEntity<byte[]>> eventosLista(Map<String,String> auth, String uri, String key) {
+    return cache.getOrLoad(key, auth, () ->
+        StreamingForwarder.buffered(eventosClient.get().uri(uri)
+            .headers(h -> HttpForwarder.copyAuthHeaders(h, auth)), "[]"));
+  }
+
+  private Mono<Rama> rama(String nombre, Duration timeout, Mono<ResponseEntity<byte[]>> llamada) {
+    return llamada.timeout(timeout)
+        .map(resp -> {
+          int status = resp.getStatusCode().value();
+          if (!resp.getStatusCode().is2xxSuccessful()) return new Rama(nombre, null, status, "HTTP " + status);
+          try {
+            return new Rama(nombre, mapper.readTree(resp.getBody()), status, null);
+          } catch (IOException e) {
+            return new Rama(nombre, null, status, "respuesta inválida");
+          }
+        })
+        .onErrorResume(TimeoutException.class, e -> Mono.just(new Rama(nombre, null, 504, "timeout")))
+        .onErrorResume(e -> Mono.just(new Rama(nombre, null, 502, "no disponible")));
+  }
+
+  private ObjectNode pagina(Rama... ramas) {
+    ObjectNode out = mapper.createObjectNode();
+    ObjectNode errores = mapper.createObjectNode();
+    for (Rama r : ramas) {
+      out.set(r.nombre(), r.ok() ? r.valor() : null);
+      if (!r.ok()) errores.put(r.nombre(), r.error());
+    }
+    out.put("parcial", !errores.isEmpty());
+    if (!errores.isEmpty()) out.set("errores", errores);
+    return out;
+  }
+
+  // las ramas necesitan el JSON plano; el gzip lo hace server.compression al final
+  private static Map<String,String> sinEncoding(Map<String,String> headers) {
+    Map<String,String> out = new HashMap<>(headers);
+    out.keySet().removeIf(k -> k.equalsIgnoreCase(HttpHeaders.ACCEPT_ENCODING));
+    return out;
+  }
+}
@@ -0,0 +1,33 @@
+package com.backend.bff_spring.api;
+
+import org.springframework.http.*;
+import org.springframework.web.bind.annotation.*;
+
+import com.backend.bff_spring.suggest.SuggestIndex;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/** Autocompletado de títulos servido desde el índice en memoria, sin llamar a las Functions. */
+@RestController
+@RequestMapping("/bff/suggest")
+@CrossOrigin(origins = "*")
+public class SuggestController {
+
+  private static final int MAX_LIMIT = 20;
+
+  private final SuggestIndex index;
+
+  public SuggestController(SuggestIndex index) {
+    this.index = index;
+  }
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<List<SuggestIndex.Suggestion>>> suggest(
+      @RequestParam(name = "q", required = false) String q,
+      @RequestParam(name = "limit", required = false, defaultValue = "8") int limit) {
+    List<SuggestIndex.Suggestion> out = index.suggest(q, Math.min(Math.max(limit, 1), MAX_LIMIT));
+    return Mono.just(ResponseEntity.ok(out));
+  }
+}
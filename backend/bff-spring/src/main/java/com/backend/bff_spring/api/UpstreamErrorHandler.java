@@ -0,0 +1,27 @@
+package com.backend.bff_spring.api;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+
+import java.util.Map;
+
+/**
+ * Rechazos de ResilienceFilter (breaker abierto, bulkhead lleno) como 503 con
+ * Retry-After en vez del 500 genérico; el navegador puede reintentar más tarde.
+ */
+@RestControllerAdvice
+public class UpstreamErrorHandler {
+
+  @ExceptionHandler({CallNotPermittedException.class, BulkheadFullException.class})
+  public ResponseEntity<Map<String,String>> noDisponible(RuntimeException e) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "5")
+        .body(Map.of("error", "servicio temporalmente no disponible"));
+  }
+}
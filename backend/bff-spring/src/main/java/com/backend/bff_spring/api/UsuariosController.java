@@ -1,6 +1,7 @@
 package com.backend.bff_spring.api;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -8,12 +9,19 @@ import org.springframework.web.reactive.function.client.WebClient;
 import com.backend.bff_spring.dto.UsuarioDto;
 import com.backend.bff_spring.dto.VincularObraDto;
 import com.backend.bff_spring.util.HttpForwarder;
+import com.backend.bff_spring.util.StreamingForwarder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.oauth2.sdk.Response;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/bff/usuarios")
@@ -23,49 +31,39 @@ public class UsuariosController {
   private final WebClient usuariosClient;
 
   private static final String USUARIOS_ID = "/api/usuarios/{id}";
+  private final ObjectMapper mapper;
 
-  public UsuariosController(@Qualifier("usuariosClient") WebClient usuariosClient) {
+  public UsuariosController(@Qualifier("usuariosClient") WebClient usuariosClient, ObjectMapper mapper) {
     this.usuariosClient = usuariosClient;
+    this.mapper = mapper;
   }
 
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-  public Mono<ResponseEntity<String>> listar(@RequestHeader Map<String,String> headers) {
-    return usuariosClient.get().uri("/api/usuarios")
-        .headers(h -> HttpForwarder.copyAuthHeaders(h, headers))
-        .exchangeToMono(resp ->
-            resp.bodyToMono(String.class).defaultIfEmpty("[]")
-                .map(body -> ResponseEntity.status(resp.statusCode().value()).contentType(MediaType.APPLICATION_JSON).body(body)));
+  public Mono<ResponseEntity<Flux<DataBuffer>>> listar(@RequestHeader Map<String,String> headers) {
+    return StreamingForwarder.relay(usuariosClient.get().uri("/api/usuarios")
+        .headers(h -> HttpForwarder.copyAuthHeaders(h, headers)), "[]");
   }
 
   @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
-  public Mono<ResponseEntity<String>> uno(@PathVariable UUID id, @RequestHeader Map<String,String> headers) {
-    return usuariosClient.get().uri(USUARIOS_ID, id.toString())
-        .headers(h -> HttpForwarder.copyAuthHeaders(h, headers))
-        .exchangeToMono(resp ->
-            resp.bodyToMono(String.class).defaultIfEmpty("")
-                .map(body -> ResponseEntity.status(resp.statusCode().value()).contentType(MediaType.APPLICATION_JSON).body(body)));
+  public Mono<ResponseEntity<Flux<DataBuffer>>> uno(@PathVariable UUID id, @RequestHeader Map<String,String> headers) {
+    return StreamingForwarder.relay(usuariosClient.get().uri(USUARIOS_ID, id.toString())
+        .headers(h -> HttpForwarder.copyAuthHeaders(h, headers)));
   }
 
   @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-  public Mono<ResponseEntity<String>> crear(@RequestBody UsuarioDto dto, @RequestHeader Map<String,String> headers) {
-    return usuariosClient.post().uri("/api/usuarios")
+  public Mono<ResponseEntity<Flux<DataBuffer>>> crear(@RequestBody UsuarioDto dto, @RequestHeader Map<String,String> headers) {
+    return StreamingForwarder.relay(usuariosClient.post().uri("/api/usuarios")
         .headers(h -> HttpForwarder.copyAuthHeaders(h, headers))
         .contentType(MediaType.APPLICATION_JSON)
-        .bodyValue(dto)
-        .exchangeToMono(resp ->
-            resp.bodyToMono(String.class).defaultIfEmpty("")
-                .map(body -> ResponseEntity.status(resp.statusCode().value()).contentType(MediaType.APPLICATION_JSON).body(body)));
+        .bodyValue(dto));
   }
 
   @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-  public Mono<ResponseEntity<String>> actualizar(@PathVariable UUID id, @RequestBody UsuarioDto dto, @RequestHeader Map<String,String> headers) {
-    return usuariosClient.put().uri(USUARIOS_ID, id.toString())
+  public Mono<ResponseEntity<Flux<DataBuffer>>> actualizar(@PathVariable UUID id, @RequestBody UsuarioDto dto, @RequestHeader Map<String,String> headers) {
+    return StreamingForwarder.relay(usuariosClient.put().uri(USUARIOS_ID, id.toString())
         .headers(h -> HttpForwarder.copyAuthHeaders(h, headers))
         .contentType(MediaType.APPLICATION_JSON)
-        .bodyValue(dto)
-        .exchangeToMono(resp ->
-            resp.bodyToMono(String.class).defaultIfEmpty("")
-                .map(body -> ResponseEntity.status(resp.statusCode().value()).contentType(MediaType.APPLICATION_JSON).body(body)));
+        .bodyValue(dto));
   }
 
   @DeleteMapping(value = "/{id}")
@@ -76,22 +74,37 @@ public class UsuariosController {
   }
 
   @GetMapping(value = "/{id}/obras", produces = MediaType.APPLICATION_JSON_VALUE)
-  public Mono<ResponseEntity<String>> listarObras(@PathVariable String id, @RequestHeader Map<String,String> headers) {
-    return usuariosClient.get().uri(USUARIOS_ID + "/obras", id)  // Genera: "/api/usuarios/{id}/obras"
-        .headers(h -> HttpForwarder.copyAuthHeaders(h, headers))
-        .exchangeToMono(resp ->
-            resp.bodyToMono(String.class).defaultIfEmpty("[]")
-              .map(b -> ResponseEntity.status(resp.statusCode())
-                .contentType(MediaType.APPLICATION_JSON).body(b)));
+  public Mono<ResponseEntity<Flux<DataBuffer>>> listarObras(@PathVariable String id, @RequestHeader Map<String,String> headers) {
+    return StreamingForwarder.relay(usuariosClient.get().uri(USUARIOS_ID + "/obras", id)  // Genera: "/api/usuarios/{id}/obras"
+        .headers(h -> HttpForwarder.copyAuthHeaders(h, headers)), "[]");
   }
 
-  @PostMapping(value = "/{id}/obras")
-  public Mono<ResponseEntity<Void>> vincularObra(@PathVariable String id, @RequestBody VincularObraDto dto, @RequestHeader Map<String,String> headers) {
-    return usuariosClient.post().uri(USUARIOS_ID + "/obras", id) // Genera: "/api/usuarios/{id}/obras"
+  // acepta un objeto {id_obra, es_principal} o un array de ellos (vínculo por lote)
+  @PostMapping(value = "/{id}/obras", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<Flux<DataBuffer>>> vincularObra(@PathVariable String id, @RequestBody JsonNode body, @RequestHeader Map<String,String> headers) {
+    Object payload;
+    try {
+      payload = body.isArray()
+          ? mapper.convertValue(body, new TypeReference<List<VincularObraDto>>() {})
+          : mapper.convertValue(body, VincularObraDto.class);
+    } catch (IllegalArgumentException e) {
+      return Mono.just(StreamingForwarder.json(HttpStatus.BAD_REQUEST,
+          "{\"error\":\"se espera {id_obra, es_principal} o un array de ellos\"}"));
+    }
+    return StreamingForwarder.relay(usuariosClient.post().uri(USUARIOS_ID + "/obras", id) // Genera: "/api/usuarios/{id}/obras"
         .contentType(MediaType.APPLICATION_JSON)
         .headers(h -> HttpForwarder.copyAuthHeaders(h, headers))
-        .bodyValue(dto)
-        .exchangeToMono(resp -> Mono.just(ResponseEntity.status(resp.statusCode()).build()));
+        .bodyValue(payload));
+  }
+
+  // desvincula varias obras: DELETE /bff/usuarios/{id}/obras?ids=1,2,3
+  @DeleteMapping(value = "/{id}/obras", produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<Flux<DataBuffer>>> desvincularObras(@PathVariable String id, @RequestParam List<Long> ids, @RequestHeader Map<String,String> headers) {
+    return StreamingForwarder.relay(usuariosClient.delete()
+        .uri(b -> b.path(USUARIOS_ID + "/obras")
+            .queryParam("ids", ids.stream().map(String::valueOf).collect(Collectors.joining(",")))
+            .build(id))
+        .headers(h -> HttpForwarder.copyAuthHeaders(h, headers)));
   }
 
   @DeleteMapping(value = "/{id}/obras/{obraId}")
@@ -103,12 +116,10 @@ public class UsuariosController {
 
   // Sincronizar usuario (Login) ESTO ES PARA EL LOGIN 
     @PostMapping("/sync") 
-    public Mono<Object> syncUsuario(@RequestBody Object usuarioJson) {
-      return usuariosClient.post()
+    public Mono<ResponseEntity<Flux<DataBuffer>>> syncUsuario(@RequestBody Object usuarioJson) {
+      return StreamingForwarder.relay(usuariosClient.post()
               .uri("/api/usuarios/sync") // Esta es la ruta hacia Azure (Backend), esa déjala igual
-              .bodyValue(usuarioJson)
-              .retrieve()
-              .bodyToMono(Object.class);
+              .bodyValue(usuarioJson));
   }
   
 }
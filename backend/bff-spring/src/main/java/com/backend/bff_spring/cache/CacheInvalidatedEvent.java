@@ -0,0 +1,6 @@
+package com.backend.bff_spring.cache;
+
+import java.util.List;
+
+/** Se publica en el contexto de Spring tras aplicar una invalidación recibida de fn-consumidora. */
+public record CacheInvalidatedEvent(List<String> keys) {}
@@ -0,0 +1,38 @@
+package com.backend.bff_spring.cache;
+
+/**
+ * Claves de caché del BFF. Mismo esquema que fn-consumidora (com.function.cache.CacheKeys),
+ * que es quien publica las invalidaciones a partir de los eventos de dominio.
+ * Las variantes de una misma respuesta van tras '?' ("obra:3?includeImage").
+ */
+public final class CacheKeys {
+
+  public static final String OBRAS_LIST = "obras:list";
+  public static final String EVENTOS_LIST = "eventos:list";
+
+  private CacheKeys() {}
+
+  public static String obra(Long id) {
+    return "obra:" + id;
+  }
+
+  public static String evento(Long id) {
+    return "evento:" + id;
+  }
+
+  public static String obrasUsuario(String idAzure) {
+    return "obras-usuario:" + idAzure;
+  }
+
+  public static String variante(String key, boolean includeImage) {
+    return includeImage ? key + "?includeImage" : key;
+  }
+
+  /**
+   * Variantes que cambian solo con la hora: cuando=proximos|pasados filtra contra el
+   * now() de la Function y ningún evento de dominio las invalida al pasar un evento.
+   */
+  public static boolean relativaAAhora(String key) {
+    return key.startsWith(EVENTOS_LIST + "?") && key.contains("cuando=");
+  }
+}
@@ -0,0 +1,174 @@
+package com.backend.bff_spring.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.backend.bff_spring.util.Gzip;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caché en memoria de respuestas GET de las Functions. El TTL puede ser largo porque
+ * las entradas se invalidan explícitamente cuando fn-consumidora recibe el evento de
+ * dominio correspondiente (ver CacheInvalidationController). Solo se guardan 200.
+ *
+ * El loader entrega el body como byte[] (StreamingForwarder.buffered, sin decodificar)
+ * y cada entrada guarda esos bytes y, si supera compression.min-bytes, también su
+ * versión gzip (compression.level), comprimida una sola vez al guardarla: a un cliente
+ * que acepta gzip se le sirve tal cual, con Content-Encoding, y Netty no la recomprime.
+ *
+ * Si la Function falla (error, 5xx o circuit breaker abierto) y hay una entrada
+ * vencida de menos de cache.stale-if-error, se sirve esa con "Warning: 110".
+ *
+ * Las claves relativas a la hora (CacheKeys.relativaAAhora) usan cache.ttl-cuando en
+ * vez de cache.ttl: ninguna invalidación las alcanza cuando un evento pasa a pasado.
+ *
+ * Cada invalidate() sube una época. Una carga que empezó antes y termina después no
+ * guarda su body ni cae en la entrada vencida: los dos son de antes del cambio y
+ * quedarían servidos todo el TTL.
+ */
+@Component
+public class ResponseCache {
+
+  private record Entry(byte[] json, byte[] gzip, long storedAt, long ttl) {}
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final AtomicLong epoca = new AtomicLong();
+  private final long ttlMillis;
+  private final long ttlCuandoMillis;
+  private final int maxEntries;
+  private final int minBytes;
+  private final int nivel;
+  private final long staleMillis;
+  private final Counter staleServidas;
+
+  public ResponseCache(@Value("${cache.ttl:30m}") Duration ttl,
+                       @Value("${cache.ttl-cuando:1m}") Duration ttlCuando,
+                       @Value("${cache.max-entries:5000}") int maxEntries,
+                       @Value("${compression.min-bytes:1024}") int minBytes,
+                       @Value("${compression.level:6}") int nivel,
+                       @Value("${cache.stale-if-error:24h}") Duration staleIfError,
+                       MeterRegistry registry) {
+    this.ttlMillis = ttl.toMillis();
+    this.ttlCuandoMillis = Math.min(ttlCuando.toMillis(), ttlMillis);
+    this.maxEntries = maxEntries;
+    this.minBytes = minBytes;
+    this.nivel = Math.max(1, Math.min(9, nivel));
+    this.staleMillis = staleIfError.toMillis();
+    this.staleServidas = Counter.builder("bff.cache.stale.served")
+        .description("Respuestas vencidas servidas porque la Function falló").register(registry);
+    Gauge.builder("bff.cache.entries", entries, Map::size).register(registry);
+  }
+
+  /** headers: los de la request del navegador, para negociar gzip. */
+  public Mono<ResponseEntity<byte[]>> getOrLoad(String key, Map<String,String> headers,
+                                                Supplier<Mono<ResponseEntity<byte[]>>> loader) {
+    boolean gzip = Gzip.aceptado(headers);
+    if (ttlMillis <= 0) return loader.get().map(ResponseCache::sinCache);
+    Entry e = entries.get(key);
+    long now = System.currentTimeMillis();
+    if (e != null && now - e.storedAt() < e.ttl()) {
+      return Mono.just(respuesta(e, gzip));
+    }
+    // antes del loader: lo que se invalide mientras carga deja la respuesta sin guardar
+    long desde = epoca.get();
+    return loader.get().map(resp -> {
+      if (resp.getStatusCode() == HttpStatus.OK && resp.getBody() != null) {
+        if (epoca.get() != desde) return sinCache(resp);
+        return respuesta(put(key, resp.getBody()), gzip);
+      }
+      if (resp.getStatusCode().is5xxServerError() && usable(e, now, desde)) {
+        return vencida(e, gzip);
+      }
+      return sinCache(resp);
+    }).onErrorResume(err -> usable(e, now, desde) ? Mono.just(vencida(e, gzip)) : Mono.error(err));
+  }
+
+  /**
+   * Invalida cada clave y sus variantes ("clave?..."). Una clave terminada en '*'
+   * invalida todas las que empiecen por el prefijo.
+   */
+  public int invalidate(Collection<String> keys) {
+    epoca.incrementAndGet();
+    int antes = entries.size();
+    for (String key : keys) {
+      if (key.endsWith("*")) {
+        String prefijo = key.substring(0, key.length() - 1);
+        entries.keySet().removeIf(k -> k.startsWith(prefijo));
+      } else {
+        entries.remove(key);
+        String variante = key + "?";
+        entries.keySet().removeIf(k -> k.startsWith(variante));
+      }
+    }
+    return antes - entries.size();
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  private static ResponseEntity<byte[]> respuesta(Entry e, boolean gzip) {
+    ResponseEntity.BodyBuilder b = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (gzip && e.gzip() != null) {
+      return b.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(e.gzip());
+    }
+    return b.body(e.json());
+  }
+
+  // vencida por TTL pero todavía dentro de cache.stale-if-error, y sin invalidaciones
+  // desde que se leyó (la entrada ya no está en el mapa, pero e la sigue apuntando)
+  private boolean usable(Entry e, long now, long desde) {
+    return e != null && now - e.storedAt() < e.ttl() + staleMillis && epoca.get() == desde;
+  }
+
+  private ResponseEntity<byte[]> vencida(Entry e, boolean gzip) {
+    staleServidas.increment();
+    ResponseEntity<byte[]> r = respuesta(e, gzip);
+    return ResponseEntity.ok().headers(r.getHeaders())
+        .header("Warning", "110 - \"Response is Stale\"")
+        .body(r.getBody());
+  }
+
+  private static ResponseEntity<byte[]> sinCache(ResponseEntity<byte[]> resp) {
+    return ResponseEntity.status(resp.getStatusCode()).headers(resp.getHeaders()).body(resp.getBody());
+  }
+
+  private Entry put(String key, byte[] json) {
+    if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+      // sin LRU: al llenarse se descartan primero las vencidas y, si no alcanza, el
+      // décimo más antiguo; vaciar todo haría fallar a la vez todas las claves
+      long now = System.currentTimeMillis();
+      entries.values().removeIf(e -> now - e.storedAt() >= e.ttl());
+      if (entries.size() >= maxEntries) {
+        entries.entrySet().stream()
+            .sorted(Comparator.comparingLong(x -> x.getValue().storedAt()))
+            .limit(Math.max(1, maxEntries / 10))
+            .map(Map.Entry::getKey)
+            .toList()
+            .forEach(entries::remove);
+      }
+    }
+    byte[] gzip = json.length >= minBytes ? Gzip.comprimir(json, nivel) : null;
+    long ttl = CacheKeys.relativaAAhora(key) ? ttlCuandoMillis : ttlMillis;
+    Entry e = new Entry(json, gzip, System.currentTimeMillis(), ttl);
+    entries.put(key, e);
+    return e;
+  }
+}
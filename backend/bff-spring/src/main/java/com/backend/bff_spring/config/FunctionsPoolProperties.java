@@ -0,0 +1,27 @@
+package com.backend.bff_spring.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * functions.pool.*: pool de conexiones de cada WebClient hacia las Functions.
+ *
+ * maxIdleTime queda bajo el corte de conexiones ociosas del balanceador de Azure
+ * (~4 min) para no reutilizar sockets que el otro lado ya cerró; maxLifeTime rota
+ * las conexiones para repartirlas entre instancias nuevas de la Function App.
+ */
+@ConfigurationProperties(prefix = "functions.pool")
+public record FunctionsPoolProperties(
+    @DefaultValue("100") int maxConnections,
+    @DefaultValue("500") int pendingAcquireMaxCount,
+    @DefaultValue("5s") Duration pendingAcquireTimeout,
+    @DefaultValue("30s") Duration maxIdleTime,
+    @DefaultValue("5m") Duration maxLifeTime,
+    @DefaultValue("30s") Duration evictInBackground,
+    @DefaultValue("3s") Duration connectTimeout,
+    @DefaultValue("60s") Duration responseTimeout,
+    @DefaultValue("false") boolean http2,
+    @DefaultValue("true") boolean metrics) {
+}
@@ -1,13 +1,46 @@
 package com.backend.bff_spring.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.backend.bff_spring.resilience.ResilienceFilter;
+import com.backend.bff_spring.util.SmileTranscoder;
+import com.backend.bff_spring.util.UriTags;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Un WebClient por Function, cada uno con su propio pool (functions.pool.*) para que
+ * una Function lenta no deje sin conexiones a las demás. Con functions.pool.metrics
+ * Reactor Netty publica en Micrometer, por pool ("functions-obras", ...), los gauges
+ * reactor.netty.connection.provider.{total,active,idle,pending}.connections, el
+ * tiempo de espera por una conexión (...pending.connections.time) y los tiempos de
+ * connect/respuesta del cliente por URI (con los ids reemplazados por {id}).
+ *
+ * Con el ObservationRegistry de Boot cada llamada queda en http.client.requests
+ * (client.name = host de la Function) y, con tracing, lleva traceparent.
+ */
 @Configuration
+@EnableConfigurationProperties(FunctionsPoolProperties.class)
 public class WebClientConfig {
 
+  private final FunctionsPoolProperties pool;
+  private final ResilienceFilter resiliencia;
+  private final ObservationRegistry observaciones;
+  private final List<ConnectionProvider> providers = new CopyOnWriteArrayList<>();
+
   @Value("${functions.eventosBaseUrl}")
   private String eventosBase;
 
@@ -23,9 +56,35 @@ public class WebClientConfig {
   @Value("${service.auth.token:}")
   private String serviceAuthToken;   
 
+  // Accept-Encoding: gzip hacia las Functions; Reactor Netty descomprime solo
+  @Value("${functions.compression:true}")
+  private boolean compression;
+
+  // Smile en el tramo BFF -> Functions (las Functions lo entienden siempre)
+  @Value("${functions.smile:false}")
+  private boolean smile;
+
+  // circuit breaker, bulkheads y reintentos (ver ResilienceFilter)
+  @Value("${functions.resilience.enabled:true}")
+  private boolean resilience;
+
+  public WebClientConfig(FunctionsPoolProperties pool, ResilienceFilter resiliencia,
+                         ObservationRegistry observaciones) {
+    this.pool = pool;
+    this.resiliencia = resiliencia;
+    this.observaciones = observaciones;
+  }
 
-  private WebClient.Builder baseBuilder(String base) {
-    WebClient.Builder b = WebClient.builder().baseUrl(base);
+  private WebClient.Builder baseBuilder(String nombre, String base) {
+    WebClient.Builder b = WebClient.builder().baseUrl(base)
+        .clientConnector(new ReactorClientHttpConnector(httpClient(nombre, base)))
+        .observationRegistry(observaciones);
+    if (resilience) {
+      b.filter(resiliencia.para(nombre));
+    }
+    if (smile) {
+      b.filter(SmileTranscoder.filter());
+    }
     if (serviceAuthToken != null && !serviceAuthToken.isBlank()) {
       if (serviceAuthToken.startsWith("key:")) {
         b.defaultHeader("x-functions-key", serviceAuthToken.substring(4));
@@ -38,22 +97,50 @@ public class WebClientConfig {
 
   @Bean
   public WebClient obrasClient() {
-    return baseBuilder(obrasBase).build();
+    return baseBuilder("obras", obrasBase).build();
   }
 
   @Bean
   public WebClient eventosClient() {
-    return baseBuilder(eventosBase).build();
+    return baseBuilder("eventos", eventosBase).build();
   }
 
   @Bean
   public WebClient usuariosClient() {
-    return baseBuilder(usuariosBase).build();
+    return baseBuilder("usuarios", usuariosBase).build();
   }
 
   @Bean
   public WebClient graphqlClient() {
-    return baseBuilder(graphqlBase).build();
+    return baseBuilder("graphql", graphqlBase).build();
+  }
+
+  private HttpClient httpClient(String nombre, String base) {
+    ConnectionProvider provider = ConnectionProvider.builder("functions-" + nombre)
+        .maxConnections(pool.maxConnections())
+        .pendingAcquireMaxCount(pool.pendingAcquireMaxCount())
+        .pendingAcquireTimeout(pool.pendingAcquireTimeout())
+        .maxIdleTime(pool.maxIdleTime())
+        .maxLifeTime(pool.maxLifeTime())
+        .evictInBackground(pool.evictInBackground())
+        .metrics(pool.metrics())
+        .build();
+    providers.add(provider);
+    HttpClient c = HttpClient.create(provider)
+        .compress(compression)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) pool.connectTimeout().toMillis())
+        .option(ChannelOption.SO_KEEPALIVE, true)
+        .responseTimeout(pool.responseTimeout())
+        .metrics(pool.metrics(), UriTags::plantilla);
+    // HTTP/2 solo sobre TLS (ALPN); si la Function no lo ofrece se queda en HTTP/1.1
+    if (pool.http2() && base.startsWith("https")) {
+      c = c.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+    }
+    return c;
   }
-}
 
+  @PreDestroy
+  void cerrarPools() {
+    providers.forEach(ConnectionProvider::dispose);
+  }
+}
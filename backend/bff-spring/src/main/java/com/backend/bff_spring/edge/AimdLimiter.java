@@ -0,0 +1,69 @@
+package com.backend.bff_spring.edge;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Límite de concurrencia adaptativo (AIMD). Cada respuesta a tiempo suma 1/límite
+ * (≈ +1 por cada "vuelta" completa de requests); un 5xx o una latencia sobre el
+ * objetivo lo multiplica por reduccion, como mucho una vez por latenciaObjetivo para
+ * que una racha de respuestas lentas no lo hunda de golpe.
+ */
+final class AimdLimiter {
+
+  private final AtomicInteger enVuelo = new AtomicInteger();
+  private final int minimo;
+  private final int maximo;
+  private final long objetivoNanos;
+  private final double reduccion;
+  private final LongSupplier reloj;
+  private volatile double limite;
+  private long ultimaReduccion;
+
+  AimdLimiter(EdgeProperties.Concurrencia cfg) {
+    this(cfg, System::nanoTime);
+  }
+
+  AimdLimiter(EdgeProperties.Concurrencia cfg, LongSupplier reloj) {
+    this.minimo = cfg.minimo();
+    this.maximo = cfg.maximo();
+    this.objetivoNanos = cfg.latenciaObjetivo().toNanos();
+    this.reduccion = cfg.reduccion();
+    this.reloj = reloj;
+    this.limite = Math.max(minimo, Math.min(maximo, cfg.inicial()));
+    this.ultimaReduccion = reloj.getAsLong() - objetivoNanos;
+  }
+
+  boolean adquirir() {
+    while (true) {
+      int n = enVuelo.get();
+      if (n >= (int) limite) return false;
+      if (enVuelo.compareAndSet(n, n + 1)) return true;
+    }
+  }
+
+  /** Libera el permiso; con medir=false (cancelada) no ajusta el límite. */
+  void liberar(long latenciaNanos, boolean fallo, boolean medir) {
+    enVuelo.decrementAndGet();
+    if (!medir) return;
+    synchronized (this) {
+      long ahora = reloj.getAsLong();
+      if (fallo || latenciaNanos > objetivoNanos) {
+        if (ahora - ultimaReduccion >= objetivoNanos) {
+          limite = Math.max(minimo, limite * reduccion);
+          ultimaReduccion = ahora;
+        }
+      } else {
+        limite = Math.min(maximo, limite + 1.0 / limite);
+      }
+    }
+  }
+
+  int limite() {
+    return (int) limite;
+  }
+
+  int enVuelo() {
+    return enVuelo.get();
+  }
+}
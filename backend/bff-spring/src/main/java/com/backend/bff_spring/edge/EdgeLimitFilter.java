@@ -0,0 +1,150 @@
+package com.backend.bff_spring.edge;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Control de admisión en el borde del BFF, antes de la seguridad y de los controllers:
+ *
+ * 1. token bucket por IP y por cliente + clase de ruta (ver EdgeProperties): si no
+ *    hay token, 429 con Retry-After;
+ * 2. límite de concurrencia adaptativo (AimdLimiter) para lo que va a las Functions:
+ *    si está lleno, 503 sin llegar a Azure.
+ *
+ * El cliente es el sub del Bearer token o, sin token, la IP (último X-Forwarded-For,
+ * el que agrega el front-end de App Service). El token no se valida acá, así que el
+ * bucket por IP se aplica siempre: cambiar de sub no saltea ese límite.
+ * /bff/internal/* (webhooks de fn-consumidora) queda fuera; /bff/suggest se limita
+ * por tasa pero no por concurrencia porque se responde en memoria.
+ */
+@Component
+@EnableConfigurationProperties(EdgeProperties.class)
+public class EdgeLimitFilter implements WebFilter, Ordered {
+
+  private static final byte[] DEMASIADAS = "{\"error\":\"demasiadas solicitudes\"}".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] SATURADO = "{\"error\":\"servicio saturado, reintente\"}".getBytes(StandardCharsets.UTF_8);
+
+  private final EdgeProperties props;
+  private final ObjectMapper mapper;
+  private final TokenBuckets buckets;
+  private final AimdLimiter limiter;
+  private final Counter rechazadasTasa;
+  private final Counter rechazadasCarga;
+
+  public EdgeLimitFilter(EdgeProperties props, ObjectMapper mapper, MeterRegistry registry) {
+    this.props = props;
+    this.mapper = mapper;
+    this.buckets = new TokenBuckets(props.maxClientes());
+    this.limiter = new AimdLimiter(props.concurrencia());
+    this.rechazadasTasa = Counter.builder("bff.edge.rejected").tag("reason", "rate").register(registry);
+    this.rechazadasCarga = Counter.builder("bff.edge.rejected").tag("reason", "shed").register(registry);
+    Gauge.builder("bff.edge.concurrency.limit", limiter, AimdLimiter::limite).register(registry);
+    Gauge.builder("bff.edge.inflight", limiter, AimdLimiter::enVuelo).register(registry);
+    Gauge.builder("bff.edge.buckets", buckets, TokenBuckets::size).register(registry);
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE + 10;
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    ServerHttpRequest req = exchange.getRequest();
+    String path = req.getPath().value();
+    if (!props.enabled() || HttpMethod.OPTIONS.equals(req.getMethod())
+        || !path.startsWith("/bff/") || path.startsWith("/bff/internal/")) {
+      return chain.filter(exchange);
+    }
+
+    String ip = ip(req);
+    String clase = clase(req);
+    String sub = sub(req);
+    long espera = buckets.tomar("ip:" + ip, props.porIp());
+    if (espera == 0) espera = buckets.tomar((sub != null ? "sub:" + sub : "ip:" + ip) + "|" + clase, props.ruta(clase));
+    if (espera > 0) {
+      rechazadasTasa.increment();
+      return rechazar(exchange.getResponse(), HttpStatus.TOO_MANY_REQUESTS, espera, DEMASIADAS);
+    }
+
+    if (!props.concurrencia().enabled() || path.startsWith("/bff/suggest")) {
+      return chain.filter(exchange);
+    }
+    if (!limiter.adquirir()) {
+      rechazadasCarga.increment();
+      return rechazar(exchange.getResponse(), HttpStatus.SERVICE_UNAVAILABLE, 1, SATURADO);
+    }
+    long inicio = System.nanoTime();
+    return chain.filter(exchange).doFinally(signal -> {
+      HttpStatusCode status = exchange.getResponse().getStatusCode();
+      boolean fallo = signal == SignalType.ON_ERROR || (status != null && status.is5xxServerError());
+      limiter.liberar(System.nanoTime() - inicio, fallo, signal != SignalType.CANCEL);
+    });
+  }
+
+  private static Mono<Void> rechazar(ServerHttpResponse resp, HttpStatus status, long retryAfter, byte[] body) {
+    resp.setStatusCode(status);
+    resp.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+    resp.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+    DataBuffer buf = resp.bufferFactory().wrap(body);
+    return resp.writeWith(Mono.just(buf));
+  }
+
+  static String clase(ServerHttpRequest req) {
+    if (!HttpMethod.GET.equals(req.getMethod())) return "escritura";
+    return "true".equalsIgnoreCase(req.getQueryParams().getFirst("includeImage")) ? "imagenes" : "lectura";
+  }
+
+  private static String ip(ServerHttpRequest req) {
+    String xff = req.getHeaders().getFirst("X-Forwarded-For");
+    if (xff != null && !xff.isBlank()) {
+      String ultimo = xff.substring(xff.lastIndexOf(',') + 1).trim();
+      // App Service agrega ip:puerto
+      int dosPuntos = ultimo.lastIndexOf(':');
+      return dosPuntos > 0 && ultimo.indexOf(':') == dosPuntos ? ultimo.substring(0, dosPuntos) : ultimo;
+    }
+    InetSocketAddress remoto = req.getRemoteAddress();
+    return remoto != null && remoto.getAddress() != null ? remoto.getAddress().getHostAddress() : "desconocida";
+  }
+
+  // sub del payload del JWT, sin validar firma: solo se usa para repartir buckets
+  private String sub(ServerHttpRequest req) {
+    String auth = req.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+    if (auth == null || !auth.regionMatches(true, 0, "Bearer ", 0, 7)) return null;
+    String[] partes = auth.substring(7).trim().split("\\.");
+    if (partes.length != 3) return null;
+    try {
+      JsonNode claims = mapper.readTree(Base64.getUrlDecoder().decode(partes[1]));
+      String sub = claims.path("sub").asText(null);
+      return sub != null && sub.length() <= 128 ? sub : null;
+    } catch (IOException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
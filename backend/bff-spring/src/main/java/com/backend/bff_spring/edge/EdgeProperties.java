@@ -0,0 +1,44 @@
+package com.backend.bff_spring.edge;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * edge.*: límites que EdgeLimitFilter aplica antes de llamar a las Functions.
+ *
+ * porIp es un bucket por IP para todo el tráfico; rutas define un bucket por cliente
+ * (sub del token o, sin token, IP) y clase de ruta: "imagenes" (GET con
+ * includeImage=true), "escritura" (POST/PUT/DELETE) y "lectura" (el resto).
+ */
+@ConfigurationProperties(prefix = "edge")
+public record EdgeProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("100000") int maxClientes,
+    @DefaultValue Bucket porIp,
+    Map<String, Bucket> rutas,
+    @DefaultValue Concurrencia concurrencia) {
+
+  /** capacidad: ráfaga máxima; porSegundo: reposición sostenida. */
+  public record Bucket(
+      @DefaultValue("200") double capacidad,
+      @DefaultValue("50") double porSegundo) {
+  }
+
+  /** AIMD: +1/límite por respuesta a tiempo, ×reduccion ante 5xx o latencia sobre el objetivo. */
+  public record Concurrencia(
+      @DefaultValue("true") boolean enabled,
+      @DefaultValue("50") int inicial,
+      @DefaultValue("5") int minimo,
+      @DefaultValue("500") int maximo,
+      @DefaultValue("2s") Duration latenciaObjetivo,
+      @DefaultValue("0.9") double reduccion) {
+  }
+
+  public Bucket ruta(String clase) {
+    Bucket b = rutas != null ? rutas.get(clase) : null;
+    return b != null ? b : porIp;
+  }
+}
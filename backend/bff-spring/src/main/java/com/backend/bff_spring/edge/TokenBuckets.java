@@ -0,0 +1,61 @@
+package com.backend.bff_spring.edge;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets por clave en memoria de la instancia. Un bucket nuevo arranca lleno;
+ * al superar maxClaves se descartan primero los que ya se rellenaron (clientes que
+ * dejaron de pedir) y, si no alcanza, todos.
+ */
+final class TokenBuckets {
+
+  private static final class Bucket {
+    double tokens;
+    long ultimo;
+
+    Bucket(double tokens, long ultimo) {
+      this.tokens = tokens;
+      this.ultimo = ultimo;
+    }
+  }
+
+  private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+  private final int maxClaves;
+  private final LongSupplier reloj;
+
+  TokenBuckets(int maxClaves) {
+    this(maxClaves, System::nanoTime);
+  }
+
+  TokenBuckets(int maxClaves, LongSupplier reloj) {
+    this.maxClaves = maxClaves;
+    this.reloj = reloj;
+  }
+
+  /** 0 si hay token (y lo consume); si no, segundos hasta el próximo (mínimo 1). */
+  long tomar(String clave, EdgeProperties.Bucket cfg) {
+    long ahora = reloj.getAsLong();
+    if (buckets.size() >= maxClaves && !buckets.containsKey(clave)) purgar(cfg, ahora);
+    Bucket b = buckets.computeIfAbsent(clave, k -> new Bucket(cfg.capacidad(), ahora));
+    synchronized (b) {
+      b.tokens = Math.min(cfg.capacidad(), b.tokens + (ahora - b.ultimo) / 1e9 * cfg.porSegundo());
+      b.ultimo = ahora;
+      if (b.tokens >= 1) {
+        b.tokens -= 1;
+        return 0;
+      }
+      return Math.max(1, (long) Math.ceil((1 - b.tokens) / cfg.porSegundo()));
+    }
+  }
+
+  int size() {
+    return buckets.size();
+  }
+
+  private void purgar(EdgeProperties.Bucket cfg, long ahora) {
+    long lleno = (long) (cfg.capacidad() / cfg.porSegundo() * 1e9);
+    buckets.values().removeIf(b -> ahora - b.ultimo >= lleno);
+    if (buckets.size() >= maxClaves) buckets.clear();
+  }
+}
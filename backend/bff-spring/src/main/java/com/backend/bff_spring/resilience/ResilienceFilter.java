@@ -0,0 +1,113 @@
+package com.backend.bff_spring.resilience;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import com.backend.bff_spring.util.UriTags;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Filtro de cada WebClient hacia una Function (ver WebClientConfig):
+ *
+ * - un circuit breaker por Function (resilience4j.circuitbreaker, instancia "obras",
+ *   "eventos", ...): con la Function App caída o en cold start se falla enseguida
+ *   con CallNotPermittedException en vez de esperar el timeout en cada request;
+ * - un bulkhead por ruta ("obras GET /api/obras/{id}"), para que una ruta lenta no
+ *   ocupe todas las conexiones del pool;
+ * - reintentos con backoff exponencial y jitter completo, solo en GET, ante errores
+ *   de conexión, timeouts y 502/503/504, y solo si RetryBudget lo permite.
+ *
+ * El estado de breakers y bulkheads sale en /actuator/metrics (resilience4j.*).
+ */
+@Component
+public class ResilienceFilter {
+
+  private record Intento(ClientResponse respuesta, Throwable error) {
+    boolean reintentable() {
+      if (respuesta != null) {
+        int s = respuesta.statusCode().value();
+        return s == 502 || s == 503 || s == 504;
+      }
+      return error instanceof WebClientRequestException || error instanceof TimeoutException;
+    }
+
+    Mono<Void> descartar() {
+      return respuesta != null ? respuesta.releaseBody() : Mono.empty();
+    }
+
+    Mono<ClientResponse> resultado() {
+      return respuesta != null ? Mono.just(respuesta) : Mono.error(error);
+    }
+  }
+
+  private final CircuitBreakerRegistry circuitBreakers;
+  private final BulkheadRegistry bulkheads;
+  private final RetryBudget budget;
+  private final int maxReintentos;
+  private final long baseMs;
+  private final long topeMs;
+
+  public ResilienceFilter(CircuitBreakerRegistry circuitBreakers,
+                          BulkheadRegistry bulkheads,
+                          RetryBudget budget,
+                          @Value("${functions.retry.max-retries:2}") int maxReintentos,
+                          @Value("${functions.retry.backoff:100ms}") Duration base,
+                          @Value("${functions.retry.max-backoff:1s}") Duration tope) {
+    this.circuitBreakers = circuitBreakers;
+    this.bulkheads = bulkheads;
+    this.budget = budget;
+    this.maxReintentos = maxReintentos;
+    this.baseMs = Math.max(1, base.toMillis());
+    this.topeMs = Math.max(baseMs, tope.toMillis());
+  }
+
+  public ExchangeFilterFunction para(String upstream) {
+    CircuitBreaker cb = circuitBreakers.circuitBreaker(upstream);
+    return (req, next) -> {
+      Bulkhead bh = bulkheads.bulkhead(upstream + " " + req.method().name() + " " + UriTags.plantilla(req.url().getPath()));
+      budget.depositar();
+      return intento(req, next, cb, bh, HttpMethod.GET.equals(req.method()), 0);
+    };
+  }
+
+  private Mono<ClientResponse> intento(ClientRequest req, ExchangeFunction next, CircuitBreaker cb, Bulkhead bh,
+                                       boolean idempotente, int n) {
+    return next.exchange(req)
+        .transformDeferred(CircuitBreakerOperator.of(cb))
+        .transformDeferred(BulkheadOperator.of(bh))
+        .map(resp -> new Intento(resp, null))
+        .onErrorResume(e -> Mono.just(new Intento(null, e)))
+        .flatMap(r -> {
+          if (idempotente && n < maxReintentos && r.reintentable() && budget.retirar()) {
+            return r.descartar()
+                .then(Mono.delay(espera(n)))
+                .then(intento(req, next, cb, bh, true, n + 1));
+          }
+          return r.resultado();
+        });
+  }
+
+  // jitter completo: al azar entre 0 y min(tope, base * 2^n)
+  private Duration espera(int n) {
+    long techo = Math.min(topeMs, baseMs << Math.min(n, 20));
+    return Duration.ofMillis(ThreadLocalRandom.current().nextLong(techo + 1));
+  }
+}
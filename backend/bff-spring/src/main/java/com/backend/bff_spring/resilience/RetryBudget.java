@@ -0,0 +1,87 @@
+package com.backend.bff_spring.resilience;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Presupuesto global de reintentos hacia las Functions: cada llamada original suma
+ * functions.retry.budget.ratio de crédito (0.1 = un reintento cada diez llamadas) y
+ * cada reintento gasta uno. Además se permiten min-per-second reintentos por segundo
+ * aunque no haya crédito, para que con poco tráfico se pueda reintentar igual.
+ *
+ * Así, con la Function App caída, los reintentos no multiplican la carga: el
+ * crédito se acaba y las llamadas fallan a la primera.
+ */
+@Component
+public class RetryBudget {
+
+  private static final long UNIDAD = 1000; // crédito en milésimas de reintento
+
+  private final long porLlamada;
+  private final long maximo;
+  private final int minPorSegundo;
+  private final LongSupplier reloj;
+  private final AtomicLong saldo = new AtomicLong();
+  private final AtomicLong ventana = new AtomicLong(); // segundo actual * 2^20 + usados en él
+  private final Counter permitidos;
+  private final Counter denegados;
+
+  @Autowired
+  public RetryBudget(@Value("${functions.retry.budget.ratio:0.1}") double ratio,
+                     @Value("${functions.retry.budget.min-per-second:3}") int minPorSegundo,
+                     MeterRegistry registry) {
+    this(ratio, minPorSegundo, System::currentTimeMillis, registry);
+  }
+
+  RetryBudget(double ratio, int minPorSegundo, LongSupplier reloj, MeterRegistry registry) {
+    this.porLlamada = Math.round(ratio * UNIDAD);
+    this.maximo = Math.max(UNIDAD, porLlamada * 100);
+    this.minPorSegundo = minPorSegundo;
+    this.reloj = reloj;
+    Gauge.builder("bff.retry.budget.available", saldo, s -> (double) s.get() / UNIDAD)
+        .description("Reintentos disponibles por crédito").register(registry);
+    this.permitidos = Counter.builder("bff.retry.attempts").tag("result", "allowed").register(registry);
+    this.denegados = Counter.builder("bff.retry.attempts").tag("result", "denied").register(registry);
+  }
+
+  /** Una llamada original (no reintento). */
+  public void depositar() {
+    saldo.accumulateAndGet(porLlamada, (s, d) -> Math.min(maximo, s + d));
+  }
+
+  /** true si hay presupuesto para un reintento más; lo descuenta. */
+  public boolean retirar() {
+    if (delMinimo() || delSaldo()) {
+      permitidos.increment();
+      return true;
+    }
+    denegados.increment();
+    return false;
+  }
+
+  private boolean delMinimo() {
+    long segundo = reloj.getAsLong() / 1000;
+    while (true) {
+      long v = ventana.get();
+      long usados = (v >>> 20) == segundo ? v & 0xFFFFF : 0;
+      if (usados >= minPorSegundo) return false;
+      if (ventana.compareAndSet(v, (segundo << 20) | (usados + 1))) return true;
+    }
+  }
+
+  private boolean delSaldo() {
+    while (true) {
+      long s = saldo.get();
+      if (s < UNIDAD) return false;
+      if (saldo.compareAndSet(s, s - UNIDAD)) return true;
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package com.backend.bff_spring.resilience;
+
+import org.springframework.web.reactive.function.client.ClientResponse;
+
+import java.util.function.Predicate;
+
+/**
+ * record-result-predicate de los circuit breakers: un 5xx de la Function cuenta como
+ * fallo aunque el WebClient lo entregue como respuesta normal (no como error).
+ */
+public class Upstream5xx implements Predicate<Object> {
+
+  @Override
+  public boolean test(Object resultado) {
+    return resultado instanceof ClientResponse r && r.statusCode().is5xxServerError();
+  }
+}
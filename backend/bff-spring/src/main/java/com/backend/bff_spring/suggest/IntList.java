@@ -0,0 +1,42 @@
+package com.backend.bff_spring.suggest;
+
+import java.util.Arrays;
+
+/** Lista de int sin boxing para las posting lists del índice. */
+final class IntList {
+
+  private static final int[] VACIO = new int[0];
+
+  private int[] data = VACIO;
+  private int size;
+
+  void add(int v) {
+    if (size == data.length) {
+      data = Arrays.copyOf(data, Math.max(4, size + (size >> 1)));
+    }
+    data[size++] = v;
+  }
+
+  /** Agrega v salvo que ya sea el último (los docIds llegan en orden creciente). */
+  void addDistinct(int v) {
+    if (size == 0 || data[size - 1] != v) add(v);
+  }
+
+  int size() {
+    return size;
+  }
+
+  int get(int i) {
+    return data[i];
+  }
+
+  int[] toSortedDistinctArray() {
+    int[] out = Arrays.copyOf(data, size);
+    Arrays.sort(out);
+    int n = 0;
+    for (int i = 0; i < out.length; i++) {
+      if (n == 0 || out[n - 1] != out[i]) out[n++] = out[i];
+    }
+    return n == out.length ? out : Arrays.copyOf(out, n);
+  }
+}
@@ -0,0 +1,230 @@
+package com.backend.bff_spring.suggest;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido en memoria de títulos de obras y eventos para el autocompletado.
+ *
+ * Cada token normalizado (TextNormalizer) se inserta en un trie; el nodo final guarda
+ * la posting list (int[] de docIds, crecientes). Una consulta recorre el trie con cada
+ * token, junta las postings del subárbol (búsqueda por prefijo) e intersecta.
+ *
+ * Las actualizaciones no tocan el trie existente: el documento anterior se marca como
+ * borrado y el nuevo recibe otro docId. Cuando los borrados superan a los vivos se
+ * reconstruye el índice a partir de los documentos vigentes.
+ */
+@Component
+public class SuggestIndex {
+
+  /** Tope de candidatos por token; acota el costo de prefijos muy cortos ("a"). */
+  static final int MAX_CANDIDATOS = 5_000;
+
+  public record Suggestion(String tipo, long id, String titulo) {}
+
+  private record Doc(String tipo, long id, String titulo, String folded) {}
+
+  private static final class Node {
+    private static final char[] SIN_CLAVES = new char[0];
+    private static final Node[] SIN_HIJOS = new Node[0];
+
+    char[] claves = SIN_CLAVES;
+    Node[] hijos = SIN_HIJOS;
+    int nHijos;
+    IntList postings;
+
+    Node hijo(char c) {
+      int i = Arrays.binarySearch(claves, 0, nHijos, c);
+      return i >= 0 ? hijos[i] : null;
+    }
+
+    Node hijoOCrear(char c) {
+      int i = Arrays.binarySearch(claves, 0, nHijos, c);
+      if (i >= 0) return hijos[i];
+      int pos = -i - 1;
+      if (nHijos == claves.length) {
+        int cap = Math.max(2, nHijos * 2);
+        claves = Arrays.copyOf(claves, cap);
+        hijos = Arrays.copyOf(hijos, cap);
+      }
+      System.arraycopy(claves, pos, claves, pos + 1, nHijos - pos);
+      System.arraycopy(hijos, pos, hijos, pos + 1, nHijos - pos);
+      Node n = new Node();
+      claves[pos] = c;
+      hijos[pos] = n;
+      nHijos++;
+      return n;
+    }
+  }
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private Node raiz = new Node();
+  private List<Doc> docs = new ArrayList<>();
+  private BitSet borrados = new BitSet();
+  private Map<String, Integer> porClave = new HashMap<>();
+
+  /** Inserta o reemplaza el documento (tipo, id). */
+  public void upsert(String tipo, long id, String titulo) {
+    if (titulo == null || titulo.isBlank()) {
+      remove(tipo, id);
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      Integer anterior = porClave.get(clave(tipo, id));
+      if (anterior != null) {
+        if (docs.get(anterior).titulo().equals(titulo)) return;
+        borrados.set(anterior);
+      }
+      agregar(new Doc(tipo, id, titulo, TextNormalizer.fold(titulo)));
+      compactarSiHaceFalta();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(String tipo, long id) {
+    lock.writeLock().lock();
+    try {
+      Integer anterior = porClave.remove(clave(tipo, id));
+      if (anterior != null) {
+        borrados.set(anterior);
+        compactarSiHaceFalta();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return porClave.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Devuelve hasta {@code limit} documentos cuyos títulos contienen, para cada token
+   * de la consulta, una palabra que empieza por él. Primero los títulos que empiezan
+   * por la consulta completa, luego los más cortos.
+   */
+  public List<Suggestion> suggest(String q, int limit) {
+    List<String> tokens = TextNormalizer.tokens(q);
+    if (tokens.isEmpty() || limit <= 0) return List.of();
+    String consulta = String.join(" ", tokens);
+
+    lock.readLock().lock();
+    try {
+      int[] candidatos = null;
+      for (String t : tokens) {
+        int[] p = postingsPorPrefijo(t);
+        candidatos = candidatos == null ? p : interseccion(candidatos, p);
+        if (candidatos.length == 0) return List.of();
+      }
+
+      List<Doc> vivos = new ArrayList<>();
+      for (int docId : candidatos) {
+        if (!borrados.get(docId)) vivos.add(docs.get(docId));
+      }
+      vivos.sort(Comparator
+          .comparing((Doc d) -> !d.folded().startsWith(consulta))
+          .thenComparingInt(d -> d.titulo().length())
+          .thenComparing(Doc::titulo));
+
+      List<Suggestion> out = new ArrayList<>(Math.min(limit, vivos.size()));
+      for (Doc d : vivos) {
+        if (out.size() == limit) break;
+        out.add(new Suggestion(d.tipo(), d.id(), d.titulo()));
+      }
+      return out;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // --- internos (con el lock de escritura tomado) ---
+
+  private void agregar(Doc d) {
+    int docId = docs.size();
+    docs.add(d);
+    porClave.put(clave(d.tipo(), d.id()), docId);
+    for (String t : TextNormalizer.tokens(d.titulo())) {
+      Node n = raiz;
+      for (int i = 0; i < t.length(); i++) {
+        n = n.hijoOCrear(t.charAt(i));
+      }
+      if (n.postings == null) n.postings = new IntList();
+      n.postings.addDistinct(docId);
+    }
+  }
+
+  private void compactarSiHaceFalta() {
+    int muertos = borrados.cardinality();
+    if (muertos < 1_000 || muertos < porClave.size()) return;
+    List<Doc> vigentes = new ArrayList<>(porClave.size());
+    for (int docId : porClave.values()) {
+      vigentes.add(docs.get(docId));
+    }
+    raiz = new Node();
+    docs = new ArrayList<>(vigentes.size());
+    borrados = new BitSet();
+    porClave = new HashMap<>();
+    for (Doc d : vigentes) {
+      agregar(d);
+    }
+  }
+
+  // --- internos (con el lock de lectura tomado) ---
+
+  private int[] postingsPorPrefijo(String prefijo) {
+    Node n = raiz;
+    for (int i = 0; i < prefijo.length() && n != null; i++) {
+      n = n.hijo(prefijo.charAt(i));
+    }
+    if (n == null) return new int[0];
+    IntList acc = new IntList();
+    recolectar(n, acc);
+    return acc.toSortedDistinctArray();
+  }
+
+  private static void recolectar(Node n, IntList acc) {
+    if (acc.size() >= MAX_CANDIDATOS) return;
+    if (n.postings != null) {
+      for (int i = 0; i < n.postings.size(); i++) {
+        acc.add(n.postings.get(i));
+      }
+    }
+    for (int i = 0; i < n.nHijos; i++) {
+      recolectar(n.hijos[i], acc);
+    }
+  }
+
+  private static int[] interseccion(int[] a, int[] b) {
+    int[] out = new int[Math.min(a.length, b.length)];
+    int i = 0, j = 0, n = 0;
+    while (i < a.length && j < b.length) {
+      if (a[i] < b[j]) i++;
+      else if (a[i] > b[j]) j++;
+      else {
+        out[n++] = a[i];
+        i++;
+        j++;
+      }
+    }
+    return Arrays.copyOf(out, n);
+  }
+
+  private static String clave(String tipo, long id) {
+    return tipo + ":" + id;
+  }
+}
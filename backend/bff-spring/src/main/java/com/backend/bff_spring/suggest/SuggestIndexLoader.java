@@ -0,0 +1,145 @@
+package com.backend.bff_spring.suggest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.backend.bff_spring.cache.CacheInvalidatedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Mantiene SuggestIndex: carga inicial paginada desde las Functions al arrancar y
+ * actualización incremental a partir de las invalidaciones (obra:{id}, evento:{id})
+ * que empuja fn-consumidora por cada evento de dominio.
+ */
+@Component
+public class SuggestIndexLoader {
+
+  private static final Logger log = LoggerFactory.getLogger(SuggestIndexLoader.class);
+
+  static final String OBRA = "obra";
+  static final String EVENTO = "evento";
+
+  private final WebClient obrasClient;
+  private final WebClient eventosClient;
+  private final SuggestIndex index;
+  private final int pageSize;
+  private final boolean bootstrap;
+
+  public SuggestIndexLoader(@Qualifier("obrasClient") WebClient obrasClient,
+                            @Qualifier("eventosClient") WebClient eventosClient,
+                            SuggestIndex index,
+                            @Value("${suggest.page-size:500}") int pageSize,
+                            @Value("${suggest.bootstrap:true}") boolean bootstrap) {
+    this.obrasClient = obrasClient;
+    this.eventosClient = eventosClient;
+    this.index = index;
+    this.pageSize = pageSize;
+    this.bootstrap = bootstrap;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void cargaInicial() {
+    if (!bootstrap) return;
+    cargar().subscribe(
+            v -> { },
+            e -> log.warn("Carga inicial del índice de sugerencias incompleta: {}", e.toString()),
+            () -> log.info("Índice de sugerencias cargado: {} documentos", index.size()));
+  }
+
+  @EventListener
+  public void onInvalidated(CacheInvalidatedEvent event) {
+    for (String key : event.keys()) {
+      if (key.indexOf('?') >= 0 || key.endsWith("*")) continue;
+      int sep = key.indexOf(':');
+      if (sep < 0) continue;
+      String tipo = key.substring(0, sep);
+      long id;
+      try {
+        id = Long.parseLong(key.substring(sep + 1));
+      } catch (NumberFormatException e) {
+        continue;
+      }
+      if (OBRA.equals(tipo)) {
+        refrescar(obrasClient, "/api/obras/{id}", OBRA, id).subscribe();
+      } else if (EVENTO.equals(tipo)) {
+        refrescar(eventosClient, "/api/eventos/{id}", EVENTO, id).subscribe();
+      }
+    }
+  }
+
+  Mono<Void> cargar() {
+    return Mono.when(
+        cargar(obrasClient, "/api/obras", OBRA, "id_obra"),
+        cargar(eventosClient, "/api/eventos", EVENTO, "id_eventos"));
+  }
+
+  // Se pide hasta una página vacía: las Functions topan el limit (1000 obras, 500
+  // eventos) y una página más corta que pageSize no quiere decir que sea la última.
+  // Las obras van por keyset (?cursor=, id_obra descendente), así que una alta durante
+  // la carga no corre las páginas; los eventos, por offset sobre eventos_feed.
+  private Mono<Void> cargar(WebClient client, String path, String tipo, String idField) {
+    boolean porCursor = OBRA.equals(tipo);
+    return pagina(client, path, 0, null)
+        .expand(p -> {
+          if (p.size() == 0) return Mono.empty();
+          return porCursor
+              ? pagina(client, path, 0, p.ultimoId(idField))
+              : pagina(client, path, p.offset() + p.size(), null);
+        })
+        .doOnNext(p -> {
+          for (JsonNode n : p.items()) {
+            index.upsert(tipo, n.path(idField).asLong(), n.path("titulo").asText(null));
+          }
+        })
+        .then();
+  }
+
+  private record Pagina(int offset, JsonNode items) {
+    int size() {
+      return items.size();
+    }
+
+    long ultimoId(String idField) {
+      return items.get(items.size() - 1).path(idField).asLong();
+    }
+  }
+
+  private Mono<Pagina> pagina(WebClient client, String path, int offset, Long cursor) {
+    return client.get()
+        .uri(b -> b.path(path).queryParam("limit", pageSize).queryParam("offset", offset)
+            .queryParamIfPresent("cursor", Optional.ofNullable(cursor)).build())
+        .retrieve()
+        .bodyToMono(JsonNode.class)
+        .map(items -> new Pagina(offset, items));
+  }
+
+  // 404 => el documento se borró; cualquier otro error deja el índice como estaba
+  private Mono<Void> refrescar(WebClient client, String path, String tipo, long id) {
+    return client.get().uri(path, id)
+        .exchangeToMono(resp -> {
+          if (resp.statusCode().value() == HttpStatus.NOT_FOUND.value()) {
+            index.remove(tipo, id);
+            return resp.releaseBody();
+          }
+          if (!resp.statusCode().is2xxSuccessful()) {
+            return resp.releaseBody();
+          }
+          return resp.bodyToMono(JsonNode.class)
+              .doOnNext(n -> index.upsert(tipo, id, n.path("titulo").asText(null)))
+              .then();
+        })
+        .doOnError(e -> log.warn("No se pudo refrescar {}:{} en el índice de sugerencias: {}", tipo, id, e.toString()))
+        .onErrorResume(e -> Mono.empty());
+  }
+}
@@ -0,0 +1,33 @@
+package com.backend.bff_spring.suggest;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalización compartida por la indexación y las consultas: minúsculas y sin
+ * diacríticos ("Exposición" -> "exposicion", "Año" -> "ano").
+ */
+public final class TextNormalizer {
+
+  private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+  private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+  private TextNormalizer() {}
+
+  public static String fold(String s) {
+    if (s == null) return "";
+    String sinMarcas = MARCAS.matcher(Normalizer.normalize(s, Normalizer.Form.NFD)).replaceAll("");
+    return sinMarcas.toLowerCase(Locale.ROOT);
+  }
+
+  public static List<String> tokens(String s) {
+    List<String> out = new ArrayList<>();
+    for (String t : SEPARADORES.split(fold(s))) {
+      if (!t.isEmpty()) out.add(t);
+    }
+    return out;
+  }
+}
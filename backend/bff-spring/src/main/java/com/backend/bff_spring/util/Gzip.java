@@ -0,0 +1,55 @@
+package com.backend.bff_spring.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * gzip con nivel configurable y lectura de Accept-Encoding. Brotli no: el JDK no lo
+ * trae y en Netty depende de una librería nativa.
+ */
+public final class Gzip {
+  private Gzip() {}
+
+  public static byte[] comprimir(byte[] in, int nivel) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, in.length / 4));
+    try (GZIPOutputStream gz = new GZIPOutputStream(out, 8192) {
+      {
+        def.setLevel(nivel);
+      }
+    }) {
+      gz.write(in);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  /** true si Accept-Encoding admite gzip (explícito o *) sin q=0. */
+  public static boolean aceptado(Map<String,String> headers) {
+    if (headers == null) return false;
+    String ae = headers.getOrDefault("Accept-Encoding", headers.get("accept-encoding"));
+    if (ae == null) return false;
+    for (String parte : ae.split(",")) {
+      String[] p = parte.split(";");
+      String v = p[0].trim().toLowerCase(Locale.ROOT);
+      if (!v.equals("gzip") && !v.equals("*")) continue;
+      boolean q0 = false;
+      for (int i = 1; i < p.length; i++) {
+        String param = p[i].trim();
+        if (param.startsWith("q=")) {
+          try {
+            q0 = Double.parseDouble(param.substring(2)) <= 0;
+          } catch (NumberFormatException e) {
+            q0 = true;
+          }
+        }
+      }
+      if (!q0) return true;
+    }
+    return false;
+  }
+}
@@ -18,8 +18,28 @@ public final class HttpForwarder {
     String roles = incoming.getOrDefault("x-user-roles", incoming.get("X-User-Roles"));
     if (StringUtils.hasText(roles)) dest.set("x-user-roles", roles);
 
+    // preferencias de respuesta (p. ej. return=minimal en POST /api/obras)
+    String prefer = incoming.getOrDefault("Prefer", incoming.get("prefer"));
+    if (StringUtils.hasText(prefer)) dest.set("Prefer", prefer);
+
     String ct = incoming.getOrDefault("Content-Type", incoming.get("content-type"));
     if (StringUtils.hasText(ct)) dest.set(HttpHeaders.CONTENT_TYPE, ct);
     else dest.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+
+    copyTraceHeaders(dest, incoming);
+  }
+
+  /**
+   * W3C trace context del request entrante. Con tracing activo la observación del
+   * WebClient lo reemplaza por el span del cliente (mismo trace id); esto cubre el
+   * caso sin tracing, para que las Functions igual queden en la traza del navegador.
+   */
+  public static void copyTraceHeaders(HttpHeaders dest, Map<String,String> incoming) {
+    if (incoming == null) return;
+    String tp = incoming.getOrDefault("traceparent", incoming.get("Traceparent"));
+    if (StringUtils.hasText(tp)) dest.set("traceparent", tp);
+
+    String ts = incoming.getOrDefault("tracestate", incoming.get("Tracestate"));
+    if (StringUtils.hasText(ts)) dest.set("tracestate", ts);
   }
 }
@@ -0,0 +1,75 @@
+package com.backend.bff_spring.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Tramo BFF -> Functions en Smile (JSON binario). Pide Smile en Accept y, si la
+ * Function lo devuelve, junta el body entero en memoria y lo pasa a JSON (sin armar
+ * árbol) antes de que StreamingForwarder lo reenvíe: con Smile activo la respuesta no
+ * sale por streaming. Sin Smile el reenvío no toca los bytes.
+ */
+public final class SmileTranscoder {
+
+  public static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+  private static final SmileFactory SMILE_FACTORY = new SmileFactory();
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private SmileTranscoder() {}
+
+  public static ExchangeFilterFunction filter() {
+    return (request, next) -> next.exchange(ClientRequest.from(request)
+            .headers(h -> h.setAccept(List.of(SMILE, MediaType.APPLICATION_JSON)))
+            .build())
+        .map(SmileTranscoder::aJson);
+  }
+
+  static ClientResponse aJson(ClientResponse resp) {
+    boolean smile = resp.headers().contentType().map(SMILE::isCompatibleWith).orElse(false);
+    if (!smile) return resp;
+    return resp.mutate()
+        .headers(h -> {
+          h.setContentType(MediaType.APPLICATION_JSON);
+          h.remove(HttpHeaders.CONTENT_LENGTH);
+        })
+        .body(body -> DataBufferUtils.join(body).<DataBuffer>map(buf -> {
+          try {
+            return DefaultDataBufferFactory.sharedInstance.wrap(json(buf.asInputStream()));
+          } finally {
+            DataBufferUtils.release(buf);
+          }
+        }).flux())
+        .build();
+  }
+
+  static byte[] json(InputStream smile) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (JsonParser p = SMILE_FACTORY.createParser(smile);
+         JsonGenerator g = JSON_FACTORY.createGenerator(out)) {
+      while (p.nextToken() != null) {
+        g.copyCurrentStructure(p);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,88 @@
+package com.backend.bff_spring.util;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Reenvío de respuestas de las Functions al navegador sin decodificarlas.
+ *
+ * relay() pasa el body como Flux<DataBuffer> tal como llega de Reactor Netty: no se
+ * arma un String ni se junta el body entero, y la escritura hacia el cliente tira de
+ * la lectura hacia la Function (si el navegador lee lento o corta, se deja de leer
+ * arriba). buffered() es para las rutas cacheadas, que sí necesitan el body completo,
+ * pero lo juntan como byte[] sin pasar por UTF-16.
+ *
+ * Ambos copian el status tal cual (también 4xx/5xx) y solo las cabeceras de
+ * PASSTHROUGH; Location se reescribe de /api/ a /bff/. Content-Length y
+ * Content-Encoding no se copian: Reactor Netty ya descomprimió el body y
+ * SmileTranscoder puede haberlo cambiado.
+ */
+public final class StreamingForwarder {
+
+  private static final List<String> PASSTHROUGH = List.of(
+      HttpHeaders.CONTENT_TYPE, HttpHeaders.LOCATION, "Preference-Applied",
+      HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, HttpHeaders.CACHE_CONTROL,
+      HttpHeaders.RETRY_AFTER, HttpHeaders.CONTENT_DISPOSITION);
+
+  private StreamingForwarder() {}
+
+  public static Mono<ResponseEntity<Flux<DataBuffer>>> relay(WebClient.RequestHeadersSpec<?> spec) {
+    return relay(spec, null);
+  }
+
+  /** siVacio: body a enviar si la Function responde sin body (p. ej. "[]"); null = ninguno. */
+  public static Mono<ResponseEntity<Flux<DataBuffer>>> relay(WebClient.RequestHeadersSpec<?> spec, String siVacio) {
+    return spec.retrieve()
+        .onStatus(s -> true, r -> Mono.empty())
+        .toEntityFlux(DataBuffer.class)
+        .map(resp -> {
+          Flux<DataBuffer> body = resp.getBody() != null ? resp.getBody() : Flux.empty();
+          if (siVacio != null) body = body.switchIfEmpty(Mono.fromSupplier(() -> wrap(siVacio)));
+          return ResponseEntity.status(resp.getStatusCode()).headers(seleccion(resp.getHeaders())).body(body);
+        });
+  }
+
+  public static Mono<ResponseEntity<byte[]>> buffered(WebClient.RequestHeadersSpec<?> spec, String siVacio) {
+    return spec.retrieve()
+        .onStatus(s -> true, r -> Mono.empty())
+        .toEntity(byte[].class)
+        .map(resp -> {
+          byte[] body = resp.getBody();
+          if ((body == null || body.length == 0) && siVacio != null) body = siVacio.getBytes(StandardCharsets.UTF_8);
+          return ResponseEntity.status(resp.getStatusCode()).headers(seleccion(resp.getHeaders())).body(body);
+        });
+  }
+
+  /** Respuesta local (p. ej. un 400 del propio BFF) con el mismo tipo que relay(). */
+  public static ResponseEntity<Flux<DataBuffer>> json(HttpStatusCode status, String json) {
+    return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON)
+        .body(Flux.defer(() -> Flux.just(wrap(json))));
+  }
+
+  static HttpHeaders seleccion(HttpHeaders upstream) {
+    HttpHeaders out = new HttpHeaders();
+    for (String h : PASSTHROUGH) {
+      List<String> v = upstream.get(h);
+      if (v != null && !v.isEmpty()) out.put(h, v);
+    }
+    String loc = out.getFirst(HttpHeaders.LOCATION);
+    if (loc != null) out.set(HttpHeaders.LOCATION, loc.replaceFirst("^/api/", "/bff/"));
+    if (out.getContentType() == null) out.setContentType(MediaType.APPLICATION_JSON);
+    return out;
+  }
+
+  private static DataBuffer wrap(String s) {
+    return DefaultDataBufferFactory.sharedInstance.wrap(s.getBytes(StandardCharsets.UTF_8));
+  }
+}
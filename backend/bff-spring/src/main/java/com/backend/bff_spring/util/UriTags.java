@@ -0,0 +1,19 @@
+package com.backend.bff_spring.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * Plantilla de una URI hacia las Functions para usarla como tag de métricas o nombre
+ * de bulkhead sin que cada id genere una serie nueva: /api/obras/15?x=1 -> /api/obras/{id}.
+ */
+public final class UriTags {
+
+  private static final Pattern IDS = Pattern.compile("/(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F-]{27})(?=/|$)");
+
+  private UriTags() {}
+
+  public static String plantilla(String uri) {
+    int q = uri.indexOf('?');
+    return IDS.matcher(q >= 0 ? uri.substring(0, q) : uri).replaceAll("/{id}");
+  }
+}
@@ -0,0 +1,125 @@
+package com.backend.bff_spring.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.backend.bff_spring.cache.ResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class PagesControllerTest {
+
+	private static final UUID ID = UUID.fromString("6f1c2a4e-0b7d-4c8e-9a3f-2d5e7b9c1a04");
+	private static final Duration RAMA = Duration.ofMillis(200);
+
+	private final List<String> pedidas = new CopyOnWriteArrayList<>();
+
+	private static Mono<ClientResponse> json(HttpStatus status, String body) {
+		return Mono.just(ClientResponse.create(status)
+				.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.body(body).build());
+	}
+
+	private WebClient cliente(ExchangeFunction respuestas) {
+		return WebClient.builder().exchangeFunction(req -> {
+			pedidas.add(req.url().getRawPath() + (req.url().getRawQuery() != null ? "?" + req.url().getRawQuery() : ""));
+			return respuestas.exchange(req);
+		}).build();
+	}
+
+	private PagesController controller(ExchangeFunction usuarios, ExchangeFunction eventos) {
+		ResponseCache cache = new ResponseCache(Duration.ofMinutes(30), Duration.ofMinutes(1), 100, 1024, 6,
+				Duration.ofHours(1), new SimpleMeterRegistry());
+		return new PagesController(cliente(usuarios), cliente(req -> json(HttpStatus.OK, "[]")), cliente(eventos),
+				cache, new ObjectMapper(), RAMA, RAMA, RAMA, 6);
+	}
+
+	// /api/usuarios/{id} responde el usuario; /api/usuarios/{id}/obras, lo que diga obras
+	private static ExchangeFunction usuarios(Mono<ClientResponse> obras) {
+		return req -> req.url().getPath().endsWith("/obras")
+				? obras
+				: json(HttpStatus.OK, "{\"id_azure\":\"" + ID + "\",\"username\":\"ana\"}");
+	}
+
+	private ObjectNode perfil(PagesController c) {
+		ResponseEntity<ObjectNode> r = c.perfil(ID, Map.of()).block(Duration.ofSeconds(5));
+		assertEquals(HttpStatus.OK, r.getStatusCode());
+		return r.getBody();
+	}
+
+	@Test
+	void perfil_pideALaFunctionSoloLosEventosDelUsuario() {
+		PagesController c = controller(usuarios(json(HttpStatus.OK, "[{\"id_obra\":1}]")),
+				req -> json(HttpStatus.OK, "[{\"id_eventos\":7,\"id_azure\":\"" + ID + "\"}]"));
+
+		ObjectNode p = perfil(c);
+
+		assertTrue(pedidas.contains("/api/eventos?id_azure=" + ID));
+		assertFalse(pedidas.contains("/api/eventos"));
+		assertEquals(7, p.get("eventos").get(0).get("id_eventos").asInt());
+		assertEquals(1, p.get("obras").size());
+		assertFalse(p.get("parcial").asBoolean());
+	}
+
+	@Test
+	void perfil_ramaLenta_saleParcialConTimeout() {
+		// obras tarda más que su timeout: el resto de la página no la espera
+		Mono<ClientResponse> lenta = Mono.delay(Duration.ofSeconds(3)).then(json(HttpStatus.OK, "[]"));
+		PagesController c = controller(usuarios(lenta), req -> json(HttpStatus.OK, "[]"));
+
+		long inicio = System.nanoTime();
+		ObjectNode p = perfil(c);
+		long ms = Duration.ofNanos(System.nanoTime() - inicio).toMillis();
+
+		assertTrue(ms < 2000, "esperó a la rama lenta: " + ms + " ms");
+		assertTrue(p.get("parcial").asBoolean());
+		assertTrue(p.get("obras").isNull());
+		assertEquals("timeout", p.get("errores").get("obras").asText());
+		assertEquals("ana", p.get("usuario").get("username").asText());
+		assertEquals(0, p.get("eventos").size());
+	}
+
+	@Test
+	void perfil_ramaQueFalla_saleParcialConElMotivo() {
+		PagesController c = controller(usuarios(Mono.error(new IllegalStateException("conexión rechazada"))),
+				req -> json(HttpStatus.SERVICE_UNAVAILABLE, "{\"error\":\"caída\"}"));
+
+		ObjectNode p = perfil(c);
+
+		assertTrue(p.get("parcial").asBoolean());
+		assertTrue(p.get("eventos").isNull());
+		assertEquals("HTTP 503", p.get("errores").get("eventos").asText());
+		assertTrue(p.get("obras").isNull());
+		assertEquals("no disponible", p.get("errores").get("obras").asText());
+		assertEquals("ana", p.get("usuario").get("username").asText());
+	}
+
+	@Test
+	void perfil_usuarioInexistente_retorna404() {
+		PagesController c = controller(req -> json(HttpStatus.NOT_FOUND, "{\"error\":\"No encontrado\"}"),
+				req -> json(HttpStatus.OK, "[]"));
+
+		ResponseEntity<ObjectNode> r = c.perfil(ID, Map.of()).block(Duration.ofSeconds(5));
+
+		assertEquals(HttpStatus.NOT_FOUND, r.getStatusCode());
+	}
+}
@@ -0,0 +1,123 @@
+package com.backend.bff_spring.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class ResponseCacheTest {
+
+	private static final String CLAVE = "/api/obras/1";
+	private static final Duration TTL_CUANDO = Duration.ofMillis(1);
+
+	private final AtomicInteger cargas = new AtomicInteger();
+
+	private static ResponseCache cache(Duration ttl, int maxEntries) {
+		return new ResponseCache(ttl, TTL_CUANDO, maxEntries, 1024, 6, Duration.ofHours(1), new SimpleMeterRegistry());
+	}
+
+	private Mono<ResponseEntity<byte[]>> ok(String body) {
+		return Mono.fromCallable(() -> {
+			cargas.incrementAndGet();
+			return ResponseEntity.ok(body.getBytes(StandardCharsets.UTF_8));
+		});
+	}
+
+	private static String body(ResponseEntity<byte[]> r) {
+		return new String(r.getBody(), StandardCharsets.UTF_8);
+	}
+
+	@Test
+	void segundaLectura_saleDeLaCache() {
+		ResponseCache c = cache(Duration.ofMinutes(30), 100);
+		c.getOrLoad(CLAVE, Map.of(), () -> ok("v1")).block();
+		ResponseEntity<byte[]> r = c.getOrLoad(CLAVE, Map.of(), () -> ok("v2")).block();
+
+		assertEquals("v1", body(r));
+		assertEquals(1, cargas.get());
+	}
+
+	@Test
+	void variantePorHora_venceConSuTtl() throws Exception {
+		ResponseCache c = cache(Duration.ofMinutes(30), 100);
+		String proximos = CacheKeys.EVENTOS_LIST + "?cuando=proximos&limit=6";
+		c.getOrLoad(proximos, Map.of(), () -> ok("v1")).block();
+		c.getOrLoad(CLAVE, Map.of(), () -> ok("obra")).block();
+		Thread.sleep(5);
+
+		// la de proximos ya venció (ttl-cuando); la otra sigue con el ttl largo
+		assertEquals("v2", body(c.getOrLoad(proximos, Map.of(), () -> ok("v2")).block()));
+		assertEquals("obra", body(c.getOrLoad(CLAVE, Map.of(), () -> ok("otra")).block()));
+		assertEquals(3, cargas.get());
+	}
+
+	@Test
+	void invalidacionDuranteLaCarga_noGuardaLaRespuesta() {
+		ResponseCache c = cache(Duration.ofMinutes(30), 100);
+		// la carga lee "v1" y, antes de que vuelva, llega el evento de la escritura
+		ResponseEntity<byte[]> r = c.getOrLoad(CLAVE, Map.of(), () -> ok("v1")
+				.doOnNext(x -> c.invalidate(List.of(CLAVE)))).block();
+
+		assertEquals("v1", body(r));
+		assertEquals(0, c.size());
+		assertEquals("v2", body(c.getOrLoad(CLAVE, Map.of(), () -> ok("v2")).block()));
+		assertEquals(2, cargas.get());
+	}
+
+	@Test
+	void falla_sirveLaVencidaConWarning() throws InterruptedException {
+		ResponseCache c = cache(Duration.ofMillis(1), 100);
+		c.getOrLoad(CLAVE, Map.of(), () -> ok("v1")).block();
+		Thread.sleep(5);
+
+		ResponseEntity<byte[]> r = c.getOrLoad(CLAVE, Map.of(),
+				() -> Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).<byte[]>build())).block();
+
+		assertEquals(HttpStatus.OK, r.getStatusCode());
+		assertEquals("v1", body(r));
+		assertEquals("110 - \"Response is Stale\"", r.getHeaders().getFirst("Warning"));
+	}
+
+	@Test
+	void invalidacionDuranteLaCarga_noSirveLaVencida() throws InterruptedException {
+		ResponseCache c = cache(Duration.ofMillis(1), 100);
+		c.getOrLoad(CLAVE, Map.of(), () -> ok("v1")).block();
+		Thread.sleep(5);
+
+		ResponseEntity<byte[]> r = c.getOrLoad(CLAVE, Map.of(), () -> Mono.fromCallable(() -> {
+			c.invalidate(List.of(CLAVE));
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).<byte[]>build();
+		})).block();
+
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE, r.getStatusCode());
+		assertNull(r.getHeaders().getFirst("Warning"));
+	}
+
+	@Test
+	void llena_descartaLasMasAntiguasYNoTodo() throws InterruptedException {
+		ResponseCache c = cache(Duration.ofMinutes(30), 10);
+		for (int i = 0; i < 10; i++) {
+			c.getOrLoad("/api/obras/" + i, Map.of(), () -> ok("x")).block();
+			Thread.sleep(2);
+		}
+		c.getOrLoad("/api/obras/nueva", Map.of(), () -> ok("x")).block();
+
+		assertEquals(10, c.size());
+		// la más antigua salió; la siguiente sigue en la caché
+		c.getOrLoad("/api/obras/1", Map.of(), () -> ok("x")).block();
+		assertEquals(11, cargas.get());
+		c.getOrLoad("/api/obras/0", Map.of(), () -> ok("x")).block();
+		assertEquals(12, cargas.get());
+	}
+}
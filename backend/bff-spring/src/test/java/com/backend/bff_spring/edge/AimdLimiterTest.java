@@ -0,0 +1,67 @@
+package com.backend.bff_spring.edge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class AimdLimiterTest {
+
+	private static final long MS = 1_000_000L;
+
+	private final AtomicLong ahora = new AtomicLong(0);
+	private final EdgeProperties.Concurrencia cfg =
+			new EdgeProperties.Concurrencia(true, 2, 1, 10, Duration.ofMillis(100), 0.5);
+
+	@Test
+	void rechazaAlLlegarAlLimite() {
+		AimdLimiter l = new AimdLimiter(cfg, ahora::get);
+		assertTrue(l.adquirir());
+		assertTrue(l.adquirir());
+		assertFalse(l.adquirir());
+
+		l.liberar(10 * MS, false, true);
+		assertTrue(l.adquirir());
+	}
+
+	@Test
+	void respuestasRapidas_subenElLimite() {
+		AimdLimiter l = new AimdLimiter(cfg, ahora::get);
+		for (int i = 0; i < 4; i++) {
+			l.adquirir();
+			l.liberar(10 * MS, false, true);
+		}
+		assertEquals(3, l.limite());
+	}
+
+	@Test
+	void lentitud_reduceUnaVezPorVentana() {
+		AimdLimiter l = new AimdLimiter(new EdgeProperties.Concurrencia(true, 8, 1, 10, Duration.ofMillis(100), 0.5),
+				ahora::get);
+		l.adquirir();
+		l.liberar(500 * MS, false, true);
+		assertEquals(4, l.limite());
+
+		l.adquirir();
+		l.liberar(500 * MS, true, true);
+		assertEquals(4, l.limite());
+
+		ahora.addAndGet(100 * MS);
+		l.adquirir();
+		l.liberar(500 * MS, true, true);
+		assertEquals(2, l.limite());
+	}
+
+	@Test
+	void canceladas_noAjustan() {
+		AimdLimiter l = new AimdLimiter(cfg, ahora::get);
+		l.adquirir();
+		l.liberar(500 * MS, false, false);
+		assertEquals(2, l.limite());
+		assertEquals(0, l.enVuelo());
+	}
+}
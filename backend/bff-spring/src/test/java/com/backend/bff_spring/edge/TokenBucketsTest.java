@@ -0,0 +1,42 @@
+package com.backend.bff_spring.edge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketsTest {
+
+	private final AtomicLong ahora = new AtomicLong(0);
+	private final EdgeProperties.Bucket cfg = new EdgeProperties.Bucket(2, 0.5);
+
+	@Test
+	void rafaga_yLuegoRetryAfter() {
+		TokenBuckets b = new TokenBuckets(10, ahora::get);
+		assertEquals(0, b.tomar("ip:1", cfg));
+		assertEquals(0, b.tomar("ip:1", cfg));
+		assertEquals(2, b.tomar("ip:1", cfg));
+
+		ahora.addAndGet(2_000_000_000L);
+		assertEquals(0, b.tomar("ip:1", cfg));
+	}
+
+	@Test
+	void clavesSeparadas() {
+		TokenBuckets b = new TokenBuckets(10, ahora::get);
+		b.tomar("ip:1", cfg);
+		b.tomar("ip:1", cfg);
+		assertEquals(0, b.tomar("ip:2", cfg));
+	}
+
+	@Test
+	void alLlenarse_descartaLosYaRellenados() {
+		TokenBuckets b = new TokenBuckets(2, ahora::get);
+		b.tomar("a", cfg);
+		b.tomar("b", cfg);
+		ahora.addAndGet(10_000_000_000L);
+		b.tomar("c", cfg);
+		assertEquals(1, b.size());
+	}
+}
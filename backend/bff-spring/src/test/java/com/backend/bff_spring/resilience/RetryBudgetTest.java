@@ -0,0 +1,48 @@
+package com.backend.bff_spring.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RetryBudgetTest {
+
+	private final AtomicLong ahora = new AtomicLong(10_000);
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	void sinCredito_soloElMinimoPorSegundo() {
+		RetryBudget b = new RetryBudget(0.1, 2, ahora::get, registry);
+		assertTrue(b.retirar());
+		assertTrue(b.retirar());
+		assertFalse(b.retirar());
+
+		ahora.addAndGet(1000);
+		assertTrue(b.retirar());
+	}
+
+	@Test
+	void diezLlamadas_danUnReintento() {
+		RetryBudget b = new RetryBudget(0.1, 0, ahora::get, registry);
+		for (int i = 0; i < 9; i++) b.depositar();
+		assertFalse(b.retirar());
+
+		b.depositar();
+		assertTrue(b.retirar());
+		assertFalse(b.retirar());
+	}
+
+	@Test
+	void contadores_registranPermitidosYDenegados() {
+		RetryBudget b = new RetryBudget(0.1, 1, ahora::get, registry);
+		b.retirar();
+		b.retirar();
+		assertEquals(1.0, registry.get("bff.retry.attempts").tag("result", "allowed").counter().count());
+		assertEquals(1.0, registry.get("bff.retry.attempts").tag("result", "denied").counter().count());
+	}
+}
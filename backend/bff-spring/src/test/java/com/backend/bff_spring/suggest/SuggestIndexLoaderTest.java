@@ -0,0 +1,79 @@
+package com.backend.bff_spring.suggest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import reactor.core.publisher.Mono;
+
+class SuggestIndexLoaderTest {
+
+	private final List<String> pedidas = new CopyOnWriteArrayList<>();
+
+	private WebClient cliente(Function<ClientRequest, String> respuestas) {
+		return WebClient.builder().exchangeFunction(req -> {
+			pedidas.add(req.url().getPath() + "?" + req.url().getQuery());
+			return Mono.just(ClientResponse.create(HttpStatus.OK)
+					.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+					.body(respuestas.apply(req)).build());
+		}).build();
+	}
+
+	private static String param(ClientRequest req, String nombre) {
+		return UriComponentsBuilder.fromUri(req.url()).build().getQueryParams().getFirst(nombre);
+	}
+
+	private static String items(String idField, long... ids) {
+		StringBuilder sb = new StringBuilder("[");
+		for (long id : ids) {
+			if (sb.length() > 1) sb.append(',');
+			sb.append("{\"").append(idField).append("\":").append(id).append(",\"titulo\":\"doc ").append(id).append("\"}");
+		}
+		return sb.append(']').toString();
+	}
+
+	@Test
+	void paginaCorta_noCortaLaCarga() {
+		// la Function topa el limit en 2 aunque se pidan 3: se sigue hasta la página vacía
+		WebClient eventos = cliente(req -> switch (param(req, "offset")) {
+			case "0" -> items("id_eventos", 1, 2);
+			case "2" -> items("id_eventos", 3, 4);
+			case "4" -> items("id_eventos", 5);
+			default -> "[]";
+		});
+		SuggestIndex index = new SuggestIndex();
+		new SuggestIndexLoader(cliente(req -> "[]"), eventos, index, 3, false).cargar().block(Duration.ofSeconds(5));
+
+		assertEquals(5, index.size());
+	}
+
+	@Test
+	void obras_porCursor_conObrasRepetidasPorVariosDuenos() {
+		// la obra 8 tiene dos dueños: viene dos veces y la página siguiente arranca después
+		WebClient obras = cliente(req -> {
+			String cursor = param(req, "cursor");
+			if (cursor == null) return items("id_obra", 10, 9, 8, 8);
+			if (cursor.equals("8")) return items("id_obra", 7, 6);
+			return "[]";
+		});
+		SuggestIndex index = new SuggestIndex();
+		new SuggestIndexLoader(obras, cliente(req -> "[]"), index, 3, false).cargar().block(Duration.ofSeconds(5));
+
+		assertEquals(5, index.size());
+		assertEquals(List.of("/api/obras?limit=3&offset=0", "/api/obras?limit=3&offset=0&cursor=8",
+				"/api/obras?limit=3&offset=0&cursor=6"),
+				pedidas.stream().filter(p -> p.startsWith("/api/obras")).toList());
+	}
+}
@@ -0,0 +1,55 @@
+package com.backend.bff_spring.suggest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SuggestIndexTest {
+
+	private SuggestIndex index;
+
+	@BeforeEach
+	void setup() {
+		index = new SuggestIndex();
+		index.upsert("obra", 1, "Paisaje de Otoño");
+		index.upsert("obra", 2, "Retrato en azul");
+		index.upsert("evento", 7, "Exposición de otoño en Valparaíso");
+	}
+
+	private static List<Long> ids(List<SuggestIndex.Suggestion> s) {
+		return s.stream().map(SuggestIndex.Suggestion::id).toList();
+	}
+
+	@Test
+	void prefijo_sinAcentos_encuentraAmbosTipos() {
+		List<SuggestIndex.Suggestion> out = index.suggest("oto", 10);
+		assertEquals(List.of(1L, 7L), ids(out));
+	}
+
+	@Test
+	void variosTokens_seIntersectan() {
+		assertEquals(List.of(7L), ids(index.suggest("EXPO otoñ", 10)));
+		assertTrue(index.suggest("retrato otoño", 10).isEmpty());
+	}
+
+	@Test
+	void empiezaPorLaConsulta_vaPrimero() {
+		index.upsert("obra", 3, "Otoño");
+		assertEquals(3L, index.suggest("otono", 10).get(0).id());
+	}
+
+	@Test
+	void actualizarYBorrar_seReflejan() {
+		index.upsert("obra", 2, "Retrato en rojo");
+		assertTrue(index.suggest("azul", 10).isEmpty());
+		assertEquals(List.of(2L), ids(index.suggest("rojo", 10)));
+
+		index.remove("obra", 2);
+		assertTrue(index.suggest("rojo", 10).isEmpty());
+		assertEquals(2, index.size());
+	}
+}
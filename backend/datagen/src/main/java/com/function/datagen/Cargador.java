@@ -0,0 +1,191 @@
+package com.function.datagen;
+
+import com.function.datagen.Generador.Evento;
+import com.function.datagen.Generador.Obra;
+import com.function.datagen.Generador.Propiedad;
+import com.function.datagen.Generador.Usuario;
+import com.function.db.Copy;
+import com.function.db.EventosFeed;
+import com.function.geo.GeoHash;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Carga lo que produce un {@link Generador} con COPY (el mismo {@link Copy} de las
+ * cargas masivas de las Functions), por tramos para no armar millones de filas en
+ * memoria, y en una sola transacción: si algo falla no queda una base a medias.
+ *
+ * Las identidades se escriben explícitas (COPY lo permite aunque sean GENERATED
+ * ALWAYS) y después se adelantan las secuencias; eventos_feed se llena por tramo con
+ * el mismo INSERT ... SELECT de las Functions. Termina con ANALYZE para que los planes
+ * reflejen el volumen recién cargado.
+ *
+ * Espera una base recién creada con db-postgresql/schema.sql (roles, tipos y la obra
+ * de ejemplo); todos los usuarios quedan con la contraseña "datagen".
+ */
+public final class Cargador {
+
+  private static final int FILAS_POR_COPY = 5_000;
+  // con imágenes el tramo se corta antes: el CSV lleva el bytea en hex (el doble)
+  private static final long BYTES_POR_COPY = 16L << 20;
+
+  private static final String COPY_USUARIOS =
+      "COPY usuarios (id_azure, id_rol, username, password, nombre_completo) FROM STDIN (FORMAT csv)";
+  private static final String COPY_OBRAS =
+      "COPY obras (id_obra, id_tipo_obra, titulo, descripcion, imagen) FROM STDIN (FORMAT csv)";
+  private static final String COPY_USUARIOS_OBRAS =
+      "COPY usuarios_obras (id_azure, id_obra, es_principal) FROM STDIN (FORMAT csv)";
+  private static final String COPY_EVENTOS =
+      "COPY eventos (id_eventos, id_tipo_evento, id_azure, id_rol, titulo, descripcion, fechaInicio, fechaTermino, "
+          + "precio, direccion, lat, lon, geohash) FROM STDIN (FORMAT csv)";
+
+  private final Connection con;
+  private final Generador gen;
+
+  public Cargador(Connection con, Generador gen) {
+    this.con = con;
+    this.gen = gen;
+  }
+
+  public Resumen cargar() throws SQLException {
+    long t0 = System.nanoTime();
+    boolean autoCommit = con.getAutoCommit();
+    con.setAutoCommit(false);
+    try {
+      List<UUID> usuarios = usuarios();
+      long primeraObra = siguiente("obras", "id_obra");
+      Obras obras = obras(primeraObra);
+      long primerEvento = siguiente("eventos", "id_eventos");
+      long ultimoEvento = eventos(primerEvento);
+      try (Statement st = con.createStatement()) {
+        st.execute("SELECT setval(pg_get_serial_sequence('obras', 'id_obra'), (SELECT max(id_obra) FROM obras))");
+        st.execute("SELECT setval(pg_get_serial_sequence('eventos', 'id_eventos'), "
+            + "(SELECT max(id_eventos) FROM eventos))");
+      }
+      con.commit();
+      analizar();
+
+      Map.Entry<UUID, Long> mayor = obras.porDueno.entrySet().stream()
+          .max(Map.Entry.comparingByValue()).orElseThrow();
+      return new Resumen(usuarios, primeraObra, primeraObra + gen.cantidadObras() - 1,
+          obras.conImagen.stream().mapToLong(Long::longValue).toArray(), obras.bytesImagen, obras.propiedades,
+          mayor.getKey(), mayor.getValue(), primerEvento, ultimoEvento, (System.nanoTime() - t0) / 1_000_000);
+    } catch (SQLException | RuntimeException e) {
+      con.rollback();
+      throw e;
+    } finally {
+      con.setAutoCommit(autoCommit);
+    }
+  }
+
+  private List<UUID> usuarios() throws SQLException {
+    // un solo hash para todos: BCrypt por fila serían minutos a escala
+    String hash = BCrypt.hashpw("datagen", BCrypt.gensalt(4));
+    List<Usuario> lista = gen.usuarios();
+    Copy.Rows rows = new Copy.Rows();
+    for (Usuario u : lista) {
+      rows.add(u.id()).add(u.rol()).add(u.username()).add(hash).add(u.nombreCompleto()).endRow();
+      if (rows.size() == FILAS_POR_COPY) rows = copiar(COPY_USUARIOS, rows);
+    }
+    copiar(COPY_USUARIOS, rows);
+    return lista.stream().map(Usuario::id).collect(Collectors.toList());
+  }
+
+  private static final class Obras {
+    final List<Long> conImagen = new ArrayList<>();
+    final Map<UUID, Long> porDueno = new HashMap<>();
+    long bytesImagen;
+    long propiedades;
+  }
+
+  private Obras obras(long primera) throws SQLException {
+    Obras o = new Obras();
+    Copy.Rows rows = new Copy.Rows();
+    Copy.Rows props = new Copy.Rows();
+    long bytesTramo = 0;
+    for (Iterator<Obra> it = gen.obras(primera).iterator(); it.hasNext(); ) {
+      Obra obra = it.next();
+      byte[] imagen = null;
+      if (obra.imagenBytes() > 0) {
+        imagen = gen.imagen(obra);
+        o.conImagen.add(obra.id());
+        o.bytesImagen += imagen.length;
+        bytesTramo += imagen.length;
+      }
+      rows.add(obra.id()).add(obra.tipo()).add(obra.titulo()).add(obra.descripcion()).add(imagen).endRow();
+      for (Propiedad p : obra.propietarios()) {
+        props.add(p.usuario()).add(obra.id()).add(p.principal()).endRow();
+        o.porDueno.merge(p.usuario(), 1L, Long::sum);
+        o.propiedades++;
+      }
+      if (rows.size() == FILAS_POR_COPY || bytesTramo >= BYTES_POR_COPY) {
+        // las obras antes que sus vínculos (FK)
+        rows = copiar(COPY_OBRAS, rows);
+        props = copiar(COPY_USUARIOS_OBRAS, props);
+        bytesTramo = 0;
+      }
+    }
+    copiar(COPY_OBRAS, rows);
+    copiar(COPY_USUARIOS_OBRAS, props);
+    return o;
+  }
+
+  private long eventos(long primero) throws SQLException {
+    Copy.Rows rows = new Copy.Rows();
+    List<Long> ids = new ArrayList<>(FILAS_POR_COPY);
+    long ultimo = primero - 1;
+    for (Iterator<Evento> it = gen.eventos(primero).iterator(); it.hasNext(); ) {
+      Evento e = it.next();
+      rows.add(e.id()).add(e.tipo()).add(e.autor()).add(e.rol()).add(e.titulo()).add(e.descripcion())
+          .add(e.inicio()).add(e.termino()).add(e.precio()).add(e.direccion()).add(e.lat()).add(e.lon())
+          .add(e.lat() != null ? GeoHash.encode(e.lat(), e.lon(), GeoHash.PRECISION) : null)
+          .endRow();
+      ids.add(e.id());
+      ultimo = e.id();
+      if (rows.size() == FILAS_POR_COPY) {
+        // la proyección del tramo recién copiado, antes de seguir
+        rows = copiar(COPY_EVENTOS, rows);
+        ids = proyectar(ids);
+      }
+    }
+    copiar(COPY_EVENTOS, rows);
+    proyectar(ids);
+    return ultimo;
+  }
+
+  private List<Long> proyectar(List<Long> ids) throws SQLException {
+    EventosFeed.refreshEventos(con, ids.toArray(Long[]::new));
+    return new ArrayList<>(FILAS_POR_COPY);
+  }
+
+  /** Manda el tramo y devuelve uno vacío. */
+  private Copy.Rows copiar(String sql, Copy.Rows rows) throws SQLException {
+    if (rows.size() > 0) Copy.in(con, sql, rows);
+    return new Copy.Rows();
+  }
+
+  private long siguiente(String tabla, String id) throws SQLException {
+    try (Statement st = con.createStatement();
+         ResultSet rs = st.executeQuery("SELECT coalesce(max(" + id + "), 0) + 1 FROM " + tabla)) {
+      rs.next();
+      return rs.getLong(1);
+    }
+  }
+
+  private void analizar() throws SQLException {
+    try (Statement st = con.createStatement()) {
+      st.execute("ANALYZE");
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.function.datagen;
+
+import com.function.db.Db;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Carga datos sintéticos en la base de DB_URL / DB_USER / DB_PASS (las mismas
+ * variables que las Functions).
+ *
+ * <pre>
+ * java -jar target/datagen-cli.jar --escala=100 --semilla=42 --schema=../db-postgresql/schema.sql
+ * </pre>
+ */
+public final class DataGen {
+
+  private static final String USO = """
+      java -jar target/datagen-cli.jar [--clave=valor ...]   (DB_URL, DB_USER, DB_PASS)
+
+        --escala=1          1 = 1.000 usuarios, 10.000 obras, 5.000 eventos; 100 = un millón de obras
+        --semilla=42
+        --imagenes=0.05     fracción de obras con imagen (0 = sin bytea)
+        --referencia=hoy    fecha (yyyy-mm-dd) desde la que se reparten los eventos
+        --schema=<ruta>     ejecuta antes ese schema.sql (¡borra y recrea las tablas!)
+      """;
+
+  private DataGen() {}
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> m = new HashMap<>();
+    for (String a : args) {
+      int igual = a.indexOf('=');
+      if (!a.startsWith("--") || igual < 0) {
+        System.err.println(USO);
+        System.exit(2);
+      }
+      m.put(a.substring(2, igual), a.substring(igual + 1));
+    }
+    if (!Set.of("escala", "semilla", "imagenes", "referencia", "schema").containsAll(m.keySet())) {
+      System.err.println(USO);
+      System.exit(2);
+    }
+
+    String ref = m.getOrDefault("referencia", "hoy");
+    Generador gen = new Generador(
+        Long.parseLong(m.getOrDefault("semilla", "42")),
+        Double.parseDouble(m.getOrDefault("escala", "1")),
+        Double.parseDouble(m.getOrDefault("imagenes", "0.05")),
+        "hoy".equals(ref) ? Generador.hoy() : LocalDate.parse(ref));
+
+    try (Connection con = Db.connect()) {
+      if (m.containsKey("schema")) {
+        try (Statement st = con.createStatement()) {
+          st.execute(Files.readString(Path.of(m.get("schema"))));
+        }
+      }
+      System.out.printf("cargando %d usuarios, %d obras, %d eventos...%n",
+          gen.cantidadUsuarios(), gen.cantidadObras(), gen.cantidadEventos());
+      Resumen r = new Cargador(con, gen).cargar();
+      System.out.printf(Locale.ROOT, "listo en %.1f s: obras %d-%d (%d con imagen, %.1f MB), %d vínculos, "
+              + "el mayor dueño con %d obras; eventos %d-%d%n",
+          r.millis() / 1000.0, r.primeraObra(), r.ultimaObra(), r.obrasConImagen().length,
+          r.bytesImagen() / 1048576.0, r.propiedades(), r.obrasMayorPropietario(), r.primerEvento(),
+          r.ultimoEvento());
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.function.datagen;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/** Muestreo sobre un RandomGenerator con semilla; nada de estado global. */
+final class Distribuciones {
+
+  private Distribuciones() {}
+
+  /**
+   * Zipf sobre los rangos 0..n-1: P(k) proporcional a 1/(k+1)^s. Con s ~ 1 unos pocos
+   * rangos concentran buena parte de las muestras (el artista con miles de obras).
+   */
+  static final class Zipf {
+    private final double[] acumulada;
+
+    Zipf(int n, double s) {
+      acumulada = new double[n];
+      double total = 0;
+      for (int k = 0; k < n; k++) {
+        total += 1 / Math.pow(k + 1, s);
+        acumulada[k] = total;
+      }
+      for (int k = 0; k < n; k++) {
+        acumulada[k] /= total;
+      }
+    }
+
+    int muestra(RandomGenerator r) {
+      int i = Arrays.binarySearch(acumulada, r.nextDouble());
+      return Math.min(i >= 0 ? i : -i - 1, acumulada.length - 1);
+    }
+  }
+
+  /** Índice según pesos relativos (no hace falta que sumen 1). */
+  static int ponderado(RandomGenerator r, double[] pesos) {
+    double total = 0;
+    for (double p : pesos) total += p;
+    double x = r.nextDouble() * total;
+    for (int i = 0; i < pesos.length; i++) {
+      x -= pesos[i];
+      if (x < 0) return i;
+    }
+    return pesos.length - 1;
+  }
+
+  /** Uniforme en escala logarítmica entre min y max: tamaños de archivo, precios. */
+  static long logUniforme(RandomGenerator r, long min, long max) {
+    double lmin = Math.log(min);
+    double lmax = Math.log(max);
+    return Math.round(Math.exp(lmin + r.nextDouble() * (lmax - lmin)));
+  }
+
+  static <T> T elegir(RandomGenerator r, T[] opciones) {
+    return opciones[r.nextInt(opciones.length)];
+  }
+}
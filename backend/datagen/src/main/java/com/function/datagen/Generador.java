@@ -0,0 +1,310 @@
+package com.function.datagen;
+
+import com.function.datagen.Distribuciones.Zipf;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Datos sintéticos con la forma del esquema de db-postgresql, proporcionales a la
+ * escala (1 = 1.000 usuarios, 10.000 obras, 5.000 eventos; 100 = un millón de obras).
+ *
+ * Determinista: misma semilla, escala y fecha de referencia, mismas filas. Cada tabla
+ * sale de su propio generador derivado de la semilla, así cambiar la cantidad de
+ * eventos no cambia las obras. Las distribuciones buscan lo que pesa en las consultas:
+ * <ul>
+ * <li>usuarios: 1% admin, 30% artistas, el resto visitantes;</li>
+ * <li>obras: una fracción con imagen (8 KB a 2 MB, la mayoría chicas); la propiedad
+ * sigue una Zipf sobre los artistas (pocos con miles de obras, muchos con una o dos),
+ * 3% con un segundo dueño y la primera obra de cada artista como principal;</li>
+ * <li>eventos: tres años hacia atrás, más densos hacia el presente, y uno hacia
+ * adelante; más fines de semana, cinco ciudades con pesos distintos y algunos sin
+ * coordenadas (geocodificación fallida).</li>
+ * </ul>
+ *
+ * Las secuencias de obras() y eventos() se consumen en orden (no en paralelo).
+ */
+public final class Generador {
+
+  public static final int USUARIOS_BASE = 1_000;
+  public static final int OBRAS_BASE = 10_000;
+  public static final int EVENTOS_BASE = 5_000;
+
+  /** Ids de roles, tipobra y tipoevento sembrados por schema.sql. */
+  public static final long ROL_ADMIN = 1, ROL_ARTISTA = 2, ROL_VISITANTE = 3;
+  public static final long TIPO_PINTURA = 1, TIPO_ESCULTURA = 2;
+  public static final long TIPO_EXPOSICION = 1, TIPO_SUBASTA = 2;
+
+  public record Usuario(UUID id, long rol, String username, String nombreCompleto) {
+  }
+
+  public record Propiedad(UUID usuario, boolean principal) {
+  }
+
+  /** imagenBytes = 0 si no tiene; los bytes se piden aparte con {@link #imagen(Obra)}. */
+  public record Obra(long id, long tipo, String titulo, String descripcion, int imagenBytes,
+                     List<Propiedad> propietarios) {
+  }
+
+  /** lat/lon null: sin geocodificar. precio null: no informado. */
+  public record Evento(long id, long tipo, UUID autor, long rol, String titulo, String descripcion,
+                       Instant inicio, Instant termino, BigDecimal precio, String direccion,
+                       Double lat, Double lon) {
+  }
+
+  private static final ZoneId CHILE = ZoneId.of("America/Santiago");
+
+  private static final String[] NOMBRES = { "Camila", "Valentina", "Martina", "Sofía", "Benjamín", "Vicente",
+      "Matías", "Joaquín", "Isidora", "Tomás", "Florencia", "Agustín", "Antonia", "Maximiliano", "Josefa",
+      "Cristóbal" };
+  private static final String[] APELLIDOS = { "González", "Muñoz", "Rojas", "Díaz", "Pérez", "Soto",
+      "Contreras", "Silva", "Martínez", "Sepúlveda", "Morales", "Rodríguez", "López", "Fuentes" };
+  private static final String[] MOTIVOS = { "atardecer", "puerto", "cerro", "mar", "retrato", "bodegón",
+      "paisaje", "ciudad", "jardín", "montaña", "lluvia", "mercado", "ascensor", "gaviotas", "volcán", "desierto" };
+  private static final String[] TECNICAS = { "óleo", "acuarela", "acrílico", "carboncillo", "grabado", "témpera" };
+  private static final String[] MATERIALES = { "bronce", "madera", "piedra", "cerámica", "hierro", "resina" };
+  private static final String[] CALLES = { "Av. Brasil", "Av. Pedro Montt", "Calle Prat", "Av. Libertad",
+      "Av. Providencia", "Calle Lira", "Av. Colón", "Calle O'Higgins", "Av. del Mar", "Calle Cochrane" };
+
+  private record Ciudad(String nombre, double lat, double lon, double peso) {
+  }
+
+  private static final Ciudad[] CIUDADES = {
+      new Ciudad("Santiago", -33.4489, -70.6693, 50),
+      new Ciudad("Valparaíso", -33.0458, -71.6197, 18),
+      new Ciudad("Concepción", -36.8270, -73.0503, 14),
+      new Ciudad("Viña del Mar", -33.0245, -71.5518, 10),
+      new Ciudad("La Serena", -29.9027, -71.2519, 8) };
+  private static final double[] PESOS_CIUDAD = Arrays.stream(CIUDADES).mapToDouble(Ciudad::peso).toArray();
+  private static final double[] PESOS_ROL = { 1, 30, 69 };
+  private static final double[] PESOS_IMAGEN = { 60, 30, 10 };
+
+  private final long semilla;
+  private final double escala;
+  private final double conImagen;
+  private final LocalDate referencia;
+  private List<Usuario> usuarios;
+  private int[] artistas;
+
+  /** Escala y semilla con 5% de obras con imagen y fechas relativas a hoy. */
+  public Generador(long semilla, double escala) {
+    this(semilla, escala, 0.05, hoy());
+  }
+
+  /**
+   * @param conImagen  fracción de obras con imagen (0 para cargas sin bytea)
+   * @param referencia "hoy" para las fechas de eventos; fija para repetir exactamente
+   */
+  public Generador(long semilla, double escala, double conImagen, LocalDate referencia) {
+    if (escala <= 0 || conImagen < 0 || conImagen > 1) {
+      throw new IllegalArgumentException("escala > 0 y conImagen entre 0 y 1");
+    }
+    this.semilla = semilla;
+    this.escala = escala;
+    this.conImagen = conImagen;
+    this.referencia = referencia;
+  }
+
+  /** La fecha de hoy en Chile, referencia por defecto. */
+  public static LocalDate hoy() {
+    return LocalDate.now(CHILE);
+  }
+
+  public int cantidadUsuarios() {
+    return cantidad(USUARIOS_BASE);
+  }
+
+  public int cantidadObras() {
+    return cantidad(OBRAS_BASE);
+  }
+
+  public int cantidadEventos() {
+    return cantidad(EVENTOS_BASE);
+  }
+
+  private int cantidad(int base) {
+    return Math.max(1, (int) Math.round(base * escala));
+  }
+
+  /** Vocabulario de títulos y descripciones, para armar búsquedas que encuentran algo. */
+  public static List<String> terminos() {
+    List<String> t = new ArrayList<>(List.of(MOTIVOS));
+    t.addAll(List.of(TECNICAS));
+    t.addAll(List.of(MATERIALES));
+    return t;
+  }
+
+  /** Todos los usuarios, en orden; el primero siempre es admin. */
+  public synchronized List<Usuario> usuarios() {
+    if (usuarios == null) {
+      SplittableRandom r = random(1);
+      int n = cantidadUsuarios();
+      List<Usuario> lista = new ArrayList<>(n);
+      List<Integer> duenos = new ArrayList<>();
+      for (int i = 0; i < n; i++) {
+        long rol = i == 0 ? ROL_ADMIN
+            : switch (Distribuciones.ponderado(r, PESOS_ROL)) {
+              case 0 -> ROL_ADMIN;
+              case 1 -> ROL_ARTISTA;
+              default -> ROL_VISITANTE;
+            };
+        UUID id = new UUID(r.nextLong(), r.nextLong());
+        String nombre = Distribuciones.elegir(r, NOMBRES) + " " + Distribuciones.elegir(r, APELLIDOS) + " "
+            + Distribuciones.elegir(r, APELLIDOS);
+        lista.add(new Usuario(id, rol, "usuario" + i + "@taller.cl", nombre));
+        if (rol != ROL_VISITANTE) duenos.add(i);
+      }
+      usuarios = List.copyOf(lista);
+      artistas = duenos.stream().mapToInt(Integer::intValue).toArray();
+    }
+    return usuarios;
+  }
+
+  /** Quienes pueden tener obras y publicar eventos (artistas y admins), en orden de usuario. */
+  public List<Usuario> artistas() {
+    List<Usuario> u = usuarios();
+    List<Usuario> out = new ArrayList<>(artistas.length);
+    for (int i : artistas) out.add(u.get(i));
+    return out;
+  }
+
+  /** Obras con ids consecutivos desde primerId. */
+  public Stream<Obra> obras(long primerId) {
+    List<Usuario> duenos = artistas();
+    SplittableRandom r = random(2);
+    Zipf propiedad = new Zipf(duenos.size(), 1.1);
+    BitSet conPrincipal = new BitSet(duenos.size());
+    return LongStream.range(0, cantidadObras()).mapToObj(i -> {
+      long id = primerId + i;
+      boolean escultura = r.nextDouble() < 0.15;
+      String motivo = Distribuciones.elegir(r, MOTIVOS);
+      String titulo = capitalizar(motivo) + " en " + CIUDADES[Distribuciones.ponderado(r, PESOS_CIUDAD)].nombre()
+          + (r.nextInt(4) == 0 ? " " + romano(1 + r.nextInt(12)) : "");
+      String descripcion = r.nextInt(10) == 0 ? null
+          : escultura ? descripcionEscultura(r) : descripcionPintura(r, motivo);
+      int imagen = r.nextDouble() < conImagen ? tamanoImagen(r) : 0;
+
+      int k = propiedad.muestra(r);
+      List<Propiedad> props = new ArrayList<>(2);
+      boolean principal = !conPrincipal.get(k);
+      conPrincipal.set(k);
+      props.add(new Propiedad(duenos.get(k).id(), principal));
+      if (duenos.size() > 1 && r.nextInt(100) < 3) {
+        int otro = r.nextInt(duenos.size() - 1);
+        props.add(new Propiedad(duenos.get(otro >= k ? otro + 1 : otro).id(), false));
+      }
+      return new Obra(id, escultura ? TIPO_ESCULTURA : TIPO_PINTURA, titulo, descripcion, imagen, List.copyOf(props));
+    });
+  }
+
+  /** Bytes pseudoaleatorios (incompresibles, como un JPEG), los mismos para la misma obra. */
+  public byte[] imagen(Obra o) {
+    byte[] b = new byte[o.imagenBytes()];
+    new SplittableRandom(semilla * 31 + o.id()).nextBytes(b);
+    return b;
+  }
+
+  /** Eventos con ids consecutivos desde primerId. */
+  public Stream<Evento> eventos(long primerId) {
+    List<Usuario> autores = artistas();
+    SplittableRandom r = random(3);
+    Zipf autoria = new Zipf(autores.size(), 0.8);
+    return LongStream.range(0, cantidadEventos()).mapToObj(i -> {
+      boolean subasta = r.nextDouble() < 0.2;
+      Ciudad c = CIUDADES[Distribuciones.ponderado(r, PESOS_CIUDAD)];
+      Usuario autor = autores.get(autoria.muestra(r));
+
+      Instant inicio = inicio(r);
+      long horas = subasta ? 2 + r.nextInt(3)
+          : r.nextInt(5) == 0 ? 24L * (3 + r.nextInt(28)) // exposiciones de varios días
+          : 2 + r.nextInt(7);
+      Instant termino = inicio.plus(horas, ChronoUnit.HOURS);
+
+      int p = r.nextInt(100);
+      BigDecimal precio = p < 35 ? BigDecimal.ZERO
+          : p < 40 ? null
+          : BigDecimal.valueOf(Distribuciones.logUniforme(r, 2_000, 50_000) / 500 * 500)
+              .setScale(2, RoundingMode.UNNECESSARY);
+
+      String direccion = Distribuciones.elegir(r, CALLES) + " " + (10 + r.nextInt(3000)) + ", " + c.nombre();
+      Double lat = null, lon = null;
+      if (r.nextInt(100) >= 4) {
+        // ~3 km alrededor del centro
+        lat = c.lat() + r.nextGaussian() * 0.03;
+        lon = c.lon() + r.nextGaussian() * 0.03;
+      }
+      String motivo = Distribuciones.elegir(r, MOTIVOS);
+      String titulo = (subasta ? "Subasta: " : "Exposición: ") + capitalizar(motivo) + " y "
+          + Distribuciones.elegir(r, MOTIVOS);
+      String descripcion = (subasta ? "Subasta de obras de " : "Muestra de ") + Distribuciones.elegir(r, TECNICAS)
+          + " en " + c.nombre() + ". " + (p < 35 ? "Entrada liberada." : "Cupos limitados.");
+      return new Evento(primerId + i, subasta ? TIPO_SUBASTA : TIPO_EXPOSICION, autor.id(), autor.rol(), titulo,
+          descripcion, inicio, termino, precio, direccion, lat, lon);
+    });
+  }
+
+  // 75% en los tres años anteriores (más densos hacia hoy), 25% en el año siguiente
+  private Instant inicio(SplittableRandom r) {
+    long dias = r.nextInt(4) == 0
+        ? r.nextInt(365)
+        : -(long) (1095 * (1 - Math.sqrt(r.nextDouble())));
+    LocalDate d = referencia.plusDays(dias);
+    if (d.getDayOfWeek().getValue() <= DayOfWeek.THURSDAY.getValue() && r.nextDouble() < 0.4) {
+      d = d.with(TemporalAdjusters.next(DayOfWeek.SATURDAY));
+    }
+    LocalTime hora = LocalTime.of(10 + r.nextInt(11), r.nextBoolean() ? 0 : 30);
+    return d.atTime(hora).atZone(CHILE).toInstant();
+  }
+
+  // 60% miniaturas (8-64 KB), 30% fotos medianas (64-512 KB), 10% grandes (0,5-2 MB)
+  private static int tamanoImagen(SplittableRandom r) {
+    return (int) switch (Distribuciones.ponderado(r, PESOS_IMAGEN)) {
+      case 0 -> Distribuciones.logUniforme(r, 8 << 10, 64 << 10);
+      case 1 -> Distribuciones.logUniforme(r, 64 << 10, 512 << 10);
+      default -> Distribuciones.logUniforme(r, 512 << 10, 2 << 20);
+    };
+  }
+
+  private static String descripcionPintura(SplittableRandom r, String motivo) {
+    StringBuilder sb = new StringBuilder(capitalizar(Distribuciones.elegir(r, TECNICAS)))
+        .append(" sobre tela, ").append(30 + r.nextInt(120)).append('x').append(30 + r.nextInt(120)).append(" cm.");
+    // descripciones de largo variable: de una a cuatro frases
+    for (int i = r.nextInt(4); i > 0; i--) {
+      sb.append(" Serie ").append(motivo).append(", ").append(Distribuciones.elegir(r, MOTIVOS))
+          .append(" y ").append(Distribuciones.elegir(r, MOTIVOS)).append('.');
+    }
+    return sb.toString();
+  }
+
+  private static String descripcionEscultura(SplittableRandom r) {
+    return "Escultura en " + Distribuciones.elegir(r, MATERIALES) + ", " + (20 + r.nextInt(180)) + " cm de alto.";
+  }
+
+  private SplittableRandom random(int tabla) {
+    return new SplittableRandom(semilla * 1_000_003L + tabla);
+  }
+
+  private static String capitalizar(String s) {
+    return Character.toUpperCase(s.charAt(0)) + s.substring(1);
+  }
+
+  private static String romano(int n) {
+    String[] r = { "I", "II", "III", "IV", "V", "VI", "VII", "VIII", "IX", "X", "XI", "XII" };
+    return r[n - 1];
+  }
+}
@@ -0,0 +1,16 @@
+package com.function.datagen;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Qué dejó una carga: rangos de ids (consecutivos), las obras con imagen y el artista
+ * con más obras, para que quien la use arme requests y consultas sobre filas que
+ * existen.
+ */
+public record Resumen(List<UUID> usuarios,
+                      long primeraObra, long ultimaObra, long[] obrasConImagen, long bytesImagen,
+                      long propiedades, UUID mayorPropietario, long obrasMayorPropietario,
+                      long primerEvento, long ultimoEvento,
+                      long millis) {
+}
@@ -0,0 +1,94 @@
+package com.function.datagen;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneradorTest {
+
+    private static final LocalDate REFERENCIA = LocalDate.of(2025, 6, 1);
+
+    private static Generador generador(long semilla) {
+        return new Generador(semilla, 1, 0.05, REFERENCIA);
+    }
+
+    @Test
+    void mismaSemilla_mismasFilas() {
+        Generador a = generador(7);
+        Generador b = generador(7);
+
+        assertEquals(a.usuarios(), b.usuarios());
+        assertEquals(a.obras(1).toList(), b.obras(1).toList());
+        assertEquals(a.eventos(1).toList(), b.eventos(1).toList());
+        // una segunda pasada sobre el mismo generador repite la secuencia
+        assertEquals(a.obras(1).limit(100).toList(), a.obras(1).limit(100).toList());
+        Generador.Obra conImagen = a.obras(1).filter(o -> o.imagenBytes() > 0).findFirst().orElseThrow();
+        assertArrayEquals(a.imagen(conImagen), b.imagen(conImagen));
+    }
+
+    @Test
+    void otraSemilla_otrasFilas() {
+        assertNotEquals(generador(7).usuarios(), generador(8).usuarios());
+    }
+
+    @Test
+    void escala_defineLosVolumenes() {
+        Generador g = new Generador(1, 2.5, 0, REFERENCIA);
+
+        assertEquals(2_500, g.usuarios().size());
+        assertEquals(25_000, g.obras(1).count());
+        assertEquals(12_500, g.eventos(1).count());
+        assertEquals(0, g.obras(1).filter(o -> o.imagenBytes() > 0).count());
+    }
+
+    @Test
+    void roles_primeroAdminYMinoriaDeArtistas() {
+        List<Generador.Usuario> u = generador(3).usuarios();
+
+        assertEquals(Generador.ROL_ADMIN, u.get(0).rol());
+        long artistas = u.stream().filter(x -> x.rol() == Generador.ROL_ARTISTA).count();
+        assertTrue(artistas > 250 && artistas < 350, "artistas: " + artistas);
+    }
+
+    @Test
+    void propiedad_sesgadaYUnaPrincipalPorArtista() {
+        Generador g = generador(3);
+        Map<UUID, Integer> obras = new HashMap<>();
+        Map<UUID, Integer> principales = new HashMap<>();
+        g.obras(1).forEach(o -> o.propietarios().forEach(p -> {
+            obras.merge(p.usuario(), 1, Integer::sum);
+            if (p.principal()) principales.merge(p.usuario(), 1, Integer::sum);
+        }));
+
+        int mayor = obras.values().stream().max(Integer::compare).orElseThrow();
+        assertTrue(mayor > 500, "el mayor dueño tiene " + mayor + " obras");
+        assertTrue(principales.values().stream().allMatch(n -> n == 1));
+        assertEquals(principales.keySet(), g.obras(1)
+                .map(o -> o.propietarios().get(0).usuario())
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void eventos_entreTresAniosAtrasYUnoAdelante() {
+        ZoneId chile = ZoneId.of("America/Santiago");
+        List<Generador.Evento> eventos = generador(3).eventos(1).toList();
+
+        LocalDate min = REFERENCIA.minusYears(3).minusDays(7);
+        LocalDate max = REFERENCIA.plusYears(1).plusDays(7);
+        for (Generador.Evento e : eventos) {
+            LocalDate d = e.inicio().atZone(chile).toLocalDate();
+            assertFalse(d.isBefore(min) || d.isAfter(max), "fuera de rango: " + d);
+            assertTrue(e.termino().isAfter(e.inicio()));
+        }
+        long futuros = eventos.stream().filter(e -> !e.inicio().atZone(chile).toLocalDate().isBefore(REFERENCIA)).count();
+        assertTrue(futuros > eventos.size() / 5 && futuros < eventos.size() / 3, "futuros: " + futuros);
+    }
+}
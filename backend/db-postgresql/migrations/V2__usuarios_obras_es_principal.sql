@@ -0,0 +1,11 @@
+-- V2: columnas que las Functions ya usan y las bases más viejas no tienen. La versión 1
+-- es schema.sql tal como estaba antes del outbox; lo que se le agregó después a
+-- schema.sql (outbox, eventos_feed, búsqueda, geohash) va en V3. schema.sql borra y
+-- recrea todo: una base nueva sale de schema.sql y después las migraciones, que son
+-- idempotentes; una base existente, solo de las migraciones.
+
+-- GET /api/usuarios/{id}/obras ordena por es_principal: las bases creadas antes de la
+-- columna no la tienen. Un índice (id_azure, es_principal DESC, id_obra) para ese
+-- orden no cambió el plan en Planes (escala 1: el planner sigue con la PK, hash join
+-- con obras y Sort de ~1900 filas), así que no se agrega
+ALTER TABLE usuarios_obras ADD COLUMN IF NOT EXISTS es_principal BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,85 @@
+-- V3: lo que se agregó a schema.sql después de la versión 1 (outbox, proyección
+-- eventos_feed, búsqueda de texto y trigramas, coordenadas y geohash de eventos), para
+-- las bases que ya existían y no se pueden recrear con schema.sql (que borra todo).
+-- Idempotente: sobre una base recién creada con el schema.sql actual no cambia nada.
+
+-- trigramas para la búsqueda tolerante a errores de tipeo (/obras/search, /eventos/search)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- búsqueda de texto: titulo (peso A) sobre descripcion (peso B). Agregar la columna
+-- generada reescribe obras completa, con bloqueo exclusivo mientras dura
+ALTER TABLE obras ADD COLUMN IF NOT EXISTS busqueda TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('spanish', coalesce(titulo, '')), 'A') ||
+    setweight(to_tsvector('spanish', coalesce(descripcion, '')), 'B')) STORED;
+
+-- coordenadas geocodificadas desde direccion (o enviadas por el cliente). Los eventos
+-- existentes quedan sin coordenadas hasta su próxima actualización con dirección nueva
+ALTER TABLE eventos
+    ADD COLUMN IF NOT EXISTS lat DOUBLE PRECISION CHECK (lat BETWEEN -90 AND 90),
+    ADD COLUMN IF NOT EXISTS lon DOUBLE PRECISION CHECK (lon BETWEEN -180 AND 180),
+    ADD COLUMN IF NOT EXISTS geohash TEXT;
+
+-- outbox de eventos de dominio (ver schema.sql)
+CREATE TABLE IF NOT EXISTS outbox (
+    id                 BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    event_id           UUID NOT NULL DEFAULT gen_random_uuid(),
+    event_type         TEXT NOT NULL,
+    subject            TEXT NOT NULL,
+    data               JSONB NOT NULL DEFAULT '{}'::jsonb,
+    created_at         TIMESTAMPTZ NOT NULL DEFAULT now(),
+    attempts           INT NOT NULL DEFAULT 0,
+    next_attempt_at    TIMESTAMPTZ NOT NULL DEFAULT now(),
+    published_at       TIMESTAMPTZ,
+    last_error         TEXT,
+    dead_at            TIMESTAMPTZ
+);
+-- las outbox creadas antes del dead letter no tienen la columna y su índice de
+-- pendientes no la excluye: se rehace (solo cubre las filas sin publicar, son pocas)
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS dead_at TIMESTAMPTZ;
+DROP INDEX IF EXISTS idx_outbox_pendientes;
+CREATE INDEX idx_outbox_pendientes ON outbox (next_attempt_at, id) WHERE published_at IS NULL AND dead_at IS NULL;
+
+-- eventos_feed: proyección desnormalizada para GET /api/eventos (ver schema.sql)
+CREATE TABLE IF NOT EXISTS eventos_feed (
+    id_eventos         BIGINT PRIMARY KEY REFERENCES eventos(id_eventos) ON DELETE CASCADE,
+    titulo             TEXT NOT NULL,
+    descripcion        TEXT,
+    fechaInicio        TIMESTAMPTZ NOT NULL,
+    fechaTermino       TIMESTAMPTZ,
+    precio             NUMERIC(10,2),
+    direccion          TEXT,
+    id_tipo_evento     BIGINT,
+    tipoevento_nombre  TEXT,
+    id_azure           UUID,
+    usuario_username   TEXT,
+    usuario_nombre     TEXT,
+    id_rol             BIGINT,
+    nombre_rol         TEXT,
+    lat                DOUBLE PRECISION,
+    lon                DOUBLE PRECISION,
+    geohash            TEXT,
+    busqueda           TSVECTOR GENERATED ALWAYS AS (
+                           setweight(to_tsvector('spanish', coalesce(titulo, '')), 'A') ||
+                           setweight(to_tsvector('spanish', coalesce(descripcion, '')), 'B')) STORED
+);
+
+CREATE INDEX IF NOT EXISTS idx_eventos_feed_fecha ON eventos_feed (fechaInicio, id_eventos);
+CREATE INDEX IF NOT EXISTS idx_eventos_feed_id_azure ON eventos_feed (id_azure);
+CREATE INDEX IF NOT EXISTS idx_eventos_feed_geohash ON eventos_feed (geohash text_pattern_ops) WHERE geohash IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_obras_busqueda ON obras USING GIN (busqueda);
+CREATE INDEX IF NOT EXISTS idx_obras_titulo_trgm ON obras USING GIN (titulo gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_eventos_feed_busqueda ON eventos_feed USING GIN (busqueda);
+CREATE INDEX IF NOT EXISTS idx_eventos_feed_titulo_trgm ON eventos_feed USING GIN (titulo gin_trgm_ops);
+
+-- carga inicial de la proyección con los eventos que ya había
+INSERT INTO eventos_feed (id_eventos, titulo, descripcion, fechaInicio, fechaTermino, precio, direccion,
+                          id_tipo_evento, tipoevento_nombre, id_azure, usuario_username, usuario_nombre, id_rol, nombre_rol,
+                          lat, lon, geohash)
+SELECT e.id_eventos, e.titulo, e.descripcion, e.fechaInicio, e.fechaTermino, e.precio, e.direccion,
+       e.id_tipo_evento, te.nombre, e.id_azure, u.username, u.nombre_completo, e.id_rol, r.nombre_rol,
+       e.lat, e.lon, e.geohash
+FROM eventos e
+LEFT JOIN tipoevento te ON e.id_tipo_evento = te.id_tipo_evento
+LEFT JOIN usuarios u ON e.id_azure = u.id_azure
+LEFT JOIN roles r ON e.id_rol = r.id_rol
+ON CONFLICT (id_eventos) DO NOTHING;
@@ -1,3 +1,5 @@
+DROP TABLE IF EXISTS eventos_feed CASCADE;
+DROP TABLE IF EXISTS outbox CASCADE;
 DROP TABLE IF EXISTS usuarios_obras CASCADE;
 DROP TABLE IF EXISTS eventos CASCADE;
 DROP TABLE IF EXISTS colecciones CASCADE;
@@ -7,6 +9,9 @@ DROP TABLE IF EXISTS tipoevento CASCADE;
 DROP TABLE IF EXISTS tipobra CASCADE;
 DROP TABLE IF EXISTS roles CASCADE;
 
+-- trigramas para la búsqueda tolerante a errores de tipeo (/obras/search, /eventos/search)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 
 -- roles
 CREATE TABLE roles (
@@ -32,7 +37,11 @@ CREATE TABLE obras (
     id_tipo_obra       BIGINT REFERENCES tipobra(id_tipo_obra) ON DELETE SET NULL,
     titulo             TEXT NOT NULL,
     descripcion        TEXT,
-    imagen             BYTEA
+    imagen             BYTEA,
+    -- búsqueda de texto: titulo (peso A) sobre descripcion (peso B)
+    busqueda           TSVECTOR GENERATED ALWAYS AS (
+                           setweight(to_tsvector('spanish', coalesce(titulo, '')), 'A') ||
+                           setweight(to_tsvector('spanish', coalesce(descripcion, '')), 'B')) STORED
 );
 
 -- usuarios
@@ -64,17 +73,66 @@ CREATE TABLE eventos (
     fechaInicio        TIMESTAMPTZ NOT NULL,
     fechaTermino       TIMESTAMPTZ,
     precio             NUMERIC(10,2) DEFAULT 0 CHECK (precio >= 0),
-    direccion          TEXT
+    direccion          TEXT,
+    -- coordenadas geocodificadas desde direccion (o enviadas por el cliente)
+    lat                DOUBLE PRECISION CHECK (lat BETWEEN -90 AND 90),
+    lon                DOUBLE PRECISION CHECK (lon BETWEEN -180 AND 180),
+    geohash            TEXT
 );
 
 CREATE TABLE usuarios_obras (
     id_azure    UUID    NOT NULL,
     id_obra     BIGINT  NOT NULL,
+    es_principal BOOLEAN NOT NULL DEFAULT FALSE,
     CONSTRAINT fk_uo_usuario FOREIGN KEY (id_azure) REFERENCES usuarios(id_azure) ON DELETE CASCADE,
     CONSTRAINT fk_uo_obra    FOREIGN KEY (id_obra)  REFERENCES obras(id_obra) ON DELETE CASCADE,
     CONSTRAINT pk_usuarios_obras PRIMARY KEY (id_azure, id_obra)
 );
 
+-- outbox de eventos de dominio: se escribe en la misma transacción que la entidad
+-- y lo drena OutboxRelayFunction hacia Event Grid (entrega at-least-once)
+CREATE TABLE outbox (
+    id                 BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    event_id           UUID NOT NULL DEFAULT gen_random_uuid(),
+    event_type         TEXT NOT NULL,
+    subject            TEXT NOT NULL,
+    data               JSONB NOT NULL DEFAULT '{}'::jsonb,
+    created_at         TIMESTAMPTZ NOT NULL DEFAULT now(),
+    attempts           INT NOT NULL DEFAULT 0,
+    next_attempt_at    TIMESTAMPTZ NOT NULL DEFAULT now(),
+    published_at       TIMESTAMPTZ,
+    last_error         TEXT,
+    -- agotó los reintentos (Outbox.MAX_ATTEMPTS): no se reclama más, ver last_error
+    dead_at            TIMESTAMPTZ
+);
+
+-- eventos_feed: proyección desnormalizada para GET /api/eventos. La mantienen las
+-- Functions en la misma transacción que la escritura (com.function.db.EventosFeed);
+-- los borrados de eventos se propagan por la FK. Los nombres de tipoevento/roles se
+-- copian al escribir el evento (no hay endpoints que los renombren).
+CREATE TABLE eventos_feed (
+    id_eventos         BIGINT PRIMARY KEY REFERENCES eventos(id_eventos) ON DELETE CASCADE,
+    titulo             TEXT NOT NULL,
+    descripcion        TEXT,
+    fechaInicio        TIMESTAMPTZ NOT NULL,
+    fechaTermino       TIMESTAMPTZ,
+    precio             NUMERIC(10,2),
+    direccion          TEXT,
+    id_tipo_evento     BIGINT,
+    tipoevento_nombre  TEXT,
+    id_azure           UUID,
+    usuario_username   TEXT,
+    usuario_nombre     TEXT,
+    id_rol             BIGINT,
+    nombre_rol         TEXT,
+    lat                DOUBLE PRECISION,
+    lon                DOUBLE PRECISION,
+    geohash            TEXT,
+    busqueda           TSVECTOR GENERATED ALWAYS AS (
+                           setweight(to_tsvector('spanish', coalesce(titulo, '')), 'A') ||
+                           setweight(to_tsvector('spanish', coalesce(descripcion, '')), 'B')) STORED
+);
+
 CREATE INDEX idx_usuarios_id_rol ON usuarios (id_rol);
 CREATE INDEX idx_obras_id_tipo_obra ON obras (id_tipo_obra);
 CREATE INDEX idx_colecciones_id_azure ON colecciones (id_azure);
@@ -83,6 +141,15 @@ CREATE INDEX idx_eventos_id_tipo_evento ON eventos (id_tipo_evento);
 CREATE INDEX idx_eventos_id_azure ON eventos (id_azure);
 CREATE INDEX idx_eventos_id_rol ON eventos (id_rol);
 CREATE INDEX idx_usuarios_obras_id_obra ON usuarios_obras (id_obra);
+CREATE INDEX idx_outbox_pendientes ON outbox (next_attempt_at, id) WHERE published_at IS NULL AND dead_at IS NULL;
+CREATE INDEX idx_eventos_feed_fecha ON eventos_feed (fechaInicio, id_eventos);
+CREATE INDEX idx_eventos_feed_id_azure ON eventos_feed (id_azure);
+-- /eventos/near: prefijos de geohash (celda + vecinas) por rango en el btree
+CREATE INDEX idx_eventos_feed_geohash ON eventos_feed (geohash text_pattern_ops) WHERE geohash IS NOT NULL;
+CREATE INDEX idx_obras_busqueda ON obras USING GIN (busqueda);
+CREATE INDEX idx_obras_titulo_trgm ON obras USING GIN (titulo gin_trgm_ops);
+CREATE INDEX idx_eventos_feed_busqueda ON eventos_feed USING GIN (busqueda);
+CREATE INDEX idx_eventos_feed_titulo_trgm ON eventos_feed USING GIN (titulo gin_trgm_ops);
 
 
 INSERT INTO roles (nombre_rol) VALUES ('admin'), ('artista'), ('visitante');
@@ -90,4 +157,17 @@ INSERT INTO tipobra (nombre) VALUES ('Pintura'), ('Escultura');
 INSERT INTO tipoevento (nombre) VALUES ('Exposición'), ('Subasta');
 INSERT INTO obras (id_tipo_obra, titulo, descripcion, imagen) VALUES (1, 'Obra A', 'Descripción A', decode('FFD8FFE000104A46494600010100000100010000FFDB0043000D090A0B0A080D0B0B0B0F0E0D1014211514121214281D1E1821302A32312F2A2E2D343B4B40343847392D2E425942474E50545554333F5D635C52624B535451FFDB0043010E0F0F1411142715152751362E365151515151515151515151515151515151515151515151515151515151515151515151515151515151515151515151515151FFC200110802E002E003012200021101031101FFC4001B00000105010100000000000000000000000001020304060507FFC400190101010101010100000000000000000000000102030405FFDA000C03010002100310000000DB8E265AE6B8001A0E1142002C00800500A1AE00081AE0000E4C18E9A6D0E8C77548B6CB6B9220C1C0D0011400510794C1EE222674572752B9602B2DA5AA6B71629A5D52897D4A05E71456E8557D908DC038088EE576A7A15DF35DC4CF4808000010101514123962DE788E6BBD1C9CD54B2AE9337A5E5D1C072D8D7341C369C341C040000000280035C00080027064C64D038BB00B06B856AAB6111C53458C7A45144EE822ABA9552AE2D242E3B9CF2F14C4B6B4C5B8B494BA547C58217120C70A03439A0AAD7035CD07032084248D4937F7BCE3793370041141AA0280114B0EF3C57357D1C9C8A9656D1E7347CBA3C0E7B06B81A380450000080000000000051139D77CFA6EB2A2DDA8148AD69225784B9056616E3894563929B3B34B9D5DC47AF795B3088BB0099315C5CB918F5005114114480501EC2A492BAC5A928A97D683CB8B5A4590472022C08A09769B0F4C9317B36140CC1141143448E5899E202FA39AA3DBACD6D1E7349CBA8073D0002A900000000000000002A02A2F3E5CF70075DAA362B668ABB07B00682D315920A0022BA3BBDBB4C8D0E1779CC97CADEC76A2814DEE70FB8CE7E4BDCE6A50000446B99128A2A22A5800A000A8A88E448924805B8FE7BE2F3AA4A4C35466D7192B3E94452A00200047244CF15153D3CDC22DCD6D267347CBA8073D000E1AB0AD7035C0000000000008A0984D5F9EB4F6C5134F842802854011CD88A5648A0037BFC4F4C95AEA1DA96DA298D79B70BD3FCBF78781A8976986CB05EA381AAAEAF600064866889960955500005450515AA8A800E6A0A08856B14CB77B8C89A08E8DE34DAEF2BF4ACCB202006447247ACF0C0F572502CAFA5CD6978F5506F3D0E6B86AA900140100000000000046B90CDC95AE9802805A00808A162B77B373D231E08A8687D0F97D66B21ACC76CF340334F35F4CE4EA7972B5DAC114B0D7A967FAF60F24B8EA5737C45A18F4968DE894941154000041400000000654B94EE115CDD65D242E97A1AAC2F4717D71239200108E48E678607AB9281657D2E6F47CBAB81BCB40E28020000000000A009000393D5C74D6455AED6C02D01A0E8E411448B7A28DE64246BA1BDCE1FA42F715D5DACB6C725ADC900CD155BA9E779BF5AF29B8227B76D2F7B15E9D1E6BC1F61F2CAAD629DAB990449A95F574573C0755B52800002282800000011D5B5575800B91CD14454CDF4FD0F99FA6E4D0208E48E638607AB92A2A6A57D3E674DE7EA35C674D0070D70010000000000D4700A79B7A2796355D435A0052392345731D034E84BA6CE7A0E00E539A1D5F4FCBEB268A96F9B2F334DC1EE8019A2A018ADAC5A9E3525BA9BC4FEBFE2FEBB95BC66CEBDD7894F6686F17D1B2443A4CE6F24F3E7E9B1F6F416291140001A0000011508EB59AB70A06A0003914B1EBBE31EA1CEF7809063E399E22399EAE4E454B2B6A32FA8E1D4031A6B82800000000080001AA2815CFF2FF0041F3B6A4423BB951446A2BC85CD74A9BDC5FAA459F31F4EF2E399341AB367655B8DAF27ADC817AD42FD0066800E454ACF79A7B4F9C5C67BD37CC773A9B3454CDC9F9BFB8793EA72ADD09B799F5596EBCBBDF21F71F35CDCCD8A76AE656896ABE37AA8008A82A0B10D7B15EE0035000541693658EEBE2FABA22E4472326386D737D5CDC8A6B15B4F97D479BB00D9A73470010A8000500400500408A191C5E933AA452C5AE9320C85E953D718A734349E899FEFC27947AB794354FD4FCFF00D4C00C68E2F67889D1B756CD2AA0A386E400852BAB678CF73BB93DBD65117233FA06D9E1AED067778B5679D327B473ACDBC6FC413578ED67A2D649492452A808AA000210C13C370838D46A3C1AA8E54B10265ECD3F2BAD82472319E1B553D3C9C8A9ACD6D46674DC3B340C51CD70010000228000000000879CF1EFD09A48A6877B7B64649D8D5F37B92F995CA5A437B3391A6795FAC7961A0DA71BB0039B8A9C2EF700EBD8827A01D9A35CD404501DC2D2FF009845CCD63D01708FD3D13A5E44D3D4FCBAFD366104B9F5CECE5B57CFAF3FC7FDBB0C984B94A5E99759A96870A4A822A8010C33C1BC034470D2155A52B248E5F4DD262B6BCE247246CF0D153D3CDCD726B15B5198D3F0ECD031A1CD7001000228400500500031F14BE5703D974E82686D9A373B2F46B73C99BE3BE8783F54D2FD2E5F9D1AFC4DDEAD9474FCEE659E9F3E435FCF6733AA99D4520000A22A20A8A1CCE9B74C2F5FB581EDC7529E64CDCF51A786D3E5CDCFFAEF397CB8EBF14F40DCF9BFA472E8956D3B3AF18A1E97E69BE7258A967599C1268045502486BD9ABAC8A2EA20000B0B1C8C9755E8FE59EA798D63D8CF0DAA9E8E4AA1ACD5D465F4FE7EC8067439AE0020068AA00000140242D5B540F306A3AEC8A58ED2FF003F4B9BE86AA2E03B32F9D5916B9DADD661AD5FCD7536B77CCACD9EADDAC4EDB8F4735CDCF400C8001151051C3421D4C779FF00428F7E2D7597E950B709D7F46F1CD166EEB01EA1417C9FD5FCEDB8BEBC413E7A47E57EB1E7D718E911358B804D08A28044752DD4DE140DC045CC05551AE6AF4BD73C6BD871246AA4CF09AF67A393844DCAFA8CBE9FCFD900C51CD7000004005006401A00072FA9C997CD1D1C974472476B77381F4FCDD022F326F110F13D33A73BD6AC64530D462B7ACB5B61344F5CF1DF45E7BD681CBA006680022A22B9AAA9C8EBE5778F349A0B5D793C13654058A2B55F37D2F47E4FEBC677CD3D8B1598FDDF88FAF6377F0DBAC446320B6CDE65114009A45023AB6EA6F039AEDE468ECD0094029DEBFE3BEB187558F64CF118F8BD1CA411359AFA7CC69F8F64039D1CD70010014010000040051C4EDF097CE5EC7EB4D611D8DF56F28F55CEFB984DD79466CBE959AD7F4C4FE3BEB5E2032C35DA823044D2E72FE75EBE21CBAA886688A8800280AB86DCF9EEF9E36C579BAE0689A3A485D52B1CA54F5DF23DB65E85C4D07372F20D32E5A5F6AC869B3B9D60DCC93510040068456C253B953781CD37070080B9A0033D43CC3D171352C7B24E2C33C1E8E4E545D66B69B31A7E1D4031A700004000000000000067B439B5C0AA16C2C745A3FD27CD7799D6AFC8FD4BCBF37D3BBFCAEC6F3C5F18F5FF001DABA2C7A468A8CCCF8897D9EC50BFCBA0063622A2000A029E77E89E77BC642563FB7262020A89A59237AB3A7CE7B5EE5136CF3653CAFD9BC9E3D1A2E4F766BCD648E4A54000018E68B4EE53D6002E4015C88A280ACDDE136596F98F6E71C482687BF172A2EE55D3E634FC3B039B8D3800020000000000000331A7CACB88454DEABA0DD476AF25DCCDDEF9AFA579AE75EB9D4E5F5359CD7907B078FADC8E48F71888E601A66FAEF5F83DFE7D500C6C4544151407354F3EF42C3EF1857C53F5E70816000F923946C72D6BAF6FE8F17B5CD47CB7D67CCE20D9E03D017CC648E4500A0008E48A24A7729EB0806A00ED114324505669F31A1CCF4F6AA4CF0E19A0EBC5EE6BBA2AE9B33A6E3D403969C00000000140100000064B5B8F971C0DDEAB2A2EA25CA6ECDF59F2FF004BF329AF60EA70FB973C1F1AF70F132C31576AE03003A5F4ED365357CBAB40C6C4544140735CD5329ABE0EF1E4F66FEC7A63CE8EAF1EC7B42A595932C55A7AC7B2F7F81A0E687CCFD3BCC2391E8B88DD2F963DAEB40280021960925A9729EB201D20E0400CD0056F5F93D3CBD65AA8C71ABD8ADD7948E6AEE55D465F4FC3A80EC6802002802002002800000C66CF151936B9BBDD615BAC8824BEA194EB5CCEEFEA305BE483C43DD7C74E5C9BCBBA9E56CBD52C59248F2F45D5657578E8D031B0411405735510E7F46BEE51D0F2FABBC66BCABD73CB539EB756D69344956B4CD3DA7B552DE0CF25F57F23B7B7A58DF2F963E39280000A2AD9AACD9A96EB58C03A400CC0050083A3CDB92FAFAB5667915AC57EDC5CAD76E55D46634FC3AB8698D386B800002400940281AE00455C4EDB112E55AF66ED5076F2D049349E97E43EC18EBC1D454B52C9E77E8B9767B17B3FDAD3CC393D2E72946ED093D3B49C7EBE74806360E6A2002AA039116B21729F9B6F1A4E654B3A92B9AB6AC125348B419CF5CCCD50AD8AB88DC569B5A1D2A52F933DAED6445350454529DCA4CDCAB66AEA3542E415141140082C57963D82582799E3D6B35FB725735FD255D36674BC3AB80E7A1CD7001000800A35C408A5004187DC61D72CC7B37BAAA2F4C3053293D93C5FD733BEB48D4CF4B55DF2B1E38DD1606CBE526D598974B2FA2D9431A00CE9CD73501CD100140AA9E41ECD9FD67CAE4DE51B326BDFAB6F261EBB23ADEB1E4FE8B275A28D8222A67652BB4EBC9D5177800A001B4ED5466E55B757518F6BAC1AE21A0DA720A0F6997AFD9AB699E4579EBF4E2E7B1DD656D36634DE7ECE031A1CD70000D7361C22801400004186DD61573114B1EB5001BC8068CF4AF34F40E5ADA238CF5492324C3E4FD714F35D1EB85E65F91456AA400668E6839AE6A200280002805347151920914A0386B95A8A9914EED4B3C9445DE140D0008AB4D0DC5DA76AAEAA00CAAA2C22381A05A39AB33EB77285E39104B174E2E735DBCD6D3E5B53C3B0063439AE002000000000090014C36E70A6623963DEABAB4DC711AA9BBC26FB376A2A72EA019A03B4110005C96B59CDE9D875790B8E62E4E6B9A8800A0280000039040045001CD50042B59AF67912874C005800B563921B8BD52DD4D4445055458000006A2A1EB37B9DD0679114B175E4E735DA9574F99D371EAA0EE5A00114001050000000000C36EB0F2E5A3733A2B81A3551D2A7A079FEF72DBA2A72EC0128208AAD05547050BE2D49A4546B9141AE688280003868000381AE4051AAA2B40010AF62BD79223D9D308AA962291A5662A5972A5CA9A0020E080405006AA11EAB7F9F7ECE4C7247D78B95ABBC56D46634FC3B2B9A72DB915AAE01111C0000000D7022A0B89DB63971AD7374AE06EA28226BB21D4CDF626B5DCFB0062A0A220A0E11070D70080A8A0D070D051001C8AD570020A0008000D7340734209E1AF2464B174C022DCA45355A8DA165CA96AAD2808E1AE8683555ED720C7B13D5AFD1B95CA8E5877C5CA8BBCD6D3E634FC7B380E7A1CD7435C10014000000008A2994D4E74C031EDD2B81B08A208E46BD57BDE41EADC7A5872263602A211D75BA9CB80B1D4C9594D2B609C70D728202B5546BABD08EBB78499D779780F4EE956CEE028222A2386A8800579721A9918DAED640351B56D52B11C26A4F048C400800A11407348731EB67AA5AAF3A73219A0E9CA50379ADA7CC69F8F791AE38D6B9A5384580000000000000E3F628CBE528E6EED711761CC54735C83343C139DF699BCA747CBB6839715CC6E9BEDAAC0B61AB125A592A45D2AB6592382AD428DB6DB636C9C8D0736F714EAF385652E873759B7D8CAC9E9E3A5741374E88390400238F29A4D52C5BAC1C6E6DC281A475658AE441D7280523908734004752080F7C5653D55C8ACF3609EBF4E7201BCD7D3E674BC7B4A34E5A000735C0000100000008A114A2F9256EB72ADAA22F48022BDAE641D9E8E8F876A779ACE5D261AD9A99D04F4E2BD8463646C4C23846BEBC969A8AAB5EC25247604A3D2829F3BD6E4F5793CB9DA89D075F0DDECF27ADE9F5B9AB56EACF2F90CD2B7427508A58B4C02391846BA3AAF1B8D61142C01015140086F638FB5AC68F8E0E972F449E86C7173CBAF62BF6E4F50B9AFA6CCE9787799A3B9E9A0039AE0020001AE0001AE0000C4E4BD2BCD1AAB24FE916F98C3EC19F6B05B087A98D5D8960E3DAC460D4C46E89DD4ADABDD1ADCBD1891615B58B6880AAD755799EB02A28946F3266A12D3C739ACD0EA67E7F3EEC59EF4F7EAD76F5BA7A23914D500B48A5864C122A5C2452D5D48C1ACB80D64EF67F66BCDCFF00A5E49AE039AE47FA6E23D0E4F278AC410CDBE23D3AE7AC8E6EB3CDAF62B75E6F56ADCC1A6CD69787799AE3969A050E6B8000020000000002B92F97EB6EBAD1D0D7AD9D7664CBB1745C7A02F3BA546DF2ECE563A1CF8DF0B2C4B12B87D4328B0F40A511D55ED20CB8A75AE7A35DDD2AE7CD6AA13E63B3C89CECF5F3DDFE3E35E25CABDFA47D8E2F6BB77006C00219A030423EF38E9D9A7ACB9A16386BAC6EEF0FE86D598E41AC372BD1F1ECEBFB31CB99E535AC554B5EAD84DF6B280DD639F5EC56E98782DCC1A4CDE938779C0E5A6B9A0E1AEA008000001140151599ABD633BBF62BB9D264620E657E595B9CB673B70D39F47A23E2462322C35CE1C0E2418F1592268D918B2494E28358B7DFAB36F171D4235E89CEB64D5EC099CABADAF3193E0F4799BC69EF72BABAEA017408B055B546CC3C912B15A17A6B2D549F51ACEB71CBDE8396D5B4D556EABAB590E36879D9FC673F5CEECCECBA6E6EB035CD679F5ACD6EB878D5D661D266F49C3BCCE6BB9E8000000006A8A04000B12E79AADDBBB69D3890688CEB2F16B5B979EDB99B3722B5D8E8D64A90D70D25746F87C692928B093C36569CAD5A5A76E266EDBE5F7FA73A29754E6AF454E633AA1CBBB27393A851BE7230DE9D89D629E8F2BAAB54435B5060CE4495D332C7D6D7288043B9C4F40B723CE7F4D359742EDA3935A073B2657BF6267CEF5FDEE54C5E7579B5CC0359E6D5B753A61CA85CC3A6CCE9787799C37969C340735C00500001002AF07AFC1D53A2368F2F3BEFB384ABD0CFF4ABE6D19E0B134D7099DB5619A1CAC613AB561648D49118FAB0EAAA595AD7AC648F71CD9EDD6DF3EA4F930D7266FAE9740415174E1755FC034B46DBD3CCF4B2F3CE82A1BD1CF8EAA74F8DA8C5B3C6ACACD7305B6BD5D7773232E0FD1791E9899F7F795AE2CFD50A12DA08DEA08D909325368B27AE7D32B59D679D52DD4E9C9C06E41A5CD69B876B0072D35CD7535C10000050040C7F3969DEA6ECF54EDC86B42B69E6DBE2D1A99D36C28AD454C55AF335A906AA0B0C82A88473302C3AB05D939CA740E6D6D63A6FE8C9ACC2EA7CF97A596333AC7B259F3BF431405772FA68723AF4AE8DC66DF155D36B9BAB55B53B0967CE3D1FCAAE206AF7D9E6FAC4FD821F31F4EAB2A5E4140201AB4A00117357AB5F2FCBBD35DCCCF59B696AB954EF1EC54B557A795E074C43A5CCE9B976980E3A700000000D700092AE7F4196CA4D456B6EA432659A74B5BBB9D72EBF66A675CE268A9A8E4CD41410175105336BBDEA20A08A8E11514486F5DDE7B1365741AC58AF614C1647DA78FA9E55EA984EBE5BE0335CD5451CD7218BD9E2F6E8267D2EECEBB9BAAD72CD60BD69D267B453028800108A00257AB2DE1F0DBD57133E3A58ADD5D0193EC696573E65D95D72CA5D013CE6E76B31D787400E9CA0D2E6B4BCFACE39BC7401038200291401505331A7CD1A8722BB72F91DFE5F3BC3D3F2F869B46A3B1D190D976B7CFADD96E73C54ECB0E437B0C394755ABCB5E921CC5E93CE5BFAD2A732CDB5192B5746717BD0DC4F7BCC759D31A014CD8E0B634E686400839AA191D7657768F3EFC7AEBBCB80F320108A8B40000425293077A76F8D5EF5EBCEB9A5EBB19CEDDF59C98E735904AC5A6E573ED6FEDF92EC4D46137B99D73E359E6DEEDC23D36634DCF7680E5A06BA9AE6BA0001AE0000CE68B8ABDB9685FCF5672BAF0B5C4C7E972999675F882CF457627A39E9A53936A5B846E9447B5A0000107341C35C80CA7A97DB98CE5C6DB23C6379573FAD38E9F53E6DB675EA00E803B26808A0A195D4E5B5795D9CEEFB77ACD7B2714E7F43996F0FA98F9DDF7563CFAF31B538DD1629E1B5D9277D2F44AD78F7D509951A83EAF1734D76B816A69EAAD3BC758697578178FAB6574195BE46D2BF53A735D36634EC5B038E9AE694E020000000028DD6AF2FB999D2BA8D72675C8C6E92F72F3E1DBB8AF8CE3B95A7E476EBC79EDD0E9BED5EE9D7F3EAC7472B04D6E1F8043D01BE7D157A155C14766C797C2B1627374BA18C14BBDC66B3058975FAE490DCC96393FD23CFFD17A7A500CF41CD70D054500323AEC669C9F52F3FF43DE06B9B2256B51DBE77A4E1F4DE8EC725B79C73A6E693793ADDE89AD050E85670ECB62CC2F672704F3D315916FA1009B51AAA737A75EF2D46726A3AF9DD2A1D3E4EB326A333A672B4073D004000014000040A8AB97D4E73B0E9758F33BCBDE8A971F37512293CFC79195DFF0013AF5E2C4E87D1D7BBB3F2FD2F9FAEA514F3F4892622B25A6AC04EE582479A8BC7E6F3FBF183AAFE5F7E3A2CCD45B20A77BA97AF437395D5B4D033A556B8450000309BBC16A68751CFBBBE6A81288A562AB7573EF469F25BEC4B1D1D5E2A92FA5A70AE3945472923ADC4987A9415D01A0A243139CC267A8DE75BD395D1E5E8B5E0B5C6ECF0F7CAEE9337A3BC6D81C7601008A00001401003579F5A0E7B7B86B933D29F1B4B9CC611A93797CAB23CCF38E974216B8B4F52BD2F27B947978F46ACE57471E8900CF51168E963175E97A78C7338F47357B2EDD54B3DFEBE77C9B3778CB26B30FB8B84032151C0008A0181DEE7F5393B4C069378D3B78345AD555C6C2EBD6E159B4E9AAC56D730E31B473DBCA6F515986756B6E48459911A8F82AD82196E2AC6AF488EA5F44CFE978FD4DF8ECF0BADCCE9E5BDA3CE689CEE01C76020A0400000000413D65E4D5E946DE85295DCE8A766AB5C04B95F9F3E91C493879FAA8C939E5AC9066AD97A9157B756F7BF2711D7D6B91DB1DB583B5B79BAE713D4D22946DAB657B39DCEB2EE6B4D0EB39EF50F3BD96AF4C0E61CD72009AAA099264AFD9DE2FF0045EDD63CEF9D7AA3BE9BAF9F8D9D6C18545D466DD3BBB9ED1E9708815593236C339E9332D5B23704D0AD50041500A176959D78591D4EA7A3C4BA4CDE8F19B834E3D1CD7000400500400D086681785AFF003FF45BD315DEB98D8EDC114B3688A96F3A692798E74B70CE7953F1BB6C555E2D4B75F770D75DB62FC9BDBD69928D762DC4D64DD51CC75C8919E8173C1D0DA1CCC86C315AB41E8D7AF69261F498E3D55AA4CD82A57B3A5C8E658B25D5324B95E75ECA6AE67459EF40758F09EA35671C1CCC57B5E03BC72559D97D191057B6BB2CE9B9CD88A92A28340000320053E67561EBE0B169C7A7E6D7D1673B9C7A749CD38741CD7001001001435C8ABC4EE6496869EDE56F7F41A9CCEFB9E0AD6B72CAF5E7DE6955BCF4BDCCA9D5D2AF424AF739881B113BDCD9A6BA29961962B136F4B22E819DECAB17B67C4EECC804CAE17738169248E4BF420A573BF3CDC6B5A2C3CF3F6B9567455CBD5BCB1159CD5B3E7D6E85EDD7DD737A938A3563672FC7E7DBBEBB6A84F4D68AE70DCEF4C8E58FA0AD9B5115500002D00945419002B45237AFCFE801EAF990C8E6CBA91A787D2E116845200000000666B43C29AD966F4D1EBA79D6A2AE7DDBD25733A371E666777CEB30B6BACD1AF67377AB99E8A1D23EA5D9B39CE3E29DBAD331563EAD1D063BB124B91DEC56D72CE5A3EAF9F4A7A12E27A0C69BCFB75842556BDEEA9B3C5F4DE1AFD5EE5C623916024E4F1782E9D6E4C6F766E96BEC2F39C56CE0703B9E76DD493A0E7B397D2E4F4D62E51692C5D6B9D5501400006805644504152000A6B1DAEDF32C81E9F9C0069C0F07AC0000000008001327AEA2BD69F11B6D6D998D5B5AF36EBDFCE3B6F79D957D97E9F160BCED532EEAD3D158B491F13AF8E6649151D0AB6EA4D753B343A18F5454EFACB2F633B59C7654B29A8BC7935BACE5D3E17D13CF261E297DD47D27CCB7EF0F4151AC2636E661D426D6B59FD1F624728DE0C82503979D8EEBD62A2BD34B8FA3CD38F43AED7368A0D8000288002A10A2288094A091CCE9733ADDFE5BC0F478000D21C74F1FA7B0EE3A2760E3A1D9388B5DB38892F70E187723E3C4B99D5676E67D5E88EC86B1C9DCCEA060F97E93CF75F377EA5FBC72BA8E2C68999582A3652C22A36904F0CBA49E3939FB045468150E6EA7835279FBD6385A279A2E277F2967481B7D94FD0337AE78D73A649D12566DEEE4EA3D2795A0288DE11D2C2F3FA6ED339CC7B15506979D7DD2707B956BB9F51151D5142E8540554195400020001AAD4E4F7735D5EDF27A09CD3AF9BA27354FFFC4003A1000010303020501070304020202030100010002030405111021061213203231142230333441514052712342627215350761244316254453FFDA0008010100013F0003E00FD10C1575BBC347191EAF571ADA9AE7B89243106F2B797047C2CFC7C6B82B0EFC1418FF00C15C8FFC142279FB12BD9DE50A77265292A3A7010601D8E8C156CB8CB412FF0082B75CA2AD8811E5F046A14FE053FCCA6F8687C145F50A9BE5B7F5034FB64FA2BD5ED948C7C5179A9A696AE4EACAE24A030303609F135DBA3027C25741EBA4FF00C15C8F458E0B0560AC15877E0AE572E47FED28444FD8AE93FF0005749E7EC5085C842E46028404210AE8842108421085ABA2D5D28FF6AE9B17231089A172845A1018F8442A2AD968650F6B95A2EB157C600F3D47683D93781527CC299E0823E0A2F9EA9BE537F498EDF41927015F6F2CA7618A27E5E9D2C9348649092E280C776CB95AB95A5160FC05CAD5C8D45AD0B2DCFA84002B6596840B57305CCD5CC1642DB405642047601DE0FC0C02A8EAE5A19C48D255A6E5157C3FE6B18DBB476D478A9BE614DF043487EA152FC91FA9BF5DD94301637CD174933CC8F392E393F040D0B804666FA651982926C90C0772A5A7962804AEC804A12BB0375D57AEA38AEA3D73B9191C08CA0F250739751C1755CBAAF5D5721290BAC84E175DA575421235070281F85858D08CECA8AB25A19C3DA70C56CAE8EB69811E4B18247C19C7B854E32F410D22FA854DF25BF047C2C76DDEE2CA2A670C80F5512C95950F96471233909BB6DDD94646846A005ED09D2B8A2E71FEE472892A8A174D54C6819C9577B501640F1E69A4879691823B6600B39944E059DD959D32564AC9084AE09B2B826547AA13E535E084082810B1A6163B02203810E569AE7D0D58FD8A96A1957187B4E4E37EE0359FC0A9B67943C4687D0A87E7054DF287781DF8D33DF513329E17CAE76C15D2B9D70AA71C92C4D6F2E004352E01191A13E76A74EE25191CBD4E563B218BAD23621FDC55B285B15645100AAA9DB2513A2233EEAB940FA6B8BD846012B1AE1101C394FA152D3BE9D9D4F569513B9999CF7839ED0103844A0E21755C9B2118514C84AD28381D076BC2E1CBB1A793A323D0735C03DA7208F813781537994DD08D8A87EA1537C91DC3F404E324EC00CAE25BA97CBD189E9A319D022404F9404F94B9124ACE347260C7612B86ADDD53D772B53449777A036C61719D010F133546EE6603D8E3804AA581B5B683F96A6B1D148F8C9C60A1DCC3938D30B1F04121364704D9C83BE3099334AE76A07B0F334878382170D5C854C222779A23BE6DD842A8F3281D8684EC543F3D537CA1FA6BC56B68A89CF4F91D34CF91DBF321BA7BB953E6C27CA5C893AE347BB7C043B29A3335436303392A8A95B45683FEAB8662CCB2CBA5EE8456DBE562744E8667C2ED9CC38086A47B8570B4C0B1F12E23A334B57D56F8289E1CC18F5FBF6E320A070FF820A0B1A03A02535E73B94C9B1F70A399AE59594402ADD56FA1AD6BC3B00AA5A8655D33656AC774DE0AA3CCA1B81A7D8A8BE7AA61FD21FA4051706825DE802E22AF7D456188782030C4E94353E52E04760EC68E67A03527195C236F32CC2572BEC9D1B6F22E19840A0E7D30D731CD23208C2E31B6FB2D68A81E09A7618F4D4F895C35208AE0E57BA315744FFCB428C98A47C4ED9C9A41ED79C3D0208CADBE003DEE4F91ED3B12A0AD730729390A2A864801CE0941C9ED077C6EB84AEBEB4B2A23403B25198DCAA0FBE80D869F62A1F9E3F954DF28770F8C15EEB45251141E6595F23BD493BA7C984493F058DC3C9EC8A274F2889A32495C396F147441715C9E112B447C96D887F8EBC4B6EF6EB6BD163A191D0BCEED38ECB73CC77561FCB93D81D4AD77EF6AE23A130D5995AA0909DBB67186730503891F0076E4E813CA7924E8D739A76710A0AB2DD9C54723640A091F4B56D9812082AD754DABA36BD0ED93C5CAA47BE99AC3F501527CA1DC3E33464EEB8BABB9E71022EE5661A89C9F8305397C6F90FA040FBEED5C7032B84ADE669FAAA261680D6FA0D95FCF52F1144A95BCB48C6FE1BA901CC2C77A1182B8CED7EC55C256F83D0390350792A5AF1EBCCAD98A8B4B1DF86AE24A1EA523FEEF09A4B0EDF638513B999D8F19628DCE8DE130F3339BBC2FCF7BFC13BEEB1AC533A25D612B1707DCB7E8A23B64F172A8F34CF1D61FA80A97E50FD254CBD1A6924FC05709CD4D6C8F276C9F818D00E621A3D495252FB3D9CC87D48519C82758A23348D880CE4E170F508A4A247D0A94F5F887F8721B300FC0ECE21A015D6D7FEF622C74333E276CE69D6738634AE0F984D6B574A7058EC8CB4ABAD28A7AC7A864E529843867521474FD57BBF2144791EE8CE98F8AEF047D4F6B4F29CAB455982BE37AA295B5148D94683597C1CAABC933587EA42A6F95FA30B892A853DADE81E605C7D49CF734E74C6968A735158D681900AE28029EDA18A2F0D338DD70A509ABABE751B3A6C0D1E80290F2C6F3F80AD03AD7F93F94FDDFD8E01C0B4FA1185C6368E84C6A236288E580E926EC5C1D76652C6F89CAB6ECE959C8D62BE534B330CBC8B18D944EC00135D9595956A77FF39CC72BBD39A5984B8D9EA3773301EE1F025EF63B95FCDF7072170657F5E8031387AA1ACBE0AABE62678EB0FD50FE552FCA6FE8F1B85C6F56030449A361DAE380A31A92B84693D655C6C474828BC069CA5EF6B06E495C314029A883D12AB1DCB4923970A0E7B8CAF4FF0033DB75A1656D14912AC864A1AD7C323085EA1119185C3201B9089476D80307B80E556DAA09291F1062BC51BA86B64620EC614443804E18D20718AB1AE575647576D54EE2C798C9F42B391F166F0C6A3B3195C195C61AD1123BE1C3D1C3286B3782AAF9A533C74FB28BEA5537C96FE8C100E4EF80B8AEA04D7540F6C8A341140873DB1FE4AB5D53292903031712D7CB5530628CE1811700B87A8CD6DC428A36C503636EDCA31A5D1C1B6F94AE0E67CD7A272F3DA02E35B47FFD91A89DCCB0559E410DDE1501E7A763BD72D45719DA79E3EB311DB6230A07AF25CA54830F695416D96A2DA5ED55D0CB4B58F69504C1DB1CACFC30A7F816B99D4F58C78381CCA82613D132407B25F05543FA899AC5F52A98FF00487E8EA5E22A67BCFA00AE4FEB57CAFCE77EE794C2B29C72170F507B75684DB544D605C5B1B22AE01A9A360B19207DCAE0BB7746984CED30AFAEC5B255C243148FED1A5553B2AE9DD138792BEDB9F6CB9BFF00620E0E0084C3D3AB8A41F67056794496E63B4ADA76D4C2F8DDB8215FE85F41717C47C0F8A69C6140E0E1A4DB0CAE09904D49C8B8DAD5D297AD1A89DCA544FE6087C20A644768D1A795C08FB15C2357D6A00C4460EB3781557E699A12A2FA954DF2DBF073F0AF72F4ADB2B93DFD59DEEFC9ED271BA3192C326530EC0698C8207A9180B842DC23A612B9386C571A7FD921E015AE9DF53716B1504429E9191FE02074E2338B695C323141DF85C5369656D13DE1997B1303E195F13F62D38014C48C382E0F9BAB6B0BF2880B8D2D3ED749D58FCD8B0E6FBAED9C36395112D39CA63838654833195C0736252C57DA26D5D03FF202AB85D4F552C6E1839513D31C81C84F2A339CF7E14C5139ED074C7AAE07ACDCC488C1D651963955F9A61D8684658A1FAA1FCAA6F96DF8E32B7D78BA4E95B14430C44E020ECC98D5E700A2714C1463234B7426A2B5B12B7538A7A36B0227677F0B8B5F9BC279C05C0F6E2F98CEF4E1BFFE821A7127D1B558462DBDA35731AE639A47BAE5C636634937B4C4C4E3CF10C2E009C187A5ACF136481F19190F0B896DAFA1AE7FEC5924289E5BB279E661C2E0EA8E8DC83139BCF1003EE171BDACC33099AC40F2BB6DC10A23CCB089508F52B3DA34A843B82F4CAE1698C37251BB998D77E46814BE2F557E699B81A1F1517D4AA61FD31DC07C5E3A9B108628C7B833F71A01FD5D32BC8860FBECA7A07456D129510D8A2170750F5AA4CA9A39581A9C32C77F0B8977BDA2C324CD880C65C02E1EA41476D6698D389BE998ACE316D66A0775D68595B44F89CAE546FA0AA7C4E62E0897A5712C4E393AF15DA856D03DFF00762746E8DEE610439A707485FB60AB49E8DE18F0762E0A99DCF4EC7FE42BFD032B682462A9A734B50F89C305A544EE5281E609C143F027407611A61056D90C77189DFE4ADF2F5691AE073B6B2783955FCC2A33A1F0517D4AA6F94DF819F84171C484D60890D80D1BF31DA17615B2374D5AD6ABF4222B2A8BD1C9FB9681EA4AE12A1E850079F37ACA272C77F0AFFF00F76F560A4357750A268646D8C0C0031D9C4DF2D8AD2316F66A3BBF2B8C6D4CA987ACDF362E1A91F15D47FBA8CF346D77E46AF68746F638021C30B8B6D468AB8CA3C5EB29AE54CF2DAA63F3BF305677F52DB13FFC53C0230571B5A0C337B544C40E37F4C150BC90BD72A3387E35C76053A1F0237724CC70FB3970CC9D5B70D64F172ACF985374FB28BEA952FCA6F7058F8617173CBEF1A7E533E6BB4705C2B4FD4AE5C57162CCA1DD9956EA7353718A3541174691ACD07F72E22DAF132E04A1F399CB3B9D31A7139F94ADA00A16040683BEBE48040F64CF60690ABCC54374334072D50F18C429188719C4A2E2EA42A0BE524DE32ABFD3C173A07F2F929A230CAF89C0E5A820EE57077A60AE1593A96766975A1657514B1395C68DF435B2C4E0400544F2D2A3390892244DEF98680766340A4D867EE0AE0A9B345ABCFB8E559F30A669FD8A2FA954DF29BDF9D07C1CE013F80B8864E7BC3F5F4934936CAE0AA4FEF5C5601B34AA1DA32B82E9BAD59D55E8303423DC2B8A599BDAE1B6321B63103A85C4BEB12B7ED44C43E05FEEAFB6C60B15CAF55B5729E67BC3118A599F905E4A6DAEA9FE8D28D9AB3C93E86B23514F574DB873C1549C41511EC5EAB2A3DA2774BA386415C09307DB39343B85C7569DBDB2358514846D944E5F9511CB351D93F8778D1FE0B80E6CC6189DA3FC0AACF24CD3ECA2FAA54DF29BF041F8321E585E55D5FCF7595DF8721A3FCD37C53C65ED1EB92B8569FA54015FD9CF699D3C91CCD1F62B8269045441E8FDCAADB953D1B0BA57AB971A0F08957D7CB5B55D676E41541C4B5348C0CF562B6718B1FEE4AA92A23AA884AD3969D00575A5352F6154ADE9D3B59F81A8ED1957AA1656D13D5170DFEF54F65A6837E447D822D89602854D07882C469686A06DC855570EC1233C15CB85DECC98955514B48FC3D8537D329C32C217FE3B97CD9AD7D2B2AE91F13864157AB79A0AD919E8C5193A43E03BE5D0F7BF7615C092E2A53FD41D24F172ABF9899AC5F52A9BE537F455271492AAEDEE12FF00B21A4A9A7DC0A95BD4AD6B15A62315BD8DFF0015708BA945333F2D460325D1D10FB3D59616C36F635710F10454119637CD56D7D5DC6776492A96C751328784DE58BFFC4D55F0FD451FBED62E0BAD94C5D2910F88E01C30770AAE48A9617484B42BDF134A1E590A9AE13CAFE632BD32AA71E92BD52DDEAE9DFB4AAD3C520BC453A85F05633998E0E042B9D9A0A96395DAC92D0BC96F8A0E707F29185C075A22AB2C4483BEBC5D681574865631105AF735DB39A705054E76281D46B30F710D33D99D1C321707CBD2B885EAC0747F839567CC2A2F0D62FA954BF287C107E0DC8F2D1485541CD6C8EFCB96349934E58AC50F5AEAC50343206B47D8278E68DEDFC8C28AD845FDE4B15F6F8CB75274A34F7D45D2B5C5C5EE2E2AC9C3CC8A30F97CD52D245133C300055D79A4A2679A7F17421EA9AED4D59B12AD5430C32996243E2F1A5DBA5989A9CE73DF971249418E2846F5D37A21EDC6C01562BE4B452863DFB2A0AB8ABA9DAF6B812ABA89B3B1ED2D0AFB637D34A6562A0AC7505509012082B87AECCB9527F9EB2C6D923730804118DD715DBFD86E45E3C5EB05444038EC1AC9BB10F83C3CFE95C98A23CD4ED77E468FF02AB7C8A8F58BEA82A6F94DFD00D2F4EC5BE44FDEA243FE5ACBE0A2398D70543CF5FCEB6000089578743421F39F22156D54B72AB2B86EC82260925F354F0B8B07A602E22BBB28A98B1BE6ABAB65AB7B9C5E5007D724A82A2585E1ED715C2F7C126227A610E01C3B30B1D98D6AA51153BDE4E3015FAADF57729546DE6FE026B00C6AF627E43F3E842E17BC3E92A844F7FB8A3E49A36CAD39C855B44C998F05A0E42E21B43E8E62F6AE1BBB3E8AABCC862A2A8655D235EC3A6762B8EE3FEBB110A2F9887749E086C4EB8D0765ADFC95F17FB2A07735146743E0E55DF30A8BC358BEA47F2A97E5B7F457F38B6C8BD6579D64190A0780C20AE0883DC32E8F2031CE3E2064AE2FBA1A9ADE946B85ED5D697AD22A580060631AAB656515BDEF2704355EEE4FADAB7FDD8A266D92BA6118CAB5CCFA4AB0F0E2305592A855D031FD80E3E071254746DD227932543DC7EE544C0076B980AC96BDA5A4820AE0EB90A9A21129E2C02AEF42CACA6782C55D4AFA3A9730EC32B82AF47E9647AF5C387DF4E3BFEC7A2C242682D9137B31A48BEE7E0D2B832A6377E1CACF273DB63D1C70C72AEF98A2F0D62FAA0A9BE537F4034E23DADB228CE5EE3A92A3387AE0F8B92D834BF568A2B6C8F5107D75CB2324B9EAD142DA5A46C6A920E5664AE3DBAF4621046A304BCE7D7394C180104423EEBC382E09AD2F883111827E1F1BCDC944A23CDBA8C634242C858CAE55237072B856E2FA4AF54F236A691AF07390AA62E5CB5716DA7AB1995AA8AA64A3AB64ADC82D2AC75A2BA859FEA8AE3C67B9128FC13E2C90421B6113DAFF0005F73F05A312B0FF0092E197F3DB42213FC0AAE189028D6748BEA47F2A97E5B7F45C51B5B1EA31B9D0B91286D20FE570AED6B082E3CAE3F2170850996B3AAEF0548DE6C0C7A27E2389CECE301716D6BE7BAC9FB144C19CAC6AF6E415C133F2548623BE3F0467E10392B8FE4500050384E761124A6929A72347B39931CE8E66BDBB7295C1F5A2A6D8154C61CC2555C0248DF1BB7042BD523A8EBE467A3095C11742C221727804078FB8CAE3A6668D8A2DD880EECA7F815F73DB959D5DF63F82B82A4CDB5129FBB0AAF1FD4099AC5F523F9549F29BFA10B8B3FEB5EA31A38E1E8B8840E5E0AE157E6DA13DDC91B9E7EC32B89EA4D55CA45C2D4823A067EF5471728CABAC9D2B74AF57190CD7099DFE4A21860D1CEC2E644642E1894C372513B9E99AEFC8F84C5C7FE6141B67427405309410520C3970157112F4538073155C58276D8AE31A0CB3AAACD54696BD8ADF30A8A063C15C69F40A1F0EFCA76EC5F7776E7B095C0F266913B63A5C06244CF158D22FA90A97E50FD17176D6D4C47609C497E83621705C81F44AEB274A8257E70035069ABBA649F27AB54223863681E814430C0B8AA531D9E544F354487F272A3F108944A69254655B9FC9736395B1FD5A061447C169F7D71F7CD0A0F427424EAC28159523411BAE11A830DD82808744D70FC2AA8C39876DD5EE97AD492314CC753D4BDBE8E63D70755F5ADA1719B334122809E4D08EE70D8A3B3DDDD8D485C08F442215C7E626684267D48549F29BF071F078C7E8104E4E3B9594375C0732E253C965955A37B9B3FD95BDBB346360134600DB0B8CC916895443FA8E086C0279C68146544EE5AC8DDFE4B87DFCF6D1F09AB8FBE6AA709DD80E13493A3D59DE62AF63BFCC2B63B9E8637270C82ABA3F20571253F4AE922E00AADBA4B8B4036C9541E18EF053BD0A779BBB868022B811E9DA5CBE6151EB1FD4AA6DA26FE833A719FD126A727F99D78064C552E2FF00FA595587FEC98ADC34E35FFA99145E67F9413F408227FA8C3FFB5C2A736F1F09A370B8F98A98A7EC7B633A386410A8DDD2AB6FFB85627F3DB59A57B32C7901719C5C9521EB812422B8B1713EF6991447D7BFEE9C8F9BBB0058D32827AE0A2455A76972F98530EC10D19F523F954BF4CDFD00D38D3E994613FD0A3F7D78326E95D1715FBF649158F6B946ADBBC4105C69BDA1EA3187E926A14A70F6AE0E39B68EF1A85C7D1E6354A7D4278CE7B63D6238AA0570B6F6B66954331B971D31707922E8AFFBD9E4510F5EF27050398D1F377C12B830E2B513903F8D2E5F30A66ACFA91FCAA5F92DFD171A7C951F884F4EF53A6158E411DD1855ECF5B879EADCEE4B8B3FDD5A4F3533505C5ACE7B34AB1895C3FC904F1A8530D82E0739A04EF53DC350B8E2226879D4070F722701118DF5CA8D6113B159C4A0FE4AE10DED2CD251EE3971F2E106137257DDACD228BFBFBC94023B487E090B857EBD34E626E972F34CD59F52152FCA1FA2E364CF152277A9D32A95DC952D7AA570ABE1C77FA22DE95CB04630F5C38FE7A208157D8BAB6C9DBFE2A71C957233F0E51A7F81D5AA5F00B80BE8D1FBA3DA351B15C5D117DA5EAC56396E33F823C16CE92BC59A5B74A41F040EB03094F1CA89D8A3F31BFCAE0FDED0CD1E32C2B8FBE6AE078735AAFDFF00532A8F67BFF9EE211F34C526F221F032B870E2E214473037F8D2E5F3133567D48FE5529FE937F45C6C99E2A447D4ACE80E082B83A6F69B6722E29A1F62BA73AE109BA94C82AD8F9E96569FBB55E23E8DD656FF009A818E91C1AD19524323012E69013863485A5CF554D01817017D22779BBB81ECBDC5D5B6BD70ADBA2A7A4E70C447AAE2AA264D412BD494FCAF735A8C6E076099138A8A32D635488900144874CD0DDCE570A4463B2C5A38EC571E3F371E45C074B861955FBFEAA651FCC93BBF28F9A61F713C1E73F0AC4E68B8B1539CD2B08FDBA5CFCD3360868DFA90A97E537E2039EEE3651A935C22362BFF001ED579C4B8D285F30EA2E089F91FD3721F629E0398E047A8C2E31A5E8DD5FF00E6B84B876234425955F787E27D23DF12AAA774723D98DDA5189E15344E6AAD385C05F469FE47E0E15645D4A291AAC6E6FB269C4D51147412732710F91CE1E84AE408306928F7148406395B29CD4D7C4C1F77856D8BA3410C7F860D253863DDF80B88C3EAEFEF5C3548296802BEFF00D5CCA3F9927F3A80B1A129C7DF099B3138FBF9D4770568205C18A90E68A3FF00D844AB979809A86FA0FA91FF00B2A97E537E10F81C6C98A5EDE079CC5725550B2AA9F0E00AA5B41A4AE0F6284E5811DC2E38A1FF00E7453FF9AB2002D917FA2958248DD191B1185C494A29EE9222D053461576E405C0F1116D0F4EF53A00B1DE40731CCFC846F7FF0009719229549C6D442257BE217DD5FC8DF0519C0C699D2676D8529C85C056E3577512FEC4D181A5749C94D22B7DA1F55747D4C8CD8951C6D8D818DD801857B19B6CAA3DA597FF00475074CA3B829C72F0A3DD89FB3F08E8077DB8E2B5855B8E682329EAE5F30266EC4341F52D547F21BFA01A71AF984C2A43D985619BA3756289C1F48C70FBB501920A84FB9A718D21968B9DBEAC5C33758A6A2630BD5555C54F13A473C60057DAE15D7499EDF0D0B8053383E60DFC95C251F4AD01139DD610F80362B8E2D424609989F904B4E460A8C8513C2041D0BDA14CFC9C221CE7068FBEC17025A3D82DA643E4FD09552C648C2D2A38991B30D002015E466DB2AC62797FDBB423B30A2370A23EE293CF51A63B685D8AB62B51CDBE344AB979A8F51F521527C81F106835685C69E6135488E992B2A91DC9571BC7D8AB3BFA96B8CFE1A9A131DCA9A7232AE14FED548F8BF20AAE92AAC9717863C8612A7BF56D5330E953643BE4FA9C946601495077544CEB56C4DFC95688BA36C887F88D47782815756364A091A402AE94E63AB9135C421214D99CBACE464253C92F5C0F698ABAB04B378B146C6C6C0D6ECD0300044A7C984E712740AEFF00F5B2A3F365FF006EE71F70AF57A8FC5483DF2B1DE34A438AB62B3EF6D6271571F34CD0943EA1BFCAA3DE01DE3E13571AF9A0A428858442C2F17877E0AE139BA96862FCE913CFA1595C7F6F63FDF6A12B86CBACE2BA9CDB372A2A59A6F18DC570DF0ECC6B192CAC510E581B1FED18F89246246161F42AB785E0AB797A9B82A252F054A9FC235A13F866BC7A311B057FEC5FF015FF0078959E92E56E943E363D5AAB66961027610F4E90A24958D02BBFFD74A9C3FAD28FF2EE90E1882887B8549E5DD84161054BF56C2AC7BDB58A4D89570F34CD47CF6FF2A8BE437F4013571B79A03DC4F2707B48C85C072E683911DB3A30E13643C877DD7170AB9A4E46A670FD6C8F24315270754C9E6A8B8362679AA5B2D2D3FF00628E28E2D98D007C70B0B00FA808C6C3FD8174A2FD8D5D088FF6350823073D36A0D68F400775D77B6CA8FD44BFEC876CC4861D22F969FE4ED4698ED8769DA7EF95C3DBDAD8A6F52ABFCD33568CD40FE5517C81F047C06AE37F9A87805201C9DAF38615FF008F3E9BB66A58E7239DA14547145E8C08068F4681AE101DA3F420F6DD3E825FE0A77D5CA3FC90ED989D22F047CDDA8EF8CFBE170DE4DA58A4392AE07DF4C3EE0D47D40FE5517C81F1C68D5C69F3534FB8149E28761F12BFF1D7CA7A7EB85840774950C63F972094F91CEF78151484921DF0B0B1A01F0EE233452FFAA7FD64DFEC7BA6F2D211FD34FF003769843BD9E4D5C31BDA989FE4E571F34CF01A11EE21F3C7F2A8BE40F8E3462E35F9DA3FC10D4277815FF8EFE993FCFB077D5BDD4F71E77F89281EA06BD9E242A709A87C4CF763B2BFE8E5FF005527D6CFFEC7BA53EFE90FCA4E3EFBB51DEC1EF85C29FF005213CEEE570F351F86BFFF0040FE5517CA6F6927E205C6FF0037497C7B0277815FF8F7E913B727B069B2DB4074ADA1655B376E1CA929CC3108DC5363032B1FA2CF6D6EF452FF00A2A818B84DA11A044A9377941443FA653F67943E0B7C82E15DED613CFAAB879851F821A1F9E150FC81F001ECCACF605C71E69AA6ED77815FF8F7E991F53F031F107C0C2C7C0ADFA497FD5558FF00F632FF00B7602A47728289C9CE917CA4E3EF9EDCACF603EF85C29FF5213C7AAB8851F8375FFEE0A87E9C7603A90501F000D38E14654DE1A81A1F42B8027C4CF623F1F1F001D70B1F0AAC66925FF52AAFEBE6FF006EC0A7230468146711276EF280EE19D5BE6170AED690A4FBAB8798519F706817A4C3FF0065507C96FE80140AE381EE2678053787770CD57B25D41728A41244D91A7208F81945D804A63DAEF139D32B3FA8AAFA693FD556022E32FF00B699D66393A0098711227DF281D077B7C82E16DAD61487D55C1467DC034089FEB0FE55BFE40FD00D38D4669133C029BB00D237BA391AF6FA8395C2572656500639FEFA23E0119184D98D2D6BD8E3EE3901901C082D23D47C0C7692B3AE16163BEADCD6D24A490072AAC7735C2570DC737613B14F7649D49C4680DF9BBB1D918CC8DFE570D6D6B09E772ABD4472068023F503F9541F25BF171DBC63166DAA2D98A6ED1A58AED2DBAB584782A1AC8AB699AF8C827B31B67D0274B147E4F09F71A78FD6509F7CA709F7F88F8AB85D1B52C1804382B55FC31822A85155C323039AF0B981F420A074CACACE9354C50025EE525E22DC351B9CCEF1695EDD3AFF00909C7F615FF2EF899EFB551D5B6AE30F6840EB9D07649232361738AE21BC1958F8A05821EE2EF2277CF63B66391F2D02272CC680760D41D2119A86856218B604FDF2ABC287C06A7E7B7F9541F207E8B8A62E7B4BD4473CC14BA64F770E5F25B6CE18E7E58A82BA1AE884B1393E4644C2E738001555EE9E2CB63F7DCA4BB55CC4863108EB26F29484DA0CF938951D0C0DFEC4F8299A794B0071428E23FD811B743E4852399B31EE0BFE42A68DE5BE4A9EED23D9973005FF0038C04B51BE3423C4209F04CBDB4FAB14B7B0C639DC8A2AA9AED5DEA446A3A3898C6FB994238C7A31A174A3FD8174A3FD815CE38DB48E78600570F16887DE4401820820F684349246451B9EE38015DEF06A1E628152D0831BE4977710AA801552B47A03D921C30A2341A82B3DC34A31CD56C56B1C96D604EFBAAF5178EA7E7B7F9541F25BDA3E2DEA3EB5B2445BC951233F053C6588E835C2C0083B7FC1563B9D6523CB220F2C4D9EB6B583A85EC0A1A36377232E51C6D6818184340484628DC799DB909A03764D209DB47D3F3C81C4029F130C7CBCA1474317916846962231C814743083CDC8D4D862FD814D4F13C6F80994829BDF870152D634FB921C140B5C320E4698579948A6E454B0CC21043F1B286E93524A192825A5412B67844AD286981AD555C54ECE67481AAE1759AB65E9400962A3A1110E677BCF29E311BC0F4C29C66B6558D642740B6EF09AC738640D9040E96B05D5AC0A9472D146014E55EA3F0D4FCD0ADE73037F4550DE7A77B3F2D55F1746E53313C619DE01380012ADB647D461F20218A8AD90403C110D1B3460680868C9D8051B83C6C753B60A9DAF7B3DD54AC91B92E281D7AADF1F4280D6689D20182A38B96300EE5490B2407ECEFC8514F2523F95E0B99E995148C9181CD39074BE6D1B5527D3315C616CB4CE76007302E1A99F2523D9FB0A1A92033255C2EF152B081E48BEAEE2F739C4862A7A68E060C34674907F4DFF00C1537D6CC8699D8A90E8103A8EDB55309E924729072C8F6FE0A1A70E45D5B904472C4C6018C353957A8FC56343F5015BFE40F8E35C672D5C530F46EEA41EE23F7D5BA46C7C9206346492ACD6300096751B5B13031A0000225191A1FCB9DFD70814E1CCC2DFCAA78BA608CE91CB23A7E4E5DB47C9D31CCA2A80FC80D44201617B3FF539F27BE48DB230B48CA8E77514DC877628A46C8C0F6FA157FDA362A43CD4CD2AE9398690FE5CB86A9CC741CFF77E84B42AAB853D2B0B9CF55777A8AA7F243E0A9687279E7739EE2835ADD9A001ACBF25FF00C2A8FAD9357B913DAD6BDC761940386C460F6D8687A5667CBFBC1555EED5CA3FCCE84AE0E879EBC3D4A79B4AF51680A3F3C2B77C86FC40351A8382171DC1E32A71CB11FBA8627CA71146E7109F4F2C7E51BF482092791B1863D59ECECA6607B9997AC868C0D805CD97A070A388090C84EFAB3C75032B63EBE810118F11A023B5D2C81F800A665C3275271BAAB68A87F205453BA09043264346C32AFE33480AB49CD2354D047330B1C152D5CB6A7F49DEFC29FC494A18AAAFD354B08818A2A49AA30E9DC4A8A08E3600D1858EC9BE5BFF00853FD649FEDACDDA3D0AE1EA36CCAF1682CF7E1447292D76CE1AD3C7D6A98E3F5E672A587A3670CFC3157FD74DFEE510B380B81E03D232A71C9D2E0A2D188FCF56EF943E381A82B89A93DAEDCF45BCBCEC3B169C2B7504B5F5222895938760A184173017AA9B352CDEB12B9708324F050DB25B64A5E6250DC627FBA762135E1DF70A62E0F1CA9AF711B85929A5029924BD6C1F14D28BC3777151BF9B707652891CCF75D854F139A3DE765C8144C8E9760435059083984F2870274C0F5C0D068E19611EB950C4D8CE48DD5653B641D46B7DE6AABA8135B1F1BB6705627E69B4A88192B1C0B7253E923E79631E4158DAC731EC7F931600EE9F68242A539AA90FF96B23812468352570B331489F147202D73720ABFDA3A599A24D39034E16A1F69B8894F82A8686D2BDAD1B06AB97FD84DFEFA16973DAD1F72B85A9CC36B1ADC5448A6A7FCE0ADDF207C71D95023742F12118C2B9D203727B58362E5C390D2D14009F3515744ED81013268DDE8E69596152D3452B0E58D2556D8A33EFB511251D6F48BCB82D8EFA04081EA7081D1AE4F6F5028D9C8CE5534E62C00DCA85FCC32463400684173080A281ED98BC9DBB1F3471F93C046E3104CAF80E017109B5113BD1E1465AEC8F5CABF8753BFDD5C39F4DA640DDC89EA574AF60D86CAD8715D2B077D56D4D227EF5127F2B089C27EEF27B49DC05C3D11145A4913268DD1BC0208C2BD5B5D45317B19EE261E7786B7D49C2E15B78A5A20F551B533FF82AE7FF006331FF002D2DD07B45C1917F92A68C43451C7F86EB7151780D1A9DF342B6FC81FA2ABAB8E9622F73B05752AAE721E52446143C3F179BBC97FC4B03301CA6B43CF83D1A1AE87C4928CF708BC9A51BD5444FF7D3F885EF6151B649EA3AB28D5A31BA7C5CE41CE309A3000D010300A6E840277194300606A0A0740406153574518F342AA798F2C4C7154B6896621F3B94768A6633C13ED34C478296CDF789EBA1594DFE415F4BA6846410F562AB8E1674A4408700E69C83E842BC54186994063A7B7BDE5DEFBC2B4073A77BFBEAFE9A5FF54FF9D27F3A4C70B2567B216F34AD67A9255B22E95131AB082ACA4655C0E8DC0292D468AE20BB78D5B1F13E89A1A55503ECCFFE0AB991EDB3FF00BA0EC6EB82E84CD5BD67271C9DBD06C35B8A8BD0680A79FEA8FE55B8E201DF8EF1A613DED630BC9C00148E96EB5BC8D27A6C2A92963A58835ADEC3BFA846261F26E415C4514219862A08408C92D4060607A68C42271939F9BDD44801091A4E100A48DCF782D38013CBA38CF2EEE03D0280BDCCE670C1D40534BD219C28A5EA3338434B84DD38F00EEE56CB43A6C4B3A8292287C58100068420B00EC770AA28A9EA061EC0AAF86D8497C0A23556F7F4E604C6AFCF64948D2D55157216363CE4056A6B45135C3BEB5C0524A7F0D59CC8F3F92BD06548E273A80A489D1C61EED2C9019AE2C4C01AC6B4698D2AA923A88B90ECE54D512DAEA431C498D0AC8AA689EF6BB2794AB89CD6CDFEEA38DCF7B636F938E170D508A3B68D4957051F8E813F7942B77D30EFCF78D08DB2AF5564014EDF27AB4D2C549087B880F3B946AE11B7506532A2277A3C2EAB3F704E9A26FABDA14971A68F72F5577F1B8813DD2D649CD293851B035831A83A1391CA147161F9250409081C2074690804E6076CE51B1ACF14F78630B8FA046B89279584B429DCFA87B1C5A460AA5B847144D8CB4AFF0091893EE912FF0096890BA44A2A88A4190F58C8C820EB554B1D4C4E63DA15EE296927E93BC0153C5E8E56198494C59D835BA3B928A52A3397BCA79C30A2739D68E2EB54B58AF6D6C51471AFB67F0170952E733BBBAA6963A867290AA9F536CE76C6E79615348E7D4BDE7EE570ADB4D756090F8B160318D8DBF61A90ABD47B306811F9A15BBE9BF415950CA6A67BC951096AEB3AA32403B214333FC9C51B4BCEE1E9F6DAB6F8393E92E29F4571782092AAA19A37F24CE2A9A18C339B09AD034C291CE6B32D192A225CC04FA945DCA9A41DC2050284EEE7E5C6D9EC6894C9B8F750D6E04F40AB4D2C2EA20F468E23FD811A088A36D88AFF0089897FC4C48DA6246D8F66F1C8532A27A4D88258541531CC061DEF6BC436E15D44FC79B135A791F13F21CC560948A92C5B76CB2B62617395D6AFA944F510F253BF0C2112869C33465EE32B95FE4EAD7FFA289A64788DBEAE3856AA614D44C6F60D6AA9A2A88DCC7355CAC6F64C5EDF05C2F0C34F4418DF347627F27B2E299E0346A77CC0ADDF4E3E10ED9666431B9EE52BA5B9D498DBE0A868A2A488375C2C27C8C8D8E7B860057695B575A5B128C18D81A9A49D7034745CE99139811380A29439D81B90831A4F36374D08CCC6CBD23EA5463D0E80E75A98C491B9AAC156C673D3BD6D8EF746C7F90D95552C909EA4191856FAD6D40731DB3C21828B41CE775C4D42292A854C7E2F543FD3AE6BC1D9CB3EE02821A48FE461722F7D65408F38602B8858D8691AC4C3CBBA9CE5E740A36191E18DDC92AD345EC36973FF002D55F217D64AEFCBD70D521A8AB0F44631AE32834942271FB151D348E51503DC996961D9EC0556DB64B6BFAB078AA4AB65533EC1E1105BADCC2668138FF542B77D37C7BDD51927652B0F92B752329A986C39F4271EA404E9583D5CD08D5C4DDCBDA54F79823CE0AAFBE4D527A51AA48B19714F00A685BA0EFC9409434056010A3635A72060A050715D2639F923DE4D38C374081406508B2154D2398FEB43B382A3BB91EE5428AB69E519123535ED77A1056DA8411008C1571A77D14C2A2018613EF2A29DB514CD91A74B95132B691F127C32D1D5089E082C3B154C44B4CD7FE021A1383838C2B8D4E19D20AD94DCAC0E21715483C11930138E49585F95C2D677D5D48957129F60B4F226C6E925FCB9EFC0560B39A5A20F2C21E851C8532824728ED8E51DB1A996F8C214718F46842260F46808340F40B0A48992B1CC70CB48571A17D04E6583C1525632A583270F58C69734CD4FCD0ADFF4C3E20D693FF977F7FE1850230AB6EB152F8EEE4FADADA9DDA0809B4B5D30C97B936D13BBD5E8D801C9729AC8D898E7B552925EE6FE1386A637078764E3589EE73883A0281C2CA6B9731FC941EE09F249C8795B972A432B8BBA8146C0834041100FA853D14528F10A4A1A888FF4DE7099515D09F225417B99AF026545728AAD03A0414D136689EC700410A9267DBAB5D13FC0951BC3D81C37046469C456DEB46666F92B44AE313A271CBD9A655589C49CE09E40A06BAA251CDBB41503400D1F601714C99AD2C4F28B9642B5DBE5B8D608A162B35A996EA20CF47AE3AAB064112E0AB19ADAB334ACF718994F13581A1BB0184228C7A041AD1E83E010A6899330C6E6E41573A196DD37562243550D5B2AE2D9E398697251EAEF9A15BBE9BB30B1F0677F4E07BCFD82E1D88BEA679BF2F574B8321674A3C97956EB63A62269D450C6C672B5A02030B09E0632AEB5F1C4C744DDCAA4611CF21473AFA051BC97E0A016308B8040E994F9640406B5445C47BC83DA1099A132A1A10A96AF6A6235B1B027DD98147758CA8AAA29023146EFB05574F136373CE01011BB0A2AECB1EADD57156D23646A1A01A5DA8BACCE7679056AAD2DFF00E3CDB16AFC152B43E37308CE461538105E26886C0AFCE97297A54D8CEEE5698311F390A36E237BCFA00AFD373DCA544E512AD56C9AE552228D8B86EC10DA6942A87B6285EF3E8D6AADA6A8BDDEDE19E0ACB6E65B6819033E11700A4AC8A3DCBD4D7C86355B7C64F13989956FA4AD123090D54556CAB883DA55C8A8FC06A7E7856EFA71DE0F7DEA6E9513D5BE61456CFCBDCADB44EA898CB320030068F41A39DCBB9200557718A9C1C383CAAABAD44CF2D8810132273CF3CBDC1B839D6567363086C06BF73DC762A289D575C22054164A50C1CCC46CF447D18AA6CEE88175339E9F5D5945B4CD2AF5C40658BA4C44BA50E909C95C1D7830CC29A57A696BBDE69CB4EB8446FF00FA213EDD13A7128F2406001A55FB9C44ED6E4FEA55B220552339636B1569E85B6577DC855CEE7AA95DF9728C1908631A5EE3E800568E13ADB8C81F27B81592C94D6A80063349E36CD1BA2778B860AA2B6C146F73E3EF056C9F5314637780AAAF5044AAEF923F21AA5ACA89491CC506CF26DB950DAAA264787657B0A6455365A91CDE0555C8C9A9DB2B482145B3352712AB6FD38F8DC4F37242158E196AC0E7F10A363631CAD6E1A36D2A6A194F197BC8002A8BACD572BA28B218A2B797339E676494FA531020353C11F0E491CDC6028CBB1B83A8EC215338D15C04A5BEE954F3473C4246B81046B55430D530891815FB851FEFCD029A39699E6295982145298EA1B20760B4AE1AB80ADA01FBFE05EF115EC28E58DCC1878CE13DC031EE544C755DCDEFF56B551D13880E23017148315B5EA8787EB2E33F810C563E13A3A2607CAC63DEA3898C606B5A1AD0318081EC1DAF7B1A32480AA2E9043905EAAF881DB88D4D729A4F57943AB2FF006E4A82DB3CDE2C2A8F879FEB22A6B44110F14CA78D830D6808300572B7455B03D858A5EADB27753CDE04A8882CC8F42357FCC0ADBF4CDF878583A71182FAC644AD94EDA7A46340DC8413DE1AC2E3E8064ABA55CB5B2BA38BC5AAC263EA3E377922CC1C22DCEC5494DCD94FA7704411EA31F04B5A4EFD98D40276032A2A77B97FC7C72478213259ED35218497C2A92AE3AA607B5C0EA4070C38ABA70FD25747E003D5D386AA689FE05EC5C1DD686A445A63B42E2E6115AA233B581CD71C009F7095AC746E0B85687DCEB3989ADC0C00AAA8A2AB606CA321414B153303226003E0E405355C50E4B9E155DFE28C10D553799E64F96490EE724A8E9E59B66B095436095FE4A92C9144A2A78A3186B02C76F12DA455D3195BE6C56E9CB41864D9E0E163476F2856CFA6F820ACA1A1F42AE03AD788DBF8728C06B1A07A018D2F733D901633D5EA8A9FA6CE63E4E554E92DB5ED98783D52D436AA16C8D39CA21108B1A53E99AE5251BB0700651A5902313C22C7045AE583F82B075C1D435C536190A8A91E54548D1EA028E30DF40102AA218EA222C73422D9AD33F3B4931AA0B8C558CF200A210D248A3959CAE682153DBA085FCED6007BC6CF5C5FB4AC54E07401C299A24AA6C606E5CAD54E29E8A3663071D83B8B834127601545C61886EF55BC4077646AA2B659772E257BD27A64954D432CDEE061549C3FF77AA5B6C3001860253630DD80C0ECC109F2C6C1973DAD09F75A26BF90CA0951BD92303DAE05A7D309CC0E0E07704630AFF6E7D25797C7E8F54B51D41D371C380D1C7FA815B3E9C7C6AB1D3BC30A60CB03BF21615745CF10763384060AAFA715548F8F1EFF00A82AD97196DB53D19D41347511891AE04119C058EC20146269FB04616230311A5695EC8D4691ABD8C2F635EC810A46A6D3B02644C6FF006AC0D41415508BA2F1360348D8AAAB8FB0D617D33D58B88E0AE6063FCD636072083D83B005941718FA3146EE5A404FE158E13557867EC050000006D81D8D20F75C24E9D23DEAAAAA59657EFB02831D23B946E551DAA699E55158E28FCD434B145E2D010681D9901555753D330991E15CB8A87853A9EE173AECFBE58A78EA60C4A657920AE15BA99A21148B2B8B480C62E9C8D0240495048D91994F38902B5FD37C5F4215F474AB58F54AEE7A463BF2347B7999853C2E6BB38C052CECA7639EEC600575A8F6D95EF6B0056ABB4B42431C4962A1BB53D5B102D3B87023BC76656751A84E923899CCE780157DFE9691879487AB9F1054573CB18F2189EE7178738A8A5961984903B0F5C37C47D46086AFCD02080E69CB4EE0EA3B02C69C5FE0C523B16F1F92B82693CE644631ADDAA5D4B0F3851710481FEF2A5BF4527928AB6197C5E1021DE873ADFA5E4A07AC64939C64AB0D0C4607CB22B5CAD96A6560680014076138DD54D6C34CC2F7BC0572E28F365327BEB6B9E5F2C8434A8A8631B9DCA6C4C6AA8844B03DB80B87AA4D25D391467998D70FB85C6470F8940D6BA98219A7AAC1F129E72F055AF7A61F1485C4716630F56493A96D1AC8C0EC82321712D3BC521E5511019CA7629E1AE3B85107C479E325A7F00AA5BC4F0F928789E2FEE50DF29653E6A3B853C9E8F6A6491B86438140E7423B82C9D0C91B7C9E02A9BAD253F948ABF8B228F68555DFEAEA973492125CE24AE93BD72A2A59257F2804AA2B5B18FCB955451B5EDE90C49F620AB1CB29A26B26D4760D015C5FE0C551217410B07A92B87297D96D8CECBDC7D5A27278C3C851534AE673B4388514D3407C9E02A5BE3D8407AA5BDC32F93945531CACCB5C0AE22907B272260C9015B19D3B3FF2D563FAA975CA7C8C8D85CE7600575E248A1CC54FEF9534B575D27F51C7909DD45471C7E2D40008201348F42AB43A92E4C947A172B549D5A289DFE2B8BA5CDC626285BCB18570F3694464B55ABE987C6BAC5D4A2795C332E62919A90AF6E8C513DAF5FF00113CB97B41013A8AAA3C8319202C3DBE4C702161AF661CAAE1735FEE9384D92567A3C854B5738930257265D2B297D1C4A838A66679AA5E2889FE4A2BCD23FF00BD0AFA63E92042AE03BF55ABDAA0FF00FD0235D4E3FF00B427DCA95BFF00DA14B7FA48B3EFA9B8B210AA78BA53E2AA6FD5936E654F9EA6A64DE479505B6A66200614FB73A123A8835913361B2A0A496B6711318A8ACD14318611972AFA56C31B9E08180AD99ACBB869F4695044C8A26B5ADC6DA8D40ECE3156F63AAEE304406407A8182389AC1E8D18ECAD687D348319D9553796A1E3F0570E31925210A6B5D3CBB0C02AA6C0772D535BAA61515655D2EC5C555DC9F54CC154AD0E99ADFC95F2AD1FC3570F6F2C8ED090064EC02ADBBD3D20F355F75AAB8485AC790C505235A4BDDBB8A6B437D36D708697A8B3135EB85AA3A96C62BFBC4D7F0CFD880C0015CBC988FAB15ABE987C3074054CDE6A77B3F21591FD1BA4B12274760024FA05541D5D710D3E0C4D6B58035A0068F408B58EF5682A5A38A4F5602AF744CA58CBDAA1607B371955143905C1745F1480E36072AD56EA7B8DB43CF9AA9E16CBCF4D49C3B51178A368AD8FD03D1A3B8B3ECF463B8B76F7D13701F67A26E1F87230D6BBCB9CA3495A7FB0A65AAB1FEAC51582B25F462A4E0F99FE6ADFC270C3E6AB5D456D89E079AAAAC7554AE5416A9EB5E0904355B2DF05BD8AAEED490B3E68255EEFC6A3DC8970545CF5BCE9DB6C89D06A076719C98958B82A98C971EAFEC4113ACC331BC7E42BAC7C958F680B8566FEABE257BAD9EDB5C1ED7AB55FE2AAF726F34E86290670D20AA8B3C32670C53F0F1DCB55159E465507395C874AD6F0B87A3FE839EAA2A23A7673BDF8015CF88DEFCC54CBA32CEF73E771395144C8F60DEE1A56C625A67B17065698A29624F775EFD2CBF87158072AE0E26A1AD4E0016AB5FD37C56A033B2AB3EC9790FF00CB94679981FF00B867490658E0A095B4D532C529C389F5299231DE2E075BFC4E7D215148E69C3810B99A589F0B24E61E8170D56FB1C9D17F8205AE196EE0FA145A3EE023133F6B518623EAC69469A23FD8D468A03FD8D5EC34DFB1ABD869BF60428A9C7FF5357B2C43D236A8E28DA36600818DA32EF40AF17C8A959C9179A34F5D74979DE08055070EC51E259D4D5B47431E1A18AE57696AC9103D3A27B86657B8FF00254807396B46EB81E24ED5BA63B78D3EAC2E08A50CA0337EFED70C8215FE3E4AE56297A5710B8B293AD40256AA7A77B99CF1ECE62B67104B4988AA151D753D6461D1BC1274C346FCAB886AD8CA53107AA2BC5350DB7CC17AADAEAAB9484E488D434EC8C038CBB5C2C683B1E320854F54EA1AD980380F0ACAD0F2F94EE4EE4AC7AAA93CD7068526D2370AD7F4DF0C68105C4D1E0C72AB4CDD6B7B5C80C8442E24A10611511F92A2825113640F426E5C3641CA50394F8D9230B5C01055C2CCD7073E25352554390E6EC117C8DF5084DB878D9C0E55878818710CC98E0F60783907E0BA4644C2E71C342BDF1101986995049444F56ADF9729788292167242C53DEEA2A32189E6597DE91EE29AD6C7BE0044492BF94732A4B3E21EAC8B868064C511F0B8AC192E9133F2F0ACF00A7B642CEEE2760043D523B96A98E53B7DAED6E1FE2ADC4C5573C47ECE5534EC91871E4544FA9B6C9D58DEF2AC97E8EAD8192792BA5D62A284AADB8CF72A9716AA5A12377124A898D6300684753A12D5255B23C818251AD95DB06A12D49DD32AA66790D9453C720D8ABA4605503FBD5AE2115204E41DCF702A5F26AB57D337E3DFE20FA05C2736637C288C6DA5CE1EB514AC56994F2189DEAD574186023C9533A50C04845CF3E8106E53E189C30E6820AA8B551CCA6E1E61F05FFE3D2C7273B5EA8AAEAA87114D97315355C73F89DCF7CB347046E91EEC00AFB7E96A643140A285E4F33CB892844D098D016C1176761BAA5B6545591B10C54168653F92AD2C6C0405C38F06ADDD810D71AF16F3C55E25568E2C9D9864DE0ADD708AB620F61D4CCC60DDC0292E50479CBC2BFDC1954C018A3DDE0AB39E7B7B42B844696FEFFC39673B84E6B64F75C14B13E925EAC09E2B2E0F066710C54B4B1D38C34683B090A4AB8D836DDC899AA3FC5A5454518DDDBB93228D8366AE409F4EC7852D2BA2F7A355F2179603B3DA55B9E1F44D550EE481E55B073CEF7A955ABE99BDA3E08FCFD82BEDC720D346AC12BE1B886227382B0B19C83E855752BA92ABAAC6AA97F5A98387905445AE806465673E8357C3CCEE6070531B818249440550602CE5760A8DB3365CC0E7602A6AF95B864ED5148C9002D76A0FDB1955F718A8A37B9CF572BB54D74858DF0420E4F79DEA507B13E568C6146659766B1C72A92D15351E6C218A8AC3143E4A385910C342790064ABA5430EC1CAC35005C91DC02351DFC4F4D149484BBCD70CD9CD6D53C39986296DB3DB1E65A5F00A3E20884587F9A9F885FB86A96E1533793CA06571C17929B492C9B08DC541669E4F462B553BE9A9044E5C5B1F4EE0264C20B1A41CE46858C7793728340F418D6499ACD86E547CCEF789C05901493471FAB9A9F34B50FE58DA4354346000E76EE4C0D6B300775D69D8231281820AB390689AAE843289E4956619638A93CC2B67C81F1AADFD3A490838202B05132B6A649E555510A6E215EAC69FC8D6E1135F015244F6B0F2AA2A8740FE949B02B6FB1CE98D309EC2F67283851D0B43F99CEE651C51B3D1A13A2648370022D7D390F6925AA9AA1B33361B809CF630733DC00F5DD56DE701CC855C25ACA990F37390A969E51E91B89468AA9FB08953D8EADFEAC54BC34CF591416DA7840C3026318D180D010394F21BB93B055F728D8CE40E04AABAB7125F82559A47B2E4C7B800C254643E998F0720B751DCE7B6361738E0057BAB7D6D48A48372F2AC56D16EA20C4F635E0B5CDCB48C15C4F08A7AF3D2545CF3BC33D1C55058F9C07CAA2B452C68414906F86852DC68A9FD5EC555C510B3E4ABA5C65B9CA1420B58D05674CA240DC9C0551503C1AA9A1779BB747007E00535502FE9B4E5CA1A69647E5CA38D910E568D01591DB75FA6563FA45C43296D3062B20C5327ECF0AD7F4DD83E1578CD148B841FF398B8AA85E2515510F0568AD655D18FC859C1C145CD1EA70AAE66161011395343D4663032BDAE5A425A46404CBB3C91966028A412303810560E8021808109F231837214952D39681925472CB4CF329D8145F2D71C1CB5A996E89ACE5C0257FC7539F2628E8608FC63084710F460080017E7474D144CCB9ED0AA2ED147E24129F535D5A71030861545C352CDEFCCB8A2D505140C0C4698474D1C8D1BB5586AFDA683FD11D8E806B9D33804ABD5CDC310C3E6570E59BA39ACA8DE67E8F706B5C4AE2197A9717AA68642E061CF38547C452D08E955B155F173CFC8627DD6BEADE7CD0A5965F7A491DBA8A8A269C9C92BA310F46043408EC37385515593D36EE4AA6A6C33A8E52CCD898774E965A8796B7382A968E38C073865E890366EDD8076DD4114CAC72B1944AE929ACAA0C68CB02A28C4317280A4F356AFA61F1ABBE8A5FF0055C2321F6D998AA69DB5113E270C872225B25C49DFA24A65C239A10F69C94FAB7B939E5C75B916B9ED8C79129B48D11F2EC721362A881FFD339084D5C13EF1253CBC92A6DD9EE191129AF9D1F2628AEFED3E2F4C63A6233228A9231829F031ECC16E4282364436035E61F908CD1B7C9E027D753B06F2B42A8BE5345E2F054F7F965CF495352D7DC5EADFC2E061F3AA6A1869D81AC60184000318C2E38F062A76875235A7EE15AAB1F6FAB0C3E04A8A68E7607B5C0A086B845CD00E4ABB5DD94F11647E6AC1697C927B655A68680000B2AEF53D1A37B94CF32CAF79DC92B8668F2FEAAB9D8E9AB98AB6D32DB2625EC258A0923730162DF52F01F8281D2AAA0FCA66EE5454A00E770CB955D5B611CA1D9710A2865A9787B89E550411C2361BFC3BA0CD2156F64D247C8D386AA7A26C7B9F240602779856AF91DD9EF0AE243682424FF6AE1AAA10DD1E5DF9513DB231AF6EED215CE8595B4EE639724F68A97324C98947232501ED3907B0D3B1D3750EE4203195B2047AEFCA3D4AAF0DAABA72349C02A9A163220DC655FC62A5AD5C8E8D9CCD7904050D7D537C64728AF158C4CBFCE10E227FEC4788E54FE21A84FBBD5BC79292B6ADD926572B553CF739B939DEAB6CD1523002F25CA96903E46B02B752474F4CD01801C6A02E37F362A61FD16FF0AA20EA02E1E4A8EEB3513C31525E60998855C477051AA8C2756B027DC8341C00556DE1DCFC8D7124AB2D99F532FB555A8D8D63035A000342701713D683FD254ECE795B1FA9CAB2528A7A31F97695749155C4592B01576B5CB6A94BC6F0A89FD489B27E468155FBAF6BF3B263C1602155CFD36720F327015253FA3DEAAAAFA40B58A9A95D23FA9282531A1A395BB01F04EB7019A47AB201D176AFF356C99AC8C027E2634E27A9E9D074952D14915209C0765CAC3751C8229130870CFA8571B6C55D0B98E5352D55A65396130A82A9930C8383DAF9638C65CE0154DC4C81D140A8A81ACC4A492E3B9415FE4CD6351903A07118248C2A78FDC0A4184C6B4AE933F253D8D6A898C4D685333958B82A80089F3395FA4E7AB700721AAC500927050D801A8385C687354C54BF4CD585340C901255B28E7ABAC7C50B880D5511D75B5FEF82F67DDCA9EA9B50C05A4A7BC3185CE38015555BE77F4A06925592C19C4D52A38DAC6063461A06C100B2AE154C820792E00AAFA8754CE5EB87A84CD521EA3686B001AF1954B044211E6A90114CD075AD1CD0177A16854B50DF64738ECE0A9A374CFEA3BC4155354D6FF49BB95052B9CFE79101CACE51E9AE7E157FD2BD58FE99FABD84951B9ED0003F100436DFF0AFCF3577264285B9BFF1823FB8627C6FA59881B729563BA8940864F34D2AA6962AA8DD1C8C04155F619A972FA7F050D6969E9CEC2D7051BD8F1B3814E7B5BE580AAAEB1C7EE0C172632AABA47737B8C54948C840DB2E58C2AA9990C6E255C243515B809F13E02D6151EC364F1961511D26F368510C850C05C46554C799191377E672B7C428AC9F838555275667BC7DCAE1CA5E941CFDBC67F5E1536D0374AB97A71EDEA570A5BFA50758F93D5E1B01A0904AAD93322AA97EEC1E80214B5B7193018591AB558E2A400BBC934068C0181A3DED6FA90156DDE1A6574BACB5721FB315346E965000C92558E8852D36B2BC471BDE760D1957DB89A9BAFE58A96B607B0301DC041C1C323498663702A91AF92A9F19F0054D336260899BB8AA5A568C3DD92E4400341F0CAB87D32B27D3BFB081DC3BE677253BDDF80559E13597B7BCEE1851660118D86C15F6DA7796351BE48A4E7692D78567BCB65C452F9A6383B7F50880E1823215C6CB0D5825BEE3955D0D650977264B13C56D59E5F10A92D2C8F0F97DF29AC6B700340034A8AB8A161CB8655756C93BFCB0D54B13E6AE6E371957BA30226CAA0398C13A78498FB128613C734AD6854B499602428A20D07F015B60F6ABC81EAC6ABDB8436EE4511F7C1276CAB65CE1642185CA2AA89E010F05020FA1D78C7FEDD8A21881BA169A8AE8E9C64E4A35515B691AC3201C8D572ADABBBCC6281843559F86C43896A3CD45147130358C0004027CAC60DDD855B7B869D56DF259BC53E59653CCF7128827D3C8AE1BB5E489A44D18D80C01AF145C452513D83C9EA8A8592C65F26497A9AD8C8D998CAA0A97B65E8C9A554DD385CA8A4C751EDF22552407CE45E9F1EE448A456518A57778EF0B1A577D14AB849E057CE9FB852319230B5DE855E2D4622E96259746F0E190E69F50ACF7A058193A8A5648C0E6BB20E9742D0CC22D60F4685809F246C197382ACBA0665AC534D24CFE7738E172C92BC319B92AD56D6C23AB20CB95D434D1484854BE0749DA3C944E05992A92332D604C606460291DC913DCB83980CAF7ABD523EAE20D6A92DB344B32C477C82A2AC962390F728AF550D54B7C91DB154B27563E6257176F77628BC1BFC22700956EA96475AF988C96E40FE553DB6B6EF2F56A1E444A82DB4F4510646CD6A6A23A78CBDC55D2F8F92431C6F4F95D2139713A46C7487001C9567B2BE6787C8A9A1642C0C680303591E23639E4E0342BC56BEE575E4F563144D0C600022ABDBD1AA6CA98E0E839F2AE5505E4C51AB5D0F2303DC80C606360351F16E848A456A686D17C11F01EC1246E61F4230B7B45D4BC7839CA8AA1B534CD783A4B1B646161F42AF1692CCCAC4E6C91BF618215AAF0FA622293C153D5C53B039AF0AEB3809F571B54F758D81CAA2B65949DF0D4F713F7DD410CB50F0C00E0AA0B73299992012BD015C4353E3128185ACD08C8C269E47BC2B2C79797A7295BCF1B98A17D4D0E7A64AA3E25963DA562A7BDD054330EE4468A82AC65BC84AA8E1F696131AABB54B4CC2F72A489D24C1AD56F88C548D69F2C2E2FDAF0C50FCA6A7E7047E42B4060BB864DE2E2A26B19186C63DDD6595B1B0BDC55EAECF9247C6D40E4E4FA941AF73F95ADCAA3B24D50A82C7143E4A38D918C3401D9C4F74E8C2618BCDEA8E9C460C87773B7275B9C7CF4C7F2D46E3274044DF356BA27B8F56540003007E86EEEC31AD54439695A3BC77E5675B851455713F200202B25DCD0D6BE965F051BDB2303DA72D2347C61EC2D70C8215CECD9E77C4A5A7961790E54F5D2D3F892A7B94B3314D5123DE894E20901BB9FC05476E96A0824618A96923A7600D1A55CEDA781CF27D0232BAB6ADF23B7683B21AD4EC42B230B60C94505869F500A7431BB39014940D778B9CD723256D16ED94AE1CABACAA673CAFCB1710D707BDD13170CD187BFAAE4D5C67B5D58A1F92DFE11555208AADB20F20559E6335135FA3DC1A092AFB751F2989EEE67177E4AA4A496A640D6B15BAC91C2C06451C4C8C61A3B02B9D7C7434CF79F245D2D755BA77F8E7658C6DABC7331E3F21185B05C7DEF0254459D26F27C41DD73F7A78D8A01CB03476E47E42E60B987E42E61F90811F908B9BF90839BFB822E6FE42E61F90B99BFB82E66FEE0B987E42E61F90A7943607B89F40AA03E7B9CB2447D0AE1EBDBE3C53D428DCD7B039A410504403B1C2B85AA2A961557699A17BB0D52C6F6E4169053C10FF42A1A49672311380545688A2787B9318D60E568C04427C8C8D85EE386857DB8BEA9E628FC1513795886B52325A1510E5A66F75CCBB207A34956E7454F660D85C32F0ADB687D5C8E96755B1CD43F4E080A83884C58654AE2BA865556C52C6A9FE5314C7963715476AA9B8D573804B15BA9051D33624E2D1957BBB88418E3524924AF73C9CE4AA2A57D4C818D693BAB55AD94B1027CD63B6E15F15144E7B9EAB6B9F75AB3824C6A38DB1B031A3000ECCAB9D0F519CEDF35415B241EE4A76070A27B65607B482B1F1C8C95507A9726B7F053461834CAC8590BDB5CBDB5CBDB5CBDACAF6D28D695EDAE42B4AF6E2BDB5CBDB5CBDB9CBDBCAABB8629242AD232F7CA5544393D46FBAE6EE30AC77C3191054289ED9181CD390771ABE9E3933CCD55368865CE18AA2D11452A647147E2D034013DED8C1713E8AF1737CC4C50A7C5880E7C8AA41867649BCCC0A9C6299BDD51036518459554DF26471C2A4E24ACA2F725F7D5171051573009155DA20ABF7E1574B7CB4928E6F054C3FA4D556C7BA99CD68DD707D6819A77F9A7BD8D67312AF1780C61646A696499E5EE72A5A692A646B18ACF69653460BBCFB4B83412E38015DF88E9E898437CD555C6AEE952417AA2A66C0C4ED06B8CEC770AA6DD149920805523DD4F2749CEF750DC6751AE3B4687471C02A29396E2E7E720235E17B7235CBDB57B705FFFC4002111000202020301010101010000000000000001021011201230314021031341FFDA0008010201013F00ED5F2E29E36891F2A74BAD0AB3F2BDA247CA9762168AD8BE6890A975AEA42F96243CA974E345BE693F871A47D21E54BB12EA8EEBA11C4C6348FA47CA96CB45D884F263B63A3A5E90F06BF097C4C5A444C62EB56D0E97A43C1F83F898B4F04EE2F45B2DA3E90193EA5D0C5AA1794854C5B210ED91F4878325AAD553D98B5446270380962991DA23B632243CA9EA85A2A778144E235B2F48EAEA3AC747488F952D96CE952A92D97A47575133A469D3A447CA9ECB454C42A5525B223E6CD0B58531690192DD52B62B54F5421215E29896B1D5D43CA9F52A6256ADE8888BCEC8DE3487953D5688421895215BD622B46476B488AB3A42A5D28421E8ADEB1A5A316D1DE0325AAAFF0094B642334F542D338E85B22152D568856E90ADEA85A3ACD2D119D510A96CA9885EDBB5D084C52391939194310B45BC2A79EB552A464C99E85B215A10F680C96C86210AB23EC5BA23E5A16C880C7D2856C7F1223E5AACEB12152E942B63F8911F2D6E888C95AD90A90C74AF3AB92473429A62D50A968AD546A5D288D218C6D1C8C9966452391C91C89E58DB4424466279B462D6EAA152EA8DCA4922534C62E9944C60891F04604AD0A96C880C975F239126D8D75B1C4CE083FC12D552DD10192EE7B2BC3144E2388E27F3F3542A5AA154064BB5CBA6285781C13231C6A856B5550192B5D2F754BD16D913D168AB36AA03256BA5F4A13A54AE3685793919D1088D4FBD6C8C2A4AB2A911B58D56C8854FA999DD5AD33A445BAD9109089DADD98E954B78887AAE88BC1164C5D58389C5D7ED2A4604911581C96D1A62EB4220C9754A5814D90966A52499CD1C90A485389CA2722321C88A6DED1B5BAD15409F54D1E3213C1CD344E23CA39339B39B22DB2116C51C0A22DA36BA7060550274A96AC92CA251C3A52390D66E306D908619848CA1C85B47B908812D16F286470687168C3164E2C506C8431A259146D5A177448AFC27BABC5714CE098BF9A3FCD1C11C12389C4E27115B42A425D6B48222BF09AD336B5C09095E3A7025D6B680BC1C53DD0B442A7F6C056AD8842D97DD0BE27138B389C4E2717AA7ABF043AC99F9A0F072391FFFC40023110002020202030003010100000000000000010210112012300321312232400451FFDA0008010301013F00D726774BF9DECC6221D884B7C699A5D6D6CC6221D6842FE5CEAF463110EB42E8435A25A6747AE46B463A875AE8C09535687A2ACEB9D98C443A96D8D153D33A2DDD2D18EA1D18302E8C52A68C5B5AE7674B463A8746690B457118B76BA9ECC750DF062D2D118A43168E90E90D6EEB1A324221D484ED0B462D1DB1ECADECC9088752B42EB6F072390EA235A2A7B324221D2856AF2648BD9B1BA5711A1EAED5B1D43A918A88E9D45ECC7AA6263D5ECC6221D4A95374EA22D5EE98ED53D98C441F6447AA16B2DD19B54C5AB24EA1D91198A6AE3ABD16D8B7B324221D886FD6D1D112D174363D98EA1D2B47F346844757A2D16AE968C750E95D288EAEB06043AC18A76F7954345AAD22354AE3AB1EA888F57A2A63A868B55A45D35690B6711C4E271388A34C62B7B31D43A5690A68E260C77318BA1D3110DD52D21FC8FA98C443B602FE37D6C44176C7E8BFB98887CECC884F4C1831AE0C6CC74F76319121DC9B208C18AC0D18BC1825E8E7ECCD6698E9EEE988876A44202898DB1A4FE19FC887CD1D31BAC6AEA4221D690A2450AB0606BA27F097EC424276C63B4607EAD9924221D51462A225D0D9C8E67226F28943D9042B63D22A9AB7526221D31578231E9758315282625C48DB1E91A66063752A874463912B82E97BB446DB1BD236C63A9543A21A217431A31AB234C6E95AD5C723582550DD11A462919D734D9CA9B13BC08431DAD545B140E3126912110DD11A5D6CC531215644388DEC936460D9C121CA311CF2721FB251A86AA91118989F5B3909EB1FA4BD476843262311CF039B6644850638344912443788AD314CE4656ACC8E4390E441EB1FA4E5E8447E8E0B0380E0C87E312526EE106C87890A08F2C0C128FA23BA22EA7314C8BC99109B32659C99EDD6494C596C82D7E12791111FEA293233FF00A39AC5462D90F19182462BC8BF11AF64FF00521D10A9C4C109E053441A16071140E23491263CB14051C0B57A7D8905978250C18643C792104AF2721BCA26BD93FD486E8889928E492AE4C53643C9FF0048CD3131B252A485131AE07518E450437151C10FD849491C1092464E466B038935EC9FC21BA10998250250389812641488B78AE22898391C8E3AC9885F8A32D8A12643C786410D5E04AD9E5FA4E4477551A6B2380E03F1A14122092BC991B6AA0BD8E1E869AB6C6423964DE111678DA660E437496DFE8781B21BC48C53438B426651CB45514D8E3844093F750FD88FC3CB2C1C86CC8A2D908F144E59623C5E8CE462F6256B4FF48C4FA212C1EA44A38D95422797E10689413F8383443E89FA3C92CBB840E29139FAC0884793143084F02F64552D59FE9A5D088CF026A4381C74888822504C7E21A711CBD10FD85FA9E45EC442039288E6DD2593C50C548874FF00A5FBBCA391C8E47232458A1E871C116D1CC72337117D21F29A2711905ECE5F89379678E04E4A28726DDF8E043D54A247D09EF2F48F37B670381FFFD9', 'base64'));
 INSERT INTO usuarios (id_azure, id_rol, username, password, nombre_completo) VALUES ('11111111-1111-1111-1111-111111111111', 1, 'juan', 'hash_password_ejemplo', 'Juan Pérez');
-INSERT INTO usuarios_obras (id_azure, id_obra) VALUES ('11111111-1111-1111-1111-111111111111', 1)
\ No newline at end of file
+INSERT INTO usuarios_obras (id_azure, id_obra) VALUES ('11111111-1111-1111-1111-111111111111', 1);
+
+-- carga inicial de la proyección (idempotente)
+INSERT INTO eventos_feed (id_eventos, titulo, descripcion, fechaInicio, fechaTermino, precio, direccion,
+                          id_tipo_evento, tipoevento_nombre, id_azure, usuario_username, usuario_nombre, id_rol, nombre_rol,
+                          lat, lon, geohash)
+SELECT e.id_eventos, e.titulo, e.descripcion, e.fechaInicio, e.fechaTermino, e.precio, e.direccion,
+       e.id_tipo_evento, te.nombre, e.id_azure, u.username, u.nombre_completo, e.id_rol, r.nombre_rol,
+       e.lat, e.lon, e.geohash
+FROM eventos e
+LEFT JOIN tipoevento te ON e.id_tipo_evento = te.id_tipo_evento
+LEFT JOIN usuarios u ON e.id_azure = u.id_azure
+LEFT JOIN roles r ON e.id_rol = r.id_rol
+ON CONFLICT (id_eventos) DO NOTHING;
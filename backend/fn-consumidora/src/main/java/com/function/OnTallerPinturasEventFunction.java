@@ -1,54 +1,58 @@
 package com.function;
 
-import com.google.gson.*;
+import com.function.consumer.EventDispatcher;
+import com.function.consumer.EventHandlers;
+import com.function.consumer.EventStreamParser;
 import com.microsoft.azure.functions.*;
 import com.microsoft.azure.functions.annotation.*;
 
 import java.util.logging.Logger;
 
+/**
+ * Consumidor de los eventos de dominio de TallerPinturas (Event Grid).
+ *
+ * Acepta un evento o un arreglo de eventos, descarta los ya procesados por id
+ * (Event Grid entrega at-least-once) y agrupa por eventType para que cada handler
+ * trabaje en bloque. El payload se lee por streaming y cada evento se despacha
+ * apenas se termina de leer; el data solo se parsea si un handler lo pide.
+ * Si algún handler falla se lanza excepción para que Event Grid
+ * reintente; los eventos que sí se procesaron quedan marcados y no se repiten.
+ */
 public class OnTallerPinturasEventFunction {
 
+  // estático: el conjunto de ids vistos debe sobrevivir entre invocaciones del mismo worker
+  private static final EventDispatcher DEFAULT_DISPATCHER = EventHandlers.defaults();
+
+  private final EventDispatcher dispatcher;
+
+  public OnTallerPinturasEventFunction() {
+    this(DEFAULT_DISPATCHER);
+  }
+
+  OnTallerPinturasEventFunction(EventDispatcher dispatcher) {
+    this.dispatcher = dispatcher;
+  }
+
   @FunctionName("onTallerPinturasEvent")
   public void run(
       @EventGridTrigger(name = "eventGridEvent") String content,
       final ExecutionContext context
   ) {
     Logger logger = context.getLogger();
-    logger.info("Función con Event Grid trigger ejecutada.");
 
+    EventDispatcher.Session sesion = dispatcher.open(logger);
     try {
-      JsonElement root = JsonParser.parseString(content);
-
-      if (root.isJsonArray()) {
-        JsonArray arr = root.getAsJsonArray();
-        for (JsonElement el : arr) {
-          if (el.isJsonObject()) procesarUno(el.getAsJsonObject(), logger);
-        }
-      } else if (root.isJsonObject()) {
-        procesarUno(root.getAsJsonObject(), logger);
-      } else {
-        logger.warning("Contenido no reconocido: " + content);
-      }
-
+      EventStreamParser.parse(content, sesion);
     } catch (Exception e) {
-      logger.severe("Error procesando evento: " + e.getMessage());
+      // lo ya leído se procesa igual; el resto de un payload ilegible no mejora con reintentos
+      logger.severe("Contenido no reconocido: " + e.getMessage());
     }
-  }
-
-  private void procesarUno(JsonObject ev, Logger logger) {
-    String eventType = getString(ev, "eventType");
-    if (eventType == null) eventType = getString(ev, "type");
-
-    String subject = getString(ev, "subject");
-    if (subject == null) subject = getString(ev, "source");
-
-    JsonElement data = ev.get("data");
+    EventDispatcher.Result r = sesion.finish();
+    logger.info(() -> "Lote procesado: recibidos=" + r.recibidos() + " duplicados=" + r.duplicados()
+        + " procesados=" + r.procesados() + " | acumulado " + dispatcher.metrics());
 
-    logger.info("Evento recibido -> type=" + eventType + " subject=" + subject);
-    if (data != null) logger.info("Data del evento: " + data.toString());
-  }
-
-  private static String getString(JsonObject obj, String prop) {
-    return (obj.has(prop) && !obj.get(prop).isJsonNull()) ? obj.get(prop).getAsString() : null;
+    if (r.fallidos() > 0) {
+      throw new IllegalStateException(r.fallidos() + " eventos fallaron; se solicita reentrega");
+    }
   }
 }
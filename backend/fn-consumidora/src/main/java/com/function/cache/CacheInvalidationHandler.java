@@ -0,0 +1,52 @@
+package com.function.cache;
+
+import com.function.consumer.EventEnvelope;
+import com.function.consumer.EventHandler;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Convierte un lote de eventos de dominio en un único mensaje de invalidación
+ * (claves deduplicadas) y lo empuja por el canal configurado.
+ */
+public final class CacheInvalidationHandler implements EventHandler {
+
+  private final InvalidationChannel channel;
+
+  public CacheInvalidationHandler(InvalidationChannel channel) {
+    this.channel = channel;
+  }
+
+  /**
+   * CACHE_INVALIDATION_URLS: lista separada por comas de endpoints suscritos.
+   * Sin URLs se usa un canal local sin suscriptores (solo queda el log).
+   */
+  public static CacheInvalidationHandler fromEnv() {
+    String urls = System.getenv("CACHE_INVALIDATION_URLS");
+    if (urls == null || urls.isBlank()) {
+      return new CacheInvalidationHandler(new LocalInvalidationChannel());
+    }
+    List<URI> subs = new ArrayList<>();
+    for (String u : urls.split(",")) {
+      if (!u.isBlank()) subs.add(URI.create(u.trim()));
+    }
+    return new CacheInvalidationHandler(
+        new HttpInvalidationChannel(subs, System.getenv("CACHE_INVALIDATION_TOKEN")));
+  }
+
+  @Override
+  public void handle(List<EventEnvelope> eventos, Logger logger) throws Exception {
+    Set<String> keys = new LinkedHashSet<>();
+    for (EventEnvelope ev : eventos) {
+      CacheKeys.forEvent(ev, keys);
+    }
+    if (keys.isEmpty()) return;
+    channel.publish(keys);
+    logger.info(() -> "Invalidación de caché: " + keys);
+  }
+}
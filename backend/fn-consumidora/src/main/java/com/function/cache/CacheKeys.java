@@ -0,0 +1,96 @@
+package com.function.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.function.consumer.EventEnvelope;
+
+import java.util.Set;
+
+/**
+ * Traduce eventos de dominio a claves de caché. Esquema compartido con el BFF
+ * (com.backend.bff_spring.cache.CacheKeys):
+ *
+ *   obra:{id}                 detalle de obra
+ *   obras:list                listado de obras
+ *   evento:{id}               detalle de evento
+ *   eventos:list              listado de eventos
+ *   obras-usuario:{id_azure}  obras de un usuario
+ *
+ * Usuarios.Usuario.* invalida los listados y todos los evento:{id} (evento:*), porque
+ * username y nombre del autor están copiados en cada evento.
+ *
+ * Invalidar una clave invalida también sus variantes ("obra:3?includeImage").
+ * Una clave terminada en '*' invalida por prefijo.
+ */
+public final class CacheKeys {
+
+  public static final String OBRAS_LIST = "obras:list";
+  public static final String EVENTOS_LIST = "eventos:list";
+  public static final String OBRAS_USUARIO_TODAS = "obras-usuario:*";
+  public static final String EVENTOS_TODOS = "evento:*";
+
+  private CacheKeys() {}
+
+  public static String obra(String id) {
+    return "obra:" + id;
+  }
+
+  public static String evento(String id) {
+    return "evento:" + id;
+  }
+
+  public static String obrasUsuario(String idAzure) {
+    return "obras-usuario:" + idAzure;
+  }
+
+  /** Agrega a {@code out} las claves afectadas por el evento. */
+  public static void forEvent(EventEnvelope ev, Set<String> out) {
+    String tipo = ev.eventType();
+    if (tipo == null) return;
+    String id = idDesdeSubject(ev.subject());
+
+    if (tipo.startsWith("Arte.Obra.")) {
+      if (id != null) out.add(obra(id));
+      out.add(OBRAS_LIST);
+      String owner = texto(ev, "id_azure");
+      // el dueño viaja en Creada; en Actualizada/Eliminada no se conoce
+      out.add(owner != null ? obrasUsuario(owner) : OBRAS_USUARIO_TODAS);
+    } else if (tipo.startsWith("Eventos.Evento.")) {
+      if (id != null) out.add(evento(id));
+      out.add(EVENTOS_LIST);
+    } else if (tipo.startsWith("Usuarios.Obra.")) {
+      // vincular/desvincular: subject /usuarios/{id_azure}/obras. El listado de obras
+      // trae el id_azure del dueño
+      String idAzure = segmento(ev.subject(), 1);
+      out.add(idAzure != null ? obrasUsuario(idAzure) : OBRAS_USUARIO_TODAS);
+      out.add(OBRAS_LIST);
+    } else if (tipo.startsWith("Usuarios.Usuario.")) {
+      // actualizado/eliminado: subject /usuarios/{id_azure}. Los eventos llevan copiados
+      // username y nombre del autor (o pierden el id_azure al borrarlo) y el evento de
+      // dominio no dice cuáles son: todos los detalles de evento
+      out.add(EVENTOS_LIST);
+      out.add(EVENTOS_TODOS);
+      out.add(OBRAS_LIST);
+      if (tipo.endsWith(".Eliminado")) {
+        String idAzure = segmento(ev.subject(), 1);
+        out.add(idAzure != null ? obrasUsuario(idAzure) : OBRAS_USUARIO_TODAS);
+      }
+    }
+  }
+
+  private static String texto(EventEnvelope ev, String campo) {
+    if (ev.data() == null) return null;
+    JsonNode v = ev.data().tree().get(campo);
+    return (v == null || v.isNull()) ? null : v.asText();
+  }
+
+  private static String idDesdeSubject(String subject) {
+    return segmento(subject, 1);
+  }
+
+  // segmento n (base 0) de un subject tipo "/obras/12"
+  private static String segmento(String subject, int n) {
+    if (subject == null) return null;
+    String[] partes = subject.startsWith("/") ? subject.substring(1).split("/") : subject.split("/");
+    return partes.length > n && !partes[n].isEmpty() ? partes[n] : null;
+  }
+}
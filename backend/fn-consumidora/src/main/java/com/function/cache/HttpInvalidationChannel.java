@@ -0,0 +1,56 @@
+package com.function.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Canal HTTP: POST {"keys":[...]} a cada suscriptor (por ejemplo
+ * https://bff/bff/internal/cache/invalidate). Si algún suscriptor falla se lanza
+ * excepción para que Event Grid reentregue y la invalidación no se pierda.
+ */
+public final class HttpInvalidationChannel implements InvalidationChannel {
+
+  static final String TOKEN_HEADER = "X-Invalidation-Token";
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final HttpClient http = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofSeconds(3))
+      .build();
+  private final List<URI> subscribers;
+  private final String token;
+
+  public HttpInvalidationChannel(List<URI> subscribers, String token) {
+    this.subscribers = List.copyOf(subscribers);
+    this.token = token;
+  }
+
+  @Override
+  public void publish(Set<String> keys) throws IOException, InterruptedException {
+    if (keys.isEmpty()) return;
+    String body = MAPPER.writeValueAsString(Map.of("keys", keys));
+    IOException error = null;
+    for (URI uri : subscribers) {
+      HttpRequest.Builder b = HttpRequest.newBuilder(uri)
+          .timeout(Duration.ofSeconds(5))
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString(body));
+      if (token != null && !token.isBlank()) b.header(TOKEN_HEADER, token);
+      HttpResponse<Void> resp = http.send(b.build(), HttpResponse.BodyHandlers.discarding());
+      if (resp.statusCode() / 100 != 2) {
+        IOException e = new IOException("Invalidación rechazada por " + uri + ": " + resp.statusCode());
+        if (error == null) error = e; else error.addSuppressed(e);
+      }
+    }
+    if (error != null) throw error;
+  }
+}
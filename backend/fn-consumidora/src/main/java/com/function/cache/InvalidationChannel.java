@@ -0,0 +1,12 @@
+package com.function.cache;
+
+import java.util.Set;
+
+/**
+ * Canal por el que se empujan invalidaciones a las cachés suscritas.
+ * En Azure se usa HttpInvalidationChannel; localmente y en tests, LocalInvalidationChannel.
+ */
+public interface InvalidationChannel {
+
+  void publish(Set<String> keys) throws Exception;
+}
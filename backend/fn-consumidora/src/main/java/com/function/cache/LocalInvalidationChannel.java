@@ -0,0 +1,24 @@
+package com.function.cache;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/** Canal en memoria: entrega las claves a los suscriptores del mismo proceso. */
+public final class LocalInvalidationChannel implements InvalidationChannel {
+
+  private final List<Consumer<Set<String>>> subscribers = new CopyOnWriteArrayList<>();
+
+  public LocalInvalidationChannel subscribe(Consumer<Set<String>> subscriber) {
+    subscribers.add(subscriber);
+    return this;
+  }
+
+  @Override
+  public void publish(Set<String> keys) {
+    for (Consumer<Set<String>> s : subscribers) {
+      s.accept(keys);
+    }
+  }
+}
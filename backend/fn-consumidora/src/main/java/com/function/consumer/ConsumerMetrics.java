@@ -0,0 +1,38 @@
+package com.function.consumer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Contadores acumulados del consumidor desde que arrancó el worker. */
+public final class ConsumerMetrics {
+
+  private final AtomicLong recibidos = new AtomicLong();
+  private final AtomicLong duplicados = new AtomicLong();
+  private final AtomicLong procesados = new AtomicLong();
+  private final AtomicLong fallidos = new AtomicLong();
+  private final AtomicLong nanos = new AtomicLong();
+
+  void record(int recibidosLote, int duplicadosLote, int procesadosLote, int fallidosLote, long nanosLote) {
+    recibidos.addAndGet(recibidosLote);
+    duplicados.addAndGet(duplicadosLote);
+    procesados.addAndGet(procesadosLote);
+    fallidos.addAndGet(fallidosLote);
+    nanos.addAndGet(nanosLote);
+  }
+
+  public long recibidos() { return recibidos.get(); }
+  public long duplicados() { return duplicados.get(); }
+  public long procesados() { return procesados.get(); }
+  public long fallidos() { return fallidos.get(); }
+
+  // eventos procesados por segundo de tiempo de handler acumulado
+  public double throughput() {
+    long n = nanos.get();
+    return n == 0 ? 0.0 : procesados.get() * 1_000_000_000.0 / n;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("recibidos=%d duplicados=%d procesados=%d fallidos=%d throughput=%.1f ev/s",
+        recibidos(), duplicados(), procesados(), fallidos(), throughput());
+  }
+}
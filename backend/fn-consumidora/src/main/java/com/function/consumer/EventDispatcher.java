@@ -0,0 +1,119 @@
+package com.function.consumer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reparte eventos entre los handlers registrados por eventType.
+ *
+ * - descarta los ids ya vistos (reentregas de Event Grid) y los repetidos dentro del lote
+ * - agrupa por eventType y llama al handler cada vez que un grupo junta batchSize eventos
+ *   (y al cerrar la sesión con lo que quede)
+ * - marca como vistos solo los eventos de grupos que terminaron bien
+ *
+ * Una {@link Session} recibe los eventos a medida que el parser los lee, así el lote
+ * completo nunca está en memoria a la vez.
+ */
+public final class EventDispatcher {
+
+  private final Map<String, EventHandler> handlers = new HashMap<>();
+  private final EventHandler fallback;
+  private final SeenEvents seen;
+  private final ConsumerMetrics metrics = new ConsumerMetrics();
+  private final int batchSize;
+
+  public EventDispatcher(SeenEvents seen, int batchSize, EventHandler fallback) {
+    this.seen = seen;
+    this.batchSize = Math.max(1, batchSize);
+    this.fallback = fallback;
+  }
+
+  public EventDispatcher register(String eventType, EventHandler handler) {
+    handlers.put(eventType, handler);
+    return this;
+  }
+
+  public ConsumerMetrics metrics() {
+    return metrics;
+  }
+
+  /** Resultado de un dispatch; {@code fallidos > 0} implica que hay que pedir reentrega. */
+  public record Result(int recibidos, int duplicados, int procesados, int fallidos) {
+  }
+
+  public Session open(Logger logger) {
+    return new Session(logger);
+  }
+
+  public Result dispatch(List<EventEnvelope> eventos, Logger logger) {
+    Session s = open(logger);
+    eventos.forEach(s);
+    return s.finish();
+  }
+
+  /** Sesión de un lote; no es thread-safe (una por invocación). */
+  public final class Session implements Consumer<EventEnvelope> {
+
+    private final Logger logger;
+    private final long inicio = System.nanoTime();
+    private final Map<String, List<EventEnvelope>> pendientes = new LinkedHashMap<>();
+    private final Set<String> idsLote = new HashSet<>();
+    private int recibidos;
+    private int duplicados;
+    private int procesados;
+    private int fallidos;
+
+    private Session(Logger logger) {
+      this.logger = logger;
+    }
+
+    @Override
+    public void accept(EventEnvelope ev) {
+      recibidos++;
+      String id = ev.id();
+      if (seen.contains(id) || (id != null && !idsLote.add(id))) {
+        duplicados++;
+        return;
+      }
+      String tipo = ev.eventType() != null ? ev.eventType() : "";
+      List<EventEnvelope> grupo = pendientes.computeIfAbsent(tipo, k -> new ArrayList<>());
+      grupo.add(ev);
+      if (grupo.size() >= batchSize) {
+        flush(tipo, grupo);
+        grupo.clear();
+      }
+    }
+
+    public Result finish() {
+      for (Map.Entry<String, List<EventEnvelope>> grupo : pendientes.entrySet()) {
+        if (!grupo.getValue().isEmpty()) {
+          flush(grupo.getKey(), grupo.getValue());
+        }
+      }
+      pendientes.clear();
+      metrics.record(recibidos, duplicados, procesados, fallidos, System.nanoTime() - inicio);
+      return new Result(recibidos, duplicados, procesados, fallidos);
+    }
+
+    private void flush(String tipo, List<EventEnvelope> grupo) {
+      EventHandler handler = handlers.getOrDefault(tipo, fallback);
+      List<EventEnvelope> trozo = List.copyOf(grupo);
+      try {
+        handler.handle(trozo, logger);
+        seen.markAll(trozo.stream().map(EventEnvelope::id).toList());
+        procesados += trozo.size();
+      } catch (Exception e) {
+        fallidos += trozo.size();
+        logger.log(Level.SEVERE, "Handler de " + tipo + " falló con " + trozo.size() + " eventos", e);
+      }
+    }
+  }
+}
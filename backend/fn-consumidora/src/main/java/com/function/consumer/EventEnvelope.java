@@ -0,0 +1,14 @@
+package com.function.consumer;
+
+/**
+ * Evento de Event Grid ya normalizado (esquema Event Grid o CloudEvents).
+ * {@code id} es el que usa el deduplicador: el outbox de tallerpinturas lo mantiene
+ * estable entre reintentos. {@code data} queda sin parsear hasta que un handler lo pide.
+ */
+public record EventEnvelope(
+    String id,
+    String eventType,
+    String subject,
+    String eventTime,
+    RawJson data) {
+}
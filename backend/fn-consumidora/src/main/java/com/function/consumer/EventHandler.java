@@ -0,0 +1,24 @@
+package com.function.consumer;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Handler de un eventType. Recibe todos los eventos de ese tipo del lote juntos
+ * para que aplique el trabajo en bloque (una sentencia/llamada por lote, no por evento).
+ * Si lanza excepción, los eventos del lote no se marcan como vistos y Event Grid
+ * los vuelve a entregar.
+ */
+@FunctionalInterface
+public interface EventHandler {
+
+  void handle(List<EventEnvelope> eventos, Logger logger) throws Exception;
+
+  /** Encadena otro handler sobre el mismo lote; si este falla, el siguiente no corre. */
+  default EventHandler andThen(EventHandler next) {
+    return (eventos, logger) -> {
+      handle(eventos, logger);
+      next.handle(eventos, logger);
+    };
+  }
+}
@@ -0,0 +1,58 @@
+package com.function.consumer;
+
+import com.function.cache.CacheInvalidationHandler;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+/** Registro por defecto de handlers del consumidor de TallerPinturas. */
+public final class EventHandlers {
+
+  public static final String OBRA_CREADA = "Arte.Obra.Creada";
+  public static final String OBRA_ACTUALIZADA = "Arte.Obra.Actualizada";
+  public static final String OBRA_ELIMINADA = "Arte.Obra.Eliminada";
+  public static final String EVENTO_CREADO = "Eventos.Evento.Creado";
+  public static final String EVENTO_ACTUALIZADO = "Eventos.Evento.Actualizado";
+  public static final String EVENTO_ELIMINADO = "Eventos.Evento.Eliminado";
+  public static final String OBRA_VINCULADA = "Usuarios.Obra.Vinculada";
+  public static final String OBRA_DESVINCULADA = "Usuarios.Obra.Desvinculada";
+  public static final String USUARIO_ACTUALIZADO = "Usuarios.Usuario.Actualizado";
+  public static final String USUARIO_ELIMINADO = "Usuarios.Usuario.Eliminado";
+
+  private EventHandlers() {}
+
+  public static EventDispatcher defaults() {
+    SeenEvents seen = new SeenEvents(intEnv("CONSUMER_DEDUP_CAPACITY", 10_000));
+    EventDispatcher dispatcher = new EventDispatcher(seen, intEnv("CONSUMER_BATCH_SIZE", 500), EventHandlers::sinHandler);
+
+    EventHandler invalidacion = CacheInvalidationHandler.fromEnv();
+    EventHandler obras = new IdsLogHandler("obras").andThen(invalidacion);
+    EventHandler eventos = new IdsLogHandler("eventos").andThen(invalidacion);
+    return dispatcher
+        .register(OBRA_CREADA, obras)
+        .register(OBRA_ACTUALIZADA, obras)
+        .register(OBRA_ELIMINADA, obras)
+        .register(EVENTO_CREADO, eventos)
+        .register(EVENTO_ACTUALIZADO, eventos)
+        .register(EVENTO_ELIMINADO, eventos)
+        .register(OBRA_VINCULADA, invalidacion)
+        .register(OBRA_DESVINCULADA, invalidacion)
+        .register(USUARIO_ACTUALIZADO, invalidacion)
+        .register(USUARIO_ELIMINADO, invalidacion);
+  }
+
+  private static void sinHandler(List<EventEnvelope> eventos, Logger logger) {
+    String tipo = eventos.isEmpty() ? "?" : eventos.get(0).eventType();
+    logger.info(() -> "Sin handler para " + tipo + " (" + eventos.size() + " eventos ignorados)");
+  }
+
+  static int intEnv(String key, int def) {
+    String v = System.getenv(key);
+    if (v == null || v.isBlank()) return def;
+    try {
+      return Integer.parseInt(v.trim());
+    } catch (NumberFormatException e) {
+      return def;
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.function.consumer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Parser por streaming (tokens de Jackson) del payload de Event Grid.
+ *
+ * Recorre un evento o un arreglo de hasta 5000 eventos sin construir el árbol
+ * completo: entrega cada evento al {@code sink} apenas termina de leerlo, y
+ * para {@code data} solo guarda el tramo del texto original (ver RawJson).
+ */
+public final class EventStreamParser {
+
+  private static final JsonFactory FACTORY = new JsonFactory();
+
+  private EventStreamParser() {}
+
+  /** @return cantidad de eventos entregados al sink */
+  public static int parse(String content, Consumer<EventEnvelope> sink) throws IOException {
+    try (JsonParser p = FACTORY.createParser(content)) {
+      JsonToken t = p.nextToken();
+      if (t == JsonToken.START_OBJECT) {
+        sink.accept(readEvent(p, content));
+        return 1;
+      }
+      if (t != JsonToken.START_ARRAY) {
+        throw new JsonParseException(p, "Contenido no reconocido: se esperaba objeto o arreglo");
+      }
+      int n = 0;
+      while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+        if (t == null) {
+          throw new JsonParseException(p, "Arreglo de eventos incompleto");
+        }
+        if (t == JsonToken.START_OBJECT) {
+          sink.accept(readEvent(p, content));
+          n++;
+        } else {
+          p.skipChildren();
+        }
+      }
+      return n;
+    }
+  }
+
+  private static EventEnvelope readEvent(JsonParser p, String source) throws IOException {
+    String id = null;
+    String eventType = null;
+    String type = null;
+    String subject = null;
+    String sourceAttr = null;
+    String eventTime = null;
+    String time = null;
+    RawJson data = null;
+
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String name = p.currentName();
+      JsonToken v = p.nextToken();
+      switch (name) {
+        case "id" -> id = text(p, v);
+        case "eventType" -> eventType = text(p, v);
+        case "type" -> type = text(p, v);
+        case "subject" -> subject = text(p, v);
+        case "source" -> sourceAttr = text(p, v);
+        case "eventTime" -> eventTime = text(p, v);
+        case "time" -> time = text(p, v);
+        case "data" -> data = raw(p, v, source);
+        default -> p.skipChildren();
+      }
+    }
+
+    return new EventEnvelope(
+        id,
+        eventType != null ? eventType : type,
+        subject != null ? subject : sourceAttr,
+        eventTime != null ? eventTime : time,
+        data);
+  }
+
+  private static String text(JsonParser p, JsonToken v) throws IOException {
+    if (v == JsonToken.VALUE_NULL) return null;
+    if (v.isScalarValue()) return p.getText();
+    p.skipChildren();
+    return null;
+  }
+
+  // objetos/arreglos: se guarda el tramo [inicio, fin) del texto; escalares: nodo directo
+  private static RawJson raw(JsonParser p, JsonToken v, String source) throws IOException {
+    if (v == JsonToken.START_OBJECT || v == JsonToken.START_ARRAY) {
+      int start = (int) p.currentTokenLocation().getCharOffset();
+      p.skipChildren();
+      int end = (int) p.currentLocation().getCharOffset();
+      return RawJson.slice(source, start, end);
+    }
+    JsonNode node = switch (v) {
+      case VALUE_NULL -> null;
+      case VALUE_STRING -> JsonNodeFactory.instance.textNode(p.getText());
+      case VALUE_TRUE, VALUE_FALSE -> JsonNodeFactory.instance.booleanNode(p.getBooleanValue());
+      case VALUE_NUMBER_INT -> JsonNodeFactory.instance.numberNode(p.getBigIntegerValue());
+      case VALUE_NUMBER_FLOAT -> JsonNodeFactory.instance.numberNode(p.getDecimalValue());
+      default -> null;
+    };
+    return node == null ? null : RawJson.of(node);
+  }
+}
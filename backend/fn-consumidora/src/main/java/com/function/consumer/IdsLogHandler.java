@@ -0,0 +1,38 @@
+package com.function.consumer;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Handler por defecto: registra en una sola línea los ids de entidad afectados
+ * por todos los eventos del lote. Toma el id del subject ("/obras/12"), así que
+ * nunca necesita materializar el data del evento.
+ */
+public final class IdsLogHandler implements EventHandler {
+
+  private final String entidad;
+
+  public IdsLogHandler(String entidad) {
+    this.entidad = entidad;
+  }
+
+  @Override
+  public void handle(List<EventEnvelope> eventos, Logger logger) {
+    StringBuilder ids = new StringBuilder();
+    for (EventEnvelope ev : eventos) {
+      String id = ultimoSegmento(ev.subject());
+      if (id == null) continue;
+      if (ids.length() > 0) ids.append(',');
+      ids.append(id);
+    }
+    String tipo = eventos.isEmpty() ? "?" : eventos.get(0).eventType();
+    logger.info(() -> "Eventos " + tipo + " x" + eventos.size() + " -> " + entidad + "=[" + ids + "]");
+  }
+
+  static String ultimoSegmento(String subject) {
+    if (subject == null || subject.isEmpty()) return null;
+    int i = subject.lastIndexOf('/');
+    String s = i >= 0 ? subject.substring(i + 1) : subject;
+    return s.isEmpty() ? null : s;
+  }
+}
@@ -0,0 +1,57 @@
+package com.function.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Valor JSON sin materializar: referencia a un tramo del payload original.
+ * Solo se convierte a árbol si un handler llama a {@link #tree()}; {@link #toString()}
+ * devuelve el texto tal como llegó, sin re-serializar.
+ */
+public final class RawJson {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final String source;
+  private final int start;
+  private final int end;
+  private JsonNode tree;
+
+  private RawJson(String source, int start, int end, JsonNode tree) {
+    this.source = source;
+    this.start = start;
+    this.end = end;
+    this.tree = tree;
+  }
+
+  static RawJson slice(String source, int start, int end) {
+    return new RawJson(source, start, end, null);
+  }
+
+  static RawJson of(JsonNode node) {
+    return new RawJson(null, 0, 0, node);
+  }
+
+  public JsonNode tree() {
+    if (tree == null) {
+      try {
+        tree = MAPPER.readTree(toString());
+      } catch (IOException e) {
+        throw new UncheckedIOException("data inválido en evento", e);
+      }
+    }
+    return tree;
+  }
+
+  public int length() {
+    return source != null ? end - start : tree.toString().length();
+  }
+
+  @Override
+  public String toString() {
+    return source != null ? source.substring(start, end) : tree.toString();
+  }
+}
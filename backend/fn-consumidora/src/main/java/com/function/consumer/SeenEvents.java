@@ -0,0 +1,38 @@
+package com.function.consumer;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Conjunto acotado de ids de evento ya procesados (FIFO por orden de inserción).
+ * Vive mientras viva el worker; cubre las reentregas de Event Grid, que llegan
+ * dentro de minutos, sin crecer sin límite.
+ */
+public final class SeenEvents {
+
+  private final Map<String, Boolean> ids;
+
+  public SeenEvents(int capacity) {
+    this.ids = new LinkedHashMap<>(Math.min(capacity, 1 << 16), 0.75f, false) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  public synchronized boolean contains(String id) {
+    return id != null && ids.containsKey(id);
+  }
+
+  public synchronized void markAll(Collection<String> eventIds) {
+    for (String id : eventIds) {
+      if (id != null) ids.put(id, Boolean.TRUE);
+    }
+  }
+
+  public synchronized int size() {
+    return ids.size();
+  }
+}
@@ -0,0 +1,78 @@
+package com.function;
+
+import com.function.consumer.EventDispatcher;
+import com.function.consumer.EventEnvelope;
+import com.function.consumer.SeenEvents;
+import com.microsoft.azure.functions.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests para el consumidor de eventos de Event Grid.
+ */
+public class OnTallerPinturasEventFunctionTest {
+
+    private final List<List<EventEnvelope>> llamadasObras = new ArrayList<>();
+    private EventDispatcher dispatcher;
+    private ExecutionContext context;
+
+    @BeforeEach
+    public void setup() {
+        llamadasObras.clear();
+        dispatcher = new EventDispatcher(new SeenEvents(100), 500, (eventos, logger) -> { })
+            .register("Arte.Obra.Actualizada", (eventos, logger) -> llamadasObras.add(new ArrayList<>(eventos)));
+        context = mock(ExecutionContext.class);
+        doReturn(Logger.getGlobal()).when(context).getLogger();
+    }
+
+    @Test
+    public void loteArreglo_seAgrupaPorTipoEnUnaLlamada() {
+        String payload = "[" +
+            "{\"id\":\"a\",\"eventType\":\"Arte.Obra.Actualizada\",\"subject\":\"/obras/1\",\"data\":{\"id_obra\":1}}," +
+            "{\"id\":\"b\",\"eventType\":\"Eventos.Evento.Creado\",\"subject\":\"/eventos/3\",\"data\":{\"id_eventos\":3}}," +
+            "{\"id\":\"c\",\"eventType\":\"Arte.Obra.Actualizada\",\"subject\":\"/obras/2\",\"data\":{\"id_obra\":2}}" +
+            "]";
+
+        new OnTallerPinturasEventFunction(dispatcher).run(payload, context);
+
+        assertEquals(1, llamadasObras.size());
+        assertEquals(2, llamadasObras.get(0).size());
+        assertEquals(3, dispatcher.metrics().procesados());
+    }
+
+    @Test
+    public void reentrega_mismoId_seIgnora() {
+        String payload = "{\"id\":\"a\",\"eventType\":\"Arte.Obra.Actualizada\",\"subject\":\"/obras/1\",\"data\":{\"id_obra\":1}}";
+        OnTallerPinturasEventFunction fn = new OnTallerPinturasEventFunction(dispatcher);
+
+        fn.run(payload, context);
+        fn.run(payload, context);
+
+        assertEquals(1, llamadasObras.size());
+        assertEquals(1, dispatcher.metrics().duplicados());
+    }
+
+    @Test
+    public void handlerFalla_lanzaExcepcionYPermiteReintento() {
+        int[] intentos = {0};
+        EventDispatcher conFallo = new EventDispatcher(new SeenEvents(100), 500, (eventos, logger) -> { })
+            .register("Arte.Obra.Actualizada", (eventos, logger) -> {
+                if (intentos[0]++ == 0) throw new IllegalStateException("boom");
+            });
+        String payload = "{\"id\":\"a\",\"eventType\":\"Arte.Obra.Actualizada\",\"data\":{\"id_obra\":1}}";
+        OnTallerPinturasEventFunction fn = new OnTallerPinturasEventFunction(conFallo);
+
+        assertThrows(IllegalStateException.class, () -> fn.run(payload, context));
+        fn.run(payload, context);
+
+        assertEquals(2, intentos[0]);
+        assertEquals(1, conFallo.metrics().procesados());
+    }
+}
@@ -0,0 +1,83 @@
+package com.function.cache;
+
+import com.function.consumer.EventEnvelope;
+import com.function.consumer.EventStreamParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests para la traducción evento de dominio -> claves de caché.
+ */
+public class CacheInvalidationHandlerTest {
+
+    private final List<Set<String>> publicadas = new ArrayList<>();
+    private final CacheInvalidationHandler handler =
+        new CacheInvalidationHandler(new LocalInvalidationChannel().subscribe(publicadas::add));
+
+    private static List<EventEnvelope> parse(String payload) throws Exception {
+        List<EventEnvelope> eventos = new ArrayList<>();
+        EventStreamParser.parse(payload, eventos::add);
+        return eventos;
+    }
+
+    @Test
+    public void lote_publicaClavesDeduplicadasEnUnSoloMensaje() throws Exception {
+        String payload = "[" +
+            "{\"id\":\"a\",\"eventType\":\"Arte.Obra.Actualizada\",\"subject\":\"/obras/1\",\"data\":{\"id_obra\":1}}," +
+            "{\"id\":\"b\",\"eventType\":\"Arte.Obra.Creada\",\"subject\":\"/obras/2\",\"data\":{\"id_obra\":2,\"id_azure\":\"u-1\"}}," +
+            "{\"id\":\"c\",\"eventType\":\"Eventos.Evento.Eliminado\",\"subject\":\"/eventos/7\",\"data\":{\"id_eventos\":7}}" +
+            "]";
+
+        handler.handle(parse(payload), Logger.getGlobal());
+
+        assertEquals(1, publicadas.size());
+        assertEquals(Set.of("obra:1", "obra:2", "obras:list", "obras-usuario:*", "obras-usuario:u-1",
+            "evento:7", "eventos:list"), publicadas.get(0));
+    }
+
+    @Test
+    public void vinculo_invalidaObrasDelUsuarioYListado() throws Exception {
+        // el listado de obras trae el id_azure del dueño
+        String payload = "{\"id\":\"a\",\"eventType\":\"Usuarios.Obra.Vinculada\"," +
+            "\"subject\":\"/usuarios/u-9/obras\",\"data\":{\"id_azure\":\"u-9\",\"id_obra\":4}}";
+
+        handler.handle(parse(payload), Logger.getGlobal());
+
+        assertEquals(List.of(Set.of("obras-usuario:u-9", "obras:list")), publicadas);
+    }
+
+    @Test
+    public void usuarioActualizado_invalidaEventosYListadoDeObras() throws Exception {
+        String payload = "{\"id\":\"a\",\"eventType\":\"Usuarios.Usuario.Actualizado\"," +
+            "\"subject\":\"/usuarios/u-9\",\"data\":{\"id_azure\":\"u-9\"}}";
+
+        handler.handle(parse(payload), Logger.getGlobal());
+
+        assertEquals(List.of(Set.of("eventos:list", "evento:*", "obras:list")), publicadas);
+    }
+
+    @Test
+    public void usuarioEliminado_invalidaTambienSusObras() throws Exception {
+        String payload = "{\"id\":\"a\",\"eventType\":\"Usuarios.Usuario.Eliminado\"," +
+            "\"subject\":\"/usuarios/u-9\",\"data\":{\"id_azure\":\"u-9\"}}";
+
+        handler.handle(parse(payload), Logger.getGlobal());
+
+        assertEquals(List.of(Set.of("eventos:list", "evento:*", "obras:list", "obras-usuario:u-9")), publicadas);
+    }
+
+    @Test
+    public void eventoDesconocido_noPublica() throws Exception {
+        String payload = "{\"id\":\"a\",\"eventType\":\"Otro.Tipo\",\"subject\":\"/x/1\",\"data\":{}}";
+
+        handler.handle(parse(payload), Logger.getGlobal());
+
+        assertTrue(publicadas.isEmpty());
+    }
+}
@@ -0,0 +1,93 @@
+package com.function.consumer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests del parser por streaming del payload de Event Grid.
+ */
+public class EventStreamParserTest {
+
+    static String payload(int n) {
+        StringBuilder sb = new StringBuilder(n * 220).append('[');
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"id\":\"").append(String.format(Locale.ROOT, "00000000-0000-0000-0000-%012d", i))
+              .append("\",\"eventType\":\"Arte.Obra.Actualizada\",\"subject\":\"/obras/").append(i)
+              .append("\",\"eventTime\":\"2024-05-01T12:00:00Z\",\"dataVersion\":\"1.0\",")
+              .append("\"data\":{\"id_obra\":").append(i)
+              .append(",\"titulo\":\"Obra número ").append(i).append(" con un título de largo realista\"}}");
+        }
+        return sb.append(']').toString();
+    }
+
+    private static List<EventEnvelope> parse(String payload) throws Exception {
+        List<EventEnvelope> eventos = new ArrayList<>();
+        int n = EventStreamParser.parse(payload, eventos::add);
+        assertEquals(eventos.size(), n);
+        return eventos;
+    }
+
+    @Test
+    public void streamingYGson_entreganLosMismosEventos() throws Exception {
+        String json = payload(50);
+        List<EventEnvelope> streaming = parse(json);
+        List<EventEnvelope> gson = GsonEventParser.parse(json);
+
+        assertEquals(gson.size(), streaming.size());
+        for (int i = 0; i < gson.size(); i++) {
+            assertEquals(gson.get(i).id(), streaming.get(i).id());
+            assertEquals(gson.get(i).eventType(), streaming.get(i).eventType());
+            assertEquals(gson.get(i).subject(), streaming.get(i).subject());
+            assertEquals(gson.get(i).eventTime(), streaming.get(i).eventTime());
+            assertEquals(gson.get(i).data().tree(), streaming.get(i).data().tree());
+        }
+    }
+
+    @Test
+    public void objetoSolo_esUnEvento() throws Exception {
+        // webhook de un solo evento, con los nombres de CloudEvents (type/source/time)
+        String json = "{\"id\":\"a\",\"type\":\"Eventos.Evento.Creado\",\"source\":\"/eventos/7\","
+            + "\"time\":\"2024-05-01T12:00:00Z\",\"data\":{\"id_eventos\":7}}";
+
+        List<EventEnvelope> eventos = parse(json);
+
+        assertEquals(1, eventos.size());
+        EventEnvelope ev = eventos.get(0);
+        assertEquals("a", ev.id());
+        assertEquals("Eventos.Evento.Creado", ev.eventType());
+        assertEquals("/eventos/7", ev.subject());
+        assertEquals("2024-05-01T12:00:00Z", ev.eventTime());
+        assertEquals("{\"id_eventos\":7}", ev.data().toString());
+    }
+
+    @Test
+    public void arregloVacio_noEntregaEventos() throws Exception {
+        assertTrue(parse("[]").isEmpty());
+        assertTrue(parse(" [ ] ").isEmpty());
+    }
+
+    @Test
+    public void sinDataODataNull_quedaEnNull() throws Exception {
+        List<EventEnvelope> eventos = parse("[{\"id\":\"a\",\"eventType\":\"Otro.Tipo\",\"subject\":\"/x/1\"},"
+            + "{\"id\":\"b\",\"eventType\":\"Otro.Tipo\",\"subject\":\"/x/2\",\"data\":null}]");
+
+        assertEquals(2, eventos.size());
+        assertNull(eventos.get(0).data());
+        assertNull(eventos.get(1).data());
+        assertEquals("/x/2", eventos.get(1).subject());
+    }
+
+    @Test
+    public void bodyMalformado_lanzaJsonParseException() {
+        assertThrows(JsonParseException.class, () -> parse("\"no es un evento\""));
+        assertThrows(JsonParseException.class, () -> parse("[{\"id\":\"a\"}"));
+        assertThrows(JsonParseException.class, () -> parse("[{\"id\":\"a\",]"));
+    }
+}
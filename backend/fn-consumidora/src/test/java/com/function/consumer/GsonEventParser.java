@@ -0,0 +1,55 @@
+package com.function.consumer;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementación anterior con Gson (árbol completo + data.toString() por evento).
+ * Se mantiene solo para comparar en EventStreamParserTest que el parser por streaming
+ * entrega lo mismo; la medición está en benchmarks (EventParserBenchmark).
+ */
+final class GsonEventParser {
+
+  private GsonEventParser() {}
+
+  static List<EventEnvelope> parse(String content) {
+    JsonElement root = JsonParser.parseString(content);
+    List<EventEnvelope> out = new ArrayList<>();
+    if (root.isJsonArray()) {
+      JsonArray arr = root.getAsJsonArray();
+      for (JsonElement el : arr) {
+        if (el.isJsonObject()) out.add(toEnvelope(el.getAsJsonObject()));
+      }
+    } else if (root.isJsonObject()) {
+      out.add(toEnvelope(root.getAsJsonObject()));
+    } else {
+      throw new IllegalArgumentException("Contenido no reconocido");
+    }
+    return out;
+  }
+
+  private static EventEnvelope toEnvelope(JsonObject ev) {
+    String eventType = getString(ev, "eventType");
+    if (eventType == null) eventType = getString(ev, "type");
+
+    String subject = getString(ev, "subject");
+    if (subject == null) subject = getString(ev, "source");
+
+    String time = getString(ev, "eventTime");
+    if (time == null) time = getString(ev, "time");
+
+    JsonElement data = ev.get("data");
+    String dataText = data != null ? data.toString() : null;
+    return new EventEnvelope(getString(ev, "id"), eventType, subject, time,
+        dataText != null ? RawJson.slice(dataText, 0, dataText.length()) : null);
+  }
+
+  private static String getString(JsonObject obj, String prop) {
+    return (obj.has(prop) && !obj.get(prop).isJsonNull()) ? obj.get(prop).getAsString() : null;
+  }
+}
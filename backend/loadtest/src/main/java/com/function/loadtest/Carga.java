@@ -0,0 +1,252 @@
+package com.function.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga con el HttpClient del JDK sobre hilos virtuales.
+ *
+ * Carga abierta (tasa &gt; 0): los requests salen a intervalos fijos aunque el servidor
+ * se atrase, y la latencia se mide desde el instante en que el request debía salir,
+ * no desde que salió; si no, una pausa del servidor esconde justo las esperas que
+ * importan (omisión coordinada). La concurrencia pone tope a los requests en vuelo: los
+ * que no caben se cuentan como no enviados en vez de encolarse.
+ *
+ * Carga cerrada (tasa = 0): N usuarios que mandan el siguiente request apenas vuelve
+ * el anterior, para buscar el throughput máximo.
+ *
+ * El calentamiento no entra en los números: al terminar se descartan histogramas y
+ * contadores.
+ */
+final class Carga {
+
+  private static final long SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+
+  private final Opciones opciones;
+  private final URI base;
+  private final Mezclas mezcla;
+  private final Catalogo catalogo;
+  private final JwksLocal jwks;
+  private final HttpClient http;
+  private final ExecutorService hilos = Executors.newVirtualThreadPerTaskExecutor();
+  private final Map<String, Medidor> medidores = new LinkedHashMap<>();
+  private final Map<UUID, String> tokens = new ConcurrentHashMap<>();
+  private final LongAdder noEnviadas = new LongAdder();
+
+  private volatile boolean midiendo;
+  private volatile long fin;
+
+  Carga(Opciones opciones, URI base, Mezclas mezcla, Catalogo catalogo, JwksLocal jwks) {
+    this.opciones = opciones;
+    this.base = base;
+    this.mezcla = mezcla;
+    this.catalogo = catalogo;
+    this.jwks = jwks;
+    this.http = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .executor(hilos)
+        .build();
+    for (String op : mezcla.operaciones()) {
+      medidores.put(op, new Medidor());
+    }
+  }
+
+  Resultado correr() throws InterruptedException {
+    ScheduledExecutorService reloj = Executors.newSingleThreadScheduledExecutor();
+    long inicio = System.nanoTime();
+    long inicioMedicion = inicio + opciones.calentamiento().toNanos();
+    fin = inicioMedicion + opciones.duracion().toNanos();
+
+    // el volcado de histogramas corre siempre en el hilo del reloj, así el corte entre
+    // calentamiento y medición no se mezcla con un volcado a medias
+    reloj.scheduleAtFixedRate(() -> volcar(inicio), 1, 1, TimeUnit.SECONDS);
+    reloj.schedule(() -> {
+      volcar(inicio);
+      medidores.values().forEach(Medidor::descartar);
+      noEnviadas.reset();
+      midiendo = true;
+    }, inicioMedicion - inicio, TimeUnit.NANOSECONDS);
+
+    if (opciones.abierta()) {
+      abierta(inicio);
+    } else {
+      cerrada();
+    }
+
+    hilos.shutdown();
+    if (!hilos.awaitTermination(opciones.timeout().toSeconds() + 5, TimeUnit.SECONDS)) {
+      hilos.shutdownNow();
+    }
+    reloj.submit(() -> volcar(inicio));
+    reloj.shutdown();
+    reloj.awaitTermination(5, TimeUnit.SECONDS);
+
+    Map<String, Resultado.Medicion> porOperacion = new LinkedHashMap<>();
+    medidores.forEach((op, m) -> porOperacion.put(op, m.medicion()));
+    return new Resultado(porOperacion, opciones.duracion().toMillis() / 1000.0, noEnviadas.sum());
+  }
+
+  private void abierta(long inicio) {
+    Random r = new Random(opciones.semilla());
+    Semaphore enVuelo = new Semaphore(opciones.concurrencia());
+    long intervalo = SEGUNDO / opciones.tasa();
+    for (long i = 0; ; i++) {
+      long programado = inicio + i * intervalo;
+      if (programado >= fin) return;
+      long espera = programado - System.nanoTime();
+      if (espera > 0) LockSupport.parkNanos(espera);
+
+      Mezclas.Peticion p = mezcla.siguiente(r, catalogo);
+      if (!enVuelo.tryAcquire()) {
+        noEnviadas.increment();
+        continue;
+      }
+      hilos.execute(() -> {
+        try {
+          enviar(p, programado);
+        } finally {
+          enVuelo.release();
+        }
+      });
+    }
+  }
+
+  private void cerrada() throws InterruptedException {
+    Thread[] usuarios = new Thread[opciones.concurrencia()];
+    for (int u = 0; u < usuarios.length; u++) {
+      Random r = new Random(opciones.semilla() + u);
+      usuarios[u] = Thread.ofVirtual().start(() -> {
+        while (System.nanoTime() < fin) {
+          enviar(mezcla.siguiente(r, catalogo), System.nanoTime());
+        }
+      });
+    }
+    for (Thread t : usuarios) {
+      t.join();
+    }
+  }
+
+  private void enviar(Mezclas.Peticion p, long desde) {
+    Medidor m = medidores.get(p.operacion());
+    HttpRequest.Builder b = HttpRequest.newBuilder(base.resolve(p.ruta()))
+        .timeout(opciones.timeout())
+        .header("Accept", "application/json");
+    if (p.cuerpo() != null) {
+      b.header("Content-Type", "application/json")
+          .method(p.metodo(), HttpRequest.BodyPublishers.ofString(p.cuerpo()));
+    } else {
+      b.method(p.metodo(), HttpRequest.BodyPublishers.noBody());
+    }
+    if (p.usuario() != null) {
+      // firmar fuera de la medición: un token por usuario, reutilizado toda la corrida
+      b.header("Authorization", tokens.computeIfAbsent(p.usuario(), jwks::bearer));
+    }
+
+    try {
+      HttpResponse<Void> res = http.send(b.build(), HttpResponse.BodyHandlers.discarding());
+      m.registrar(res.statusCode(), desde);
+    } catch (IOException e) {
+      m.falla(desde);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void volcar(long inicio) {
+    Histogram segundo = new Histogram(3);
+    long errores = 0;
+    for (Medidor m : medidores.values()) {
+      Histogram h = m.volcar(midiendo);
+      segundo.add(h);
+      errores += m.erroresDelSegundo();
+    }
+    if (segundo.getTotalCount() == 0) return;
+    long t = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - inicio);
+    System.out.printf(Locale.ROOT, "%5ds %s %7d req  p50 %8.1f ms  p99 %8.1f ms  max %8.1f ms  err %d%n",
+        t, midiendo ? "   " : "cal", segundo.getTotalCount(), ms(segundo.getValueAtPercentile(50)),
+        ms(segundo.getValueAtPercentile(99)), ms(segundo.getMaxValue()), errores);
+  }
+
+  static double ms(long micros) {
+    return micros / 1000.0;
+  }
+
+  /** Histograma (microsegundos) y contadores de una operación. */
+  private static final class Medidor {
+
+    private final Recorder recorder = new Recorder(3);
+    private final Histogram acumulado = new Histogram(3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rechazadas = new LongAdder();
+    private final LongAdder errores = new LongAdder();
+    private final LongAdder fallas = new LongAdder();
+    private final LongAdder erroresSegundo = new LongAdder();
+    private Histogram intervalo;
+
+    void registrar(int status, long desde) {
+      recorder.recordValue(micros(desde));
+      if (status < 400) {
+        ok.increment();
+      } else if (status == 429 || status == 503) {
+        rechazadas.increment();
+      } else {
+        errores.increment();
+        erroresSegundo.increment();
+      }
+    }
+
+    void falla(long desde) {
+      recorder.recordValue(micros(desde));
+      fallas.increment();
+      erroresSegundo.increment();
+    }
+
+    // solo desde el hilo del reloj
+    Histogram volcar(boolean acumular) {
+      intervalo = recorder.getIntervalHistogram(intervalo);
+      if (acumular) acumulado.add(intervalo);
+      return intervalo;
+    }
+
+    long erroresDelSegundo() {
+      return erroresSegundo.sumThenReset();
+    }
+
+    void descartar() {
+      acumulado.reset();
+      ok.reset();
+      rechazadas.reset();
+      errores.reset();
+      fallas.reset();
+    }
+
+    Resultado.Medicion medicion() {
+      return new Resultado.Medicion(ok.sum(), rechazadas.sum(), errores.sum(), fallas.sum(), acumulado.copy());
+    }
+
+    private static long micros(long desde) {
+      return Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - desde));
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.function.loadtest;
+
+import com.function.datagen.Generador;
+import com.function.datagen.Resumen;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Qué quedó en la base después de sembrar: los rangos de ids y las claves que usan
+ * las cargas para armar requests que existen (ver Mezclas).
+ */
+public record Catalogo(List<UUID> usuarios,
+                       long primeraObra, long ultimaObra, long[] obrasConImagen,
+                       long primerEvento, long ultimoEvento,
+                       List<String> terminos) {
+
+  static Catalogo de(Resumen r) {
+    return new Catalogo(r.usuarios(), r.primeraObra(), r.ultimaObra(), r.obrasConImagen(),
+        r.primerEvento(), r.ultimoEvento(), Generador.terminos());
+  }
+}
@@ -0,0 +1,142 @@
+package com.function.loadtest;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Catálogo de las sentencias SQL que emiten las Functions, con lo que se le tolera a
+ * cada plan. Planes clasifica cada plan capturado con el primer patrón que calza
+ * (sobre el texto normalizado: espacios colapsados y $n como ?), así que las
+ * variantes más específicas van antes. Una sentencia que no calza con ninguna entrada
+ * hace fallar la corrida: al agregar SQL a las Functions se agrega aquí también.
+ *
+ * Por defecto no se tolera ni un Seq Scan ni un Sort por encima de los umbrales; las
+ * tablas *_staging (temporales de las cargas masivas) se pueden recorrer siempre.
+ */
+final class Consultas {
+
+  enum Tolera {
+    /** nada por encima de los umbrales */
+    NADA,
+    /** sorts grandes: el orden sale de un cálculo (ranking, distancia) o del lote */
+    ORDEN,
+    /** lectura de tablas completas: recorridos secuenciales y sorts */
+    COMPLETA
+  }
+
+  /**
+   * @param origen   dónde se arma, para ir del reporte al código
+   * @param opcional puede no aparecer en el recorrido (chequeos de FK, reintentos)
+   */
+  record Consulta(String nombre, String origen, Pattern patron, Tolera tolera, boolean opcional) {
+  }
+
+  static final List<Consulta> TODAS = List.of(
+      // ObrasFunction
+      c("obras.crear", "ObrasFunction.SQL_CREAR", "^WITH nueva AS \\(INSERT INTO obras "),
+      c("obras.listar.cursor", "ObrasFunction.listar",
+          "FROM \\(SELECT .* FROM obras WHERE id_obra < \\? ORDER BY id_obra DESC LIMIT \\d+ OFFSET"),
+      c("obras.listar.pagina", "ObrasFunction.listar",
+          "FROM \\(SELECT .* FROM obras ORDER BY id_obra DESC LIMIT \\d+ OFFSET"),
+      c("obras.listar", "ObrasFunction.listar", Tolera.COMPLETA, "^SELECT .* FROM obras o LEFT JOIN usuarios_obras uo "),
+      c("obras.exportar", "ObrasFunction.exportar", Tolera.COMPLETA, "^COPY \\(SELECT .* FROM obras o "),
+      c("obras.buscar", "ObrasFunction.buscar", Tolera.ORDEN, "FROM obras o LEFT JOIN tipobra t .* WHERE \\(busqueda @@"),
+      c("obras.uno", "ObrasFunction.obtener", "FROM obras o LEFT JOIN tipobra t .* WHERE o\\.id_obra = \\?"),
+      c("obras.actualizar", "ObrasFunction.actualizar", "^UPDATE obras SET "),
+      c("obras.dueno", "ObrasFunction.eliminar", "^SELECT 1 FROM usuarios_obras WHERE id_obra = \\?"),
+      c("obras.eliminar", "ObrasFunction.eliminar", "^DELETE FROM obras WHERE "),
+      c("obras.bulk.insertar", "ObrasFunction.mergeObras", Tolera.ORDEN, "^INSERT INTO obras \\(id_obra, .* FROM obras_staging"),
+      c("obras.bulk.vincular", "ObrasFunction.mergeObras", "^INSERT INTO usuarios_obras \\(id_azure, id_obra\\) SELECT "),
+
+      // EventosFunction (las lecturas van a la proyección eventos_feed)
+      // por autor (perfil del BFF): ordena solo los del usuario, que pueden ser muchos
+      c("eventos.listar.usuario", "EventosFunction.listar", Tolera.ORDEN,
+          "FROM eventos_feed WHERE TRUE AND id_azure = \\?"),
+      c("eventos.listar.pagina", "EventosFunction.listar", "FROM eventos_feed WHERE TRUE.* LIMIT \\d+ OFFSET"),
+      c("eventos.listar", "EventosFunction.listar", Tolera.COMPLETA, "FROM eventos_feed WHERE TRUE"),
+      c("eventos.uno", "EventosFunction.obtener", "FROM eventos_feed WHERE id_eventos = \\?"),
+      c("eventos.buscar", "EventosFunction.buscar", Tolera.ORDEN, "FROM eventos_feed WHERE \\(busqueda @@"),
+      c("eventos.cercanos", "EventosFunction.cercanos", Tolera.ORDEN, "FROM eventos_feed WHERE \\(geohash LIKE"),
+      c("eventos.crear", "EventosFunction.insertarEvento", "^INSERT INTO eventos \\(id_tipo_evento, "),
+      c("eventos.actualizar", "EventosFunction.actualizar", "^UPDATE eventos SET "),
+      c("eventos.ubicacion", "EventosFunction.ubicacionGuardada",
+          "^SELECT direccion, lat, lon FROM eventos WHERE id_eventos = \\?"),
+      c("eventos.dueno", "EventosFunction.eliminar", "^SELECT 1 FROM eventos WHERE id_eventos = \\?"),
+      c("eventos.eliminar", "EventosFunction.eliminar", "^DELETE FROM eventos WHERE "),
+      c("eventos.bulk.insertar", "EventosFunction.mergeEventos", Tolera.ORDEN,
+          "^INSERT INTO eventos \\(id_eventos, .* FROM eventos_staging"),
+
+      // UsuariosFunction
+      c("usuarios.listar", "UsuariosFunction.listar", Tolera.COMPLETA,
+          "FROM usuarios u LEFT JOIN roles r .* ORDER BY u\\.username"),
+      c("usuarios.uno", "UsuariosFunction.obtener", "FROM usuarios u LEFT JOIN roles r .* WHERE u\\.id_azure = \\?"),
+      c("usuarios.rol", "ObrasFunction/EventosFunction.eliminar", "^SELECT id_rol FROM usuarios WHERE id_azure = \\?"),
+      c("usuarios.crear", "UsuariosFunction.crear", "^INSERT INTO usuarios \\(.*\\) VALUES "),
+      c("usuarios.sync", "UsuariosFunction.SQL_SYNC", "^WITH u AS \\(INSERT INTO usuarios "),
+      c("usuarios.actualizar", "UsuariosFunction.buildUpdateData", "^UPDATE usuarios SET "),
+      c("usuarios.eliminar", "UsuariosFunction.eliminar", "^DELETE FROM usuarios WHERE "),
+      c("usuarios.obras", "UsuariosFunction.listarObrasDeUsuario",
+          "FROM obras o JOIN usuarios_obras uo .* WHERE uo\\.id_azure = \\?"),
+      c("usuarios.vincular", "UsuariosFunction.vincularObraAUsuario", "^INSERT INTO usuarios_obras \\(.*\\) VALUES "),
+      c("usuarios.vincular.lote", "UsuariosFunction.SQL_VINCULAR_LOTE", "^INSERT INTO usuarios_obras .* FROM UNNEST"),
+      c("usuarios.desvincular.lote", "UsuariosFunction.desvincularObras",
+          "^DELETE FROM usuarios_obras WHERE id_azure = \\? AND id_obra = ANY"),
+      c("usuarios.desvincular", "UsuariosFunction.desvincularObraDeUsuario",
+          "^DELETE FROM usuarios_obras WHERE id_azure = \\? AND id_obra = \\?"),
+
+      // db.EventosFeed, bulk.Staging, events.Outbox
+      c("feed.refrescar", "EventosFeed.refreshEvento(s)", "^INSERT INTO eventos_feed "),
+      c("feed.usuario", "EventosFeed.SQL_REFRESH_USUARIO", "^UPDATE eventos_feed f SET id_azure"),
+      c("bulk.rechazar", "Staging.rechazarHuerfanas", "^DELETE FROM \\w+_staging s WHERE "),
+      c("bulk.ids", "Staging.asignarIds", "^UPDATE \\w+_staging SET "),
+      c("bulk.creadas", "Staging.creadas", Tolera.ORDEN, "^SELECT linea, \\w+ FROM \\w+_staging ORDER BY linea"),
+      c("outbox.encolar", "Outbox.enqueue(Batch)", "^INSERT INTO outbox \\(.*\\) VALUES "),
+      c("outbox.encolar.select", "Outbox.enqueueAll", Tolera.ORDEN, "^INSERT INTO outbox \\(.*\\) SELECT "),
+      c("outbox.reclamar", "Outbox.claim", "FROM outbox WHERE published_at IS NULL"),
+      c("outbox.publicado", "Outbox.markPublished", "^UPDATE outbox SET published_at"),
+      opcional("outbox.reintento", "Outbox.markFailed", "^UPDATE outbox SET attempts"),
+
+      // los triggers de FK (sentencias anidadas): el lado que referencia necesita índice
+      opcional("fk.verificar", "FK (RI_FKey_check / NO ACTION)", "FOR KEY SHARE OF x$"),
+      opcional("fk.cascada", "FK ON DELETE CASCADE", "^DELETE FROM ONLY "),
+      opcional("fk.anular", "FK ON DELETE SET NULL", "^UPDATE ONLY .* = NULL "));
+
+  // las que hace el driver por su cuenta (tipos de createArrayOf), no las Functions
+  private static final Pattern DEL_DRIVER = Pattern.compile("FROM pg_catalog\\.");
+  private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+  private static final Pattern PARAMETRO = Pattern.compile("\\$\\d+");
+
+  private Consultas() {
+  }
+
+  /** La entrada del catálogo para el texto de la sentencia, o null si no está. */
+  static Consulta de(String sql) {
+    String texto = normalizar(sql);
+    for (Consulta c : TODAS) {
+      if (c.patron().matcher(texto).find()) {
+        return c;
+      }
+    }
+    return null;
+  }
+
+  static boolean delDriver(String sql) {
+    return DEL_DRIVER.matcher(sql).find();
+  }
+
+  static String normalizar(String sql) {
+    return PARAMETRO.matcher(ESPACIOS.matcher(sql.strip()).replaceAll(" ")).replaceAll("?");
+  }
+
+  private static Consulta c(String nombre, String origen, String patron) {
+    return c(nombre, origen, Tolera.NADA, patron);
+  }
+
+  private static Consulta c(String nombre, String origen, Tolera tolera, String patron) {
+    return new Consulta(nombre, origen, Pattern.compile(patron), tolera, false);
+  }
+
+  private static Consulta opcional(String nombre, String origen, String patron) {
+    return new Consulta(nombre, origen, Pattern.compile(patron), Tolera.NADA, true);
+  }
+}
@@ -0,0 +1,74 @@
+package com.function.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.function.json.Json;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tópico de Event Grid falso para EventBusEG/outboxRelay: acepta el POST del SDK en
+ * /api/events (EventGridEvent en JSON, solo o en arreglo) y cuenta lotes, eventos y
+ * bytes. No reenvía a fn-consumidora.
+ */
+final class EventGridStub implements AutoCloseable {
+
+  static final String CLAVE = "loadtest";
+
+  private final HttpServer server;
+  private final ExecutorService hilos = Executors.newFixedThreadPool(4);
+  private final AtomicLong lotes = new AtomicLong();
+  private final AtomicLong eventos = new AtomicLong();
+  private final AtomicLong bytes = new AtomicLong();
+
+  EventGridStub() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 128);
+    server.setExecutor(hilos);
+    server.createContext("/api/events", this::recibir);
+    server.start();
+  }
+
+  String endpoint() {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + "/api/events";
+  }
+
+  long lotes() {
+    return lotes.get();
+  }
+
+  long eventos() {
+    return eventos.get();
+  }
+
+  long bytes() {
+    return bytes.get();
+  }
+
+  private void recibir(HttpExchange ex) throws IOException {
+    try {
+      if (!"POST".equals(ex.getRequestMethod()) || !CLAVE.equals(ex.getRequestHeaders().getFirst("aeg-sas-key"))) {
+        ex.sendResponseHeaders(!"POST".equals(ex.getRequestMethod()) ? 405 : 401, -1);
+        return;
+      }
+      byte[] body = ex.getRequestBody().readAllBytes();
+      JsonNode n = Json.MAPPER.readTree(body);
+      lotes.incrementAndGet();
+      eventos.addAndGet(n.isArray() ? n.size() : 1);
+      bytes.addAndGet(body.length);
+      ex.sendResponseHeaders(200, -1);
+    } finally {
+      ex.close();
+    }
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    hilos.shutdownNow();
+  }
+}
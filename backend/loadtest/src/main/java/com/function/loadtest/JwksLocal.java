@@ -0,0 +1,71 @@
+package com.function.loadtest;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Emisor de tokens local en lugar de Azure AD B2C: una clave RS256 por corrida, el
+ * JWKS público en un archivo (AZURE_AD_B2C_JWKS de JwtAuthService) y tokens con la
+ * misma forma que los de B2C (sub = id_azure, aud = API_APP_ID_URI).
+ */
+final class JwksLocal {
+
+  static final String ISSUER = "https://tallerpinturas.b2clogin.com/loadtest/v2.0/";
+  static final String AUDIENCIA = "api://tallerpinturas-loadtest";
+
+  private final RSAKey clave;
+  private final Path archivo;
+
+  JwksLocal(Path directorio) throws JOSEException, IOException {
+    this.clave = new RSAKeyGenerator(2048).keyID("loadtest").generate();
+    this.archivo = directorio.resolve("jwks.json");
+    Files.writeString(archivo, new JWKSet(clave.toPublicJWK()).toString());
+  }
+
+  /** Variables de entorno para JwtAuthService. */
+  Map<String, String> entorno() {
+    return Map.of(
+        "FN_JWKS_LOCAL", "true",
+        "AZURE_AD_B2C_JWKS", archivo.toAbsolutePath().toString(),
+        "AZURE_AD_B2C_ISSUER", ISSUER,
+        "API_APP_ID_URI", AUDIENCIA);
+  }
+
+  /** "Bearer ..." válido por un día para el usuario. */
+  String bearer(UUID usuario) {
+    Instant ahora = Instant.now();
+    JWTClaimsSet claims = new JWTClaimsSet.Builder()
+        .issuer(ISSUER)
+        .audience(AUDIENCIA)
+        .subject(usuario.toString())
+        .claim("oid", usuario.toString())
+        .claim("emails", List.of(usuario + "@taller.cl"))
+        .issueTime(Date.from(ahora))
+        .expirationTime(Date.from(ahora.plus(1, ChronoUnit.DAYS)))
+        .build();
+    SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("loadtest").build(), claims);
+    try {
+      jwt.sign(new RSASSASigner(clave));
+    } catch (JOSEException e) {
+      throw new IllegalStateException("No se pudo firmar el token de prueba", e);
+    }
+    return "Bearer " + jwt.serialize();
+  }
+}
@@ -0,0 +1,107 @@
+package com.function.loadtest;
+
+import com.function.datagen.Cargador;
+import com.function.datagen.Generador;
+import com.function.datagen.Resumen;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prueba de carga de punta a punta sin Azure: PostgreSQL embebido con el esquema real
+ * y datos de datagen, las Functions en un host local, el BFF opcional delante, un
+ * Event Grid falso y tokens firmados con un JWKS local. Mide con el generador de
+ * Carga y deja el resultado en results/.
+ *
+ * <pre>java -jar target/loadtest.jar --target=bff --mezcla=lectura --tasa=200 --duracion=2m</pre>
+ */
+public final class LoadTest {
+
+  private LoadTest() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    Opciones o;
+    try {
+      o = Opciones.de(args);
+    } catch (IllegalArgumentException e) {
+      System.err.println(e.getMessage());
+      System.err.println(Opciones.USO);
+      System.exit(2);
+      return;
+    }
+
+    Path trabajo = Files.createTempDirectory("loadtest-");
+    try (PostgresLocal pg = PostgresLocal.iniciar(Math.max(100, o.fnHilos() * 2 + 20));
+         EventGridStub eventGrid = new EventGridStub();
+         Procesos procesos = new Procesos(trabajo)) {
+
+      // Ctrl-C no pasa por el try-with-resources: que no queden hijos vivos
+      Runtime.getRuntime().addShutdownHook(new Thread(procesos::close));
+
+      pg.aplicarEsquema(o.schema());
+      pg.aplicarMigraciones(o.schema().resolveSibling("migrations"));
+      Resumen sembrado;
+      try (Connection con = pg.conectar()) {
+        sembrado = new Cargador(con, new Generador(o.semilla(), o.escala())).cargar();
+      }
+      Catalogo catalogo = Catalogo.de(sembrado);
+      System.out.printf("sembrado: %d usuarios, %d obras, %d eventos en %d s%n",
+          catalogo.usuarios().size(), catalogo.ultimaObra() - catalogo.primeraObra() + 1,
+          catalogo.ultimoEvento() - catalogo.primerEvento() + 1,
+          TimeUnit.MILLISECONDS.toSeconds(sembrado.millis()));
+
+      JwksLocal jwks = new JwksLocal(trabajo);
+      int puertoFunctions = Procesos.puertoLibre();
+      Map<String, String> entorno = entornoFunctions(pg.jdbcUrl(), eventGrid, jwks, puertoFunctions);
+      URI base = procesos.functions(puertoFunctions, o.fnHilos(), o.fnHeap(), entorno);
+
+      if (o.target() == Opciones.Target.BFF) {
+        int puertoBff = Procesos.puertoLibre();
+        int puertoGestion = Procesos.puertoLibre();
+        Map<String, String> bff = new HashMap<>();
+        bff.put("SERVER_PORT", Integer.toString(puertoBff));
+        bff.put("MANAGEMENT_PORT", Integer.toString(puertoGestion));
+        for (String fn : new String[] { "EVENTOS", "OBRAS", "USUARIOS", "GRAPHQL" }) {
+          bff.put("FN_" + fn + "_BASEURL", base.toString());
+        }
+        // sin límites del borde, salvo que se pidan: si no, el 429 es lo que se mide
+        bff.put("EDGE_LIMITS", Boolean.toString(o.bffEdge()));
+        bff.put("TRACING_SAMPLING", "0");
+        base = procesos.bff(o.bffJar(), puertoBff, puertoGestion, bff);
+      }
+
+      Mezclas mezcla = new Mezclas(o.mezcla(), o.target());
+      System.out.printf("%s, mezcla %s, %s, %d s + %d s de calentamiento%n",
+          base, o.mezcla().name().toLowerCase(),
+          o.abierta() ? o.tasa() + " req/s (abierta, máx. " + o.concurrencia() + " en vuelo)"
+              : o.concurrencia() + " usuarios (cerrada)",
+          o.duracion().toSeconds(), o.calentamiento().toSeconds());
+
+      Resultado r = new Carga(o, base, mezcla, catalogo, jwks).correr();
+      Reporte.imprimir(r, System.out);
+      System.out.printf("Event Grid: %d eventos en %d lotes%n", eventGrid.eventos(), eventGrid.lotes());
+      Reporte.guardar(r, o, eventGrid, o.salida());
+      System.out.println("resultado: " + o.salida());
+    }
+  }
+
+  /** Entorno del host de Functions: la base local, el Event Grid falso y el JWKS local. */
+  static Map<String, String> entornoFunctions(String dbUrl, EventGridStub eventGrid, JwksLocal jwks, int puerto) {
+    Map<String, String> entorno = new HashMap<>(jwks.entorno());
+    entorno.put("DB_URL", dbUrl);
+    entorno.put("DB_USER", PostgresLocal.USUARIO);
+    entorno.put("DB_PASS", PostgresLocal.CLAVE);
+    entorno.put("EG_TOPIC_ENDPOINT", eventGrid.endpoint());
+    entorno.put("EG_ACCESS_KEY", EventGridStub.CLAVE);
+    entorno.put("GEOCODER", "stub");
+    entorno.put("GEOCODER_STUB_CENTER", "-33.0458,-71.6197");
+    entorno.put("API_TALLER_PINTURAS", "http://127.0.0.1:" + puerto);
+    return entorno;
+  }
+}
@@ -0,0 +1,189 @@
+package com.function.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.function.json.Json;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Operaciones de la carga y su peso en cada mezcla. Cada operación sabe armar su
+ * request contra las Functions (/api) y contra el BFF (/bff); si no tiene equivalente
+ * en el target elegido queda fuera y los pesos se reparten entre las demás.
+ *
+ * Los ids salen del Catalogo, así las lecturas pegan a filas que existen; las
+ * escrituras van firmadas con el token de un usuario sembrado.
+ */
+final class Mezclas {
+
+  enum Tipo { LECTURA, MIXTA, ESCRITURA }
+
+  /** Un request concreto; usuario != null pide Authorization. */
+  record Peticion(String operacion, String metodo, String ruta, String cuerpo, UUID usuario) {
+
+    static Peticion get(String operacion, String ruta) {
+      return new Peticion(operacion, "GET", ruta, null, null);
+    }
+  }
+
+  @FunctionalInterface
+  interface Generador {
+    Peticion crear(Random r, Catalogo c);
+  }
+
+  /** pesos por mezcla: lectura, mixta, escritura */
+  private record Operacion(String nombre, int[] pesos, Generador functions, Generador bff) {
+  }
+
+  private static final List<Operacion> OPERACIONES = List.of(
+      // listado paginado en las Functions; el BFF pide la lista completa y la cachea
+      new Operacion("obras.listar", pesos(10, 10, 5),
+          (r, c) -> Peticion.get("obras.listar", "/api/obras?limit=20&offset=" + r.nextInt(offsetMax(c))),
+          (r, c) -> Peticion.get("obras.listar", "/bff/obras")),
+      new Operacion("obras.uno", pesos(25, 22, 10),
+          (r, c) -> Peticion.get("obras.uno", "/api/obras/" + obra(r, c)),
+          (r, c) -> Peticion.get("obras.uno", "/bff/obras/" + obra(r, c))),
+      new Operacion("obras.imagen", pesos(5, 5, 0),
+          (r, c) -> Peticion.get("obras.imagen", "/api/obras/" + conImagen(r, c) + "?includeImage=true"),
+          (r, c) -> Peticion.get("obras.imagen", "/bff/obras/" + conImagen(r, c) + "?includeImage=true")),
+      new Operacion("eventos.proximos", pesos(20, 18, 10),
+          (r, c) -> Peticion.get("eventos.proximos", "/api/eventos?cuando=proximos&limit=20"),
+          (r, c) -> Peticion.get("eventos.proximos", "/bff/eventos?cuando=proximos&limit=20")),
+      new Operacion("eventos.uno", pesos(10, 10, 5),
+          (r, c) -> Peticion.get("eventos.uno", "/api/eventos/" + evento(r, c)),
+          (r, c) -> Peticion.get("eventos.uno", "/bff/eventos/" + evento(r, c))),
+      new Operacion("eventos.cerca", pesos(5, 5, 0),
+          (r, c) -> Peticion.get("eventos.cerca", "/api/eventos/near?lat=" + (-33.0458 + (r.nextDouble() - 0.5) * 0.1)
+              + "&lon=" + (-71.6197 + (r.nextDouble() - 0.5) * 0.1) + "&radiusKm=10"),
+          null),
+      // búsqueda por texto en las Functions; en el BFF la resuelve el índice de sugerencias
+      new Operacion("obras.buscar", pesos(15, 10, 5),
+          (r, c) -> Peticion.get("obras.buscar", "/api/obras/search?q=" + q(termino(r, c))),
+          (r, c) -> Peticion.get("obras.buscar", "/bff/suggest?q=" + q(termino(r, c).substring(0, 3)))),
+      new Operacion("usuarios.obras", pesos(10, 10, 5),
+          (r, c) -> Peticion.get("usuarios.obras", "/api/usuarios/" + usuario(r, c) + "/obras"),
+          (r, c) -> Peticion.get("usuarios.obras", "/bff/pages/perfil/" + usuario(r, c))),
+      new Operacion("eventos.crear", pesos(0, 4, 20),
+          (r, c) -> crearEvento(r, c, "/api/eventos"),
+          (r, c) -> crearEvento(r, c, "/bff/eventos")),
+      new Operacion("obras.crear", pesos(0, 3, 20),
+          (r, c) -> crearObra(r, c, "/api/obras"),
+          (r, c) -> crearObra(r, c, "/bff/obras")),
+      new Operacion("obras.actualizar", pesos(0, 3, 20),
+          (r, c) -> actualizarObra(r, c, "/api/obras/"),
+          (r, c) -> actualizarObra(r, c, "/bff/obras/")));
+
+  private final List<Generador> generadores = new ArrayList<>();
+  private final int[] acumulado;
+  private final List<String> nombres = new ArrayList<>();
+
+  Mezclas(Tipo tipo, Opciones.Target target) {
+    List<Integer> acum = new ArrayList<>();
+    int total = 0;
+    for (Operacion op : OPERACIONES) {
+      Generador g = target == Opciones.Target.BFF ? op.bff() : op.functions();
+      int peso = op.pesos()[tipo.ordinal()];
+      if (g == null || peso == 0) continue;
+      total += peso;
+      acum.add(total);
+      generadores.add(g);
+      nombres.add(op.nombre());
+    }
+    acumulado = acum.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /** Operaciones que entran en la mezcla, en el orden del reporte. */
+  List<String> operaciones() {
+    return nombres;
+  }
+
+  Peticion siguiente(Random r, Catalogo c) {
+    int x = r.nextInt(acumulado[acumulado.length - 1]);
+    int i = 0;
+    while (acumulado[i] <= x) i++;
+    return generadores.get(i).crear(r, c);
+  }
+
+  private static Peticion crearEvento(Random r, Catalogo c, String ruta) {
+    UUID autor = usuario(r, c);
+    Instant inicio = Instant.now().truncatedTo(ChronoUnit.HOURS).plus(1 + r.nextInt(120), ChronoUnit.DAYS);
+    Map<String, Object> e = new LinkedHashMap<>();
+    e.put("id_tipo_evento", 1 + r.nextInt(2));
+    e.put("id_azure", autor);
+    e.put("id_rol", 2);
+    e.put("titulo", "Carga " + termino(r, c) + " " + r.nextInt(1_000_000));
+    e.put("descripcion", "Evento creado por la prueba de carga.");
+    e.put("fechaInicio", inicio.toString());
+    e.put("fechaTermino", inicio.plus(2, ChronoUnit.HOURS).toString());
+    e.put("precio", 5000);
+    e.put("direccion", "Calle " + (100 + r.nextInt(2900)) + ", Valparaíso");
+    return new Peticion("eventos.crear", "POST", ruta, json(e), autor);
+  }
+
+  private static Peticion crearObra(Random r, Catalogo c, String ruta) {
+    UUID autor = usuario(r, c);
+    Map<String, Object> o = new LinkedHashMap<>();
+    o.put("idTipoObra", 1 + r.nextInt(2));
+    o.put("titulo", "Carga " + termino(r, c) + " " + r.nextInt(1_000_000));
+    o.put("descripcion", "Obra creada por la prueba de carga.");
+    o.put("id_azure", autor);
+    return new Peticion("obras.crear", "POST", ruta, json(o), autor);
+  }
+
+  // sin imagen: el UPDATE la conserva (COALESCE) y el PUT mide el camino de texto
+  private static Peticion actualizarObra(Random r, Catalogo c, String ruta) {
+    Map<String, Object> o = new LinkedHashMap<>();
+    o.put("idTipoObra", 1 + r.nextInt(2));
+    o.put("titulo", "Actualizada " + termino(r, c) + " " + r.nextInt(1_000_000));
+    o.put("descripcion", "Obra actualizada por la prueba de carga.");
+    return new Peticion("obras.actualizar", "PUT", ruta + obra(r, c), json(o), usuario(r, c));
+  }
+
+  private static long obra(Random r, Catalogo c) {
+    return c.primeraObra() + (long) r.nextInt((int) (c.ultimaObra() - c.primeraObra() + 1));
+  }
+
+  private static long conImagen(Random r, Catalogo c) {
+    return c.obrasConImagen()[r.nextInt(c.obrasConImagen().length)];
+  }
+
+  private static long evento(Random r, Catalogo c) {
+    return c.primerEvento() + (long) r.nextInt((int) (c.ultimoEvento() - c.primerEvento() + 1));
+  }
+
+  private static UUID usuario(Random r, Catalogo c) {
+    return c.usuarios().get(r.nextInt(c.usuarios().size()));
+  }
+
+  private static String termino(Random r, Catalogo c) {
+    return c.terminos().get(r.nextInt(c.terminos().size()));
+  }
+
+  private static String q(String s) {
+    return URLEncoder.encode(s, StandardCharsets.UTF_8);
+  }
+
+  private static int offsetMax(Catalogo c) {
+    return (int) Math.max(1, c.ultimaObra() - c.primeraObra() - 20);
+  }
+
+  private static int[] pesos(int lectura, int mixta, int escritura) {
+    return new int[] { lectura, mixta, escritura };
+  }
+
+  private static String json(Map<String, Object> m) {
+    try {
+      return Json.MAPPER.writeValueAsString(m);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.function.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Argumentos --clave=valor de LoadTest. Los valores por defecto dan una corrida corta
+ * contra las Functions, con carga abierta de 100 req/s y mezcla de lectura/escritura.
+ */
+record Opciones(
+    Target target,
+    double escala,
+    long semilla,
+    Mezclas.Tipo mezcla,
+    Duration duracion,
+    Duration calentamiento,
+    int tasa,
+    int concurrencia,
+    Duration timeout,
+    Path bffJar,
+    boolean bffEdge,
+    Path schema,
+    Path salida,
+    int fnHilos,
+    String fnHeap) {
+
+  enum Target { FUNCTIONS, BFF }
+
+  private static final Set<String> CLAVES = Set.of("target", "escala", "semilla", "mezcla", "duracion",
+      "calentamiento", "tasa", "concurrencia", "timeout", "bff-jar", "bff-edge", "schema", "salida", "fn-hilos",
+      "fn-heap");
+
+  static final String USO = """
+      java -jar target/loadtest.jar [--clave=valor ...]
+
+        --target=functions|bff      a quién se le pega (functions)
+        --escala=1                  tamaño de los datos: 1 = 10.000 obras, 5.000 eventos
+        --semilla=42                datos y secuencia de operaciones
+        --mezcla=lectura|mixta|escritura  (mixta)
+        --duracion=60s              medición, sin contar el calentamiento
+        --calentamiento=10s
+        --tasa=100                  req/s en carga abierta; 0 = carga cerrada
+        --concurrencia=64           usuarios en carga cerrada / máximo en vuelo en abierta
+        --timeout=30s               por request
+        --bff-jar=../bff-spring/target/bff-spring-0.0.1-SNAPSHOT.jar
+        --bff-edge=false            deja activos los límites del borde del BFF
+        --schema=../db-postgresql/schema.sql
+        --salida=results/loadtest-<fecha>.json
+        --fn-hilos=32               hilos del host de Functions
+        --fn-heap=1g
+      """;
+
+  static Opciones de(String[] args) {
+    Map<String, String> m = new HashMap<>();
+    for (String a : args) {
+      int igual = a.indexOf('=');
+      if (!a.startsWith("--") || igual < 0) {
+        throw new IllegalArgumentException("Argumento inválido: " + a);
+      }
+      String clave = a.substring(2, igual);
+      if (!CLAVES.contains(clave)) {
+        throw new IllegalArgumentException("Opción desconocida: --" + clave);
+      }
+      m.put(clave, a.substring(igual + 1));
+    }
+
+    String fecha = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+    Opciones o = new Opciones(
+        Target.valueOf(m.getOrDefault("target", "functions").toUpperCase()),
+        Double.parseDouble(m.getOrDefault("escala", "1")),
+        Long.parseLong(m.getOrDefault("semilla", "42")),
+        Mezclas.Tipo.valueOf(m.getOrDefault("mezcla", "mixta").toUpperCase()),
+        duracion(m.getOrDefault("duracion", "60s")),
+        duracion(m.getOrDefault("calentamiento", "10s")),
+        Integer.parseInt(m.getOrDefault("tasa", "100")),
+        Integer.parseInt(m.getOrDefault("concurrencia", "64")),
+        duracion(m.getOrDefault("timeout", "30s")),
+        Path.of(m.getOrDefault("bff-jar", "../bff-spring/target/bff-spring-0.0.1-SNAPSHOT.jar")),
+        Boolean.parseBoolean(m.getOrDefault("bff-edge", "false")),
+        Path.of(m.getOrDefault("schema", "../db-postgresql/schema.sql")),
+        Path.of(m.getOrDefault("salida", "results/loadtest-" + fecha + ".json")),
+        Integer.parseInt(m.getOrDefault("fn-hilos", "32")),
+        m.getOrDefault("fn-heap", "1g"));
+
+    if (o.escala <= 0 || o.tasa < 0 || o.concurrencia < 1 || o.fnHilos < 1) {
+      throw new IllegalArgumentException("escala, tasa, concurrencia y fn-hilos deben ser positivos");
+    }
+    return o;
+  }
+
+  boolean abierta() {
+    return tasa > 0;
+  }
+
+  /** "500ms", "30s", "2m"; sin unidad son segundos. */
+  static Duration duracion(String s) {
+    if (s.endsWith("ms")) return Duration.ofMillis(Long.parseLong(s.substring(0, s.length() - 2)));
+    if (s.endsWith("s")) return Duration.ofSeconds(Long.parseLong(s.substring(0, s.length() - 1)));
+    if (s.endsWith("m")) return Duration.ofMinutes(Long.parseLong(s.substring(0, s.length() - 1)));
+    return Duration.ofSeconds(Long.parseLong(s));
+  }
+}
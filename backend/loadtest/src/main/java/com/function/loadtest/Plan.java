@@ -0,0 +1,76 @@
+package com.function.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Un plan de auto_explain (JSON, con ANALYZE y BUFFERS) reducido a lo que mira
+ * Planes: las filas que leyó el Seq Scan más grande, las que entraron al Sort más
+ * grande, los bloques de buffers y los hallazgos contra los umbrales según lo que
+ * tolera la entrada del catálogo.
+ */
+record Plan(double ms, long bloques, long filasSecuenciales, long filasOrdenadas, List<String> hallazgos) {
+
+  static Plan evaluar(JsonNode plan, double ms, Consultas.Tolera tolera, long umbralSecuencial, long umbralOrden) {
+    Visita r = new Visita(tolera, umbralSecuencial, umbralOrden);
+    r.visitar(plan);
+    long bloques = plan.path("Shared Hit Blocks").asLong() + plan.path("Shared Read Blocks").asLong();
+    return new Plan(ms, bloques, r.secuenciales, r.ordenadas, List.copyOf(r.hallazgos));
+  }
+
+  private static final class Visita {
+    final Consultas.Tolera tolera;
+    final long umbralSecuencial;
+    final long umbralOrden;
+    long secuenciales;
+    long ordenadas;
+    final List<String> hallazgos = new ArrayList<>();
+
+    Visita(Consultas.Tolera tolera, long umbralSecuencial, long umbralOrden) {
+      this.tolera = tolera;
+      this.umbralSecuencial = umbralSecuencial;
+      this.umbralOrden = umbralOrden;
+    }
+
+    void visitar(JsonNode nodo) {
+      String tipo = nodo.path("Node Type").asText();
+      if (tipo.equals("Seq Scan")) {
+        String tabla = nodo.path("Relation Name").asText();
+        // lo que devolvió más lo que descartó el filtro, en todas las vueltas (y workers)
+        long leidas = filas(nodo) + Math.round(nodo.path("Rows Removed by Filter").asDouble() * vueltas(nodo));
+        // el staging es el lote mismo: recorrerlo entero es lo esperado
+        if (!tabla.endsWith("_staging")) {
+          secuenciales = Math.max(secuenciales, leidas);
+          if (leidas > umbralSecuencial && tolera != Consultas.Tolera.COMPLETA) {
+            hallazgos.add("Seq Scan en " + tabla + ": " + leidas + " filas");
+          }
+        }
+      } else if (tipo.equals("Sort") || tipo.equals("Incremental Sort")) {
+        long entrada = 0;
+        for (JsonNode hijo : nodo.path("Plans")) {
+          entrada += filas(hijo);
+        }
+        ordenadas = Math.max(ordenadas, entrada);
+        boolean disco = "Disk".equals(nodo.path("Sort Space Type").asText());
+        boolean grande = entrada > umbralOrden && tolera == Consultas.Tolera.NADA;
+        if (grande || disco && tolera != Consultas.Tolera.COMPLETA) {
+          hallazgos.add(tipo + " de " + entrada + " filas (" + nodo.path("Sort Method").asText("?")
+              + (disco ? ", en disco" : "") + ")");
+        }
+      }
+      for (JsonNode hijo : nodo.path("Plans")) {
+        visitar(hijo);
+      }
+    }
+
+    private static long filas(JsonNode nodo) {
+      return Math.round(nodo.path("Actual Rows").asDouble() * vueltas(nodo));
+    }
+
+    private static long vueltas(JsonNode nodo) {
+      return Math.max(1, nodo.path("Actual Loops").asLong(1));
+    }
+  }
+}
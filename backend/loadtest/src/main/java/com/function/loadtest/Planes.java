@@ -0,0 +1,260 @@
+package com.function.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.function.datagen.Cargador;
+import com.function.datagen.Generador;
+import com.function.datagen.Resumen;
+import com.function.json.Json;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Regresión de planes: levanta PostgreSQL con auto_explain (ANALYZE y BUFFERS, en JSON
+ * y con las sentencias anidadas de triggers y FKs), siembra datos de datagen, pasa una
+ * vez por todas las rutas de las Functions (Recorrido) y revisa el plan real de cada
+ * sentencia que emitieron contra el catálogo de Consultas.
+ *
+ * Falla (código 1) si una sentencia lee con Seq Scan u ordena más filas que los
+ * umbrales sin que su entrada lo tolere, si ordena en disco, si aparece SQL que no está
+ * en el catálogo, si una entrada obligatoria del catálogo no se ejecutó o si un paso del
+ * recorrido no respondió 2xx.
+ *
+ * <pre>java -cp target/loadtest.jar com.function.loadtest.Planes --escala=10</pre>
+ */
+public final class Planes {
+
+  private static final String USO = """
+      java -cp target/loadtest.jar com.function.loadtest.Planes [--clave=valor ...]
+
+        --escala=1                 tamaño de los datos: 1 = 10.000 obras, 5.000 eventos
+        --semilla=42
+        --umbral-secuencial=1000   filas que puede leer un Seq Scan
+        --umbral-orden=1000        filas que pueden entrar a un Sort
+        --schema=../db-postgresql/schema.sql   (y después ../db-postgresql/migrations)
+        --salida=results/planes-<fecha>.json
+        --fn-hilos=4
+        --fn-heap=512m
+      """;
+
+  private static final Set<String> CLAVES = Set.of("escala", "semilla", "umbral-secuencial", "umbral-orden",
+      "schema", "salida", "fn-hilos", "fn-heap");
+
+  // "duration: 0.412 ms  plan:\n{...}"
+  private static final Pattern DURACION = Pattern.compile("duration: ([\\d.]+) ms");
+  private static final String PLAN = "plan:\n";
+
+  // el relay del outbox corre cada 10 s en el host: que alcance a pasar una vez
+  private static final long ESPERA_RELAY_MS = 12_000;
+
+  private Planes() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> m = new HashMap<>();
+    for (String a : args) {
+      int igual = a.indexOf('=');
+      if (!a.startsWith("--") || igual < 0 || !CLAVES.contains(a.substring(2, igual))) {
+        System.err.println(USO);
+        System.exit(2);
+      }
+      m.put(a.substring(2, igual), a.substring(igual + 1));
+    }
+    double escala = Double.parseDouble(m.getOrDefault("escala", "1"));
+    long semilla = Long.parseLong(m.getOrDefault("semilla", "42"));
+    long umbralSecuencial = Long.parseLong(m.getOrDefault("umbral-secuencial", "1000"));
+    long umbralOrden = Long.parseLong(m.getOrDefault("umbral-orden", "1000"));
+    Path schema = Path.of(m.getOrDefault("schema", "../db-postgresql/schema.sql"));
+    String fecha = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+    Path salida = Path.of(m.getOrDefault("salida", "results/planes-" + fecha + ".json"));
+
+    Path trabajo = Files.createTempDirectory("planes-");
+    Path logs = Files.createDirectories(trabajo.resolve("pg"));
+    Map<String, String> config = Map.of(
+        "shared_preload_libraries", "auto_explain",
+        "auto_explain.log_analyze", "on",
+        "auto_explain.log_buffers", "on",
+        "auto_explain.log_format", "json",
+        "auto_explain.log_nested_statements", "on",
+        "logging_collector", "on",
+        "log_destination", "jsonlog",
+        "log_directory", logs.toAbsolutePath().toString(),
+        // con jsonlog el .log se cambia por .json
+        "log_filename", "postgresql.log",
+        "log_rotation_size", "0");
+
+    Map<String, Agregado> porConsulta = new LinkedHashMap<>();
+    Map<String, Integer> sinCatalogo = new LinkedHashMap<>();
+    List<String> pasosFallidos;
+    try (PostgresLocal pg = PostgresLocal.iniciar(100, config);
+         EventGridStub eventGrid = new EventGridStub();
+         Procesos procesos = new Procesos(trabajo)) {
+
+      Runtime.getRuntime().addShutdownHook(new Thread(procesos::close));
+
+      pg.aplicarEsquema(schema);
+      pg.aplicarMigraciones(schema.resolveSibling("migrations"));
+      Resumen datos;
+      try (Connection con = pg.conectar()) {
+        datos = new Cargador(con, new Generador(semilla, escala)).cargar();
+      }
+      pg.explicarTodo();
+
+      // application_name separa en el log las sesiones de las Functions de las nuestras
+      String url = pg.jdbcUrl() + (pg.jdbcUrl().contains("?") ? "&" : "?") + "ApplicationName=functions";
+      JwksLocal jwks = new JwksLocal(trabajo);
+      int puerto = Procesos.puertoLibre();
+      URI base = procesos.functions(puerto, Integer.parseInt(m.getOrDefault("fn-hilos", "4")),
+          m.getOrDefault("fn-heap", "512m"), LoadTest.entornoFunctions(url, eventGrid, jwks, puerto));
+
+      pasosFallidos = new Recorrido(base, jwks, datos).correr();
+      Thread.sleep(ESPERA_RELAY_MS);
+
+      try (BufferedReader r = Files.newBufferedReader(logs.resolve("postgresql.json"))) {
+        String linea;
+        while ((linea = r.readLine()) != null) {
+          JsonNode entrada = Json.MAPPER.readTree(linea);
+          String mensaje = entrada.path("message").asText();
+          int i = mensaje.indexOf(PLAN);
+          if (i < 0 || !"functions".equals(entrada.path("application_name").asText())) {
+            continue;
+          }
+          JsonNode explain = Json.MAPPER.readTree(mensaje.substring(i + PLAN.length()));
+          String sql = explain.path("Query Text").asText();
+          if (Consultas.delDriver(sql)) {
+            continue;
+          }
+          Consultas.Consulta c = Consultas.de(sql);
+          if (c == null) {
+            sinCatalogo.merge(Consultas.normalizar(sql), 1, Integer::sum);
+            continue;
+          }
+          Matcher d = DURACION.matcher(mensaje);
+          double ms = d.find() ? Double.parseDouble(d.group(1)) : 0;
+          Plan plan = Plan.evaluar(explain.path("Plan"), ms, c.tolera(), umbralSecuencial, umbralOrden);
+          porConsulta.computeIfAbsent(c.nombre(), k -> new Agregado(c)).sumar(plan, sql, explain);
+        }
+      }
+    }
+
+    List<String> sinEjecutar = new ArrayList<>();
+    for (Consultas.Consulta c : Consultas.TODAS) {
+      if (!c.opcional() && !porConsulta.containsKey(c.nombre())) {
+        sinEjecutar.add(c.nombre());
+      }
+    }
+
+    imprimir(porConsulta, sinCatalogo, sinEjecutar, pasosFallidos, System.out);
+    guardar(porConsulta, sinCatalogo, sinEjecutar, pasosFallidos, escala, semilla, umbralSecuencial,
+        umbralOrden, salida);
+    System.out.println("resultado: " + salida);
+
+    boolean hallazgos = porConsulta.values().stream().anyMatch(a -> !a.hallazgos.isEmpty());
+    if (hallazgos || !sinCatalogo.isEmpty() || !sinEjecutar.isEmpty() || !pasosFallidos.isEmpty()) {
+      System.exit(1);
+    }
+  }
+
+  /** Todas las ejecuciones de una entrada del catálogo: la peor y los hallazgos de cualquiera. */
+  private static final class Agregado {
+    final Consultas.Consulta consulta;
+    final Set<String> hallazgos = new LinkedHashSet<>();
+    int ejecuciones;
+    Plan peor;
+    String sql;
+    JsonNode plan;
+    long bloques;
+    long filasSecuenciales;
+    long filasOrdenadas;
+
+    Agregado(Consultas.Consulta consulta) {
+      this.consulta = consulta;
+    }
+
+    void sumar(Plan p, String texto, JsonNode explain) {
+      ejecuciones++;
+      hallazgos.addAll(p.hallazgos());
+      bloques = Math.max(bloques, p.bloques());
+      filasSecuenciales = Math.max(filasSecuenciales, p.filasSecuenciales());
+      filasOrdenadas = Math.max(filasOrdenadas, p.filasOrdenadas());
+      // se guarda el plan con hallazgos o, si no hay, el más lento
+      boolean peorQue = peor == null
+          || p.hallazgos().size() > peor.hallazgos().size()
+          || p.hallazgos().size() == peor.hallazgos().size() && p.ms() > peor.ms();
+      if (peorQue) {
+        peor = p;
+        sql = texto;
+        plan = explain.path("Plan");
+      }
+    }
+  }
+
+  private static void imprimir(Map<String, Agregado> porConsulta, Map<String, Integer> sinCatalogo,
+      List<String> sinEjecutar, List<String> pasosFallidos, PrintStream out) {
+    out.printf(Locale.ROOT, "%n%-26s %6s %9s %9s %10s %10s  %s%n",
+        "sentencia", "n", "peor ms", "bloques", "seq filas", "sort filas", "estado");
+    for (Agregado a : porConsulta.values()) {
+      out.printf(Locale.ROOT, "%-26s %6d %9.2f %9d %10d %10d  %s%n", a.consulta.nombre(), a.ejecuciones,
+          a.peor.ms(), a.bloques, a.filasSecuenciales, a.filasOrdenadas,
+          a.hallazgos.isEmpty() ? "ok" : "FALLA: " + String.join("; ", a.hallazgos));
+    }
+    sinCatalogo.forEach((sql, n) -> out.printf("sin catálogo (%d): %s%n", n, sql));
+    sinEjecutar.forEach(n -> out.println("no se ejecutó: " + n));
+    pasosFallidos.forEach(p -> out.println("paso fallido: " + p));
+  }
+
+  private static void guardar(Map<String, Agregado> porConsulta, Map<String, Integer> sinCatalogo,
+      List<String> sinEjecutar, List<String> pasosFallidos, double escala, long semilla, long umbralSecuencial,
+      long umbralOrden, Path archivo) throws IOException {
+    ObjectNode raiz = Json.MAPPER.createObjectNode();
+    ObjectNode corrida = raiz.putObject("corrida");
+    corrida.put("escala", escala);
+    corrida.put("semilla", semilla);
+    corrida.put("umbralSecuencial", umbralSecuencial);
+    corrida.put("umbralOrden", umbralOrden);
+
+    ObjectNode sentencias = raiz.putObject("sentencias");
+    for (Agregado a : porConsulta.values()) {
+      ObjectNode n = sentencias.putObject(a.consulta.nombre());
+      n.put("origen", a.consulta.origen());
+      n.put("tolera", a.consulta.tolera().name().toLowerCase());
+      n.put("ejecuciones", a.ejecuciones);
+      n.put("peorMs", a.peor.ms());
+      n.put("bloques", a.bloques);
+      n.put("filasSecuenciales", a.filasSecuenciales);
+      n.put("filasOrdenadas", a.filasOrdenadas);
+      ArrayNode hallazgos = n.putArray("hallazgos");
+      a.hallazgos.forEach(hallazgos::add);
+      n.put("sql", a.sql);
+      n.set("plan", a.plan);
+    }
+    ObjectNode sin = raiz.putObject("sinCatalogo");
+    sinCatalogo.forEach(sin::put);
+    ArrayNode faltan = raiz.putArray("sinEjecutar");
+    sinEjecutar.forEach(faltan::add);
+    ArrayNode fallidos = raiz.putArray("pasosFallidos");
+    pasosFallidos.forEach(fallidos::add);
+
+    if (archivo.getParent() != null) Files.createDirectories(archivo.getParent());
+    Json.MAPPER.writerWithDefaultPrettyPrinter().writeValue(archivo.toFile(), raiz);
+  }
+}
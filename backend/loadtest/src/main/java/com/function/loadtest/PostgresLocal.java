@@ -0,0 +1,110 @@
+package com.function.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * PostgreSQL real sin Docker (binarios de embedded-postgres en un directorio
+ * temporal), con el esquema de db-postgresql/schema.sql y las migraciones de
+ * db-postgresql/migrations. pg_trgm y auto_explain vienen en los binarios.
+ *
+ * max_connections alto porque las Functions abren una conexión por request (Db.connect)
+ * y con muchos hilos en el host se llega rápido al límite de 100.
+ */
+final class PostgresLocal implements AutoCloseable {
+
+  static final String USUARIO = "postgres";
+  static final String CLAVE = "postgres";
+
+  // V2__usuarios_obras_es_principal.sql: la versión es el número entre la V y el "__"
+  private static final Pattern MIGRACION = Pattern.compile("V(\\d+)__.+\\.sql");
+
+  private final EmbeddedPostgres pg;
+
+  private PostgresLocal(EmbeddedPostgres pg) {
+    this.pg = pg;
+  }
+
+  static PostgresLocal iniciar(int maxConexiones) throws IOException {
+    return iniciar(maxConexiones, Map.of());
+  }
+
+  /** Con parámetros extra del servidor (los de auto_explain y el log en Planes). */
+  static PostgresLocal iniciar(int maxConexiones, Map<String, String> config) throws IOException {
+    EmbeddedPostgres.Builder b = EmbeddedPostgres.builder()
+        .setCleanDataDirectory(true)
+        .setServerConfig("max_connections", Integer.toString(maxConexiones))
+        .setServerConfig("shared_buffers", "256MB");
+    config.forEach(b::setServerConfig);
+    return new PostgresLocal(b.start());
+  }
+
+  String jdbcUrl() {
+    return pg.getJdbcUrl(USUARIO, "postgres");
+  }
+
+  Connection conectar() throws SQLException {
+    return DriverManager.getConnection(jdbcUrl(), USUARIO, CLAVE);
+  }
+
+  void aplicarEsquema(Path schema) throws IOException, SQLException {
+    String sql = Files.readString(schema);
+    try (Connection con = conectar(); Statement st = con.createStatement()) {
+      st.execute(sql);
+    }
+  }
+
+  /**
+   * Las migraciones V&lt;n&gt;__*.sql del directorio, en orden de versión (schema.sql es
+   * la línea base). Si el directorio no existe no hace nada.
+   */
+  void aplicarMigraciones(Path dir) throws IOException, SQLException {
+    if (!Files.isDirectory(dir)) {
+      return;
+    }
+    List<Path> migraciones;
+    try (Stream<Path> s = Files.list(dir)) {
+      migraciones = s.filter(p -> MIGRACION.matcher(p.getFileName().toString()).matches())
+          .sorted(Comparator.comparingInt(PostgresLocal::version))
+          .toList();
+    }
+    for (Path m : migraciones) {
+      aplicarEsquema(m);
+    }
+  }
+
+  /**
+   * Desde ahora cada sentencia de una sesión nueva deja su plan en el log
+   * (auto_explain tiene que estar en shared_preload_libraries). Va después de sembrar
+   * para que la carga de datos no llene el log.
+   */
+  void explicarTodo() throws SQLException {
+    try (Connection con = conectar(); Statement st = con.createStatement()) {
+      st.execute("ALTER DATABASE postgres SET auto_explain.log_min_duration = 0");
+    }
+  }
+
+  private static int version(Path migracion) {
+    Matcher m = MIGRACION.matcher(migracion.getFileName().toString());
+    m.matches();
+    return Integer.parseInt(m.group(1));
+  }
+
+  @Override
+  public void close() throws IOException {
+    pg.close();
+  }
+}
@@ -0,0 +1,116 @@
+package com.function.loadtest;
+
+import com.function.loadtest.host.FunctionsHost;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Procesos hijos de la corrida (host de Functions y BFF), cada uno con su entorno y su
+ * log en el directorio de trabajo. Corren en otra JVM para que su heap, GC y hilos no
+ * se mezclen con los del generador de carga.
+ */
+final class Procesos implements AutoCloseable {
+
+  private static final Duration ARRANQUE = Duration.ofSeconds(90);
+
+  private final Path logs;
+  private final List<Process> vivos = new ArrayList<>();
+  private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+  Procesos(Path logs) {
+    this.logs = logs;
+  }
+
+  /** El host de Functions con el mismo classpath que este proceso. */
+  URI functions(int puerto, int hilos, String heap, Map<String, String> entorno)
+      throws IOException, InterruptedException {
+    List<String> cmd = List.of(java(), "-Xmx" + heap, "-XX:+UseG1GC", "-cp", System.getProperty("java.class.path"),
+        FunctionsHost.class.getName(), Integer.toString(puerto), Integer.toString(hilos));
+    URI base = URI.create("http://127.0.0.1:" + puerto);
+    iniciar("functions", cmd, entorno, base.resolve(FunctionsHost.PING));
+    return base;
+  }
+
+  /** puertoGestion: el de /actuator (management.server.port), donde se espera el health. */
+  URI bff(Path jar, int puerto, int puertoGestion, Map<String, String> entorno)
+      throws IOException, InterruptedException {
+    if (!Files.isRegularFile(jar)) {
+      throw new IllegalArgumentException("No existe " + jar + " (mvn -f ../bff-spring package -DskipTests)");
+    }
+    List<String> cmd = List.of(java(), "-jar", jar.toAbsolutePath().toString());
+    URI base = URI.create("http://127.0.0.1:" + puerto);
+    iniciar("bff", cmd, entorno, URI.create("http://127.0.0.1:" + puertoGestion + "/actuator/health"));
+    return base;
+  }
+
+  private void iniciar(String nombre, List<String> cmd, Map<String, String> entorno, URI salud)
+      throws IOException, InterruptedException {
+    Path log = logs.resolve(nombre + ".log");
+    ProcessBuilder pb = new ProcessBuilder(cmd).redirectErrorStream(true).redirectOutput(log.toFile());
+    pb.environment().putAll(entorno);
+    Process p = pb.start();
+    vivos.add(p);
+
+    long limite = System.nanoTime() + ARRANQUE.toNanos();
+    while (System.nanoTime() < limite) {
+      if (!p.isAlive()) {
+        throw new IllegalStateException(nombre + " terminó al arrancar (código " + p.exitValue() + "), ver " + log);
+      }
+      if (arriba(salud)) {
+        System.out.println(nombre + " arriba (" + salud + ", log: " + log + ")");
+        return;
+      }
+      Thread.sleep(250);
+    }
+    throw new IllegalStateException(nombre + " no respondió en " + ARRANQUE.toSeconds() + " s, ver " + log);
+  }
+
+  private boolean arriba(URI salud) throws InterruptedException {
+    try {
+      HttpRequest req = HttpRequest.newBuilder(salud).timeout(Duration.ofSeconds(2)).GET().build();
+      return http.send(req, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  static int puertoLibre() throws IOException {
+    try (ServerSocket s = new ServerSocket(0)) {
+      return s.getLocalPort();
+    }
+  }
+
+  private static String java() {
+    return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+  }
+
+  @Override
+  public synchronized void close() {
+    // en orden inverso: el BFF antes que las Functions que usa
+    for (int i = vivos.size() - 1; i >= 0; i--) {
+      Process p = vivos.get(i);
+      p.destroy();
+      try {
+        if (!p.waitFor(10, TimeUnit.SECONDS)) {
+          p.destroyForcibly();
+        }
+      } catch (InterruptedException e) {
+        p.destroyForcibly();
+        Thread.currentThread().interrupt();
+      }
+    }
+    vivos.clear();
+  }
+}
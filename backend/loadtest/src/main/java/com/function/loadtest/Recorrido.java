@@ -0,0 +1,199 @@
+package com.function.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.function.datagen.Generador;
+import com.function.datagen.Resumen;
+import com.function.json.Json;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Una pasada secuencial por todas las rutas de las Functions (lecturas, escrituras,
+ * cargas masivas y bajas) para que Planes vea el plan de cada sentencia que emiten.
+ * No mide: cada paso va una vez, en orden, y lo que cuenta es que responda 2xx.
+ */
+final class Recorrido {
+
+  private final URI base;
+  private final JwksLocal jwks;
+  private final Resumen datos;
+  private final HttpClient http = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofSeconds(5))
+      .build();
+  private final List<String> fallas = new ArrayList<>();
+
+  Recorrido(URI base, JwksLocal jwks, Resumen datos) {
+    this.base = base;
+    this.jwks = jwks;
+    this.datos = datos;
+  }
+
+  /** Los pasos que no respondieron 2xx ("método ruta -> estado"); vacío si todo anduvo. */
+  List<String> correr() throws IOException, InterruptedException {
+    UUID admin = datos.usuarios().get(0);
+    UUID mayor = datos.mayorPropietario();
+    UUID otro = datos.usuarios().get(datos.usuarios().size() / 2);
+    String termino = Generador.terminos().get(0);
+    long obra = (datos.primeraObra() + datos.ultimaObra()) / 2;
+    long evento = (datos.primerEvento() + datos.ultimoEvento()) / 2;
+    LocalDate hoy = LocalDate.now();
+
+    // lecturas
+    get("/api/obras", null);
+    get("/api/obras?limit=20&offset=" + (datos.ultimaObra() - datos.primeraObra()) / 2, null);
+    get("/api/obras?limit=20&cursor=" + obra, null);
+    get("/api/obras/" + obra, null);
+    if (datos.obrasConImagen().length > 0) {
+      get("/api/obras/" + datos.obrasConImagen()[0] + "?includeImage=true", null);
+    }
+    get("/api/obras/search?q=" + q(termino), null);
+    get("/api/obras/export?format=csv", admin);
+    get("/api/obras/export?format=ndjson", admin);
+    get("/api/eventos", null);
+    get("/api/eventos?cuando=proximos&limit=20", null);
+    get("/api/eventos?cuando=pasados&limit=20&offset=100", null);
+    get("/api/eventos?desde=" + hoy.minusMonths(1) + "&hasta=" + hoy.plusMonths(1), null);
+    get("/api/eventos?id_azure=" + mayor, null);
+    get("/api/eventos/" + evento, null);
+    get("/api/eventos/search?q=" + q(termino), null);
+    get("/api/eventos/near?lat=-33.4489&lon=-70.6693&radiusKm=10", null);
+    get("/api/eventos/near?lat=-33.0458&lon=-71.6197&radiusKm=5&desde=" + hoy, null);
+    get("/api/usuarios", admin);
+    get("/api/usuarios/" + otro, admin);
+    get("/api/usuarios/" + mayor + "/obras", mayor);
+    get("/api/usuarios/" + otro + "/obras", otro);
+
+    // usuarios: alta por sync (nueva y existente) y por POST, y actualización
+    UUID nuevo = UUID.randomUUID();
+    enviar("POST", "/api/usuarios/sync", json(Map.of("id_azure", nuevo, "username", "planes-" + nuevo,
+        "nombre_completo", "Usuario de Planes")), null);
+    enviar("POST", "/api/usuarios/sync", json(Map.of("id_azure", otro, "username", "otro-" + nuevo,
+        "nombre_completo", "Renombrado por Planes")), null);
+    UUID creado = UUID.randomUUID();
+    enviar("POST", "/api/usuarios", json(Map.of("id_azure", creado, "id_rol", Generador.ROL_ARTISTA,
+        "username", "creado-" + creado, "password", "planes-1234", "nombre_completo", "Creado por Planes")), admin);
+    enviar("PUT", "/api/usuarios/" + creado, json(Map.of("nombre_completo", "Actualizado por Planes")), admin);
+
+    // obras: alta, actualización, vínculos de a una y en lote
+    long nuevaObra = enviar("POST", "/api/obras", obra(nuevo, "Obra de Planes"), nuevo).path("id_obra").asLong();
+    enviar("PUT", "/api/obras/" + nuevaObra, obra(nuevo, "Obra de Planes, revisada"), nuevo);
+    enviar("POST", "/api/usuarios/" + creado + "/obras", json(Map.of("id_obra", nuevaObra, "es_principal", true)),
+        admin);
+    enviar("POST", "/api/usuarios/" + creado + "/obras", json(List.of(
+        Map.of("id_obra", obra, "es_principal", false),
+        Map.of("id_obra", obra + 1, "es_principal", false))), admin);
+    enviar("DELETE", "/api/usuarios/" + creado + "/obras?ids=" + obra + "," + (obra + 1), null, admin);
+    enviar("DELETE", "/api/usuarios/" + creado + "/obras/" + nuevaObra, null, admin);
+
+    // eventos: alta y actualización
+    long nuevoEvento = enviar("POST", "/api/eventos", evento(nuevo, "Evento de Planes"), nuevo)
+        .path("id_eventos").asLong();
+    enviar("PUT", "/api/eventos/" + nuevoEvento, evento(nuevo, "Evento de Planes, revisado"), nuevo);
+
+    // cargas masivas (NDJSON, con una fila mala para pasar por el rechazo por línea)
+    enviar("POST", "/api/obras/bulk?format=ndjson", obra(nuevo, "Masiva 1") + "\n" + obra(nuevo, "Masiva 2")
+        + "\n{\"titulo\":\"\"}\n", nuevo);
+    enviar("POST", "/api/eventos/bulk?format=ndjson", evento(nuevo, "Masivo 1") + "\n"
+        + evento(nuevo, "Masivo 2") + "\n", nuevo);
+
+    // bajas: las dueñas, y el usuario creado (arrastra sus vínculos y el feed)
+    enviar("DELETE", "/api/obras/" + nuevaObra + "?id_azure=" + nuevo, null, nuevo);
+    enviar("DELETE", "/api/eventos/" + nuevoEvento + "?id_azure=" + nuevo, null, nuevo);
+    HttpRequest.Builder baja = peticion("/api/usuarios/" + creado, admin).header("X-User-Roles", "admin").DELETE();
+    enviar(baja, "DELETE /api/usuarios/" + creado);
+    return fallas;
+  }
+
+  private String obra(UUID autor, String titulo) {
+    Map<String, Object> o = new LinkedHashMap<>();
+    o.put("idTipoObra", Generador.TIPO_PINTURA);
+    o.put("titulo", titulo);
+    o.put("descripcion", "Creada por el recorrido de planes.");
+    o.put("id_azure", autor);
+    return json(o);
+  }
+
+  private String evento(UUID autor, String titulo) {
+    Instant inicio = Instant.now().truncatedTo(ChronoUnit.HOURS).plus(30, ChronoUnit.DAYS);
+    Map<String, Object> e = new LinkedHashMap<>();
+    e.put("id_tipo_evento", Generador.TIPO_EXPOSICION);
+    e.put("id_azure", autor);
+    e.put("id_rol", Generador.ROL_ARTISTA);
+    e.put("titulo", titulo);
+    e.put("descripcion", "Creado por el recorrido de planes.");
+    e.put("fechaInicio", inicio.toString());
+    e.put("fechaTermino", inicio.plus(2, ChronoUnit.HOURS).toString());
+    e.put("precio", 5000);
+    e.put("direccion", "Avenida Brasil 2950, Valparaíso");
+    e.put("lat", -33.0458);
+    e.put("lon", -71.6197);
+    return json(e);
+  }
+
+  private void get(String ruta, UUID usuario) throws IOException, InterruptedException {
+    enviar(peticion(ruta, usuario).GET(), "GET " + ruta);
+  }
+
+  private JsonNode enviar(String metodo, String ruta, String cuerpo, UUID usuario)
+      throws IOException, InterruptedException {
+    HttpRequest.Builder b = peticion(ruta, usuario);
+    if (cuerpo == null) {
+      b.method(metodo, HttpRequest.BodyPublishers.noBody());
+    } else {
+      b.header("Content-Type", ruta.contains("format=ndjson") ? "application/x-ndjson" : "application/json")
+          .method(metodo, HttpRequest.BodyPublishers.ofString(cuerpo));
+    }
+    return enviar(b, metodo + " " + ruta);
+  }
+
+  private JsonNode enviar(HttpRequest.Builder b, String paso) throws IOException, InterruptedException {
+    HttpResponse<String> r = http.send(b.build(), HttpResponse.BodyHandlers.ofString());
+    if (r.statusCode() / 100 != 2) {
+      fallas.add(paso + " -> " + r.statusCode());
+      return Json.MAPPER.missingNode();
+    }
+    try {
+      return Json.MAPPER.readTree(r.body());
+    } catch (JsonProcessingException e) {
+      // export y respuestas sin cuerpo
+      return Json.MAPPER.missingNode();
+    }
+  }
+
+  private HttpRequest.Builder peticion(String ruta, UUID usuario) {
+    HttpRequest.Builder b = HttpRequest.newBuilder(base.resolve(ruta)).timeout(Duration.ofSeconds(60));
+    if (usuario != null) {
+      b.header("Authorization", jwks.bearer(usuario));
+    }
+    return b;
+  }
+
+  private static String q(String s) {
+    return URLEncoder.encode(s, StandardCharsets.UTF_8);
+  }
+
+  private static String json(Object o) {
+    try {
+      return Json.MAPPER.writeValueAsString(o);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
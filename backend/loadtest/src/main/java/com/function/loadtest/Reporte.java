@@ -0,0 +1,89 @@
+package com.function.loadtest;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.function.json.Json;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Tabla por consola y el mismo resultado en JSON (results/), para guardar junto al
+ * commit medido y comparar corridas.
+ */
+final class Reporte {
+
+  private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+  private Reporte() {
+  }
+
+  static void imprimir(Resultado r, PrintStream out) {
+    out.printf(Locale.ROOT, "%n%-18s %8s %8s %7s %7s %6s %9s %9s %9s %9s %9s%n",
+        "operación", "n", "req/s", "429+503", "4xx/5xx", "fallas", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    for (Map.Entry<String, Resultado.Medicion> e : r.porOperacion().entrySet()) {
+      fila(out, e.getKey(), e.getValue(), r.segundos());
+    }
+    fila(out, "total", r.total(), r.segundos());
+    if (r.noEnviadas() > 0) {
+      out.printf(Locale.ROOT, "%d requests no enviados: la concurrencia no alcanzó para la tasa pedida%n",
+          r.noEnviadas());
+    }
+  }
+
+  private static void fila(PrintStream out, String nombre, Resultado.Medicion m, double segundos) {
+    Histogram h = m.latencias();
+    out.printf(Locale.ROOT, "%-18s %8d %8.1f %7d %7d %6d", nombre, m.n(), m.n() / segundos, m.rechazadas(),
+        m.errores(), m.fallas());
+    for (double p : PERCENTILES) {
+      out.printf(Locale.ROOT, " %9.1f", Carga.ms(h.getValueAtPercentile(p)));
+    }
+    out.printf(Locale.ROOT, " %9.1f%n", Carga.ms(h.getMaxValue()));
+  }
+
+  static void guardar(Resultado r, Opciones o, EventGridStub eg, Path archivo) throws IOException {
+    ObjectNode raiz = Json.MAPPER.createObjectNode();
+    ObjectNode corrida = raiz.putObject("corrida");
+    corrida.put("target", o.target().name().toLowerCase());
+    corrida.put("mezcla", o.mezcla().name().toLowerCase());
+    corrida.put("escala", o.escala());
+    corrida.put("semilla", o.semilla());
+    corrida.put("tasa", o.tasa());
+    corrida.put("concurrencia", o.concurrencia());
+    corrida.put("duracionSegundos", r.segundos());
+    corrida.put("calentamientoSegundos", o.calentamiento().toMillis() / 1000.0);
+    corrida.put("noEnviadas", r.noEnviadas());
+
+    ObjectNode ops = raiz.putObject("operaciones");
+    r.porOperacion().forEach((nombre, m) -> medicion(ops.putObject(nombre), m, r.segundos()));
+    medicion(raiz.putObject("total"), r.total(), r.segundos());
+
+    ObjectNode eventGrid = raiz.putObject("eventGrid");
+    eventGrid.put("lotes", eg.lotes());
+    eventGrid.put("eventos", eg.eventos());
+    eventGrid.put("bytes", eg.bytes());
+
+    if (archivo.getParent() != null) Files.createDirectories(archivo.getParent());
+    Json.MAPPER.writerWithDefaultPrettyPrinter().writeValue(archivo.toFile(), raiz);
+  }
+
+  private static void medicion(ObjectNode n, Resultado.Medicion m, double segundos) {
+    Histogram h = m.latencias();
+    n.put("n", m.n());
+    n.put("ok", m.ok());
+    n.put("rechazadas", m.rechazadas());
+    n.put("errores", m.errores());
+    n.put("fallas", m.fallas());
+    n.put("rps", m.n() / segundos);
+    ObjectNode ms = n.putObject("latenciaMs");
+    ms.put("p50", Carga.ms(h.getValueAtPercentile(50)));
+    ms.put("p90", Carga.ms(h.getValueAtPercentile(90)));
+    ms.put("p99", Carga.ms(h.getValueAtPercentile(99)));
+    ms.put("p999", Carga.ms(h.getValueAtPercentile(99.9)));
+    ms.put("max", Carga.ms(h.getMaxValue()));
+  }
+}
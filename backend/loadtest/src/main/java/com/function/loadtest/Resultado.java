@@ -0,0 +1,29 @@
+package com.function.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+/** Lo medido después del calentamiento, por operación. Latencias en microsegundos. */
+record Resultado(Map<String, Medicion> porOperacion, double segundos, long noEnviadas) {
+
+  record Medicion(long ok, long rechazadas, long errores, long fallas, Histogram latencias) {
+
+    long n() {
+      return ok + rechazadas + errores + fallas;
+    }
+  }
+
+  Medicion total() {
+    Histogram h = new Histogram(3);
+    long ok = 0, rechazadas = 0, errores = 0, fallas = 0;
+    for (Medicion m : porOperacion.values()) {
+      h.add(m.latencias());
+      ok += m.ok();
+      rechazadas += m.rechazadas();
+      errores += m.errores();
+      fallas += m.fallas();
+    }
+    return new Medicion(ok, rechazadas, errores, fallas, h);
+  }
+}
@@ -0,0 +1,32 @@
+package com.function.loadtest.host;
+
+import com.microsoft.azure.functions.ExecutionContext;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * ExecutionContext por invocación. Es un Proxy para no depender de qué métodos con
+ * default trae cada versión de la librería: fuera de logger, invocationId y nombre
+ * devuelve null.
+ */
+final class Contexto {
+
+  private Contexto() {}
+
+  static ExecutionContext de(String funcion) {
+    Logger logger = Logger.getLogger("Function." + funcion);
+    String invocacion = UUID.randomUUID().toString();
+    return (ExecutionContext) Proxy.newProxyInstance(Contexto.class.getClassLoader(),
+        new Class<?>[] { ExecutionContext.class }, (proxy, method, args) -> switch (method.getName()) {
+          case "getLogger" -> logger;
+          case "getInvocationId" -> invocacion;
+          case "getFunctionName" -> funcion;
+          case "toString" -> "ExecutionContext[" + funcion + "]";
+          case "hashCode" -> System.identityHashCode(proxy);
+          case "equals" -> proxy == args[0];
+          default -> null;
+        });
+  }
+}
@@ -0,0 +1,171 @@
+package com.function.loadtest.host;
+
+import com.function.EventosFunction;
+import com.function.FunctionGraphQL;
+import com.function.ObrasFunction;
+import com.function.OutboxRelayFunction;
+import com.function.UsuariosFunction;
+import com.microsoft.azure.functions.ExecutionContext;
+import com.microsoft.azure.functions.HttpMethod;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Host local de las Functions HTTP sobre el HttpServer del JDK, para pruebas de
+ * carga: /api/{route} se resuelve con las anotaciones de cada Function (ver Ruta) y
+ * se invoca el mismo método que llama el worker de Azure. outboxRelay corre cada 10
+ * segundos como su TimerTrigger.
+ *
+ * La configuración es la de siempre, por variables de entorno (DB_URL, EG_*, JWT...):
+ * LoadTest lo levanta como proceso aparte con ese entorno.
+ *
+ * <pre>java -cp loadtest.jar com.function.loadtest.host.FunctionsHost &lt;puerto&gt; [hilos]</pre>
+ */
+public final class FunctionsHost {
+
+  static final List<Class<?>> FUNCIONES = List.of(
+      ObrasFunction.class, EventosFunction.class, UsuariosFunction.class, FunctionGraphQL.class);
+
+  /** Para que LoadTest sepa cuándo está arriba. */
+  public static final String PING = "/admin/host/ping";
+
+  private static final Logger LOG = Logger.getLogger(FunctionsHost.class.getName());
+  private static final String PREFIJO = "/api/";
+
+  private final List<Ruta> rutas;
+
+  private FunctionsHost(List<Ruta> rutas) {
+    this.rutas = rutas;
+  }
+
+  public static void main(String[] args) throws Exception {
+    int puerto = Integer.parseInt(args[0]);
+    int hilos = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+
+    FunctionsHost host = new FunctionsHost(Ruta.de(FUNCIONES));
+    HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", puerto), 1024);
+    // como el worker de Java: un pool fijo de hilos que bloquean en JDBC
+    server.setExecutor(Executors.newFixedThreadPool(hilos));
+    server.createContext("/", host::atender);
+    server.start();
+
+    OutboxRelayFunction relay = new OutboxRelayFunction();
+    ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+    timer.scheduleWithFixedDelay(() -> {
+      try {
+        relay.run(null, Contexto.de("outboxRelay"));
+      } catch (RuntimeException e) {
+        LOG.log(Level.WARNING, "outboxRelay falló", e);
+      }
+    }, 10, 10, TimeUnit.SECONDS);
+
+    LOG.info(() -> "Functions en http://127.0.0.1:" + puerto + PREFIJO + " (" + host.rutas.size() + " rutas, "
+        + hilos + " hilos)");
+  }
+
+  private void atender(HttpExchange ex) throws IOException {
+    try {
+      String path = ex.getRequestURI().getRawPath();
+      if (path.equals(PING)) {
+        responder(ex, 200, Map.of(), new byte[0]);
+        return;
+      }
+      if (!path.startsWith(PREFIJO)) {
+        responder(ex, 404, Map.of(), new byte[0]);
+        return;
+      }
+      String[] partes = path.substring(PREFIJO.length()).split("/");
+      for (int i = 0; i < partes.length; i++) partes[i] = decodificar(partes[i]);
+      HttpMethod metodo = HttpMethod.valueOf(ex.getRequestMethod().toUpperCase());
+
+      boolean otroMetodo = false;
+      for (Ruta r : rutas) {
+        Map<String, String> vars = r.coincide(partes);
+        if (vars == null) continue;
+        if (!r.metodos().contains(metodo)) {
+          otroMetodo = true;
+          continue;
+        }
+        invocar(ex, r, metodo, vars);
+        return;
+      }
+      responder(ex, otroMetodo ? 405 : 404, Map.of(), new byte[0]);
+    } finally {
+      ex.close();
+    }
+  }
+
+  private void invocar(HttpExchange ex, Ruta r, HttpMethod metodo, Map<String, String> vars) throws IOException {
+    String texto = new String(ex.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    ex.getRequestHeaders().forEach((k, v) -> headers.put(k, String.join(",", v)));
+    URI uri = URI.create("http://" + ex.getLocalAddress().getHostString() + ":" + ex.getLocalAddress().getPort()
+        + ex.getRequestURI());
+
+    Solicitud<Object> req;
+    try {
+      req = new Solicitud<>(uri, metodo, headers, query(ex.getRequestURI().getRawQuery()), r.body(texto));
+    } catch (IOException e) {
+      responder(ex, 400, Map.of(), new byte[0]);
+      return;
+    }
+    ExecutionContext ctx = Contexto.de(r.nombre());
+    try {
+      Respuesta resp = (Respuesta) r.metodo().invoke(r.instancia(), r.argumentos(req, vars, ctx));
+      byte[] cuerpo = resp.cuerpo();
+      responder(ex, resp.getStatusCode(), resp.headers(), cuerpo);
+    } catch (InvocationTargetException e) {
+      // el host responde 500 sin cuerpo cuando la Function lanza
+      LOG.log(Level.WARNING, "Function " + r.nombre() + " lanzó", e.getCause());
+      responder(ex, 500, Map.of(), new byte[0]);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void responder(HttpExchange ex, int status, Map<String, String> headers, byte[] cuerpo)
+      throws IOException {
+    headers.forEach((k, v) -> ex.getResponseHeaders().set(k, v));
+    boolean sinCuerpo = cuerpo.length == 0 || status == 204 || status == 304;
+    ex.sendResponseHeaders(status, sinCuerpo ? -1 : cuerpo.length);
+    if (!sinCuerpo) {
+      try (OutputStream out = ex.getResponseBody()) {
+        out.write(cuerpo);
+      }
+    }
+  }
+
+  // primer valor de cada parámetro, decodificado
+  private static Map<String, String> query(String raw) {
+    Map<String, String> q = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    if (raw == null || raw.isEmpty()) return q;
+    for (String par : raw.split("&")) {
+      if (par.isEmpty()) continue;
+      int igual = par.indexOf('=');
+      String k = decodificar(igual < 0 ? par : par.substring(0, igual));
+      String v = igual < 0 ? "" : decodificar(par.substring(igual + 1));
+      q.putIfAbsent(k, v);
+    }
+    return q;
+  }
+
+  private static String decodificar(String s) {
+    return URLDecoder.decode(s, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,103 @@
+package com.function.loadtest.host;
+
+import com.function.json.Json;
+import com.microsoft.azure.functions.HttpResponseMessage;
+import com.microsoft.azure.functions.HttpStatusType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+/** HttpResponseMessage de las Functions y su serialización al cuerpo HTTP. */
+final class Respuesta implements HttpResponseMessage {
+
+  private final HttpStatusType status;
+  private final Map<String, String> headers;
+  private final Object body;
+
+  private Respuesta(HttpStatusType status, Map<String, String> headers, Object body) {
+    this.status = status;
+    this.headers = headers;
+    this.body = body;
+  }
+
+  @Override
+  public HttpStatusType getStatus() {
+    return status;
+  }
+
+  public int getStatusCode() {
+    return status.value();
+  }
+
+  @Override
+  public String getHeader(String key) {
+    return headers.get(key);
+  }
+
+  @Override
+  public Object getBody() {
+    return body;
+  }
+
+  Map<String, String> headers() {
+    return headers;
+  }
+
+  /**
+   * Cuerpo como lo manda el worker de Java: byte[] tal cual, String en UTF-8 y
+   * cualquier otro objeto como JSON. Si la Function no puso Content-Type se elige
+   * según el tipo, igual que el host.
+   */
+  byte[] cuerpo() throws IOException {
+    Object b = body;
+    if (b == null) return new byte[0];
+    if (b instanceof byte[] bytes) {
+      headers.putIfAbsent("Content-Type", "application/octet-stream");
+      return bytes;
+    }
+    if (b instanceof String s) {
+      headers.putIfAbsent("Content-Type", "text/plain; charset=utf-8");
+      return s.getBytes(StandardCharsets.UTF_8);
+    }
+    headers.putIfAbsent("Content-Type", "application/json");
+    return Json.MAPPER.writeValueAsBytes(b);
+  }
+
+  static final class Builder implements HttpResponseMessage.Builder {
+
+    private HttpStatusType status;
+    private final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private Object body;
+
+    Builder(HttpStatusType status) {
+      this.status = status;
+    }
+
+    @Override
+    public HttpResponseMessage.Builder status(HttpStatusType status) {
+      this.status = status;
+      return this;
+    }
+
+    @Override
+    public HttpResponseMessage.Builder header(String key, String value) {
+      headers.put(key, value);
+      return this;
+    }
+
+    @Override
+    public HttpResponseMessage.Builder body(Object body) {
+      this.body = body;
+      return this;
+    }
+
+    @Override
+    public HttpResponseMessage build() {
+      Map<String, String> copia = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+      copia.putAll(headers);
+      return new Respuesta(status, copia, body);
+    }
+  }
+}
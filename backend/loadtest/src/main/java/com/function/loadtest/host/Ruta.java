@@ -0,0 +1,128 @@
+package com.function.loadtest.host;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.function.json.Json;
+import com.microsoft.azure.functions.ExecutionContext;
+import com.microsoft.azure.functions.HttpMethod;
+import com.microsoft.azure.functions.HttpRequestMessage;
+import com.microsoft.azure.functions.annotation.BindingName;
+import com.microsoft.azure.functions.annotation.FunctionName;
+import com.microsoft.azure.functions.annotation.HttpTrigger;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Una Function con HttpTrigger, leída de sus anotaciones como lo hace el host:
+ * route ("obras/{id}", sin el prefijo api/), métodos, parámetros @BindingName y el
+ * tipo del body de HttpRequestMessage (Optional&lt;String&gt; o un tipo que se
+ * deserializa desde JSON, como el Map de FunctionGraphQL).
+ */
+record Ruta(String nombre, Set<HttpMethod> metodos, String[] segmentos, Object instancia, Method metodo,
+            JavaType body) {
+
+  /** Rutas de todas las Functions HTTP de las clases dadas, las más específicas primero. */
+  static List<Ruta> de(List<Class<?>> clases) throws ReflectiveOperationException {
+    List<Ruta> out = new ArrayList<>();
+    for (Class<?> c : clases) {
+      Object instancia = null;
+      for (Method m : c.getMethods()) {
+        FunctionName fn = m.getAnnotation(FunctionName.class);
+        HttpTrigger trigger = trigger(m);
+        if (fn == null || trigger == null) continue;
+        if (instancia == null) {
+          Constructor<?> k = c.getDeclaredConstructor();
+          k.setAccessible(true);
+          instancia = k.newInstance();
+        }
+        String route = trigger.route().isBlank() ? fn.value() : trigger.route();
+        Set<HttpMethod> metodos = trigger.methods().length == 0
+            ? EnumSet.allOf(HttpMethod.class) : EnumSet.copyOf(Arrays.asList(trigger.methods()));
+        out.add(new Ruta(fn.value(), metodos, route.split("/"), instancia, m, tipoBody(m)));
+      }
+    }
+    // "eventos/search" antes que "eventos/{id}", como el ruteo de ASP.NET del host
+    out.sort(Comparator.comparingInt(Ruta::literales).reversed().thenComparingInt(r -> -r.segmentos().length));
+    return out;
+  }
+
+  /** Variables de la ruta si el path coincide; null si no. */
+  Map<String, String> coincide(String[] path) {
+    if (path.length != segmentos.length) return null;
+    Map<String, String> vars = new HashMap<>();
+    for (int i = 0; i < path.length; i++) {
+      String s = segmentos[i];
+      if (s.startsWith("{") && s.endsWith("}")) {
+        vars.put(variable(s), path[i]);
+      } else if (!s.equalsIgnoreCase(path[i])) {
+        return null;
+      }
+    }
+    return vars;
+  }
+
+  Object[] argumentos(Solicitud<?> req, Map<String, String> vars, ExecutionContext ctx) {
+    Parameter[] ps = metodo.getParameters();
+    Object[] args = new Object[ps.length];
+    for (int i = 0; i < ps.length; i++) {
+      Class<?> t = ps[i].getType();
+      BindingName bn = ps[i].getAnnotation(BindingName.class);
+      if (HttpRequestMessage.class.isAssignableFrom(t)) args[i] = req;
+      else if (ExecutionContext.class.isAssignableFrom(t)) args[i] = ctx;
+      else if (bn != null) args[i] = vars.get(bn.value());
+    }
+    return args;
+  }
+
+  /** El body en el tipo que espera la Function. */
+  Object body(String texto) throws IOException {
+    if (body == null) return Optional.ofNullable(texto.isEmpty() ? null : texto);
+    return texto.isEmpty() ? null : Json.MAPPER.readValue(texto, body);
+  }
+
+  private int literales() {
+    return (int) Arrays.stream(segmentos).filter(s -> !s.startsWith("{")).count();
+  }
+
+  // {id}, {id:int}, {id?}
+  private static String variable(String segmento) {
+    String v = segmento.substring(1, segmento.length() - 1);
+    int corte = v.indexOf(':');
+    if (corte >= 0) v = v.substring(0, corte);
+    return v.endsWith("?") ? v.substring(0, v.length() - 1) : v;
+  }
+
+  private static HttpTrigger trigger(Method m) {
+    for (Parameter p : m.getParameters()) {
+      HttpTrigger t = p.getAnnotation(HttpTrigger.class);
+      if (t != null) return t;
+    }
+    return null;
+  }
+
+  // null = Optional<String>; si no, el T de HttpRequestMessage<T>
+  private static JavaType tipoBody(Method m) {
+    for (Parameter p : m.getParameters()) {
+      if (p.getAnnotation(HttpTrigger.class) == null) continue;
+      if (p.getParameterizedType() instanceof ParameterizedType pt) {
+        Type t = pt.getActualTypeArguments()[0];
+        if (t instanceof ParameterizedType opt && opt.getRawType() == Optional.class) return null;
+        return Json.MAPPER.getTypeFactory().constructType(t);
+      }
+    }
+    return null;
+  }
+}
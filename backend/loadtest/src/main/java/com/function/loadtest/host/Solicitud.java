@@ -0,0 +1,66 @@
+package com.function.loadtest.host;
+
+import com.microsoft.azure.functions.HttpMethod;
+import com.microsoft.azure.functions.HttpRequestMessage;
+import com.microsoft.azure.functions.HttpResponseMessage;
+import com.microsoft.azure.functions.HttpStatus;
+import com.microsoft.azure.functions.HttpStatusType;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * HttpRequestMessage armado desde un request del HttpServer. Headers y query van en
+ * mapas sin distinguir mayúsculas, como los entrega el host de Azure Functions.
+ */
+final class Solicitud<T> implements HttpRequestMessage<T> {
+
+  private final URI uri;
+  private final HttpMethod metodo;
+  private final Map<String, String> headers;
+  private final Map<String, String> query;
+  private final T body;
+
+  Solicitud(URI uri, HttpMethod metodo, Map<String, String> headers, Map<String, String> query, T body) {
+    this.uri = uri;
+    this.metodo = metodo;
+    this.headers = headers;
+    this.query = query;
+    this.body = body;
+  }
+
+  @Override
+  public URI getUri() {
+    return uri;
+  }
+
+  @Override
+  public HttpMethod getHttpMethod() {
+    return metodo;
+  }
+
+  @Override
+  public Map<String, String> getHeaders() {
+    return headers;
+  }
+
+  @Override
+  public Map<String, String> getQueryParameters() {
+    return query;
+  }
+
+  @Override
+  public T getBody() {
+    return body;
+  }
+
+  @Override
+  public HttpResponseMessage.Builder createResponseBuilder(HttpStatus status) {
+    return new Respuesta.Builder(status);
+  }
+
+  @Override
+  public HttpResponseMessage.Builder createResponseBuilder(HttpStatusType status) {
+    return new Respuesta.Builder(status);
+  }
+}
@@ -0,0 +1,98 @@
+package com.function.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.function.json.Json;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlanTest {
+
+    private static JsonNode plan(String json) throws Exception {
+        return Json.MAPPER.readTree(json.replace('\'', '"'));
+    }
+
+    // Sort sobre un Seq Scan de obras que descarta casi todo con el filtro, 4 vueltas
+    private static final String SEQ_Y_SORT = """
+            {'Node Type': 'Sort', 'Actual Rows': 40, 'Actual Loops': 1,
+             'Sort Method': 'quicksort', 'Sort Space Type': 'Memory',
+             'Shared Hit Blocks': 120, 'Shared Read Blocks': 30,
+             'Plans': [{'Node Type': 'Seq Scan', 'Relation Name': 'obras',
+                        'Actual Rows': 10, 'Actual Loops': 4, 'Rows Removed by Filter': 2490}]}
+            """;
+
+    @Test
+    void seqScan_cuentaFiltradasPorVueltas() throws Exception {
+        Plan p = Plan.evaluar(plan(SEQ_Y_SORT), 3.5, Consultas.Tolera.NADA, 1000, 1000);
+
+        assertEquals(10_000, p.filasSecuenciales());
+        assertEquals(40, p.filasOrdenadas());
+        assertEquals(150, p.bloques());
+        assertEquals(3.5, p.ms());
+        assertEquals(1, p.hallazgos().size());
+        assertTrue(p.hallazgos().get(0).startsWith("Seq Scan en obras"), p.hallazgos().toString());
+    }
+
+    @Test
+    void completa_toleraSeqScan() throws Exception {
+        assertTrue(Plan.evaluar(plan(SEQ_Y_SORT), 1, Consultas.Tolera.COMPLETA, 1000, 1000).hallazgos().isEmpty());
+    }
+
+    @Test
+    void staging_noCuenta() throws Exception {
+        Plan p = Plan.evaluar(plan("""
+                {'Node Type': 'Seq Scan', 'Relation Name': 'obras_staging', 'Actual Rows': 50000, 'Actual Loops': 1}
+                """), 1, Consultas.Tolera.NADA, 1000, 1000);
+
+        assertEquals(0, p.filasSecuenciales());
+        assertTrue(p.hallazgos().isEmpty());
+    }
+
+    @Test
+    void sortGrande_soloSiNoSeTolera() throws Exception {
+        String sort = """
+                {'Node Type': 'Sort', 'Actual Rows': 20, 'Actual Loops': 1, 'Sort Method': 'top-N heapsort',
+                 'Sort Space Type': 'Memory',
+                 'Plans': [{'Node Type': 'Index Scan', 'Relation Name': 'usuarios_obras',
+                            'Actual Rows': 5000, 'Actual Loops': 1}]}
+                """;
+
+        Plan nada = Plan.evaluar(plan(sort), 1, Consultas.Tolera.NADA, 1000, 1000);
+        assertEquals(5000, nada.filasOrdenadas());
+        assertEquals(1, nada.hallazgos().size());
+        assertTrue(Plan.evaluar(plan(sort), 1, Consultas.Tolera.ORDEN, 1000, 1000).hallazgos().isEmpty());
+        assertTrue(Plan.evaluar(plan(sort), 1, Consultas.Tolera.NADA, 10_000, 10_000).hallazgos().isEmpty());
+    }
+
+    @Test
+    void sortEnDisco_fallaSalvoCompleta() throws Exception {
+        String disco = """
+                {'Node Type': 'Sort', 'Actual Rows': 100, 'Actual Loops': 1, 'Sort Method': 'external merge',
+                 'Sort Space Type': 'Disk',
+                 'Plans': [{'Node Type': 'Bitmap Heap Scan', 'Relation Name': 'eventos_feed',
+                            'Actual Rows': 100, 'Actual Loops': 1}]}
+                """;
+
+        assertEquals(1, Plan.evaluar(plan(disco), 1, Consultas.Tolera.ORDEN, 1000, 1000).hallazgos().size());
+        assertTrue(Plan.evaluar(plan(disco), 1, Consultas.Tolera.COMPLETA, 1000, 1000).hallazgos().isEmpty());
+    }
+
+    @Test
+    void catalogo_clasificaPorElTextoNormalizado() {
+        assertEquals("usuarios.obras", Consultas.de("""
+                SELECT o.id_obra, o.titulo FROM obras o
+                  JOIN usuarios_obras uo ON uo.id_obra = o.id_obra
+                 WHERE uo.id_azure = $1 ORDER BY uo.es_principal DESC, o.id_obra""").nombre());
+        assertEquals("obras.listar.pagina", Consultas.de("SELECT o.id_obra FROM (SELECT id_obra FROM obras "
+                + "ORDER BY id_obra DESC LIMIT 20 OFFSET 40) o LEFT JOIN usuarios_obras uo "
+                + "ON uo.id_obra = o.id_obra ORDER BY o.id_obra DESC").nombre());
+        assertEquals("obras.listar.cursor", Consultas.de("SELECT o.id_obra FROM (SELECT id_obra FROM obras "
+                + "WHERE id_obra < $1 ORDER BY id_obra DESC LIMIT 20 OFFSET 0) o LEFT JOIN usuarios_obras uo "
+                + "ON uo.id_obra = o.id_obra ORDER BY o.id_obra DESC").nombre());
+        assertEquals("obras.listar", Consultas.de("SELECT o.id_obra FROM obras o LEFT JOIN usuarios_obras uo "
+                + "ON uo.id_obra = o.id_obra ORDER BY o.id_obra").nombre());
+        assertEquals("fk.verificar", Consultas.de("SELECT 1 FROM ONLY \"public\".\"usuarios\" x "
+                + "WHERE \"id_azure\" OPERATOR(pg_catalog.=) $1 FOR KEY SHARE OF x").nombre());
+        assertNull(Consultas.de("SELECT * FROM colecciones"));
+    }
+}
@@ -1,16 +1,25 @@
 package com.function;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.MapperFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.function.auth.JwtAuthService;
+import com.function.bulk.BulkAbort;
+import com.function.bulk.BulkParser;
+import com.function.bulk.BulkResult;
+import com.function.bulk.Staging;
 import com.function.common.HttpConstants;
+import com.function.db.Copy;
 import com.function.db.Db;
-import com.function.dto.EventoRequestMapper;
+import com.function.db.EventosFeed;
+import com.function.db.Search;
+import com.function.db.Tx;
 import com.function.dto.EventoDTO;
-import com.function.events.EventBusEG;
+import com.function.dto.RequestReaders;
+import com.function.events.Outbox;
 import com.function.exception.ApplicationException;
+import com.function.exception.InvalidRequestException;
+import com.function.json.JsonResponse;
+import com.function.geo.Coordenadas;
+import com.function.geo.GeoHash;
+import com.function.geo.Geocoder;
 import com.function.model.Evento;
 import com.function.model.TipoEvento;
 import com.function.model.UsuarioRef;
@@ -22,25 +31,36 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.*;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 
 /**
  * Azure Function HTTP para CRUD de eventos.
  * Rutas:
- * GET /api/eventos -> listar (join con tipoevento, usuario, rol)
- * GET /api/eventos/{id} -> obtener por id
+ * GET /api/eventos -> listar desde eventos_feed
+ *     ?cuando=proximos|pasados &desde=&hasta= (ISO-8601) &id_azure= (autor) &limit=&offset=
+ * GET /api/eventos/{id} -> obtener por id (eventos_feed)
+ * GET /api/eventos/search?q=&limit=&offset= -> búsqueda por texto, ranqueada
+ * GET /api/eventos/near?lat=&lon=&radiusKm=&desde=&hasta= -> cercanos, por distancia
  * POST /api/eventos -> crear
+ * POST /api/eventos/bulk?format=csv|ndjson&atomic= -> carga masiva vía COPY a staging
  * PUT /api/eventos/{id} -> actualizar
  * DELETE /api/eventos/{id} -> eliminar (solo admin)
  *
+ * Los eventos de dominio (Eventos.Evento.*) se encolan en la tabla outbox dentro
+ * de la misma transacción; OutboxRelayFunction los publica en Event Grid.
+ *
  * Valida service-token usando JwtAuthService.
  */
 public class EventosFunction {
 
   private static final String ID_EVENTOS = "id_eventos";
-  private static final ObjectMapper MAPPER = JsonMapper.builder()
-      .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true)
-      .build();
+  private static final int MAX_LIMIT = 500;
+  private static final double MAX_RADIO_KM = 200;
+  private static final int MAX_BULK = 10_000;
+  static Geocoder geocoder = Geocoder.fromEnv(); // visible para test
 
   @FunctionName("eventosRoot")
   public HttpResponseMessage eventosRoot(
@@ -48,7 +68,7 @@ public class EventosFunction {
           HttpMethod.POST }, authLevel = AuthorizationLevel.ANONYMOUS, route = "eventos") HttpRequestMessage<Optional<String>> request,
       final ExecutionContext ctx) throws IOException {
 
-    ctx.getLogger().info(">>> 1. INICIANDO FUNCTION EVENTOS ROOT: " + request.getHttpMethod());
+    ctx.getLogger().fine(() -> "eventosRoot " + request.getHttpMethod());
 
     // YA NO VALIDAMOS AQUÍ. DEJAMOS PASAR EL FLUJO AL SWITCH.
 
@@ -117,6 +137,65 @@ public class EventosFunction {
     }
   }
 
+  @FunctionName("eventosSearch")
+  public HttpResponseMessage eventosSearch(
+      @HttpTrigger(name = "req", methods = {
+          HttpMethod.GET }, authLevel = AuthorizationLevel.ANONYMOUS, route = "eventos/search") HttpRequestMessage<Optional<String>> request,
+      final ExecutionContext ctx) {
+    Search.Page page = Search.page(request.getQueryParameters());
+    if (page == null) {
+      return request.createResponseBuilder(HttpStatus.BAD_REQUEST)
+          .header(HttpConstants.CONTENT_TYPE, HttpConstants.APPLICATION_JSON)
+          .body("{\"error\":\"q es obligatorio\"}").build();
+    }
+    return buscar(request, page);
+  }
+
+  @FunctionName("eventosNear")
+  public HttpResponseMessage eventosNear(
+      @HttpTrigger(name = "req", methods = {
+          HttpMethod.GET }, authLevel = AuthorizationLevel.ANONYMOUS, route = "eventos/near") HttpRequestMessage<Optional<String>> request,
+      final ExecutionContext ctx) {
+    Map<String, String> q = request.getQueryParameters() != null ? request.getQueryParameters() : Map.of();
+    Coordenadas centro;
+    double radioKm;
+    Instant desde;
+    Instant hasta;
+    int limite;
+    try {
+      if (q.get("lat") == null || q.get("lon") == null)
+        throw new IllegalArgumentException("lat/lon requeridos");
+      centro = new Coordenadas(Double.parseDouble(q.get("lat")), Double.parseDouble(q.get("lon")));
+      radioKm = q.get("radiusKm") != null ? Double.parseDouble(q.get("radiusKm")) : 5;
+      desde = parseFecha(q.get("desde"));
+      hasta = parseFecha(q.get("hasta"));
+      limite = q.get("limit") != null ? Math.min(Math.max(Integer.parseInt(q.get("limit")), 1), MAX_LIMIT) : 100;
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      return request.createResponseBuilder(HttpStatus.BAD_REQUEST)
+          .header(HttpConstants.CONTENT_TYPE, HttpConstants.APPLICATION_JSON)
+          .body("{\"error\":\"lat y lon son obligatorios; radiusKm numérico; desde/hasta ISO-8601\"}").build();
+    }
+    if (!(radioKm > 0) || radioKm > MAX_RADIO_KM) {
+      return request.createResponseBuilder(HttpStatus.BAD_REQUEST)
+          .header(HttpConstants.CONTENT_TYPE, HttpConstants.APPLICATION_JSON)
+          .body("{\"error\":\"radiusKm debe estar entre 0 y " + (int) MAX_RADIO_KM + "\"}").build();
+    }
+    return cercanos(request, centro, radioKm, desde, hasta, limite);
+  }
+
+  @FunctionName("eventosBulk")
+  public HttpResponseMessage eventosBulk(
+      @HttpTrigger(name = "req", methods = {
+          HttpMethod.POST }, authLevel = AuthorizationLevel.ANONYMOUS, route = "eventos/bulk") HttpRequestMessage<Optional<String>> request,
+      final ExecutionContext ctx) {
+    if (!esTokenValido(request, ctx)) {
+      return request.createResponseBuilder(HttpStatus.UNAUTHORIZED)
+          .header(HttpConstants.CONTENT_TYPE, HttpConstants.APPLICATION_JSON)
+          .body(HttpConstants.ERROR_INVALID_AUTH).build();
+    }
+    return cargaMasiva(request, ctx);
+  }
+
   // Método auxiliar para validar token solo cuando sea necesario (POST, PUT,
   // DELETE)
   private boolean esTokenValido(HttpRequestMessage<?> request, ExecutionContext ctx) {
@@ -137,40 +216,85 @@ public class EventosFunction {
   }
 
   private HttpResponseMessage listar(HttpRequestMessage<?> req) {
-    String sql = "SELECT e.id_eventos, e.titulo, e.descripcion, e.fechaInicio, e.fechaTermino, e.precio, e.direccion, "
-        +
-        "e.id_tipo_evento, te.nombre AS tipoevento_nombre, e.id_azure, u.username AS usuario_username, u.nombre_completo AS usuario_nombre, "
-        +
-        "e.id_rol, r.nombre_rol " +
-        "FROM eventos e " +
-        "LEFT JOIN tipoevento te ON e.id_tipo_evento = te.id_tipo_evento " +
-        "LEFT JOIN usuarios u ON e.id_azure = u.id_azure " +
-        "LEFT JOIN roles r ON e.id_rol = r.id_rol " +
-        "ORDER BY e.fechaInicio DESC";
+    Map<String, String> q = req.getQueryParameters() != null ? req.getQueryParameters() : Map.of();
+    String cuando = q.get("cuando");
+    Instant desde;
+    Instant hasta;
+    UUID autor;
+    Integer limite;
+    int offset;
+    try {
+      desde = parseFecha(q.get("desde"));
+      hasta = parseFecha(q.get("hasta"));
+      autor = q.get("id_azure") != null ? UUID.fromString(q.get("id_azure")) : null;
+      limite = q.get("limit") != null ? Math.min(Math.max(Integer.parseInt(q.get("limit")), 1), MAX_LIMIT) : null;
+      offset = q.get("offset") != null ? Math.max(Integer.parseInt(q.get("offset")), 0) : 0;
+    } catch (DateTimeParseException | IllegalArgumentException e) {
+      // NumberFormatException también es IllegalArgumentException, igual que un UUID mal formado
+      return req.createResponseBuilder(HttpStatus.BAD_REQUEST)
+          .header(HttpConstants.CONTENT_TYPE, HttpConstants.APPLICATION_JSON)
+          .body("{\"error\":\"desde/hasta deben ser fechas ISO-8601, id_azure un UUID y limit/offset enteros\"}")
+          .build();
+    }
+    if (cuando != null && !"proximos".equals(cuando) && !"pasados".equals(cuando)) {
+      return req.createResponseBuilder(HttpStatus.BAD_REQUEST)
+          .header(HttpConstants.CONTENT_TYPE, HttpConstants.APPLICATION_JSON)
+          .body("{\"error\":\"cuando debe ser proximos o pasados\"}").build();
+    }
+
+    // todas las variantes filtran y ordenan por idx_eventos_feed_fecha, sin sort aparte;
+    // con id_azure se entra por idx_eventos_feed_id_azure y se ordenan solo los del autor
+    StringBuilder sql = new StringBuilder("SELECT " + EventosFeed.COLUMNAS + " FROM eventos_feed WHERE TRUE");
+    List<Object> params = new ArrayList<>();
+    if (autor != null) {
+      sql.append(" AND id_azure = ?");
+      params.add(autor);
+    }
+    if ("proximos".equals(cuando)) {
+      sql.append(" AND fechaInicio >= ?");
+      params.add(Instant.now());
+    } else if ("pasados".equals(cuando)) {
+      sql.append(" AND fechaInicio < ?");
+      params.add(Instant.now());
+    }
+    if (desde != null) {
+      sql.append(" AND fechaInicio >= ?");
+      params.add(desde);
+    }
+    if (hasta != null) {
+      sql.append(" AND fechaInicio < ?");
+      params.add(hasta);
+    }
+    // próximos: el más cercano primero; resto: más recientes primero (orden histórico)
+    sql.append("proximos".equals(cuando)
+        ? " ORDER BY fechaInicio ASC, id_eventos ASC"
+        : " ORDER BY fechaInicio DESC, id_eventos DESC");
+    if (limite != null)
+      sql.append(" LIMIT ").append(limite).append(" OFFSET ").append(offset);
+
     try (Connection con = Db.connect();
-        PreparedStatement ps = con.prepareStatement(sql);
-        ResultSet rs = ps.executeQuery()) {
-      List<Evento> out = new ArrayList<>();
-      while (rs.next()) {
-        out.add(mapEvento(rs));
+        PreparedStatement ps = con.prepareStatement(sql.toString())) {
+      for (int i = 0; i < params.size(); i++) {
+        if (params.get(i) instanceof Instant t) {
+          ps.setTimestamp(i + 1, Timestamp.from(t));
+        } else {
+          ps.setObject(i + 1, params.get(i));
+        }
+      }
+      try (ResultSet rs = ps.executeQuery()) {
+        List<Evento> out = new ArrayList<>();
+        while (rs.next()) {
+          out.add(mapEvento(rs));
+        }
+        return json(req, out, HttpStatus.OK);
       }
-      return json(req, out, HttpStatus.OK);
     } catch (SQLException | IOException e) {
       throw new ApplicationException("Error listando eventos", e);
     }
   }
 
   private HttpResponseMessage obtener(HttpRequestMessage<?> req, Long id) {
-    String sql = "SELECT e.id_eventos, e.titulo, e.descripcion, e.fechaInicio, e.fechaTermino, e.precio, e.direccion, "
-        +
-        "e.id_tipo_evento, te.nombre AS tipoevento_nombre, e.id_azure, u.username AS usuario_username, u.nombre_completo AS usuario_nombre, "
-        +
-        "e.id_rol, r.nombre_rol " +
-        "FROM eventos e " +
-        "LEFT JOIN tipoevento te ON e.id_tipo_evento = te.id_tipo_evento " +
-        "LEFT JOIN usuarios u ON e.id_azure = u.id_azure " +
-        "LEFT JOIN roles r ON e.id_rol = r.id_rol " +
-        "WHERE e.id_eventos = ?";
+    String sql = "SELECT " + EventosFeed.COLUMNAS + " FROM eventos_feed WHERE id_eventos = ?";
     try (Connection con = Db.connect();
         PreparedStatement ps = con.prepareStatement(sql)) {
       ps.setLong(1, id);
@@ -185,69 +309,295 @@ public class EventosFunction {
     }
   }
 
+  // búsqueda ranqueada sobre la proyección (la columna busqueda vive en eventos_feed)
+  private HttpResponseMessage buscar(HttpRequestMessage<?> req, Search.Page page) {
+    String sql = "SELECT " + EventosFeed.COLUMNAS + ", " + Search.RANK + " AS rank " +
+        "FROM eventos_feed WHERE " + Search.MATCH + " " +
+        "ORDER BY rank DESC, fechaInicio DESC LIMIT ? OFFSET ?";
+    try (Connection con = Db.connect();
+        PreparedStatement ps = con.prepareStatement(sql)) {
+      int i = Search.bind(ps, 1, page);
+      i = Search.bind(ps, i, page);
+      ps.setInt(i++, page.limit());
+      ps.setInt(i, page.offset());
+      try (ResultSet rs = ps.executeQuery()) {
+        List<Evento> out = new ArrayList<>();
+        while (rs.next()) {
+          out.add(mapEvento(rs));
+        }
+        return json(req, out, HttpStatus.OK);
+      }
+    } catch (SQLException | IOException e) {
+      throw new ApplicationException("Error buscando eventos", e);
+    }
+  }
+
+  // candidatos por prefijos de geohash (índice), filtro exacto haversine y orden por distancia
+  private HttpResponseMessage cercanos(HttpRequestMessage<?> req, Coordenadas c, double radioKm,
+      Instant desde, Instant hasta, int limite) {
+    List<String> celdas = new ArrayList<>(GeoHash.cobertura(c.lat(), c.lon(), radioKm));
+    StringBuilder sql = new StringBuilder("SELECT * FROM (SELECT " + EventosFeed.COLUMNAS + ", "
+        + "2 * 6371.0088 * asin(least(1, sqrt(power(sin(radians(lat - ?) / 2), 2) "
+        + "+ cos(radians(?)) * cos(radians(lat)) * power(sin(radians(lon - ?) / 2), 2)))) AS distancia_km "
+        + "FROM eventos_feed WHERE (");
+    for (int i = 0; i < celdas.size(); i++) {
+      sql.append(i == 0 ? "geohash LIKE ?" : " OR geohash LIKE ?");
+    }
+    sql.append(")");
+    if (desde != null)
+      sql.append(" AND fechaInicio >= ?");
+    if (hasta != null)
+      sql.append(" AND fechaInicio < ?");
+    sql.append(") t WHERE distancia_km <= ? ORDER BY distancia_km, id_eventos LIMIT ?");
+
+    try (Connection con = Db.connect();
+        PreparedStatement ps = con.prepareStatement(sql.toString())) {
+      int i = 1;
+      ps.setDouble(i++, c.lat());
+      ps.setDouble(i++, c.lat());
+      ps.setDouble(i++, c.lon());
+      for (String celda : celdas) {
+        ps.setString(i++, celda + "%");
+      }
+      if (desde != null)
+        ps.setTimestamp(i++, Timestamp.from(desde));
+      if (hasta != null)
+        ps.setTimestamp(i++, Timestamp.from(hasta));
+      ps.setDouble(i++, radioKm);
+      ps.setInt(i, limite);
+      try (ResultSet rs = ps.executeQuery()) {
+        List<Evento> out = new ArrayList<>();
+        while (rs.next()) {
+          Evento e = mapEvento(rs);
+          e.setDistanciaKm(Math.round(rs.getDouble("distancia_km") * 1000) / 1000.0);
+          out.add(e);
+        }
+        return json(req, out, HttpStatus.OK);
+      }
+    } catch (SQLException | IOException e) {
+      throw new ApplicationException("Error buscando eventos cercanos", e);
+    }
+  }
+
+  // acepta un instante ISO-8601 ("2025-03-01T18:00:00Z") o una fecha ("2025-03-01", 00:00 UTC)
+  private static Instant parseFecha(String v) {
+    if (v == null || v.isBlank())
+      return null;
+    if (v.length() == 10)
+      return LocalDate.parse(v).atStartOfDay(ZoneOffset.UTC).toInstant();
+    return Instant.parse(v);
+  }
+
   private HttpResponseMessage crear(HttpRequestMessage<Optional<String>> req) throws IOException {
-    Map<String, Object> in = MAPPER.readValue(req.getBody().orElse("{}"), new TypeReference<Map<String, Object>>() {
-    });
-    EventoDTO evento = EventoRequestMapper.from(in);
+    EventoDTO evento;
+    try {
+      evento = RequestReaders.leer(RequestReaders.EVENTO, req.getBody().orElse("{}"));
+    } catch (InvalidRequestException e) {
+      return req.createResponseBuilder(HttpStatus.BAD_REQUEST)
+          .body("{\"error\":\"" + e.getMessage() + "\"}").build();
+    }
 
     // validations mínimas
-    if (evento.getTitulo() == null || evento.getTitulo().isBlank()) {
+    if (evento.titulo() == null || evento.titulo().isBlank()) {
       return req.createResponseBuilder(HttpStatus.BAD_REQUEST).body("{\"error\":\"titulo es obligatorio\"}").build();
     }
 
-    try (Connection con = Db.connect();
-        PreparedStatement ps = con.prepareStatement(
-            "INSERT INTO eventos (id_tipo_evento, id_azure, id_rol, titulo, descripcion, fechaInicio, fechaTermino, precio, direccion) VALUES (?,?,?,?,?,?,?,?,?)",
-            Statement.RETURN_GENERATED_KEYS)) {
-      setLongOrNull(ps, 1, evento.getIdTipoEvento());
-      setUUIDOrNull(ps, 2, evento.getIdAzure());
-      setLongOrNull(ps, 3, evento.getIdRol());
-      ps.setString(4, evento.getTitulo());
-      ps.setString(5, evento.getDescripcion());
-      setInstantOrNull(ps, 6, evento.getFechaInicio());
-      setInstantOrNull(ps, 7, evento.getFechaTermino());
-      setBigDecimalOrNull(ps, 8, evento.getPrecio());
-      ps.setString(9, evento.getDireccion());
-      ps.executeUpdate();
+    // geocodificar fuera de la transacción: es una llamada de red
+    Coordenadas ubicacion;
+    try {
+      ubicacion = ubicar(evento);
+    } catch (IllegalArgumentException e) {
+      return req.createResponseBuilder(HttpStatus.BAD_REQUEST)
+          .body("{\"error\":\"" + e.getMessage() + "\"}").build();
+    }
+    long newId;
+    try {
+      newId = Tx.run(con -> {
+        long id = insertarEvento(con, evento, ubicacion);
+        EventosFeed.refreshEvento(con, id);
+        Outbox.enqueue(con, "Eventos.Evento.Creado", "/eventos/" + id, Map.of(ID_EVENTOS, id));
+        return id;
+      });
+    } catch (SQLException e) {
+      throw new ApplicationException("Error al crear evento", e);
+    }
+    return obtener(req, newId);
+  }
 
-      try (ResultSet keys = ps.getGeneratedKeys()) {
-        if (keys.next()) {
-          long newId = keys.getLong(1);
-          EventBusEG.publish("Eventos.Evento.Creado", "/eventos/" + newId, Map.of(ID_EVENTOS, newId));
-          return obtener(req, newId);
+  /*
+   * Carga masiva (mismo esquema que ObrasFunction): validación en memoria, un COPY a
+   * eventos_staging y merge por conjuntos a eventos, eventos_feed y outbox en una
+   * transacción. No se geocodifica fila por fila: las coordenadas se toman de lat/lon
+   * si vienen, si no el evento queda sin ubicación.
+   */
+  private HttpResponseMessage cargaMasiva(HttpRequestMessage<Optional<String>> req, ExecutionContext ctx) {
+    Map<String, String> q = req.getQueryParameters() != null ? req.getQueryParameters() : Map.of();
+    boolean atomica = "true".equalsIgnoreCase(q.get("atomic"));
+    List<BulkParser.Fila> filas;
+    try {
+      BulkParser.Formato formato = BulkParser.formato(q.get("format"),
+          firstNonNullHeader(req, HttpConstants.CONTENT_TYPE, "content-type"));
+      filas = BulkParser.parse(req.getBody().orElse(""), formato,
+          Set.of("id_tipo_evento", "id_rol", "precio", "lat", "lon"), MAX_BULK);
+    } catch (IllegalArgumentException e) {
+      return req.createResponseBuilder(HttpStatus.BAD_REQUEST)
+          .header(HttpConstants.CONTENT_TYPE, HttpConstants.APPLICATION_JSON)
+          .body("{\"error\":\"" + e.getMessage() + "\"}").build();
+    }
+    if (filas.isEmpty()) {
+      return req.createResponseBuilder(HttpStatus.BAD_REQUEST)
+          .header(HttpConstants.CONTENT_TYPE, HttpConstants.APPLICATION_JSON)
+          .body("{\"error\":\"Body vacío\"}").build();
+    }
+
+    BulkResult res = new BulkResult(filas.size());
+    Copy.Rows staging = new Copy.Rows();
+    for (BulkParser.Fila f : filas) {
+      String error = f.valida() ? filaEvento(f, staging) : f.error();
+      if (error != null)
+        res.error(f.linea(), error);
+    }
+
+    try {
+      if (staging.size() > 0 && !(atomica && res.tieneErrores())) {
+        try {
+          Tx.run(con -> {
+            mergeEventos(con, staging, res, atomica);
+            return null;
+          });
+        } catch (BulkAbort e) {
+          return json(req, e.getResultado(), HttpStatus.UNPROCESSABLE_ENTITY);
         }
+        ctx.getLogger().info("Carga masiva de eventos: " + res.getInsertadas() + "/" + res.getRecibidas());
       }
-      return req.createResponseBuilder(HttpStatus.CREATED).build();
-    } catch (SQLException e) {
-      throw new ApplicationException("Error al obtener evento", e);
+      return json(req, res, res.getInsertadas() > 0 ? HttpStatus.OK : HttpStatus.UNPROCESSABLE_ENTITY);
+    } catch (SQLException | IOException e) {
+      throw new ApplicationException("Error en la carga masiva de eventos", e);
     }
   }
 
+  // valida la fila y, si está bien, la agrega a las filas del COPY; devuelve el error o null
+  private static String filaEvento(BulkParser.Fila f, Copy.Rows staging) {
+    EventoDTO e;
+    try {
+      e = RequestReaders.desdeMapa(RequestReaders.EVENTO, f.datos());
+    } catch (InvalidRequestException ex) {
+      return ex.getMessage();
+    }
+    if (e.titulo() == null || e.titulo().isBlank())
+      return "titulo es obligatorio";
+    if (e.fechaInicio() == null)
+      return "fechaInicio es obligatoria";
+    if (e.idRol() == null)
+      return "id_rol es obligatorio";
+    if (e.precio() != null && e.precio().signum() < 0)
+      return "precio no puede ser negativo";
+    Coordenadas c = null;
+    if (e.lat() != null || e.lon() != null) {
+      if (e.lat() == null || e.lon() == null)
+        return "lat y lon van juntos";
+      try {
+        c = new Coordenadas(e.lat(), e.lon());
+      } catch (IllegalArgumentException ex) {
+        return ex.getMessage();
+      }
+    }
+    staging.add(f.linea()).add(e.idTipoEvento()).add(e.idAzure()).add(e.idRol())
+        .add(e.titulo()).add(e.descripcion()).add(e.fechaInicio()).add(e.fechaTermino())
+        .add(e.precio()).add(e.direccion())
+        .add(c != null ? c.lat() : null).add(c != null ? c.lon() : null)
+        .add(c != null ? GeoHash.encode(c.lat(), c.lon(), GeoHash.PRECISION) : null)
+        .endRow();
+    return null;
+  }
+
+  private static void mergeEventos(Connection con, Copy.Rows staging, BulkResult res, boolean atomica)
+      throws SQLException {
+    try (Statement st = con.createStatement()) {
+      st.execute("CREATE TEMP TABLE eventos_staging (linea INT PRIMARY KEY, id_eventos BIGINT, id_tipo_evento BIGINT, "
+          + "id_azure UUID, id_rol BIGINT NOT NULL, titulo TEXT NOT NULL, descripcion TEXT, "
+          + "fechaInicio TIMESTAMPTZ NOT NULL, fechaTermino TIMESTAMPTZ, precio NUMERIC(10,2), direccion TEXT, "
+          + "lat DOUBLE PRECISION, lon DOUBLE PRECISION, geohash TEXT) ON COMMIT DROP");
+    }
+    Copy.in(con, "COPY eventos_staging (linea, id_tipo_evento, id_azure, id_rol, titulo, descripcion, "
+        + "fechaInicio, fechaTermino, precio, direccion, lat, lon, geohash) FROM STDIN WITH (FORMAT csv)", staging);
+
+    Staging.rechazarHuerfanas(con, "eventos_staging", "id_tipo_evento", "tipoevento", res);
+    Staging.rechazarHuerfanas(con, "eventos_staging", "id_rol", "roles", res);
+    Staging.rechazarHuerfanas(con, "eventos_staging", "id_azure", "usuarios", res);
+    if (atomica && res.tieneErrores())
+      throw new BulkAbort(res);
+
+    Staging.asignarIds(con, "eventos_staging", "eventos", ID_EVENTOS);
+    try (Statement st = con.createStatement()) {
+      st.executeUpdate("INSERT INTO eventos (id_eventos, id_tipo_evento, id_azure, id_rol, titulo, descripcion, "
+          + "fechaInicio, fechaTermino, precio, direccion, lat, lon, geohash) OVERRIDING SYSTEM VALUE "
+          + "SELECT id_eventos, id_tipo_evento, id_azure, id_rol, titulo, descripcion, fechaInicio, fechaTermino, "
+          + "precio, direccion, lat, lon, geohash FROM eventos_staging ORDER BY linea");
+    }
+    Long[] ids = Staging.creadas(con, "eventos_staging", ID_EVENTOS, res);
+    EventosFeed.refreshEventos(con, ids);
+    Outbox.enqueueAll(con, "Eventos.Evento.Creado", "SELECT '/eventos/' || id_eventos AS subject, "
+        + "jsonb_build_object('id_eventos', id_eventos) AS data FROM eventos_staging ORDER BY linea");
+  }
+
   private HttpResponseMessage actualizar(HttpRequestMessage<Optional<String>> req, Long id) throws IOException {
-    Map<String, Object> in = MAPPER.readValue(req.getBody().orElse("{}"), new TypeReference<Map<String, Object>>() {
-    });
-    EventoDTO evento = EventoRequestMapper.from(in);
-    try (Connection con = Db.connect();
-        PreparedStatement ps = con.prepareStatement(
-            "UPDATE eventos SET id_tipo_evento=?, id_azure=?, id_rol=?, titulo=?, descripcion=?, fechaInicio=?, fechaTermino=?, precio=?, direccion=? WHERE id_eventos=?")) {
-      setLongOrNull(ps, 1, evento.getIdTipoEvento());
-      setUUIDOrNull(ps, 2, evento.getIdAzure());
-      setLongOrNull(ps, 3, evento.getIdRol());
-      ps.setString(4, evento.getTitulo());
-      ps.setString(5, evento.getDescripcion());
-      setInstantOrNull(ps, 6, evento.getFechaInicio());
-      setInstantOrNull(ps, 7, evento.getFechaTermino());
-      setBigDecimalOrNull(ps, 8, evento.getPrecio());
-      ps.setString(9, evento.getDireccion());
-      ps.setLong(10, id);
-      int rows = ps.executeUpdate();
-      if (rows == 0)
-        return req.createResponseBuilder(HttpStatus.NOT_FOUND).build();
-      EventBusEG.publish("Eventos.Evento.Actualizado", "/eventos/" + id, Map.of(ID_EVENTOS, id));
-      return obtener(req, id);
+    EventoDTO evento;
+    try {
+      evento = RequestReaders.leer(RequestReaders.EVENTO, req.getBody().orElse("{}"));
+    } catch (InvalidRequestException e) {
+      return req.createResponseBuilder(HttpStatus.BAD_REQUEST)
+          .body("{\"error\":\"" + e.getMessage() + "\"}").build();
+    }
+    // solo se geocodifica si cambió la dirección: si no, quedan las coordenadas guardadas
+    Ubicacion actual;
+    try {
+      actual = ubicacionGuardada(id);
     } catch (SQLException e) {
-      throw new ApplicationException("Error al obtener evento", e);
+      throw new ApplicationException("Error al actualizar evento", e);
+    }
+    if (actual == null)
+      return req.createResponseBuilder(HttpStatus.NOT_FOUND).build();
+    Coordenadas ubicacion;
+    try {
+      boolean mismaDireccion = (evento.lat() == null || evento.lon() == null)
+          && Objects.equals(evento.direccion(), actual.direccion());
+      ubicacion = mismaDireccion ? actual.coordenadas() : ubicar(evento);
+    } catch (IllegalArgumentException e) {
+      return req.createResponseBuilder(HttpStatus.BAD_REQUEST)
+          .body("{\"error\":\"" + e.getMessage() + "\"}").build();
     }
+    int rows;
+    try {
+      rows = Tx.run(con -> {
+        int n;
+        try (PreparedStatement ps = con.prepareStatement(
+            "UPDATE eventos SET id_tipo_evento=?, id_azure=?, id_rol=?, titulo=?, descripcion=?, fechaInicio=?, fechaTermino=?, precio=?, direccion=?, lat=?, lon=?, geohash=? WHERE id_eventos=?")) {
+          setLongOrNull(ps, 1, evento.idTipoEvento());
+          setUUIDOrNull(ps, 2, evento.idAzure());
+          setLongOrNull(ps, 3, evento.idRol());
+          ps.setString(4, evento.titulo());
+          ps.setString(5, evento.descripcion());
+          setInstantOrNull(ps, 6, evento.fechaInicio());
+          setInstantOrNull(ps, 7, evento.fechaTermino());
+          setBigDecimalOrNull(ps, 8, evento.precio());
+          ps.setString(9, evento.direccion());
+          setUbicacion(ps, 10, ubicacion);
+          ps.setLong(13, id);
+          n = ps.executeUpdate();
+        }
+        if (n > 0) {
+          EventosFeed.refreshEvento(con, id);
+          Outbox.enqueue(con, "Eventos.Evento.Actualizado", "/eventos/" + id, Map.of(ID_EVENTOS, id));
+        }
+        return n;
+      });
+    } catch (SQLException e) {
+      throw new ApplicationException("Error al actualizar evento", e);
+    }
+    if (rows == 0)
+      return req.createResponseBuilder(HttpStatus.NOT_FOUND).build();
+    return obtener(req, id);
   }
 
   private HttpResponseMessage eliminar(HttpRequestMessage<?> req, Long idEvento) {
@@ -296,14 +646,20 @@ public class EventosFunction {
 
       // D. BORRAR
       String sqlDelete = "DELETE FROM eventos WHERE id_eventos = ?";
-      try (PreparedStatement ps = con.prepareStatement(sqlDelete)) {
-        ps.setLong(1, idEvento);
-        int rows = ps.executeUpdate();
-        if (rows > 0)
-          return req.createResponseBuilder(HttpStatus.OK).body("{\"status\": \"Eliminado\"}").build();
-        else
-          return req.createResponseBuilder(HttpStatus.NOT_FOUND).build();
-      }
+      int rows = Tx.run(con, c -> {
+        int n;
+        try (PreparedStatement ps = c.prepareStatement(sqlDelete)) {
+          ps.setLong(1, idEvento);
+          n = ps.executeUpdate();
+        }
+        if (n > 0)
+          Outbox.enqueue(c, "Eventos.Evento.Eliminado", "/eventos/" + idEvento, Map.of(ID_EVENTOS, idEvento));
+        return n;
+      });
+      if (rows > 0)
+        return req.createResponseBuilder(HttpStatus.OK).body("{\"status\": \"Eliminado\"}").build();
+      else
+        return req.createResponseBuilder(HttpStatus.NOT_FOUND).build();
 
     } catch (Exception e) {
       return req.createResponseBuilder(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -311,8 +667,34 @@ public class EventosFunction {
     }
   }
 
-  // mapea ResultSet -> Evento con TipoEvento, UsuarioRef y RolRef
-  private static Evento mapEvento(ResultSet rs) throws SQLException {
+  // inserta el evento dentro de la transacción del llamador y devuelve el id generado
+  private long insertarEvento(Connection con, EventoDTO evento, Coordenadas ubicacion) throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(
+        "INSERT INTO eventos (id_tipo_evento, id_azure, id_rol, titulo, descripcion, fechaInicio, fechaTermino, precio, direccion, lat, lon, geohash) VALUES (?,?,?,?,?,?,?,?,?,?,?,?)",
+        Statement.RETURN_GENERATED_KEYS)) {
+      setLongOrNull(ps, 1, evento.idTipoEvento());
+      setUUIDOrNull(ps, 2, evento.idAzure());
+      setLongOrNull(ps, 3, evento.idRol());
+      ps.setString(4, evento.titulo());
+      ps.setString(5, evento.descripcion());
+      setInstantOrNull(ps, 6, evento.fechaInicio());
+      setInstantOrNull(ps, 7, evento.fechaTermino());
+      setBigDecimalOrNull(ps, 8, evento.precio());
+      ps.setString(9, evento.direccion());
+      setUbicacion(ps, 10, ubicacion);
+      ps.executeUpdate();
+
+      try (ResultSet keys = ps.getGeneratedKeys()) {
+        if (keys.next())
+          return keys.getLong(1);
+      }
+      throw new ApplicationException("No se generó ID de evento");
+    }
+  }
+
+  // mapea ResultSet -> Evento con TipoEvento, UsuarioRef y RolRef. Público solo para
+  // benchmarks (com.function.bench.RowMappingBenchmark): no es API de las Functions
+  public static Evento mapEvento(ResultSet rs) throws SQLException {
     Evento e = new Evento();
     e.setId_eventos(rs.getLong(ID_EVENTOS));
     e.setTitulo(rs.getString("titulo"));
@@ -324,6 +706,10 @@ public class EventosFunction {
     e.setFechaTermino(ft != null ? ft.toInstant().toString() : null);
     e.setPrecio(rs.getBigDecimal("precio"));
     e.setDireccion(rs.getString("direccion"));
+    double lat = rs.getDouble("lat");
+    e.setLat(rs.wasNull() ? null : lat);
+    double lon = rs.getDouble("lon");
+    e.setLon(rs.wasNull() ? null : lon);
 
     long tid = rs.getLong("id_tipo_evento");
     TipoEvento te = null;
@@ -359,13 +745,51 @@ public class EventosFunction {
     return e;
   }
 
+  // coordenadas del body si vienen completas; si no, geocodificación de la dirección.
+  // Fuera de rango: IllegalArgumentException (400), no se descartan en silencio
+  private static Coordenadas ubicar(EventoDTO evento) {
+    if (evento.lat() != null && evento.lon() != null) {
+      return new Coordenadas(evento.lat(), evento.lon());
+    }
+    return geocoder.geocode(evento.direccion()).orElse(null);
+  }
+
+  private record Ubicacion(String direccion, Coordenadas coordenadas) {
+  }
+
+  // dirección y coordenadas del evento antes del PUT; null si no existe
+  private static Ubicacion ubicacionGuardada(long id) throws SQLException {
+    try (Connection con = Db.connect();
+        PreparedStatement ps = con.prepareStatement("SELECT direccion, lat, lon FROM eventos WHERE id_eventos = ?")) {
+      ps.setLong(1, id);
+      try (ResultSet rs = ps.executeQuery()) {
+        if (!rs.next())
+          return null;
+        double lat = rs.getDouble("lat");
+        boolean sinLat = rs.wasNull();
+        double lon = rs.getDouble("lon");
+        boolean sinCoordenadas = sinLat || rs.wasNull();
+        return new Ubicacion(rs.getString("direccion"), sinCoordenadas ? null : new Coordenadas(lat, lon));
+      }
+    }
+  }
+
+  private static void setUbicacion(PreparedStatement ps, int idx, Coordenadas c) throws SQLException {
+    if (c != null) {
+      ps.setDouble(idx, c.lat());
+      ps.setDouble(idx + 1, c.lon());
+      ps.setString(idx + 2, GeoHash.encode(c.lat(), c.lon(), GeoHash.PRECISION));
+    } else {
+      ps.setNull(idx, Types.DOUBLE);
+      ps.setNull(idx + 1, Types.DOUBLE);
+      ps.setNull(idx + 2, Types.VARCHAR);
+    }
+  }
+
   // helpers
   private static HttpResponseMessage json(HttpRequestMessage<?> req, Object body, HttpStatus status)
       throws IOException {
-    return req.createResponseBuilder(status)
-        .header(HttpConstants.CONTENT_TYPE, HttpConstants.APPLICATION_JSON)
-        .body(MAPPER.writeValueAsString(body))
-        .build();
+    return JsonResponse.of(req, body, status);
   }
 
   private static String firstNonNullHeader(HttpRequestMessage<?> req, String... names) {
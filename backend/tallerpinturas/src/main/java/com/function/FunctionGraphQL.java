@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.function.common.HttpConstants;
 import com.function.exception.ApplicationException;
+import com.function.json.Json;
 import com.microsoft.azure.functions.*;
 import com.microsoft.azure.functions.annotation.*;
 import graphql.ExecutionInput;
@@ -33,7 +34,7 @@ public class FunctionGraphQL {
   private static final String DESCRIPCION = "descripcion";
   private static final String TITULO = "titulo";
   private static final String INCLUDE_IMAGE = "includeImage";
-  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final ObjectMapper MAPPER = Json.MAPPER;
   static HttpClient httpClient = HttpClient.newHttpClient(); // visible para test
 
   static void setHttpClient(HttpClient client) {
@@ -104,6 +105,30 @@ public class FunctionGraphQL {
       return getJson(url, SERVICE_AUTH_TOKEN, new TypeReference<Map<String,Object>>(){});
     };
 
+    DataFetcher<List<Map<String,Object>>> eventosCercanosDF = env -> {
+      StringBuilder qs = new StringBuilder("?lat=").append((Object) env.getArgument("lat"))
+          .append("&lon=").append((Object) env.getArgument("lon"));
+      for (String opt : List.of("radiusKm", "desde", "hasta")) {
+        Object v = env.getArgument(opt);
+        if (v != null) qs.append('&').append(opt).append('=').append(URLEncoder.encode(String.valueOf(v), StandardCharsets.UTF_8));
+      }
+      return getJson(joinUrl(URL_EVENTOS, "/near") + qs, SERVICE_AUTH_TOKEN, new TypeReference<List<Map<String,Object>>>(){});
+    };
+
+    // search: consulta /obras/search y /eventos/search con los mismos q/limit/offset
+    DataFetcher<Map<String,Object>> searchDF = env -> {
+      String q = env.getArgument("q");
+      StringBuilder qs = new StringBuilder("?q=").append(URLEncoder.encode(q == null ? "" : q, StandardCharsets.UTF_8));
+      Object limit = env.getArgument("limit");
+      Object offset = env.getArgument("offset");
+      if (limit != null) qs.append("&limit=").append(limit);
+      if (offset != null) qs.append("&offset=").append(offset);
+      Map<String,Object> out = new HashMap<>();
+      out.put("obras", getJson(joinUrl(URL_OBRAS, "/search") + qs, SERVICE_AUTH_TOKEN, new TypeReference<List<Map<String,Object>>>(){}));
+      out.put("eventos", getJson(joinUrl(URL_EVENTOS, "/search") + qs, SERVICE_AUTH_TOKEN, new TypeReference<List<Map<String,Object>>>(){}));
+      return out;
+    };
+
     DataFetcher<Map<String,Object>> crearObraDF = env -> {
       Map<String,Object> input = env.getArgument("input");
       if (input == null) input = Collections.emptyMap();
@@ -158,6 +183,9 @@ public class FunctionGraphQL {
         .field(f -> f.name("fechaTermino").type(Scalars.GraphQLString))
         .field(f -> f.name("precio").type(Scalars.GraphQLFloat))
         .field(f -> f.name("direccion").type(Scalars.GraphQLString))
+        .field(f -> f.name("lat").type(Scalars.GraphQLFloat))
+        .field(f -> f.name("lon").type(Scalars.GraphQLFloat))
+        .field(f -> f.name("distanciaKm").type(Scalars.GraphQLFloat))
         .build();
 
     GraphQLObjectType usuarioType = GraphQLObjectType.newObject()
@@ -170,6 +198,12 @@ public class FunctionGraphQL {
         .field(f -> f.name("nombre_completo").type(Scalars.GraphQLString))
         .build();
 
+    GraphQLObjectType searchResultType = GraphQLObjectType.newObject()
+        .name("SearchResult")
+        .field(f -> f.name("obras").type(new GraphQLList(obraType)))
+        .field(f -> f.name("eventos").type(new GraphQLList(eventoType)))
+        .build();
+
     // Input type for crearObra
     GraphQLInputObjectType obraInput = GraphQLInputObjectType.newInputObject()
         .name("ObraInput")
@@ -205,6 +239,20 @@ public class FunctionGraphQL {
             .type(usuarioType)
             .argument(a -> a.name("id").type(Scalars.GraphQLString))
             .dataFetcher(usuarioByIdDF))
+        .field(f -> f.name("eventosCercanos")
+            .type(new GraphQLList(eventoType))
+            .argument(a -> a.name("lat").type(new GraphQLNonNull(Scalars.GraphQLFloat)))
+            .argument(a -> a.name("lon").type(new GraphQLNonNull(Scalars.GraphQLFloat)))
+            .argument(a -> a.name("radiusKm").type(Scalars.GraphQLFloat))
+            .argument(a -> a.name("desde").type(Scalars.GraphQLString))
+            .argument(a -> a.name("hasta").type(Scalars.GraphQLString))
+            .dataFetcher(eventosCercanosDF))
+        .field(f -> f.name("search")
+            .type(searchResultType)
+            .argument(a -> a.name("q").type(new GraphQLNonNull(Scalars.GraphQLString)))
+            .argument(a -> a.name("limit").type(Scalars.GraphQLInt))
+            .argument(a -> a.name("offset").type(Scalars.GraphQLInt))
+            .dataFetcher(searchDF))
         .build();
 
     // --- Mutation type ---
@@ -226,6 +274,10 @@ public class FunctionGraphQL {
 
   // --- Helpers (HTTP + JSON) ---
 
+  // traceparent del request entrante (lo pone el BFF), reenviado en las llamadas de
+  // los resolvers para que queden en la misma traza; graphQL.execute corre en este hilo
+  private static final ThreadLocal<String> TRACEPARENT = new ThreadLocal<>();
+
   private static String joinUrl(String base, String path) {
     String b = base.endsWith("/") ? base.substring(0, base.length() - 1) : base;
     String p = path.startsWith("/") ? path : ("/" + path);
@@ -245,6 +297,8 @@ public class FunctionGraphQL {
         b.header("Authorization", "Bearer " + serviceToken);
       }
     }
+    String tp = TRACEPARENT.get();
+    if (tp != null) b.header("traceparent", tp);
     return b;
   }
 
@@ -262,6 +316,8 @@ public class FunctionGraphQL {
         b.header("Authorization", "Bearer " + serviceToken);
       }
     }
+    String tp = TRACEPARENT.get();
+    if (tp != null) b.header("traceparent", tp);
     return b;
   }
 
@@ -313,7 +369,14 @@ public class FunctionGraphQL {
         .variables(variables)
         .build();
 
-    Map<String,Object> result = graphQL.execute(input).toSpecification();
+    Map<String,String> headers = request.getHeaders();
+    TRACEPARENT.set(headers != null ? headers.get("traceparent") : null);
+    Map<String,Object> result;
+    try {
+      result = graphQL.execute(input).toSpecification();
+    } finally {
+      TRACEPARENT.remove();
+    }
     return request.createResponseBuilder(HttpStatus.OK)
         .header(HttpConstants.CONTENT_TYPE, HttpConstants.APPLICATION_JSON)
         .body(result)
@@ -1,30 +1,41 @@
 package com.function;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.MapperFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.function.bulk.BulkAbort;
+import com.function.bulk.BulkParser;
+import com.function.bulk.BulkResult;
+import com.function.bulk.Staging;
 import com.function.common.HttpConstants;
+import com.function.db.Copy;
 import com.function.db.Db;
+import com.function.db.Search;
+import com.function.db.Tx;
 import com.function.dto.ObraDTO;
-import com.function.dto.ObraRequestMapper;
-import com.function.events.EventBusEG;
+import com.function.dto.RequestReaders;
+import com.function.events.Outbox;
 import com.function.exception.ApplicationException;
+import com.function.exception.InvalidRequestException;
+import com.function.json.JsonResponse;
 import com.function.model.Obra;
 import com.function.model.TipoObra;
 import com.microsoft.azure.functions.*;
 import com.microsoft.azure.functions.annotation.*;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.sql.*;
 import java.util.*;
 
 /**
  * Azure Function HTTP para CRUD de obras.
  * Rutas:
- * GET /api/obras -> listar (sin imagen)
+ * GET /api/obras -> listar (sin imagen), paginable con ?limit=&offset= o por
+ * keyset con ?limit=&cursor= (las obras con id_obra menor que cursor)
  * GET /api/obras/{id}?includeImage=true -> obtener con imagen en base64
- * POST /api/obras -> crear (body incluye imagenBase64 opcional)
+ * GET /api/obras/search?q=&limit=&offset= -> búsqueda por texto, ranqueada
+ * GET /api/obras/export?format=csv|ndjson -> volcado completo vía COPY TO (sin imagen)
+ * POST /api/obras -> crear (body incluye imagenBase64 opcional); con
+ * "Prefer: return=minimal" responde 201 + Location sin body
+ * POST /api/obras/bulk?format=csv|ndjson&atomic= -> carga masiva vía COPY a staging
  * PUT /api/obras/{id} -> actualizar (body incluye imagenBase64 opcional)
  * DELETE /api/obras/{id} -> eliminar (solo admin según header X-User-Roles)
  *
@@ -33,6 +44,9 @@ import java.util.*;
  * "imagenBase64":"..." }
  * - o { "tipo": { "id_tipo_obra": 1 }, "titulo":"...", ... }
  * 
+ * Los eventos de dominio (Arte.Obra.*) se encolan en la tabla outbox en la misma
+ * transacción que la escritura; OutboxRelayFunction los publica en Event Grid.
+ *
  * Requiere JwtAuthService.validate(authHeader) para validar token de servicio.
  */
 public class ObrasFunction {
@@ -42,9 +56,18 @@ public class ObrasFunction {
   private static final String DESCRIPCION = "descripcion";
   private static final String TITULO = "titulo";
   private static final String ID_OBRA = "id_obra";
-  private static final ObjectMapper MAPPER = JsonMapper.builder()
-      .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true)
-      .build();
+  private static final int MAX_PAGE = 1000;
+  private static final int MAX_BULK = 10_000;
+
+  // alta: obra + vínculo con el dueño en un solo statement (CTE con
+  // INSERT ... RETURNING); devuelve la fila ya unida con tipobra para armar la respuesta
+  private static final String SQL_CREAR = "WITH nueva AS ("
+      + "INSERT INTO obras (id_tipo_obra, titulo, descripcion, imagen) VALUES (?, ?, ?, ?) "
+      + "RETURNING id_obra, id_tipo_obra, titulo, descripcion), "
+      + "vinculo AS (INSERT INTO usuarios_obras (id_azure, id_obra) "
+      + "SELECT CAST(? AS uuid), id_obra FROM nueva WHERE CAST(? AS uuid) IS NOT NULL) "
+      + "SELECT n.id_obra, n.id_tipo_obra, t.nombre AS tipo_nombre, n.titulo, n.descripcion "
+      + "FROM nueva n LEFT JOIN tipobra t ON t.id_tipo_obra = n.id_tipo_obra";
 
   @FunctionName("obrasRoot")
   public HttpResponseMessage obrasRoot(
@@ -118,6 +141,46 @@ public class ObrasFunction {
     }
   }
 
+  @FunctionName("obrasSearch")
+  public HttpResponseMessage obrasSearch(
+      @HttpTrigger(name = "req", methods = {
+          HttpMethod.GET }, authLevel = AuthorizationLevel.ANONYMOUS, route = "obras/search") HttpRequestMessage<Optional<String>> request,
+      final ExecutionContext ctx) {
+    Search.Page page = Search.page(request.getQueryParameters());
+    if (page == null) {
+      return request.createResponseBuilder(HttpStatus.BAD_REQUEST)
+          .header(HttpConstants.CONTENT_TYPE, HttpConstants.APPLICATION_JSON)
+          .body("{\"error\":\"q es obligatorio\"}").build();
+    }
+    return buscar(request, page);
+  }
+
+  @FunctionName("obrasBulk")
+  public HttpResponseMessage obrasBulk(
+      @HttpTrigger(name = "req", methods = {
+          HttpMethod.POST }, authLevel = AuthorizationLevel.ANONYMOUS, route = "obras/bulk") HttpRequestMessage<Optional<String>> request,
+      final ExecutionContext ctx) {
+    if (!esTokenValido(request, ctx)) {
+      return request.createResponseBuilder(HttpStatus.UNAUTHORIZED)
+          .header(HttpConstants.CONTENT_TYPE, HttpConstants.APPLICATION_JSON)
+          .body(HttpConstants.ERROR_INVALID_AUTH).build();
+    }
+    return cargaMasiva(request, ctx);
+  }
+
+  @FunctionName("obrasExport")
+  public HttpResponseMessage obrasExport(
+      @HttpTrigger(name = "req", methods = {
+          HttpMethod.GET }, authLevel = AuthorizationLevel.ANONYMOUS, route = "obras/export") HttpRequestMessage<Optional<String>> request,
+      final ExecutionContext ctx) {
+    if (!esTokenValido(request, ctx)) {
+      return request.createResponseBuilder(HttpStatus.UNAUTHORIZED)
+          .header(HttpConstants.CONTENT_TYPE, HttpConstants.APPLICATION_JSON)
+          .body(HttpConstants.ERROR_INVALID_AUTH).build();
+    }
+    return exportar(request);
+  }
+
   // Helper para validar token bajo demanda
   private boolean esTokenValido(HttpRequestMessage<?> request, ExecutionContext ctx) {
     String authHeader = firstNonNullHeader(request, "Authorization", "authorization");
@@ -136,32 +199,217 @@ public class ObrasFunction {
 
   // listar los usuarios con la nuevas tablas
   private HttpResponseMessage listar(HttpRequestMessage<?> req) {
+    // paginación opcional (?limit=&offset=) para cargas masivas, p. ej. el índice de sugerencias del BFF
+    Map<String, String> q = req.getQueryParameters() != null ? req.getQueryParameters() : Map.of();
+    Integer limit;
+    int offset;
+    Long cursor;
+    try {
+      limit = q.get("limit") != null ? Math.min(Math.max(Integer.parseInt(q.get("limit")), 1), MAX_PAGE) : null;
+      offset = q.get("offset") != null ? Math.max(Integer.parseInt(q.get("offset")), 0) : 0;
+      cursor = q.get("cursor") != null ? Long.parseLong(q.get("cursor")) : null;
+    } catch (NumberFormatException e) {
+      return req.createResponseBuilder(HttpStatus.BAD_REQUEST)
+          .header(HttpConstants.CONTENT_TYPE, HttpConstants.APPLICATION_JSON)
+          .body("{\"error\":\"limit/offset/cursor inválidos\"}").build();
+    }
+
     // CAMBIO CLAVE: Hacemos JOIN para traer el id_azure del dueño
-    String sql = "SELECT o.id_obra, o.titulo, o.descripcion, o.id_tipo_obra, uo.id_azure " +
-        "FROM obras o " +
-        "LEFT JOIN usuarios_obras uo ON o.id_obra = uo.id_obra " +
-        "ORDER BY o.id_obra DESC";
+    String sql;
+    if (limit == null && cursor == null) {
+      sql = "SELECT o.id_obra, o.titulo, o.descripcion, o.id_tipo_obra, uo.id_azure " +
+          "FROM obras o " +
+          "LEFT JOIN usuarios_obras uo ON o.id_obra = uo.id_obra " +
+          "ORDER BY o.id_obra DESC";
+    } else {
+      // se pagina sobre obras y después se une: una obra con varios dueños da varias
+      // filas y, paginando el JOIN, las páginas se corrían y repetían obras
+      sql = "SELECT o.id_obra, o.titulo, o.descripcion, o.id_tipo_obra, uo.id_azure " +
+          "FROM (SELECT id_obra, titulo, descripcion, id_tipo_obra FROM obras" +
+          (cursor != null ? " WHERE id_obra < ?" : "") +
+          " ORDER BY id_obra DESC LIMIT " + (limit != null ? limit : MAX_PAGE) + " OFFSET " + offset + ") o " +
+          "LEFT JOIN usuarios_obras uo ON o.id_obra = uo.id_obra " +
+          "ORDER BY o.id_obra DESC";
+    }
 
     try (Connection con = Db.connect();
-        PreparedStatement ps = con.prepareStatement(sql);
-        ResultSet rs = ps.executeQuery()) {
-
-      List<Map<String, Object>> out = new ArrayList<>();
-      while (rs.next()) {
-        Map<String, Object> m = new HashMap<>();
-        m.put(ID_OBRA, rs.getLong(ID_OBRA));
-        m.put(TITULO, rs.getString(TITULO));
-        m.put(DESCRIPCION, rs.getString(DESCRIPCION));
-        m.put(ID_AZURE, rs.getString(ID_AZURE));
-
-        out.add(m);
+        PreparedStatement ps = con.prepareStatement(sql)) {
+      if (cursor != null) {
+        ps.setLong(1, cursor);
+      }
+      try (ResultSet rs = ps.executeQuery()) {
+        List<Map<String, Object>> out = new ArrayList<>();
+        while (rs.next()) {
+          Map<String, Object> m = new HashMap<>();
+          m.put(ID_OBRA, rs.getLong(ID_OBRA));
+          m.put(TITULO, rs.getString(TITULO));
+          m.put(DESCRIPCION, rs.getString(DESCRIPCION));
+          m.put(ID_AZURE, rs.getString(ID_AZURE));
+
+          out.add(m);
+        }
+        return json(req, out, HttpStatus.OK);
       }
-      return json(req, out, HttpStatus.OK);
     } catch (SQLException | IOException e) {
       throw new ApplicationException("Error listando obras", e);
     }
   }
 
+  // búsqueda ranqueada (ver Search): titulo pesa más que descripcion
+  private HttpResponseMessage buscar(HttpRequestMessage<?> req, Search.Page page) {
+    String sql = "SELECT o.id_obra, o.id_tipo_obra, t.nombre AS tipo_nombre, o.titulo, o.descripcion, " +
+        Search.RANK + " AS rank " +
+        "FROM obras o LEFT JOIN tipobra t ON o.id_tipo_obra = t.id_tipo_obra " +
+        "WHERE " + Search.MATCH + " " +
+        "ORDER BY rank DESC, o.id_obra DESC LIMIT ? OFFSET ?";
+    try (Connection con = Db.connect();
+        PreparedStatement ps = con.prepareStatement(sql)) {
+      int i = Search.bind(ps, 1, page);
+      i = Search.bind(ps, i, page);
+      ps.setInt(i++, page.limit());
+      ps.setInt(i, page.offset());
+      try (ResultSet rs = ps.executeQuery()) {
+        List<Obra> out = new ArrayList<>();
+        while (rs.next()) {
+          out.add(map(rs, false));
+        }
+        return json(req, out, HttpStatus.OK);
+      }
+    } catch (SQLException | IOException e) {
+      throw new ApplicationException("Error buscando obras", e);
+    }
+  }
+
+  /*
+   * Carga masiva: las filas se validan en memoria, las válidas se envían en un solo
+   * COPY a una tabla temporal y el merge a obras/usuarios_obras/outbox se hace con
+   * sentencias por conjuntos dentro de una transacción. Las filas con error (formato,
+   * campos obligatorios o referencias inexistentes) se reportan por línea; con
+   * ?atomic=true cualquier error cancela la carga completa.
+   */
+  private HttpResponseMessage cargaMasiva(HttpRequestMessage<Optional<String>> req, ExecutionContext ctx) {
+    Map<String, String> q = req.getQueryParameters() != null ? req.getQueryParameters() : Map.of();
+    boolean atomica = "true".equalsIgnoreCase(q.get("atomic"));
+    List<BulkParser.Fila> filas;
+    try {
+      BulkParser.Formato formato = BulkParser.formato(q.get("format"),
+          firstNonNullHeader(req, HttpConstants.CONTENT_TYPE, "content-type"));
+      filas = BulkParser.parse(req.getBody().orElse(""), formato, Set.of(ID_TIPO_OBRA), MAX_BULK);
+    } catch (IllegalArgumentException e) {
+      return badRequest(req, e.getMessage());
+    }
+    if (filas.isEmpty()) {
+      return badRequest(req, "Body vacío");
+    }
+
+    BulkResult res = new BulkResult(filas.size());
+    Copy.Rows staging = new Copy.Rows();
+    for (BulkParser.Fila f : filas) {
+      String error = f.valida() ? filaObra(f, staging) : f.error();
+      if (error != null)
+        res.error(f.linea(), error);
+    }
+
+    try {
+      if (staging.size() > 0 && !(atomica && res.tieneErrores())) {
+        try {
+          Tx.run(con -> {
+            mergeObras(con, staging, res, atomica);
+            return null;
+          });
+        } catch (BulkAbort e) {
+          return json(req, e.getResultado(), HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+        ctx.getLogger().info("Carga masiva de obras: " + res.getInsertadas() + "/" + res.getRecibidas());
+      }
+      return json(req, res, res.getInsertadas() > 0 ? HttpStatus.OK : HttpStatus.UNPROCESSABLE_ENTITY);
+    } catch (SQLException | IOException e) {
+      throw new ApplicationException("Error en la carga masiva de obras", e);
+    }
+  }
+
+  // valida la fila y, si está bien, la agrega a las filas del COPY; devuelve el error o null
+  private static String filaObra(BulkParser.Fila f, Copy.Rows staging) {
+    ObraDTO obra;
+    try {
+      obra = RequestReaders.desdeMapa(RequestReaders.OBRA, f.datos());
+    } catch (InvalidRequestException e) {
+      return e.getMessage();
+    }
+    if (obra.titulo() == null || obra.titulo().isBlank())
+      return "titulo es obligatorio";
+    byte[] imagen = null;
+    if (obra.imagen() != null && !obra.imagen().isBlank()) {
+      try {
+        imagen = Base64.getDecoder().decode(obra.imagen());
+      } catch (IllegalArgumentException e) {
+        return "imagenBase64 inválida";
+      }
+    }
+    staging.add(f.linea()).add(obra.idTipo()).add(obra.titulo()).add(obra.descripcion())
+        .add(imagen).add(obra.idAzure()).endRow();
+    return null;
+  }
+
+  private static void mergeObras(Connection con, Copy.Rows staging, BulkResult res, boolean atomica)
+      throws SQLException {
+    try (Statement st = con.createStatement()) {
+      st.execute("CREATE TEMP TABLE obras_staging (linea INT PRIMARY KEY, id_obra BIGINT, id_tipo_obra BIGINT, "
+          + "titulo TEXT NOT NULL, descripcion TEXT, imagen BYTEA, id_azure UUID) ON COMMIT DROP");
+    }
+    Copy.in(con, "COPY obras_staging (linea, id_tipo_obra, titulo, descripcion, imagen, id_azure) "
+        + "FROM STDIN WITH (FORMAT csv)", staging);
+
+    Staging.rechazarHuerfanas(con, "obras_staging", ID_TIPO_OBRA, "tipobra", res);
+    Staging.rechazarHuerfanas(con, "obras_staging", ID_AZURE, "usuarios", res);
+    if (atomica && res.tieneErrores())
+      throw new BulkAbort(res);
+
+    Staging.asignarIds(con, "obras_staging", "obras", ID_OBRA);
+    try (Statement st = con.createStatement()) {
+      st.executeUpdate("INSERT INTO obras (id_obra, id_tipo_obra, titulo, descripcion, imagen) OVERRIDING SYSTEM VALUE "
+          + "SELECT id_obra, id_tipo_obra, titulo, descripcion, imagen FROM obras_staging ORDER BY linea");
+      st.executeUpdate("INSERT INTO usuarios_obras (id_azure, id_obra) "
+          + "SELECT id_azure, id_obra FROM obras_staging WHERE id_azure IS NOT NULL");
+    }
+    // mismo payload que eventoObra
+    Outbox.enqueueAll(con, "Arte.Obra.Creada", "SELECT '/obras/' || id_obra AS subject, "
+        + "jsonb_strip_nulls(jsonb_build_object('id_obra', id_obra, 'titulo', titulo, 'id_azure', id_azure)) AS data "
+        + "FROM obras_staging ORDER BY linea");
+    Staging.creadas(con, "obras_staging", ID_OBRA, res);
+  }
+
+  /*
+   * Exportación con COPY TO: el servidor arma el CSV (o una línea JSON por obra con
+   * row_to_json) y PgJDBC lo vuelca sin pasar por ResultSet ni Jackson. El worker de
+   * Java entrega el body completo, así que se acumula en memoria antes de responder.
+   */
+  private HttpResponseMessage exportar(HttpRequestMessage<?> req) {
+    Map<String, String> q = req.getQueryParameters() != null ? req.getQueryParameters() : Map.of();
+    boolean ndjson = "ndjson".equalsIgnoreCase(q.get("format"));
+    String select = "SELECT o.id_obra, o.id_tipo_obra, t.nombre AS tipo_nombre, o.titulo, o.descripcion, uo.id_azure "
+        + "FROM obras o "
+        + "LEFT JOIN tipobra t ON o.id_tipo_obra = t.id_tipo_obra "
+        + "LEFT JOIN usuarios_obras uo ON o.id_obra = uo.id_obra "
+        + "ORDER BY o.id_obra";
+    // NDJSON: row_to_json ya escapa comillas y saltos de línea; con QUOTE/DELIMITER en
+    // caracteres de control que JSON nunca emite sin escapar, COPY lo deja tal cual
+    String sql = ndjson
+        ? "COPY (SELECT row_to_json(x) FROM (" + select + ") x) TO STDOUT WITH (FORMAT csv, QUOTE E'\\x01', DELIMITER E'\\x02')"
+        : "COPY (" + select + ") TO STDOUT WITH (FORMAT csv, HEADER)";
+    StringWriter out = new StringWriter();
+    try (Connection con = Db.connect()) {
+      Copy.out(con, sql, out);
+    } catch (SQLException e) {
+      throw new ApplicationException("Error exportando obras", e);
+    }
+    return req.createResponseBuilder(HttpStatus.OK)
+        .header(HttpConstants.CONTENT_TYPE, ndjson ? "application/x-ndjson" : "text/csv; charset=utf-8")
+        .header("Content-Disposition", "attachment; filename=\"obras." + (ndjson ? "ndjson" : "csv") + "\"")
+        .body(out.toString())
+        .build();
+  }
+
   // OBTENER por id (incluye imagen si se solicita con includeImage)
   private HttpResponseMessage obtener(HttpRequestMessage<?> req, long id) throws SQLException, IOException {
     String includeImageParam = req.getQueryParameters().getOrDefault("includeImage", "false");
@@ -192,18 +440,39 @@ public class ObrasFunction {
       if (body.isBlank()) {
         return badRequest(req, "Body vacío");
       }
-      Map<String, Object> inMap = MAPPER.readValue(body, new TypeReference<Map<String, Object>>() {
+      ObraDTO obra = RequestReaders.leer(RequestReaders.OBRA, body);
+      byte[] imageBytes;
+      try {
+        imageBytes = (obra.imagen() != null && !obra.imagen().isBlank())
+            ? Base64.getDecoder().decode(obra.imagen())
+            : null;
+      } catch (IllegalArgumentException e) {
+        return badRequest(req, "imagenBase64 inválida");
+      }
+      Obra creada = Tx.run(con -> {
+        Obra o = insertarObra(con, obra, imageBytes);
+        Outbox.enqueue(con, "Arte.Obra.Creada", "/obras/" + o.getId_obra(), eventoObra(o.getId_obra(), obra));
+        return o;
       });
-      ObraDTO obra = ObraRequestMapper.from(inMap);
-      try (Connection con = Db.connect()) {
-        long newId = insertarObra(con, obra);
-        vincularUsuarioObra(con, obra.getIdAzure(), newId);
-        return obtener(req, newId);
+
+      if (prefiereMinimal(req)) {
+        return req.createResponseBuilder(HttpStatus.CREATED)
+            .header("Location", "/api/obras/" + creada.getId_obra())
+            .header("Preference-Applied", "return=minimal")
+            .build();
       }
+      // la respuesta sale de lo que devolvió el INSERT; la imagen, si se pide, es la misma que llegó
+      String includeImage = req.getQueryParameters() != null ? req.getQueryParameters().get("includeImage") : null;
+      if (imageBytes != null && ("true".equalsIgnoreCase(includeImage) || "1".equals(includeImage)))
+        creada.setImagenBase64(obra.imagen());
+      return json(req, creada, HttpStatus.OK);
+    } catch (InvalidRequestException e) {
+      return badRequest(req, e.getMessage());
     } catch (ApplicationException e) {
       return internalError(req, e.getMessage());
     } catch (Exception e) {
-      ctx.getLogger().info("EventBus publish failed (ignored): " + e.getMessage());
+      // SQL o outbox: la obra no se creó (Tx.run ya hizo rollback)
+      ctx.getLogger().severe("Error creando obra: " + e.getMessage());
       return internalError(req, "Error interno");
     }
   }
@@ -211,46 +480,53 @@ public class ObrasFunction {
   // ACTUALIZAR - acepta input flexible similar a crear
   private HttpResponseMessage actualizar(
       HttpRequestMessage<Optional<String>> req,
-      long id, ExecutionContext ctx) throws IOException {
+      long id, ExecutionContext ctx) throws IOException, SQLException {
 
     String body = req.getBody().orElse("{}");
-    Map<String, Object> inMap = MAPPER.readValue(body, new TypeReference<Map<String, Object>>() {
-    });
-
-    ObraDTO obra = ObraRequestMapper.from(inMap);
-    byte[] imageBytes = (obra.getImagen() != null && !obra.getImagen().isBlank())
-        ? Base64.getDecoder().decode(obra.getImagen())
+    ObraDTO obra;
+    try {
+      obra = RequestReaders.leer(RequestReaders.OBRA, body);
+    } catch (InvalidRequestException e) {
+      return badRequest(req, e.getMessage());
+    }
+    byte[] imageBytes = (obra.imagen() != null && !obra.imagen().isBlank())
+        ? Base64.getDecoder().decode(obra.imagen())
         : null;
-    try (Connection con = Db.connect();
-        PreparedStatement ps = con.prepareStatement(
+    int rows;
+    try {
+      rows = Tx.run(con -> {
+        int n;
+        try (PreparedStatement ps = con.prepareStatement(
             "UPDATE obras SET id_tipo_obra = ?, titulo = ?, descripcion = ?, imagen = COALESCE(?, imagen) WHERE id_obra = ?")) {
 
-      if (obra.getIdTipo() != null)
-        ps.setLong(1, obra.getIdTipo());
-      else
-        ps.setNull(1, Types.BIGINT);
+          if (obra.idTipo() != null)
+            ps.setLong(1, obra.idTipo());
+          else
+            ps.setNull(1, Types.BIGINT);
 
-      ps.setString(2, obra.getTitulo());
-      ps.setString(3, obra.getDescripcion());
+          ps.setString(2, obra.titulo());
+          ps.setString(3, obra.descripcion());
 
-      if (imageBytes != null)
-        ps.setBytes(4, imageBytes);
-      else
-        ps.setNull(4, Types.BINARY);
-
-      ps.setLong(5, id);
-
-      int rows = ps.executeUpdate();
-      if (rows == 0) {
-        return req.createResponseBuilder(HttpStatus.NOT_FOUND).build();
-      }
-
-      publicarEventoActualizacion(id, obra, ctx);
-      return obtener(req, id);
+          if (imageBytes != null)
+            ps.setBytes(4, imageBytes);
+          else
+            ps.setNull(4, Types.BINARY);
 
+          ps.setLong(5, id);
+          n = ps.executeUpdate();
+        }
+        if (n > 0)
+          Outbox.enqueue(con, "Arte.Obra.Actualizada", "/obras/" + id, eventoObra(id, obra));
+        return n;
+      });
     } catch (SQLException e) {
       throw new ApplicationException("Error en la actualización de obra", e);
     }
+
+    if (rows == 0) {
+      return req.createResponseBuilder(HttpStatus.NOT_FOUND).build();
+    }
+    return obtener(req, id);
   }
 
   // eliminar con verificacion de admin y dueño
@@ -300,17 +576,22 @@ public class ObrasFunction {
       }
 
       String sqlDelete = "DELETE FROM obras WHERE id_obra = ?";
-      try (PreparedStatement ps = con.prepareStatement(sqlDelete)) {
-        ps.setLong(1, idObra);
-        int rows = ps.executeUpdate();
-
-        if (rows > 0) {
-          return req.createResponseBuilder(HttpStatus.OK)
-              .body("{\"status\": \"Eliminado\"}").build();
-        } else {
-          return req.createResponseBuilder(HttpStatus.NOT_FOUND)
-              .body("{\"error\": \"Obra no encontrada\"}").build();
+      int rows = Tx.run(con, c -> {
+        int n;
+        try (PreparedStatement ps = c.prepareStatement(sqlDelete)) {
+          ps.setLong(1, idObra);
+          n = ps.executeUpdate();
         }
+        if (n > 0)
+          Outbox.enqueue(c, "Arte.Obra.Eliminada", "/obras/" + idObra, Map.of(ID_OBRA, idObra));
+        return n;
+      });
+      if (rows > 0) {
+        return req.createResponseBuilder(HttpStatus.OK)
+            .body("{\"status\": \"Eliminado\"}").build();
+      } else {
+        return req.createResponseBuilder(HttpStatus.NOT_FOUND)
+            .body("{\"error\": \"Obra no encontrada\"}").build();
       }
     } catch (Exception e) {
       e.printStackTrace();
@@ -319,8 +600,9 @@ public class ObrasFunction {
     }
   }
 
-  // Helper: map ResultSet -> Obra (con TipoObra anidado)
-  private static Obra map(ResultSet rs, boolean includeImage) throws SQLException {
+  // Helper: map ResultSet -> Obra (con TipoObra anidado). Público solo para
+  // benchmarks (com.function.bench.RowMappingBenchmark): no es API de las Functions
+  public static Obra map(ResultSet rs, boolean includeImage) throws SQLException {
     Obra o = new Obra();
 
     long id = rs.getLong(ID_OBRA);
@@ -360,10 +642,7 @@ public class ObrasFunction {
   // response helpers
   private static HttpResponseMessage json(HttpRequestMessage<?> req, Object body, HttpStatus status)
       throws IOException {
-    return req.createResponseBuilder(status)
-        .header(HttpConstants.CONTENT_TYPE, HttpConstants.APPLICATION_JSON)
-        .body(MAPPER.writeValueAsString(body))
-        .build();
+    return JsonResponse.of(req, body, status);
   }
 
   private static String firstNonNullHeader(HttpRequestMessage<?> req, String... names) {
@@ -376,49 +655,37 @@ public class ObrasFunction {
   }
 
   // helper insertar obra
-
-  private long insertarObra(Connection con, ObraDTO data) throws SQLException {
-    String sql = "INSERT INTO obras (id_tipo_obra, titulo, descripcion, imagen) VALUES (?,?,?,?)";
-    byte[] imageBytes = (data.getImagen() != null && !data.getImagen().isBlank())
-        ? Base64.getDecoder().decode(data.getImagen())
-        : null;
-    try (PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-      if (data.getIdTipo() != null)
-        ps.setLong(1, data.getIdTipo());
+  private static Obra insertarObra(Connection con, ObraDTO data, byte[] imageBytes) throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(SQL_CREAR)) {
+      if (data.idTipo() != null)
+        ps.setLong(1, data.idTipo());
       else
         ps.setNull(1, Types.BIGINT);
-      ps.setString(2, data.getTitulo());
-      ps.setString(3, data.getDescripcion());
+      ps.setString(2, data.titulo());
+      ps.setString(3, data.descripcion());
       if (imageBytes != null)
         ps.setBytes(4, imageBytes);
       else
         ps.setNull(4, Types.BINARY);
-
-      if (ps.executeUpdate() == 0) {
-        throw new ApplicationException("No se insertó la obra");
+      for (int i = 5; i <= 6; i++) {
+        if (data.idAzure() != null)
+          ps.setObject(i, data.idAzure());
+        else
+          ps.setNull(i, Types.OTHER);
       }
 
-      try (ResultSet keys = ps.getGeneratedKeys()) {
-        if (keys.next())
-          return keys.getLong(1);
+      try (ResultSet rs = ps.executeQuery()) {
+        if (rs.next())
+          return map(rs, false);
       }
-      throw new ApplicationException("No se generó ID");
+      throw new ApplicationException("No se insertó la obra");
     }
   }
 
-  private void vincularUsuarioObra(Connection con, UUID idAzure, long idObra) {
-    if (idAzure == null)
-      return;
-
-    String sql = "INSERT INTO usuarios_obras (id_azure, id_obra) VALUES (?, ?)";
-
-    try (PreparedStatement ps = con.prepareStatement(sql)) {
-      ps.setObject(1, idAzure);
-      ps.setLong(2, idObra);
-      ps.executeUpdate();
-    } catch (SQLException e) {
-      throw new ApplicationException("No se pudo vincular usuario con obra", e);
-    }
+  // Prefer: return=minimal (RFC 7240) -> 201 + Location, sin body
+  private static boolean prefiereMinimal(HttpRequestMessage<?> req) {
+    String prefer = firstNonNullHeader(req, "Prefer", "prefer");
+    return prefer != null && prefer.toLowerCase(Locale.ROOT).replace(" ", "").contains("return=minimal");
   }
 
   private HttpResponseMessage badRequest(HttpRequestMessage<?> req, String msg) {
@@ -433,19 +700,13 @@ public class ObrasFunction {
         .build();
   }
 
-  private void publicarEventoActualizacion(long id, ObraDTO obra, ExecutionContext ctx) {
-    try {
-      Map<String, Object> data = new HashMap<>();
-      data.put(ID_OBRA, id);
-      data.put(TITULO, obra.getTitulo());
-
-      EventBusEG.publish(
-          "Arte.Obra.Actualizada",
-          "/obras/" + id,
-          data);
-    } catch (Exception e) {
-      ctx.getLogger().info("EventBus publish failed (ignored): " + e.getMessage());
-    }
+  private static Map<String, Object> eventoObra(long id, ObraDTO obra) {
+    Map<String, Object> data = new HashMap<>();
+    data.put(ID_OBRA, id);
+    data.put(TITULO, obra.titulo());
+    if (obra.idAzure() != null)
+      data.put(ID_AZURE, obra.idAzure().toString());
+    return data;
   }
 
 }
@@ -0,0 +1,124 @@
+package com.function;
+
+import com.function.db.Tx;
+import com.function.events.EventBusEG;
+import com.function.events.Outbox;
+import com.function.events.OutboxEntry;
+import com.function.exception.ApplicationException;
+import com.function.metrics.Metricas;
+import com.microsoft.azure.functions.ExecutionContext;
+import com.microsoft.azure.functions.annotation.FunctionName;
+import com.microsoft.azure.functions.annotation.TimerTrigger;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * Azure Function con timer trigger que drena la tabla outbox hacia Event Grid.
+ *
+ * Cada ejecución reclama lotes de OUTBOX_BATCH_SIZE filas (por defecto 100) hasta
+ * vaciar lo vencido o llegar a OUTBOX_MAX_BATCHES lotes. Si Event Grid rechaza el
+ * lote, se reintenta evento por evento para aislar al que falla: solo ese suma un
+ * intento (backoff exponencial y, al agotarlos, dead letter con log y la métrica
+ * fn.outbox.dead). Si los primeros envíos individuales también fallan se asume que
+ * Event Grid está caído: el resto queda pendiente sin gastar intentos y se corta la
+ * ejecución. La publicación queda fuera del request HTTP de ObrasFunction/EventosFunction.
+ */
+public class OutboxRelayFunction {
+
+  static final int BATCH_SIZE = intEnv("OUTBOX_BATCH_SIZE", 100);
+  static final int MAX_BATCHES = intEnv("OUTBOX_MAX_BATCHES", 20);
+  // fallos individuales seguidos tras los que se deja de reintentar uno por uno
+  static final int FALLOS_SEGUIDOS = 3;
+
+  @FunctionName("outboxRelay")
+  public void run(
+      @TimerTrigger(name = "timer", schedule = "*/10 * * * * *") String timerInfo,
+      final ExecutionContext ctx) {
+
+    int total = 0;
+    for (int i = 0; i < MAX_BATCHES; i++) {
+      int publicados = drenarLote(ctx);
+      total += publicados;
+      if (publicados < BATCH_SIZE) {
+        break;
+      }
+    }
+    if (total > 0) {
+      ctx.getLogger().log(Level.INFO, "Outbox: {0} eventos publicados", total);
+    }
+  }
+
+  // devuelve cuántos eventos se publicaron; 0 si no había pendientes o si falló el envío
+  int drenarLote(ExecutionContext ctx) {
+    try {
+      return Tx.run(con -> {
+        List<OutboxEntry> lote = Outbox.claim(con, BATCH_SIZE);
+        if (lote.isEmpty()) {
+          return 0;
+        }
+        try {
+          EventBusEG.publishAll(lote);
+        } catch (RuntimeException e) {
+          ctx.getLogger().warning("Outbox: fallo publicando " + lote.size() + " eventos, se reintentan de a uno: "
+              + e.getMessage());
+          return deAUno(con, lote, e, ctx);
+        }
+        Outbox.markPublished(con, lote);
+        return lote.size();
+      });
+    } catch (SQLException e) {
+      throw new ApplicationException("Error drenando outbox", e);
+    }
+  }
+
+  // devuelve cuántos se publicaron; < lote.size() corta la ejecución en run()
+  private static int deAUno(Connection con, List<OutboxEntry> lote, RuntimeException errorLote, ExecutionContext ctx)
+      throws SQLException {
+    List<OutboxEntry> publicados = new ArrayList<>();
+    List<OutboxEntry> muertos = new ArrayList<>();
+    int seguidos = 0;
+    for (OutboxEntry e : lote) {
+      if (seguidos >= FALLOS_SEGUIDOS) {
+        break;
+      }
+      RuntimeException error = errorLote;
+      if (lote.size() > 1) {
+        try {
+          EventBusEG.publishAll(List.of(e));
+          publicados.add(e);
+          seguidos = 0;
+          continue;
+        } catch (RuntimeException ex) {
+          error = ex;
+        }
+      }
+      seguidos++;
+      muertos.addAll(Outbox.markFailed(con, List.of(e), error.getMessage()));
+    }
+    Outbox.markPublished(con, publicados);
+    for (OutboxEntry m : muertos) {
+      ctx.getLogger().severe("Outbox: evento " + m.eventId() + " (" + m.eventType() + " " + m.subject()
+          + ") pasó a dead letter tras " + (m.attempts() + 1) + " intentos");
+    }
+    if (!muertos.isEmpty()) {
+      Metricas.outboxMuertos(muertos.size());
+    }
+    return publicados.size();
+  }
+
+  private static int intEnv(String key, int def) {
+    String v = System.getenv(key);
+    if (v == null || v.isBlank()) {
+      return def;
+    }
+    try {
+      return Integer.parseInt(v.trim());
+    } catch (NumberFormatException e) {
+      return def;
+    }
+  }
+}
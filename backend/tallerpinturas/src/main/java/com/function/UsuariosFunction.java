@@ -1,18 +1,28 @@
 package com.function;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.function.db.Db;
+import com.function.db.EventosFeed;
+import com.function.db.Tx;
+import com.function.dto.RequestReaders;
+import com.function.dto.UsuarioDTO;
+import com.function.events.Outbox;
 import com.function.exception.ApplicationException;
+import com.function.exception.InvalidRequestException;
+import com.function.json.Json;
+import com.function.json.JsonResponse;
 import com.function.model.Usuario;
 import com.function.model.RolRef;
 import com.microsoft.azure.functions.*;
 import com.microsoft.azure.functions.annotation.*;
 import com.function.auth.JwtAuthService;
 import com.function.common.HttpConstants;
+import com.function.common.TtlCache;
 
 import java.io.IOException;
 import java.sql.*;
@@ -29,11 +39,13 @@ import org.springframework.security.crypto.bcrypt.BCrypt;
  * GET /api/usuarios/{id}/obras -> listar obras asociadas por id
  * POST /api/usuarios -> crear (body: id_azure? , id_rol, username, password,
  * nombre_completo)
- * POST /api/usuarios/{id}/obras -> vincular obra a usuario
+ * POST /api/usuarios/{id}/obras -> vincular obra a usuario; con un array
+ * [{id_obra, es_principal}, ...] vincula el lote en un solo upsert
  * PUT /api/usuarios/{id} -> actualizar (body: id_rol?, username?, password?,
  * nombre_completo?)
  * DELETE /api/usuarios/{id} -> eliminar (solo admin según header X-User-Roles)
  * DELETE /api/usuarios/{id}/obras/{obraId} -> desvincular obra del usuario
+ * DELETE /api/usuarios/{id}/obras?ids=1,2,3 -> desvincular varias obras
  *
  * Requiere JwtAuthService.validate(authHeader) para validar token de servicio.
  */
@@ -47,13 +59,53 @@ public class UsuariosFunction {
   private static final String ID_AZURE = "id_azure";
   private static final String SERVICE_TOKEN_VALIDATION_FAILED = "Service token validation failed: ";
   private static final String AUTHORIZATION = "authorization";
+  private static final int MAX_VINCULOS = 1000;
+
+  // un upsert para todo el lote; las obras inexistentes se filtran en vez de romper la FK
+  private static final String SQL_VINCULAR_LOTE = "INSERT INTO usuarios_obras (id_azure, id_obra, es_principal) "
+      + "SELECT ?, v.id_obra, v.es_principal FROM UNNEST(?::bigint[], ?::boolean[]) AS v(id_obra, es_principal) "
+      + "WHERE EXISTS (SELECT 1 FROM obras o WHERE o.id_obra = v.id_obra) "
+      + "ON CONFLICT (id_azure, id_obra) DO UPDATE SET es_principal = EXCLUDED.es_principal "
+      + "RETURNING id_obra";
 
   private record UpdateData(String sql, List<Object> params) {
   }
 
-  private static final ObjectMapper MAPPER = JsonMapper.builder()
-      .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true)
-      .build();
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  private record SyncBody(String id_azure, String username, String nombre_completo) {
+  }
+
+  /*
+   * Sync de login: inserta el usuario (rol artista, password dummy porque Azure maneja
+   * la real) o, si ya existe, refresca nombre_completo solo cuando cambió. Los CTE
+   * propagan el cambio a eventos_feed (igual que EventosFeed.refreshUsuario) y encolan
+   * Usuarios.Usuario.Actualizado (como actualizar) en el mismo statement, así todo queda
+   * en un round trip y en autocommit. Sin cambios, el RETURNING no devuelve filas.
+   */
+  // cambios del usuario: username / nombre_completo están copiados en eventos_feed
+  // y GET /api/obras devuelve el id_azure del dueño (ver CacheKeys de fn-consumidora)
+  private static final String USUARIO_ACTUALIZADO = "Usuarios.Usuario.Actualizado";
+  private static final String USUARIO_ELIMINADO = "Usuarios.Usuario.Eliminado";
+
+  private static final String SQL_SYNC = "WITH u AS ("
+      + "INSERT INTO usuarios (id_azure, id_rol, username, password, nombre_completo) "
+      + "VALUES (?, 2, ?, 'azure-oauth', ?) "
+      + "ON CONFLICT (id_azure) DO UPDATE SET nombre_completo = EXCLUDED.nombre_completo "
+      + "WHERE ? AND usuarios.nombre_completo IS DISTINCT FROM EXCLUDED.nombre_completo "
+      + "RETURNING id_azure, username, nombre_completo, (xmax = 0) AS nuevo), "
+      + "feed AS (UPDATE eventos_feed f SET usuario_username = u.username, usuario_nombre = u.nombre_completo "
+      + "FROM u WHERE f.id_azure = u.id_azure AND NOT u.nuevo), "
+      + "ev AS (INSERT INTO outbox (event_type, subject, data) "
+      + "SELECT '" + USUARIO_ACTUALIZADO + "', '/usuarios/' || u.id_azure, jsonb_build_object('id_azure', u.id_azure) "
+      + "FROM u WHERE NOT u.nuevo) "
+      + "SELECT nuevo FROM u";
+
+  // usuarios sincronizados hace poco en esta instancia -> huella (username + nombre)
+  static final TtlCache<UUID, String> SYNC_RECIENTES = new TtlCache<>(
+      longEnv("SYNC_CACHE_TTL_SECONDS", 120) * 1000L, 10_000);
+
+  private static final ObjectMapper MAPPER = Json.MAPPER;
+  private static final ObjectReader SYNC_READER = MAPPER.readerFor(SyncBody.class);
 
   @FunctionName("usuariosRoot")
   public HttpResponseMessage usuariosRoot(
@@ -131,8 +183,8 @@ public class UsuariosFunction {
 
   @FunctionName("usuariosObrasRoot")
   public HttpResponseMessage usuariosObrasRoot(
-      @HttpTrigger(name = "req", methods = { HttpMethod.GET,
-          HttpMethod.POST }, authLevel = AuthorizationLevel.ANONYMOUS, route = "usuarios/{id}/obras") HttpRequestMessage<Optional<String>> request,
+      @HttpTrigger(name = "req", methods = { HttpMethod.GET, HttpMethod.POST,
+          HttpMethod.DELETE }, authLevel = AuthorizationLevel.ANONYMOUS, route = "usuarios/{id}/obras") HttpRequestMessage<Optional<String>> request,
       @BindingName("id") String idAzure,
       final ExecutionContext ctx) throws SQLException, IOException {
 
@@ -163,6 +215,8 @@ public class UsuariosFunction {
         return listarObrasDeUsuario(request, idAzure);
       case "POST":
         return vincularObraAUsuario(request, idAzure);
+      case "DELETE":
+        return desvincularObras(request, idAzure);
       default:
         return request.createResponseBuilder(HttpStatus.METHOD_NOT_ALLOWED).build();
     }
@@ -221,49 +275,34 @@ public class UsuariosFunction {
       final ExecutionContext ctx) throws JsonProcessingException {
 
     // 1. Leer el body enviado desde Angular
-    Map<String, Object> body = MAPPER.readValue(request.getBody().orElse("{}"),
-        new TypeReference<Map<String, Object>>() {
-        });
-
-    String idAzureStr = asString(body.get(ID_AZURE));
-    String username = asString(body.get(USERNAME2)); // Correo
-    String nombre = asString(body.get(NOMBRE_COMPLETO));
+    SyncBody body = SYNC_READER.readValue(request.getBody().filter(b -> !b.isBlank()).orElse("{}"));
 
     // Validar datos mínimos
-    if (idAzureStr == null || username == null) {
+    if (body.id_azure() == null || body.username() == null) {
       return request.createResponseBuilder(HttpStatus.BAD_REQUEST)
           .body("{\"error\": \"Faltan datos (id_azure, username)\"}")
           .build();
     }
 
-    try (Connection con = Db.connect()) {
-      UUID uuid = UUID.fromString(idAzureStr);
-      // 2. Verificar si el usuario YA existe
-      boolean existe = false;
-
-      try (PreparedStatement psCheck = con.prepareStatement("SELECT 1 FROM usuarios WHERE id_azure = ?")) {
-        psCheck.setObject(1, uuid);
-        try (ResultSet rs = psCheck.executeQuery()) {
-          if (rs.next())
-            existe = true;
-        }
-      }
-      // 3. Si NO existe, lo insertamos
-      if (!existe) {
-
-        // Insertamos con contraseña "dummy" porque Azure maneja la real
-        String sql = "INSERT INTO usuarios (id_azure, id_rol, username, password, nombre_completo) VALUES (?, ?, ?, 'azure-oauth', ?)";
-        try (PreparedStatement ps = con.prepareStatement(sql)) {
+    try {
+      UUID uuid = UUID.fromString(body.id_azure());
+      // 2. Login repetido con los mismos datos dentro del TTL: no se toca la base
+      String huella = body.username() + '\u0000' + body.nombre_completo();
+      if (!huella.equals(SYNC_RECIENTES.get(uuid))) {
+        // 3. Alta o refresco de nombre_completo en un solo statement
+        try (Connection con = Db.connect();
+            PreparedStatement ps = con.prepareStatement(SQL_SYNC)) {
           ps.setObject(1, uuid);
-          ps.setLong(2, 2L);
-          ps.setString(3, username);
-          ps.setString(4, nombre != null ? nombre : username); // Si no hay nombre, usa el correo
-          ps.executeUpdate();
+          ps.setString(2, body.username());
+          // Si no hay nombre, usa el correo (y no pisa el que ya tenga)
+          ps.setString(3, body.nombre_completo() != null ? body.nombre_completo() : body.username());
+          ps.setBoolean(4, body.nombre_completo() != null);
+          try (ResultSet rs = ps.executeQuery()) {
+            if (rs.next() && rs.getBoolean("nuevo"))
+              ctx.getLogger().log(Level.INFO, "Usuario nuevo sincronizado: {0}", body.username());
+          }
         }
-        ctx.getLogger().log(Level.INFO, "Usuario nuevo sincronizado: {0}", username);
-
-      } else {
-        ctx.getLogger().log(Level.INFO, "Usuario ya existía: {0}", username);
+        SYNC_RECIENTES.put(uuid, huella);
       }
 
       return request.createResponseBuilder(HttpStatus.OK)
@@ -312,14 +351,17 @@ public class UsuariosFunction {
 
   // crear (sin id_obra en usuarios)
   private HttpResponseMessage crear(HttpRequestMessage<Optional<String>> req) throws IOException {
-    Map<String, Object> in = MAPPER.readValue(req.getBody().orElse("{}"), new TypeReference<Map<String, Object>>() {
-    });
+    UsuarioDTO in;
+    try {
+      in = RequestReaders.leer(RequestReaders.USUARIO, req.getBody().orElse("{}"));
+    } catch (InvalidRequestException e) {
+      return req.createResponseBuilder(HttpStatus.BAD_REQUEST).body("{\"error\":\"" + e.getMessage() + "\"}").build();
+    }
 
-    String idAzureInput = asString(in.get(ID_AZURE));
-    Long idRol = extractIdRolFromMap(in);
-    String username = asString(in.get(USERNAME2));
-    String password = asString(in.get("password"));
-    String nombreCompleto = asString(in.get(NOMBRE_COMPLETO));
+    Long idRol = in.idRol();
+    String username = in.username();
+    String password = in.password();
+    String nombreCompleto = in.nombreCompleto();
 
     if (username == null || username.isBlank() || password == null || password.isBlank() || nombreCompleto == null
         || nombreCompleto.isBlank() || idRol == null) {
@@ -328,8 +370,7 @@ public class UsuariosFunction {
     }
 
     String hashed = BCrypt.hashpw(password, BCrypt.gensalt(12));
-    UUID idAzure = (idAzureInput != null && !idAzureInput.isBlank()) ? UUID.fromString(idAzureInput)
-        : UUID.randomUUID();
+    UUID idAzure = in.idAzure() != null ? in.idAzure() : UUID.randomUUID();
 
     try (Connection con = Db.connect();
         PreparedStatement ps = con.prepareStatement(
@@ -354,10 +395,12 @@ public class UsuariosFunction {
   private HttpResponseMessage actualizar(HttpRequestMessage<Optional<String>> req, String idAzureStr)
       throws IOException {
 
-    Map<String, Object> in = MAPPER.readValue(
-        req.getBody().orElse("{}"),
-        new TypeReference<>() {
-        });
+    UsuarioDTO in;
+    try {
+      in = RequestReaders.leer(RequestReaders.USUARIO, req.getBody().orElse("{}"));
+    } catch (InvalidRequestException e) {
+      return req.createResponseBuilder(HttpStatus.BAD_REQUEST).body("{\"error\":\"" + e.getMessage() + "\"}").build();
+    }
 
     UpdateData updateData = buildUpdateData(in);
 
@@ -367,12 +410,22 @@ public class UsuariosFunction {
           .build();
     }
 
-    try (Connection con = Db.connect();
-        PreparedStatement ps = con.prepareStatement(updateData.sql())) {
-
-      setParams(ps, updateData.params(), idAzureStr);
-
-      int rows = ps.executeUpdate();
+    try {
+      UUID uid = UUID.fromString(idAzureStr);
+      int rows = Tx.run(con -> {
+        int n;
+        try (PreparedStatement ps = con.prepareStatement(updateData.sql())) {
+          setParams(ps, updateData.params(), idAzureStr);
+          n = ps.executeUpdate();
+        }
+        // username / nombre_completo están copiados en eventos_feed
+        if (n > 0) {
+          EventosFeed.refreshUsuario(con, uid);
+          Outbox.enqueue(con, USUARIO_ACTUALIZADO, subjectUsuario(uid.toString()), Map.of(ID_AZURE, uid.toString()));
+        }
+        return n;
+      });
+      SYNC_RECIENTES.remove(uid);
       if (rows == 0) {
         return req.createResponseBuilder(HttpStatus.NOT_FOUND)
             .body("{\"error\":\"Usuario no encontrado\"}")
@@ -404,10 +457,22 @@ public class UsuariosFunction {
       return originalReq.createResponseBuilder(HttpStatus.FORBIDDEN)
           .body("{\"error\":\"Solo admin puede borrar usuarios\"}").build();
 
-    try (Connection con = Db.connect();
-        PreparedStatement ps = con.prepareStatement("DELETE FROM usuarios WHERE id_azure = ?")) {
-      ps.setObject(1, UUID.fromString(idAzureStr));
-      int rows = ps.executeUpdate();
+    try {
+      UUID uid = UUID.fromString(idAzureStr);
+      int rows = Tx.run(con -> {
+        int n;
+        try (PreparedStatement ps = con.prepareStatement("DELETE FROM usuarios WHERE id_azure = ?")) {
+          ps.setObject(1, uid);
+          n = ps.executeUpdate();
+        }
+        // eventos.id_azure queda en NULL por la FK; se refleja en la proyección
+        if (n > 0) {
+          EventosFeed.refreshUsuario(con, uid);
+          Outbox.enqueue(con, USUARIO_ELIMINADO, subjectUsuario(uid.toString()), Map.of(ID_AZURE, uid.toString()));
+        }
+        return n;
+      });
+      SYNC_RECIENTES.remove(uid);
       return originalReq.createResponseBuilder(rows > 0 ? HttpStatus.NO_CONTENT : HttpStatus.NOT_FOUND).build();
     } catch (IllegalArgumentException iae) {
       return originalReq.createResponseBuilder(HttpStatus.BAD_REQUEST).body(ERROR_ID_AZURE_INVALIDO).build();
@@ -449,8 +514,11 @@ public class UsuariosFunction {
 
   // Vincular obra a usuario: POST /api/usuarios/{id}/obras
   private HttpResponseMessage vincularObraAUsuario(HttpRequestMessage<Optional<String>> req, String idAzure)
-      throws SQLException, JsonProcessingException {
-    Map<String, Object> body = MAPPER.readValue(req.getBody().orElse("{}"), new TypeReference<Map<String, Object>>() {
+      throws SQLException, IOException {
+    JsonNode json = MAPPER.readTree(req.getBody().orElse("{}"));
+    if (json.isArray())
+      return vincularObras(req, idAzure, json);
+    Map<String, Object> body = MAPPER.convertValue(json, new TypeReference<Map<String, Object>>() {
     });
     Number obraIdN = (Number) body.get(ID_OBRA);
     Boolean esPrincipal = body.get("es_principal") != null ? (Boolean) body.get("es_principal") : Boolean.FALSE;
@@ -458,14 +526,20 @@ public class UsuariosFunction {
       return req.createResponseBuilder(HttpStatus.BAD_REQUEST).body("{\"error\":\"id_obra requerido\"}").build();
     long obraId = obraIdN.longValue();
 
-    try (Connection con = Db.connect();
-        PreparedStatement ps = con.prepareStatement(
+    try {
+      UUID uid = UUID.fromString(idAzure);
+      Tx.run(con -> {
+        try (PreparedStatement ps = con.prepareStatement(
             "INSERT INTO usuarios_obras (id_azure, id_obra, es_principal) VALUES (?, ?, ?) " +
                 "ON CONFLICT (id_azure, id_obra) DO UPDATE SET es_principal = EXCLUDED.es_principal")) {
-      ps.setObject(1, UUID.fromString(idAzure));
-      ps.setLong(2, obraId);
-      ps.setBoolean(3, esPrincipal);
-      ps.executeUpdate();
+          ps.setObject(1, uid);
+          ps.setLong(2, obraId);
+          ps.setBoolean(3, esPrincipal);
+          ps.executeUpdate();
+        }
+        Outbox.enqueue(con, "Usuarios.Obra.Vinculada", subjectObrasUsuario(idAzure), eventoVinculo(idAzure, obraId));
+        return null;
+      });
       return req.createResponseBuilder(HttpStatus.NO_CONTENT).build();
     } catch (IllegalArgumentException iae) {
       return req.createResponseBuilder(HttpStatus.BAD_REQUEST).body("{\"error\":\"id_azure o id_obra invalido\"}")
@@ -473,14 +547,107 @@ public class UsuariosFunction {
     }
   }
 
+  // Vincular por lote: POST /api/usuarios/{id}/obras con [{id_obra, es_principal}, ...]
+  private HttpResponseMessage vincularObras(HttpRequestMessage<?> req, String idAzure, JsonNode items)
+      throws SQLException, IOException {
+    UUID uid;
+    try {
+      uid = UUID.fromString(idAzure);
+    } catch (IllegalArgumentException iae) {
+      return req.createResponseBuilder(HttpStatus.BAD_REQUEST).body(ERROR_ID_AZURE_INVALIDO).build();
+    }
+    // si una obra se repite gana la última: ON CONFLICT no puede tocar dos veces la misma fila
+    Map<Long, Boolean> vinculos = new LinkedHashMap<>();
+    for (JsonNode it : items) {
+      JsonNode id = it.get(ID_OBRA);
+      if (id == null || !id.canConvertToLong())
+        return req.createResponseBuilder(HttpStatus.BAD_REQUEST)
+            .body("{\"error\":\"cada elemento requiere id_obra numérico\"}").build();
+      vinculos.put(id.asLong(), it.path("es_principal").asBoolean(false));
+    }
+    if (vinculos.isEmpty() || vinculos.size() > MAX_VINCULOS)
+      return req.createResponseBuilder(HttpStatus.BAD_REQUEST)
+          .body("{\"error\":\"se esperan entre 1 y " + MAX_VINCULOS + " obras\"}").build();
+
+    Long[] ids = vinculos.keySet().toArray(Long[]::new);
+    Boolean[] principales = vinculos.values().toArray(Boolean[]::new);
+    List<Long> vinculadas = Tx.run(con -> {
+      List<Long> out = new ArrayList<>();
+      try (PreparedStatement ps = con.prepareStatement(SQL_VINCULAR_LOTE)) {
+        ps.setObject(1, uid);
+        ps.setArray(2, con.createArrayOf("bigint", ids));
+        ps.setArray(3, con.createArrayOf("boolean", principales));
+        try (ResultSet rs = ps.executeQuery()) {
+          while (rs.next())
+            out.add(rs.getLong(1));
+        }
+      }
+      Outbox.enqueueBatch(con, "Usuarios.Obra.Vinculada", subjectObrasUsuario(idAzure),
+          out.stream().map(id -> eventoVinculo(idAzure, id)).toList());
+      return out;
+    });
+
+    List<Long> inexistentes = new ArrayList<>(vinculos.keySet());
+    inexistentes.removeAll(vinculadas);
+    Map<String, Object> out = new LinkedHashMap<>();
+    out.put("vinculadas", vinculadas);
+    out.put("inexistentes", inexistentes);
+    return json(req, out, HttpStatus.OK);
+  }
+
+  // Desvincular por lote: DELETE /api/usuarios/{id}/obras?ids=1,2,3
+  private HttpResponseMessage desvincularObras(HttpRequestMessage<?> req, String idAzure)
+      throws SQLException, IOException {
+    String idsParam = req.getQueryParameters() != null ? req.getQueryParameters().get("ids") : null;
+    UUID uid;
+    Long[] ids;
+    try {
+      uid = UUID.fromString(idAzure);
+      ids = idsParam == null ? new Long[0]
+          : Arrays.stream(idsParam.split(",")).map(String::trim).filter(v -> !v.isEmpty())
+              .map(Long::valueOf).distinct().toArray(Long[]::new);
+    } catch (IllegalArgumentException iae) {
+      return req.createResponseBuilder(HttpStatus.BAD_REQUEST).body("{\"error\":\"id_azure o ids invalidos\"}")
+          .build();
+    }
+    if (ids.length == 0 || ids.length > MAX_VINCULOS)
+      return req.createResponseBuilder(HttpStatus.BAD_REQUEST)
+          .body("{\"error\":\"ids requerido (máximo " + MAX_VINCULOS + ")\"}").build();
+
+    List<Long> desvinculadas = Tx.run(con -> {
+      List<Long> out = new ArrayList<>();
+      try (PreparedStatement ps = con.prepareStatement(
+          "DELETE FROM usuarios_obras WHERE id_azure = ? AND id_obra = ANY(?) RETURNING id_obra")) {
+        ps.setObject(1, uid);
+        ps.setArray(2, con.createArrayOf("bigint", ids));
+        try (ResultSet rs = ps.executeQuery()) {
+          while (rs.next())
+            out.add(rs.getLong(1));
+        }
+      }
+      Outbox.enqueueBatch(con, "Usuarios.Obra.Desvinculada", subjectObrasUsuario(idAzure),
+          out.stream().map(id -> eventoVinculo(idAzure, id)).toList());
+      return out;
+    });
+    return json(req, Map.of("desvinculadas", desvinculadas), HttpStatus.OK);
+  }
+
   // Desvincular obra de usuario: DELETE /api/usuarios/{id}/obras/obraId
   private HttpResponseMessage desvincularObraDeUsuario(HttpRequestMessage<?> req, String idAzure, Long obraId)
       throws SQLException {
-    try (Connection con = Db.connect();
-        PreparedStatement ps = con.prepareStatement("DELETE FROM usuarios_obras WHERE id_azure = ? AND id_obra = ?")) {
-      ps.setObject(1, UUID.fromString(idAzure));
-      ps.setLong(2, obraId);
-      int rows = ps.executeUpdate();
+    try {
+      UUID uid = UUID.fromString(idAzure);
+      int rows = Tx.run(con -> {
+        int n;
+        try (PreparedStatement ps = con.prepareStatement("DELETE FROM usuarios_obras WHERE id_azure = ? AND id_obra = ?")) {
+          ps.setObject(1, uid);
+          ps.setLong(2, obraId);
+          n = ps.executeUpdate();
+        }
+        if (n > 0)
+          Outbox.enqueue(con, "Usuarios.Obra.Desvinculada", subjectObrasUsuario(idAzure), eventoVinculo(idAzure, obraId));
+        return n;
+      });
       return req.createResponseBuilder(rows > 0 ? HttpStatus.NO_CONTENT : HttpStatus.NOT_FOUND).build();
     } catch (IllegalArgumentException iae) {
       return req.createResponseBuilder(HttpStatus.BAD_REQUEST).body("{\"error\":\"id_azure o id_obra invalido\"}")
@@ -488,6 +655,19 @@ public class UsuariosFunction {
     }
   }
 
+  // el consumidor invalida obras-usuario:{id_azure} a partir del subject
+  private static String subjectUsuario(String idAzure) {
+    return "/usuarios/" + idAzure;
+  }
+
+  private static String subjectObrasUsuario(String idAzure) {
+    return "/usuarios/" + idAzure + "/obras";
+  }
+
+  private static Map<String, Object> eventoVinculo(String idAzure, long obraId) {
+    return Map.of(ID_AZURE, idAzure, ID_OBRA, obraId);
+  }
+
   // mapea ResultSet -> Usuario (sin password, sin id_obra)
   private static Usuario mapUsuario(ResultSet rs) throws SQLException {
     Usuario u = new Usuario();
@@ -509,47 +689,20 @@ public class UsuariosFunction {
   }
 
   // util helpers
-  private static Long extractIdRolFromMap(Map<String, Object> map) {
-    if (map == null)
-      return null;
-    Object v = map.get(ID_ROL);
-    if (v instanceof Number number) {
-      return number.longValue();
-    }
-    if (v instanceof String string) {
-      try {
-        return Long.parseLong(string);
-      } catch (NumberFormatException ignored) {
-        // intencional
-      }
-    }
-    Object rolObj = map.get("rol");
-    if (rolObj instanceof Map<?, ?> rolMap) {
-      Object rid = rolMap.get(ID_ROL);
-      if (rid instanceof Number number) {
-        return number.longValue();
-      }
-      if (rid instanceof String string) {
-        try {
-          return Long.parseLong(string);
-        } catch (NumberFormatException ignored) {
-          // intencional
-        }
-      }
+  private static long longEnv(String key, long def) {
+    String v = System.getenv(key);
+    if (v == null || v.isBlank())
+      return def;
+    try {
+      return Long.parseLong(v.trim());
+    } catch (NumberFormatException e) {
+      return def;
     }
-    return null;
-  }
-
-  private static String asString(Object o) {
-    return o == null ? null : String.valueOf(o);
   }
 
   private static HttpResponseMessage json(HttpRequestMessage<?> req, Object body, HttpStatus status)
       throws IOException {
-    return req.createResponseBuilder(status)
-        .header("Content-Type", "application/json")
-        .body(MAPPER.writeValueAsString(body))
-        .build();
+    return JsonResponse.of(req, body, status);
   }
 
   private static String firstNonNullHeader(HttpRequestMessage<?> req, String... names) {
@@ -561,12 +714,12 @@ public class UsuariosFunction {
     return null;
   }
 
-  private UpdateData buildUpdateData(Map<String, Object> in) {
+  private UpdateData buildUpdateData(UsuarioDTO in) {
 
-    Long idRol = extractIdRolFromMap(in);
-    String username = asString(in.get(USERNAME2));
-    String password = asString(in.get("password"));
-    String nombreCompleto = asString(in.get(NOMBRE_COMPLETO));
+    Long idRol = in.idRol();
+    String username = in.username();
+    String password = in.password();
+    String nombreCompleto = in.nombreCompleto();
 
     StringBuilder sb = new StringBuilder("UPDATE usuarios SET ");
     List<Object> params = new ArrayList<>();
@@ -2,6 +2,7 @@ package com.function.auth;
 
 import com.nimbusds.jose.JWSAlgorithm;
 import com.function.exception.ApplicationException;
+import com.function.metrics.Metricas;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
@@ -18,12 +19,21 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.ParseException;
 import java.time.Duration;
 import java.util.Date;
 
 public final class JwtAuthService {
 
+  /**
+   * Solo fuera de producción (benchmarks, pruebas de carga, desarrollo sin B2C): con
+   * FN_JWKS_LOCAL=true se acepta AZURE_AD_B2C_JWKS y las system properties pisan a las
+   * variables de entorno. Sin el flag las claves salen siempre de AZURE_AD_B2C_JWKS_URL.
+   */
+  static final String LOCAL = "FN_JWKS_LOCAL";
+
   private static DefaultJWTProcessor<SecurityContext> jwtProc;
 
   private JwtAuthService() {}
@@ -37,22 +47,37 @@ public final class JwtAuthService {
 
     ensureInitialized();
     String token = authHeader.substring("Bearer ".length()).trim();
-    return jwtProc.process(token, null);
+    long t0 = System.nanoTime();
+    boolean ok = false;
+    try {
+      JWTClaimsSet claims = jwtProc.process(token, null);
+      ok = true;
+      return claims;
+    } finally {
+      Metricas.jwt(System.nanoTime() - t0, ok);
+    }
   }
 
   private static synchronized void ensureInitialized() {
     if (jwtProc != null) return;
 
     try {
-      String jwksUrl = System.getenv("AZURE_AD_B2C_JWKS_URL");
-      String issuer  = System.getenv("AZURE_AD_B2C_ISSUER");
-      String audience = System.getenv("API_APP_ID_URI");
+      // AZURE_AD_B2C_JWKS (JSON o ruta a un archivo) reemplaza la descarga, pero solo
+      // con LOCAL: en producción cambiaría las claves en las que se confía
+      boolean local = "true".equalsIgnoreCase(System.getProperty(LOCAL, System.getenv(LOCAL)));
+      String jwksLocal = config("AZURE_AD_B2C_JWKS", true);
+      if (jwksLocal != null && !local) {
+        throw new IllegalStateException("AZURE_AD_B2C_JWKS requiere " + LOCAL + "=true (solo fuera de producción)");
+      }
+      String jwksUrl = config("AZURE_AD_B2C_JWKS_URL", local);
+      String issuer  = config("AZURE_AD_B2C_ISSUER", local);
+      String audience = config("API_APP_ID_URI", local);
 
-      if (jwksUrl == null || issuer == null || audience == null) {
+      if ((jwksUrl == null && jwksLocal == null) || issuer == null || audience == null) {
         throw new IllegalStateException("Faltan variables de entorno JWT");
       }
 
-      String jwksJson = fetchJwks(jwksUrl);
+      String jwksJson = jwksLocal != null ? jwksLocal(jwksLocal) : fetchJwks(jwksUrl);
 
       JWKSet jwkSet = JWKSet.parse(jwksJson);
       JWKSource<SecurityContext> jwkSource = new ImmutableJWKSet<>(jwkSet);
@@ -83,6 +108,17 @@ public final class JwtAuthService {
       }
   }
 
+  // variable de entorno; con LOCAL, la system property de la misma clave primero
+  private static String config(String key, boolean local) {
+    String v = local ? System.getProperty(key, System.getenv(key)) : System.getenv(key);
+    return v == null || v.isBlank() ? null : v;
+  }
+
+  private static String jwksLocal(String valor) throws IOException {
+    String v = valor.trim();
+    return v.startsWith("{") ? v : Files.readString(Path.of(v));
+  }
+
   private static String fetchJwks(String jwksUrl)
       throws IOException, InterruptedException {
 
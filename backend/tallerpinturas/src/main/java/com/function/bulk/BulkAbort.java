@@ -0,0 +1,19 @@
+package com.function.bulk;
+
+/**
+ * Corta una carga con ?atomic=true que encontró errores de referencia ya dentro de
+ * la transacción; Tx.run hace rollback y la Function responde con el resultado.
+ */
+public class BulkAbort extends RuntimeException {
+
+  private final transient BulkResult resultado;
+
+  public BulkAbort(BulkResult resultado) {
+    super("Carga masiva cancelada: " + resultado.getErrores().size() + " filas con error", null, false, false);
+    this.resultado = resultado;
+  }
+
+  public BulkResult getResultado() {
+    return resultado;
+  }
+}
@@ -0,0 +1,175 @@
+package com.function.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.function.json.Json;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lectura de cargas masivas: NDJSON (un objeto JSON por línea) o CSV con cabecera.
+ *
+ * Cada registro queda asociado a su número de línea de origen para que los errores
+ * se puedan reportar por fila. Los valores CSV son texto; las columnas indicadas como
+ * numéricas se convierten a BigDecimal para que RequestReaders las lea igual
+ * que en JSON. Una línea que no se puede interpretar no corta la carga: se devuelve
+ * como Fila con error.
+ */
+public final class BulkParser {
+
+  public enum Formato {
+    NDJSON, CSV
+  }
+
+  /** Registro leído; datos es null cuando error no lo es. */
+  public record Fila(int linea, Map<String, Object> datos, String error) {
+    public boolean valida() {
+      return error == null;
+    }
+  }
+
+  private static final ObjectMapper MAPPER = Json.MAPPER;
+  private static final TypeReference<Map<String, Object>> MAPA = new TypeReference<>() {
+  };
+
+  private BulkParser() {}
+
+  /** ?format= tiene prioridad; si no, se decide por Content-Type (csv o, por defecto, NDJSON). */
+  public static Formato formato(String param, String contentType) {
+    String f = param != null ? param : contentType;
+    return f != null && f.toLowerCase(Locale.ROOT).contains("csv") ? Formato.CSV : Formato.NDJSON;
+  }
+
+  public static List<Fila> parse(String body, Formato formato, Set<String> numericas, int maxFilas) {
+    return formato == Formato.CSV ? csv(body, numericas, maxFilas) : ndjson(body, maxFilas);
+  }
+
+  static List<Fila> ndjson(String body, int maxFilas) {
+    List<Fila> out = new ArrayList<>();
+    int linea = 0;
+    for (String l : body.split("\r?\n", -1)) {
+      linea++;
+      if (l.isBlank())
+        continue;
+      if (out.size() == maxFilas)
+        throw new IllegalArgumentException("La carga supera el máximo de " + maxFilas + " filas");
+      try {
+        Map<String, Object> datos = MAPPER.readValue(l, MAPA);
+        out.add(new Fila(linea, datos, null));
+      } catch (JsonProcessingException e) {
+        out.add(new Fila(linea, null, "JSON inválido: " + e.getOriginalMessage()));
+      }
+    }
+    return out;
+  }
+
+  static List<Fila> csv(String body, Set<String> numericas, int maxFilas) {
+    CsvReader r = new CsvReader(body);
+    List<String> cabecera = r.next();
+    if (cabecera == null || cabecera.stream().allMatch(String::isBlank))
+      throw new IllegalArgumentException("CSV sin cabecera");
+    List<String> columnas = cabecera.stream().map(String::trim).toList();
+
+    List<Fila> out = new ArrayList<>();
+    List<String> valores;
+    int linea = r.linea();
+    while ((valores = r.next()) != null) {
+      if (valores.size() == 1 && valores.get(0).isEmpty()) {
+        linea = r.linea();
+        continue;
+      }
+      if (out.size() == maxFilas)
+        throw new IllegalArgumentException("La carga supera el máximo de " + maxFilas + " filas");
+      out.add(fila(linea, columnas, valores, numericas));
+      linea = r.linea();
+    }
+    return out;
+  }
+
+  private static Fila fila(int linea, List<String> columnas, List<String> valores, Set<String> numericas) {
+    if (valores.size() != columnas.size()) {
+      return new Fila(linea, null, "Se esperaban " + columnas.size() + " columnas y hay " + valores.size());
+    }
+    Map<String, Object> datos = new HashMap<>();
+    for (int i = 0; i < columnas.size(); i++) {
+      String v = valores.get(i);
+      if (v.isEmpty())
+        continue; // vacío = NULL
+      String col = columnas.get(i);
+      if (numericas.contains(col)) {
+        try {
+          datos.put(col, new BigDecimal(v.trim()));
+        } catch (NumberFormatException e) {
+          return new Fila(linea, null, col + " no es numérico: " + v);
+        }
+      } else {
+        datos.put(col, v);
+      }
+    }
+    return new Fila(linea, datos, null);
+  }
+
+  /** RFC 4180: comillas dobles, "" como escape y saltos de línea dentro de campos entrecomillados. */
+  private static final class CsvReader {
+    private final String s;
+    private int pos;
+    private int linea = 1;
+
+    CsvReader(String s) {
+      this.s = s;
+    }
+
+    // línea (1-based) donde empieza el próximo registro
+    int linea() {
+      return linea;
+    }
+
+    List<String> next() {
+      if (pos >= s.length())
+        return null;
+      List<String> campos = new ArrayList<>();
+      StringBuilder campo = new StringBuilder();
+      boolean comillas = false;
+      while (pos < s.length()) {
+        char c = s.charAt(pos++);
+        if (comillas) {
+          if (c == '"') {
+            if (pos < s.length() && s.charAt(pos) == '"') {
+              campo.append('"');
+              pos++;
+            } else {
+              comillas = false;
+            }
+          } else {
+            if (c == '\n')
+              linea++;
+            campo.append(c);
+          }
+        } else if (c == '"') {
+          comillas = true;
+        } else if (c == ',') {
+          campos.add(campo.toString());
+          campo.setLength(0);
+        } else if (c == '\n' || c == '\r') {
+          if (c == '\r' && pos < s.length() && s.charAt(pos) == '\n')
+            pos++;
+          linea++;
+          break;
+        } else {
+          campo.append(c);
+        }
+      }
+      if (comillas)
+        throw new IllegalArgumentException("CSV con comillas sin cerrar");
+      campos.add(campo.toString());
+      return campos;
+    }
+  }
+}
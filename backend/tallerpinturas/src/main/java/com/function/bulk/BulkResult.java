@@ -0,0 +1,47 @@
+package com.function.bulk;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Respuesta de /obras/bulk y /eventos/bulk: qué líneas se crearon (con su id) y
+ * cuáles se rechazaron y por qué.
+ */
+public class BulkResult {
+
+  public record Creada(int linea, long id) {}
+
+  public record ErrorFila(int linea, String error) {}
+
+  private final int recibidas;
+  private final List<Creada> creadas = new ArrayList<>();
+  private final List<ErrorFila> errores = new ArrayList<>();
+
+  public BulkResult(int recibidas) {
+    this.recibidas = recibidas;
+  }
+
+  public void creada(int linea, long id) {
+    creadas.add(new Creada(linea, id));
+  }
+
+  public void error(int linea, String error) {
+    errores.add(new ErrorFila(linea, error));
+  }
+
+  public int getRecibidas() { return recibidas; }
+
+  public int getInsertadas() { return creadas.size(); }
+
+  public List<Creada> getCreadas() { return creadas; }
+
+  public List<ErrorFila> getErrores() {
+    errores.sort(Comparator.comparingInt(ErrorFila::linea));
+    return errores;
+  }
+
+  public boolean tieneErrores() {
+    return !errores.isEmpty();
+  }
+}
@@ -0,0 +1,57 @@
+package com.function.bulk;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Pasos comunes del merge desde una tabla temporal de staging (columna linea como
+ * clave) hacia la tabla definitiva. Los nombres de tabla y columna son constantes
+ * de las Functions, nunca entrada del usuario.
+ */
+public final class Staging {
+
+  private Staging() {}
+
+  /**
+   * Quita del staging las filas cuya referencia {@code columna} no existe en
+   * {@code tabla} (mismo nombre de columna en ambas) y las reporta como error.
+   */
+  public static void rechazarHuerfanas(Connection con, String staging, String columna, String tabla,
+      BulkResult res) throws SQLException {
+    String sql = "DELETE FROM " + staging + " s WHERE s." + columna + " IS NOT NULL AND NOT EXISTS "
+        + "(SELECT 1 FROM " + tabla + " t WHERE t." + columna + " = s." + columna + ") RETURNING s.linea";
+    try (PreparedStatement ps = con.prepareStatement(sql);
+        ResultSet rs = ps.executeQuery()) {
+      while (rs.next()) {
+        res.error(rs.getInt(1), columna + " no existe");
+      }
+    }
+  }
+
+  /**
+   * Reserva los ids de la identidad de {@code tabla} antes de insertar, así cada
+   * línea conoce su id sin depender del orden de RETURNING.
+   */
+  public static void asignarIds(Connection con, String staging, String tabla, String columnaId)
+      throws SQLException {
+    try (Statement st = con.createStatement()) {
+      st.executeUpdate("UPDATE " + staging + " SET " + columnaId
+          + " = nextval(pg_get_serial_sequence('" + tabla + "', '" + columnaId + "'))");
+    }
+  }
+
+  /** Registra en el resultado las líneas que quedaron en el staging con su id. */
+  public static Long[] creadas(Connection con, String staging, String columnaId, BulkResult res)
+      throws SQLException {
+    try (Statement st = con.createStatement();
+        ResultSet rs = st.executeQuery("SELECT linea, " + columnaId + " FROM " + staging + " ORDER BY linea")) {
+      while (rs.next()) {
+        res.creada(rs.getInt(1), rs.getLong(2));
+      }
+    }
+    return res.getCreadas().stream().map(c -> c.id()).toArray(Long[]::new);
+  }
+}
@@ -0,0 +1,79 @@
+package com.function.common;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Caché en memoria de la instancia con expiración fija por entrada.
+ *
+ * Pensada para atajos baratos (p. ej. "este usuario ya se sincronizó hace un rato"),
+ * no para datos que deban verse igual en todas las instancias: cada instancia de la
+ * Function App tiene la suya y se pierde al reciclarse. Si se llena, primero se
+ * descartan las vencidas y, si no alcanza, las más viejas hasta dejar un 10% libre
+ * (para no recorrer el mapa en cada put mientras siga lleno).
+ */
+public final class TtlCache<K, V> {
+
+  private record Entrada<V>(V valor, long venceNanos) {}
+
+  private final ConcurrentHashMap<K, Entrada<V>> entradas = new ConcurrentHashMap<>();
+  private final long ttlNanos;
+  private final int maxEntradas;
+  private final LongSupplier reloj;
+
+  public TtlCache(long ttlMillis, int maxEntradas) {
+    this(ttlMillis, maxEntradas, System::nanoTime);
+  }
+
+  // reloj inyectable para tests
+  TtlCache(long ttlMillis, int maxEntradas, LongSupplier reloj) {
+    this.ttlNanos = ttlMillis * 1_000_000L;
+    this.maxEntradas = maxEntradas;
+    this.reloj = reloj;
+  }
+
+  /** Valor vigente o null. */
+  public V get(K clave) {
+    Entrada<V> e = entradas.get(clave);
+    if (e == null)
+      return null;
+    if (reloj.getAsLong() - e.venceNanos() >= 0) {
+      entradas.remove(clave, e);
+      return null;
+    }
+    return e.valor();
+  }
+
+  public void put(K clave, V valor) {
+    if (ttlNanos <= 0)
+      return;
+    if (entradas.size() >= maxEntradas) {
+      long ahora = reloj.getAsLong();
+      entradas.values().removeIf(e -> ahora - e.venceNanos() >= 0);
+      if (entradas.size() >= maxEntradas)
+        descartarViejas(maxEntradas - Math.max(1, maxEntradas / 10));
+    }
+    entradas.put(clave, new Entrada<>(valor, reloj.getAsLong() + ttlNanos));
+  }
+
+  // el TTL es fijo: la que vence antes es la que se guardó antes
+  private void descartarViejas(int quedan) {
+    List<Map.Entry<K, Entrada<V>>> todas = new ArrayList<>(entradas.entrySet());
+    todas.sort(Comparator.comparingLong(e -> e.getValue().venceNanos()));
+    for (int i = 0; i < todas.size() - quedan; i++) {
+      entradas.remove(todas.get(i).getKey(), todas.get(i).getValue());
+    }
+  }
+
+  public void remove(K clave) {
+    entradas.remove(clave);
+  }
+
+  public int size() {
+    return entradas.size();
+  }
+}
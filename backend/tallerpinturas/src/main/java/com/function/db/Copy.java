@@ -0,0 +1,98 @@
+package com.function.db;
+
+import com.function.metrics.Metricas;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * COPY de PostgreSQL sobre una Connection JDBC (CopyManager de PgJDBC).
+ *
+ * Las cargas masivas arman las filas en memoria con {@link Rows} (formato CSV de
+ * COPY: vacío sin comillas = NULL) y las envían en un solo COPY FROM STDIN a una
+ * tabla temporal de staging; las exportaciones vuelcan COPY TO STDOUT a un Writer.
+ */
+public final class Copy {
+
+  private Copy() {}
+
+  public static long in(Connection con, String sql, Rows rows) throws SQLException {
+    long t0 = System.nanoTime();
+    boolean ok = false;
+    try {
+      long n = manager(con).copyIn(sql, new StringReader(rows.toString()));
+      ok = true;
+      return n;
+    } catch (IOException e) {
+      throw new SQLException("COPY FROM falló", e);
+    } finally {
+      Metricas.sql(Metricas.sentencia(sql), System.nanoTime() - t0, ok);
+    }
+  }
+
+  public static long out(Connection con, String sql, Writer out) throws SQLException {
+    long t0 = System.nanoTime();
+    boolean ok = false;
+    try {
+      long n = manager(con).copyOut(sql, out);
+      ok = true;
+      return n;
+    } catch (IOException e) {
+      throw new SQLException("COPY TO falló", e);
+    } finally {
+      Metricas.sql(Metricas.sentencia(sql), System.nanoTime() - t0, ok);
+    }
+  }
+
+  private static CopyManager manager(Connection con) throws SQLException {
+    return con.unwrap(PGConnection.class).getCopyAPI();
+  }
+
+  /** Acumula filas en el formato que espera COPY ... (FORMAT csv). */
+  public static final class Rows {
+    private final StringBuilder sb = new StringBuilder();
+    private boolean inicioFila = true;
+    private int filas;
+
+    public Rows add(Object v) {
+      if (!inicioFila)
+        sb.append(',');
+      inicioFila = false;
+      if (v == null)
+        return this;
+      String s;
+      if (v instanceof byte[] b)
+        s = "\\x" + HexFormat.of().formatHex(b);
+      else if (v instanceof Instant i)
+        s = i.toString();
+      else
+        s = v.toString();
+      // siempre entre comillas: distingue '' de NULL y protege comas y saltos de línea
+      sb.append('"').append(s.replace("\"", "\"\"")).append('"');
+      return this;
+    }
+
+    public Rows endRow() {
+      sb.append('\n');
+      inicioFila = true;
+      filas++;
+      return this;
+    }
+
+    public int size() {
+      return filas;
+    }
+
+    @Override
+    public String toString() {
+      return sb.toString();
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package com.function.db;
 
+import com.function.metrics.Metricas;
+
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
@@ -11,7 +13,8 @@ public final class Db {
     final String url  = getenvRequired("DB_URL");
     final String user = getenvRequired("DB_USER");
     final String pass = getenvRequired("DB_PASS");
-    return DriverManager.getConnection(url, user, pass);
+    Connection con = DriverManager.getConnection(url, user, pass);
+    return Metricas.HABILITADAS ? TimedConnection.wrap(con) : con;
   }
 
   private static String getenvRequired(String key) {
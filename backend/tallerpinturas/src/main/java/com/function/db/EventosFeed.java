@@ -0,0 +1,78 @@
+package com.function.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Proyección desnormalizada eventos_feed (eventos + tipoevento + usuarios + roles).
+ *
+ * Se mantiene de forma incremental desde las escrituras: quien modifica un evento o
+ * un usuario llama a estos métodos con la misma Connection/transacción, así la
+ * proyección nunca queda por delante ni por detrás del dato. Los borrados de eventos
+ * se propagan solos por la FK ON DELETE CASCADE.
+ */
+public final class EventosFeed {
+
+  /** Columnas de la proyección; mismos alias que usa EventosFunction.mapEvento. */
+  public static final String COLUMNAS = "id_eventos, titulo, descripcion, fechaInicio, fechaTermino, precio, direccion, "
+      + "id_tipo_evento, tipoevento_nombre, id_azure, usuario_username, usuario_nombre, id_rol, nombre_rol, "
+      + "lat, lon, geohash";
+
+  private static final String SQL_REFRESH_EVENTO = refresh("e.id_eventos = ?");
+  private static final String SQL_REFRESH_EVENTOS = refresh("e.id_eventos = ANY(?)");
+
+  private static String refresh(String filtro) {
+    return "INSERT INTO eventos_feed (" + COLUMNAS + ") "
+        + "SELECT e.id_eventos, e.titulo, e.descripcion, e.fechaInicio, e.fechaTermino, e.precio, e.direccion, "
+        + "e.id_tipo_evento, te.nombre, e.id_azure, u.username, u.nombre_completo, e.id_rol, r.nombre_rol, "
+        + "e.lat, e.lon, e.geohash "
+        + "FROM eventos e "
+        + "LEFT JOIN tipoevento te ON e.id_tipo_evento = te.id_tipo_evento "
+        + "LEFT JOIN usuarios u ON e.id_azure = u.id_azure "
+        + "LEFT JOIN roles r ON e.id_rol = r.id_rol "
+        + "WHERE " + filtro + " "
+        + "ON CONFLICT (id_eventos) DO UPDATE SET "
+        + "titulo = EXCLUDED.titulo, descripcion = EXCLUDED.descripcion, fechaInicio = EXCLUDED.fechaInicio, "
+        + "fechaTermino = EXCLUDED.fechaTermino, precio = EXCLUDED.precio, direccion = EXCLUDED.direccion, "
+        + "id_tipo_evento = EXCLUDED.id_tipo_evento, tipoevento_nombre = EXCLUDED.tipoevento_nombre, "
+        + "id_azure = EXCLUDED.id_azure, usuario_username = EXCLUDED.usuario_username, "
+        + "usuario_nombre = EXCLUDED.usuario_nombre, id_rol = EXCLUDED.id_rol, nombre_rol = EXCLUDED.nombre_rol, "
+        + "lat = EXCLUDED.lat, lon = EXCLUDED.lon, geohash = EXCLUDED.geohash";
+  }
+
+  // sirve tanto para renombres como para el borrado del usuario (eventos.id_azure pasa a NULL)
+  private static final String SQL_REFRESH_USUARIO = "UPDATE eventos_feed f SET "
+      + "id_azure = e.id_azure, usuario_username = u.username, usuario_nombre = u.nombre_completo "
+      + "FROM eventos e LEFT JOIN usuarios u ON e.id_azure = u.id_azure "
+      + "WHERE f.id_eventos = e.id_eventos AND f.id_azure = ?";
+
+  private EventosFeed() {}
+
+  /** Inserta o reescribe la fila del evento a partir de las tablas base. */
+  public static void refreshEvento(Connection con, long idEvento) throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(SQL_REFRESH_EVENTO)) {
+      ps.setLong(1, idEvento);
+      ps.executeUpdate();
+    }
+  }
+
+  /** Variante por lotes para las cargas masivas: un solo INSERT ... SELECT. */
+  public static void refreshEventos(Connection con, Long[] ids) throws SQLException {
+    if (ids.length == 0)
+      return;
+    try (PreparedStatement ps = con.prepareStatement(SQL_REFRESH_EVENTOS)) {
+      ps.setArray(1, con.createArrayOf("bigint", ids));
+      ps.executeUpdate();
+    }
+  }
+
+  /** Reescribe los datos de usuario en todas las filas que lo referencian. */
+  public static int refreshUsuario(Connection con, UUID idAzure) throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(SQL_REFRESH_USUARIO)) {
+      ps.setObject(1, idAzure);
+      return ps.executeUpdate();
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.function.db;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Utilidades comunes de /obras/search y /eventos/search.
+ *
+ * La consulta combina tres criterios, cada uno servido por su índice GIN:
+ * websearch_to_tsquery sobre la columna busqueda (palabras completas, con stemming),
+ * un to_tsquery de prefijos ("pint:*") para búsquedas mientras se escribe, y
+ * similitud de trigramas sobre titulo (pg_trgm) para tolerar errores de tipeo.
+ */
+public final class Search {
+
+  public static final int DEFAULT_LIMIT = 20;
+  public static final int MAX_LIMIT = 100;
+  private static final int MAX_TERMINOS = 8;
+
+  /** Expresión de ranking; los parámetros son (ts, prefijos, q). */
+  public static final String RANK = "ts_rank_cd(busqueda, websearch_to_tsquery('spanish', ?)) "
+      + "+ 0.5 * ts_rank_cd(busqueda, to_tsquery('spanish', ?)) "
+      + "+ similarity(titulo, ?)";
+
+  /** Condición de búsqueda; los parámetros son (ts, prefijos, q). */
+  public static final String MATCH = "(busqueda @@ websearch_to_tsquery('spanish', ?) "
+      + "OR busqueda @@ to_tsquery('spanish', ?) "
+      + "OR titulo % ?)";
+
+  public record Page(String q, String prefijos, int limit, int offset) {}
+
+  private Search() {}
+
+  /**
+   * Lee q, limit y offset de la query string. Devuelve null si q no tiene
+   * ningún término utilizable.
+   */
+  public static Page page(Map<String, String> query) {
+    if (query == null)
+      return null;
+    String q = query.get("q");
+    String prefijos = prefixQuery(q);
+    if (prefijos == null)
+      return null;
+    int limit = parseInt(query.get("limit"), DEFAULT_LIMIT);
+    int offset = parseInt(query.get("offset"), 0);
+    return new Page(q.trim(), prefijos, Math.min(Math.max(limit, 1), MAX_LIMIT), Math.max(offset, 0));
+  }
+
+  /** Asigna los tres parámetros de RANK o MATCH desde idx; devuelve el siguiente índice. */
+  public static int bind(PreparedStatement ps, int idx, Page p) throws SQLException {
+    ps.setString(idx, p.q());
+    ps.setString(idx + 1, p.prefijos());
+    ps.setString(idx + 2, p.q());
+    return idx + 3;
+  }
+
+  /**
+   * "pintura az" -> "pintura:* & az:*". Solo letras y dígitos, así la entrada del
+   * usuario nunca produce un tsquery inválido.
+   */
+  static String prefixQuery(String q) {
+    if (q == null)
+      return null;
+    List<String> terminos = new ArrayList<>();
+    for (String t : q.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")) {
+      if (!t.isEmpty() && terminos.size() < MAX_TERMINOS)
+        terminos.add(t + ":*");
+    }
+    return terminos.isEmpty() ? null : String.join(" & ", terminos);
+  }
+
+  private static int parseInt(String v, int def) {
+    if (v == null || v.isBlank())
+      return def;
+    try {
+      return Integer.parseInt(v.trim());
+    } catch (NumberFormatException e) {
+      return def;
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.function.db;
+
+import com.function.metrics.Metricas;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * Proxy de Connection que mide con Metricas.sql cada execute* de los Statement y
+ * PreparedStatement que crea. El nombre sale del SQL (ver Metricas.sentencia): en los
+ * PreparedStatement se calcula una vez al prepararlo; en los Statement, con el SQL de
+ * cada execute. unwrap() llega a la conexión real, así que COPY sigue funcionando.
+ */
+final class TimedConnection {
+
+  private TimedConnection() {}
+
+  static Connection wrap(Connection con) {
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+        (proxy, m, args) -> {
+          Object r = invocar(con, m, args);
+          if (r instanceof PreparedStatement ps && m.getName().equals("prepareStatement")) {
+            return medido(ps, PreparedStatement.class, Metricas.sentencia((String) args[0]));
+          }
+          if (r instanceof Statement st && m.getName().equals("createStatement")) {
+            return medido(st, Statement.class, null);
+          }
+          return r;
+        });
+  }
+
+  private static <S extends Statement> S medido(S st, Class<S> tipo, String nombre) {
+    return tipo.cast(Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[] { tipo }, (proxy, m, args) -> {
+      if (!m.getName().startsWith("execute")) {
+        return invocar(st, m, args);
+      }
+      String sentencia = nombre != null ? nombre
+          : args != null && args.length > 0 && args[0] instanceof String sql ? Metricas.sentencia(sql) : "batch";
+      return Metricas.sql(sentencia, () -> invocar(st, m, args));
+    }));
+  }
+
+  private static Object invocar(Object destino, Method m, Object[] args) throws Throwable {
+    try {
+      return m.invoke(destino, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
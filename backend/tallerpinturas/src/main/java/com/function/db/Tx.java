@@ -0,0 +1,43 @@
+package com.function.db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Ejecuta un bloque JDBC dentro de una transacción: commit si termina bien,
+ * rollback si lanza SQLException o RuntimeException.
+ */
+public final class Tx {
+
+  @FunctionalInterface
+  public interface Work<T> {
+    T apply(Connection con) throws SQLException;
+  }
+
+  private Tx() {}
+
+  public static <T> T run(Work<T> work) throws SQLException {
+    try (Connection con = Db.connect()) {
+      return run(con, work);
+    }
+  }
+
+  // variante sobre una conexión ya abierta (p. ej. después de validar permisos con ella)
+  public static <T> T run(Connection con, Work<T> work) throws SQLException {
+    con.setAutoCommit(false);
+    try {
+      T result = work.apply(con);
+      con.commit();
+      return result;
+    } catch (SQLException | RuntimeException e) {
+      try {
+        con.rollback();
+      } catch (SQLException re) {
+        e.addSuppressed(re);
+      }
+      throw e;
+    } finally {
+      con.setAutoCommit(true);
+    }
+  }
+}
@@ -1,38 +1,60 @@
 package com.function.dto;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
-public class EventoDTO {
-  private Long idTipoEvento;
-  private UUID idAzure;
-  private Long idRol;
-  private String titulo;
-  private String descripcion;
-  private Instant fechaInicio;
-  private Instant fechaTermino;
-  private BigDecimal precio;
-  private String direccion;
+/**
+ * Alta/edición de evento. Tipo y rol se aceptan planos ({@code id_tipo_evento},
+ * {@code id_rol}) o anidados ({@code tipo.id_tipo_evento}, {@code rol.id_rol}).
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record EventoDTO(
+    Long idTipoEvento,
+    UUID idAzure,
+    Long idRol,
+    String titulo,
+    String descripcion,
+    Instant fechaInicio,
+    Instant fechaTermino,
+    BigDecimal precio,
+    String direccion,
+    Double lat,
+    Double lon) {
 
-  public Long getIdTipoEvento() { return idTipoEvento; }
-  public UUID getIdAzure() { return idAzure; }
-  public Long getIdRol() { return idRol; }
-  public String getTitulo() { return titulo; }
-  public String getDescripcion() { return descripcion; }
-  public Instant getFechaInicio() { return fechaInicio; }
-  public Instant getFechaTermino() { return fechaTermino; }
-  public BigDecimal getPrecio() { return precio; }
-  public String getDireccion() { return direccion; }
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  record TipoRef(@JsonProperty("id_tipo_evento") Long id) {
+  }
 
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  record RolRef(@JsonProperty("id_rol") Long id) {
+  }
 
-  void setIdTipoEvento(Long idTipoEvento) { this.idTipoEvento = idTipoEvento; }
-  void setIdAzure(UUID idAzure) { this.idAzure = idAzure; }
-  void setIdRol(Long idRol) { this.idRol = idRol; }
-  void setTitulo(String titulo) { this.titulo = titulo; }
-  void setDescripcion(String descripcion) { this.descripcion = descripcion; }
-  void setFechaInicio(Instant fechaInicio) { this.fechaInicio = fechaInicio; }
-  void setFechaTermino(Instant fechaTermino) { this.fechaTermino = fechaTermino; }
-  void setPrecio(BigDecimal precio) { this.precio = precio; }
-  void setDireccion(String direccion) { this.direccion = direccion; }
+  @JsonCreator
+  static EventoDTO json(
+      @JsonProperty("id_tipo_evento") Long idTipoEvento,
+      @JsonProperty("tipo") TipoRef tipo,
+      @JsonProperty("id_azure") @JsonAlias("idAzure") UUID idAzure,
+      @JsonProperty("id_rol") Long idRol,
+      @JsonProperty("rol") RolRef rol,
+      @JsonProperty("titulo") String titulo,
+      @JsonProperty("descripcion") String descripcion,
+      @JsonProperty("fechaInicio") @JsonDeserialize(using = InstantDeserializer.class) Instant fechaInicio,
+      @JsonProperty("fechaTermino") @JsonDeserialize(using = InstantDeserializer.class) Instant fechaTermino,
+      @JsonProperty("precio") BigDecimal precio,
+      @JsonProperty("direccion") String direccion,
+      @JsonProperty("lat") Double lat,
+      @JsonProperty("lon") Double lon) {
+    return new EventoDTO(
+        idTipoEvento != null ? idTipoEvento : tipo != null ? tipo.id() : null,
+        idAzure,
+        idRol != null ? idRol : rol != null ? rol.id() : null,
+        titulo, descripcion, fechaInicio, fechaTermino, precio, direccion, lat, lon);
+  }
 }
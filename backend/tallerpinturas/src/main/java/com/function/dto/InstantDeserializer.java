@@ -0,0 +1,35 @@
+package com.function.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Instant ISO-8601 ({@code 2025-03-01T18:00:00Z}); vacío = null. El proyecto no usa
+ * jackson-datatype-jsr310, así que las fechas de los DTO se leen con esto.
+ */
+final class InstantDeserializer extends StdScalarDeserializer<Instant> {
+
+  InstantDeserializer() {
+    super(Instant.class);
+  }
+
+  @Override
+  public Instant deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (!p.hasToken(JsonToken.VALUE_STRING))
+      return (Instant) ctxt.handleUnexpectedToken(Instant.class, p);
+    String v = p.getText().trim();
+    if (v.isEmpty())
+      return null;
+    try {
+      return Instant.parse(v);
+    } catch (DateTimeParseException e) {
+      return (Instant) ctxt.handleWeirdStringValue(Instant.class, v, "se esperaba una fecha ISO-8601");
+    }
+  }
+}
@@ -1,52 +1,32 @@
 package com.function.dto;
 
-import java.util.UUID;
-
-public class ObraDTO {
-
-    private Long idTipo;
-    private String titulo;
-    private String descripcion;
-    private String imagen;
-    private UUID idAzure;
-
-    public Long getIdTipo() {
-        return idTipo;
-    }
-
-    public void setIdTipo(Long idTipo) {
-        this.idTipo = idTipo;
-    }
-
-    public String getTitulo() {
-        return titulo;
-    }
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
-    public void setTitulo(String titulo) {
-        this.titulo = titulo;
-    }
-
-    public String getDescripcion() {
-        return descripcion;
-    }
-
-    public void setDescripcion(String descripcion) {
-        this.descripcion = descripcion;
-    }
-
-    public String getImagen() {
-        return imagen;
-    }
-
-    public void setImagen(String imagen) {
-        this.imagen = imagen;
-    }
-
-    public UUID getIdAzure() {
-        return idAzure;
-    }
+import java.util.UUID;
 
-    public void setIdAzure(UUID idAzure) {
-        this.idAzure = idAzure;
-    }
+/**
+ * Alta/edición de obra. El tipo llega como {@code id_tipo_obra} (o {@code idTipoObra},
+ * que es lo que manda el BFF) o anidado en {@code tipo.id_tipo_obra}; el plano gana.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ObraDTO(Long idTipo, String titulo, String descripcion, String imagen, UUID idAzure) {
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  record TipoRef(@JsonProperty("id_tipo_obra") Long id) {
+  }
+
+  @JsonCreator
+  static ObraDTO json(
+      @JsonProperty("id_tipo_obra") @JsonAlias("idTipoObra") Long idTipo,
+      @JsonProperty("tipo") TipoRef tipo,
+      @JsonProperty("titulo") String titulo,
+      @JsonProperty("descripcion") String descripcion,
+      @JsonProperty("imagenBase64") String imagen,
+      @JsonProperty("id_azure") @JsonAlias("idAzure") UUID idAzure) {
+    return new ObraDTO(idTipo != null ? idTipo : tipo != null ? tipo.id() : null,
+        titulo, descripcion, imagen, idAzure);
+  }
 }
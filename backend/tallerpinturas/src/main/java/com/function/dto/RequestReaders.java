@@ -0,0 +1,68 @@
+package com.function.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.function.exception.InvalidRequestException;
+import com.function.json.Json;
+import com.function.metrics.Metricas;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Lectura de los bodies de escritura directo a los DTO inmutables.
+ *
+ * Hay un ObjectReader por tipo, armado una sola vez: el deserializador queda resuelto
+ * y cada request recorre los tokens sin pasar por un Map intermedio. Los nombres de
+ * propiedad distinguen mayúsculas; las variantes aceptadas están como alias en cada DTO.
+ */
+public final class RequestReaders {
+
+  private static final ObjectMapper MAPPER = Json.MAPPER;
+
+  public static final ObjectReader OBRA = MAPPER.readerFor(ObraDTO.class);
+  public static final ObjectReader EVENTO = MAPPER.readerFor(EventoDTO.class);
+  public static final ObjectReader USUARIO = MAPPER.readerFor(UsuarioDTO.class);
+
+  private RequestReaders() {}
+
+  /** Body JSON -> DTO; InvalidRequestException indica el campo que no se pudo leer. */
+  public static <T> T leer(ObjectReader reader, String body) {
+    // largo en caracteres: igual a bytes salvo acentos (las imágenes van en Base64)
+    if (body != null)
+      Metricas.payload("request", "json", body.length());
+    try {
+      return reader.readValue(body);
+    } catch (JsonProcessingException e) {
+      throw invalido(e);
+    }
+  }
+
+  /** Fila de carga masiva (BulkParser la deja como mapa) -> DTO. */
+  public static <T> T desdeMapa(ObjectReader reader, Map<String, Object> datos) {
+    try {
+      JsonNode arbol = MAPPER.valueToTree(datos);
+      return reader.readValue(arbol);
+    } catch (IOException | IllegalArgumentException e) {
+      throw invalido(e);
+    }
+  }
+
+  private static InvalidRequestException invalido(Exception e) {
+    Throwable t = e instanceof IllegalArgumentException && e.getCause() != null ? e.getCause() : e;
+    if (t instanceof JsonMappingException m && !m.getPath().isEmpty()) {
+      String campo = m.getPath().stream()
+          .map(JsonMappingException.Reference::getFieldName)
+          .filter(Objects::nonNull)
+          .collect(Collectors.joining("."));
+      if (!campo.isEmpty())
+        return new InvalidRequestException(campo + " inválido", e);
+    }
+    return new InvalidRequestException("JSON inválido", e);
+  }
+}
@@ -0,0 +1,32 @@
+package com.function.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.UUID;
+
+/**
+ * Alta/edición de usuario. El rol llega como {@code id_rol} o {@code rol.id_rol};
+ * los alias camelCase son los nombres que serializa el UsuarioDto del BFF.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record UsuarioDTO(UUID idAzure, Long idRol, String username, String password, String nombreCompleto) {
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  record RolRef(@JsonProperty("id_rol") Long id) {
+  }
+
+  @JsonCreator
+  static UsuarioDTO json(
+      @JsonProperty("id_azure") @JsonAlias("idAzure") UUID idAzure,
+      @JsonProperty("id_rol") @JsonAlias("idRol") Long idRol,
+      @JsonProperty("rol") RolRef rol,
+      @JsonProperty("username") String username,
+      @JsonProperty("password") String password,
+      @JsonProperty("nombre_completo") @JsonAlias("nombreCompleto") String nombreCompleto) {
+    return new UsuarioDTO(idAzure, idRol != null ? idRol : rol != null ? rol.id() : null,
+        username, password, nombreCompleto);
+  }
+}
@@ -5,20 +5,41 @@ import com.azure.core.util.BinaryData;
 import com.azure.messaging.eventgrid.EventGridEvent;
 import com.azure.messaging.eventgrid.EventGridPublisherClient;
 import com.azure.messaging.eventgrid.EventGridPublisherClientBuilder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.function.exception.ApplicationException;
+import com.function.json.Json;
+import com.function.metrics.Metricas;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 public final class EventBusEG {
 
+  private static final ObjectMapper MAPPER = Json.MAPPER;
+
+  private static volatile EventGridPublisherClient<EventGridEvent> client;
 
   private static EventGridPublisherClient<EventGridEvent> client() {
-    String endpoint = System.getenv("EG_TOPIC_ENDPOINT");
-    String key = System.getenv("EG_ACCESS_KEY");
-    if (endpoint == null || key == null) {
-      throw new IllegalStateException("Faltan EG_TOPIC_ENDPOINT / EG_ACCESS_KEY");
+    EventGridPublisherClient<EventGridEvent> c = client;
+    if (c != null) return c;
+    synchronized (EventBusEG.class) {
+      if (client == null) {
+        String endpoint = System.getenv("EG_TOPIC_ENDPOINT");
+        String key = System.getenv("EG_ACCESS_KEY");
+        if (endpoint == null || key == null) {
+          throw new IllegalStateException("Faltan EG_TOPIC_ENDPOINT / EG_ACCESS_KEY");
+        }
+        client = new EventGridPublisherClientBuilder()
+            .endpoint(endpoint)
+            .credential(new AzureKeyCredential(key))
+            .buildEventGridEventPublisherClient();
+      }
+      return client;
     }
-    return new EventGridPublisherClientBuilder()
-        .endpoint(endpoint)
-        .credential(new AzureKeyCredential(key))
-        .buildEventGridEventPublisherClient();
   }
 
   public static void publish(String type, String subject, Object data) {
@@ -26,9 +47,41 @@ public final class EventBusEG {
         ? BinaryData.fromObject(java.util.Collections.emptyMap())
         : BinaryData.fromObject(data);
     EventGridEvent ev = new EventGridEvent(subject, type, bd, "1.0");
-    client().sendEvent(ev);
+    EventGridPublisherClient<EventGridEvent> c = client();
+    Metricas.publicacion("single", 1, () -> {
+      c.sendEvent(ev);
+      return null;
+    });
+  }
+
+  // Publica un lote del outbox en una sola llamada; el id del evento es el event_id
+  // de la fila, así los reintentos llegan con el mismo id y el consumidor deduplica.
+  public static void publishAll(List<OutboxEntry> entries) {
+    if (entries.isEmpty()) return;
+    List<EventGridEvent> events = new ArrayList<>(entries.size());
+    for (OutboxEntry e : entries) {
+      EventGridEvent ev = new EventGridEvent(e.subject(), e.eventType(), BinaryData.fromObject(parse(e)), "1.0");
+      ev.setId(e.eventId().toString());
+      if (e.createdAt() != null) {
+        ev.setEventTime(e.createdAt().atOffset(ZoneOffset.UTC));
+      }
+      events.add(ev);
+    }
+    EventGridPublisherClient<EventGridEvent> c = client();
+    Metricas.publicacion("batch", events.size(), () -> {
+      c.sendEvents(events);
+      return null;
+    });
+  }
+
+  private static Map<String, Object> parse(OutboxEntry e) {
+    try {
+      return MAPPER.readValue(e.dataJson(), new TypeReference<Map<String, Object>>() {
+      });
+    } catch (JsonProcessingException ex) {
+      throw new ApplicationException("Data inválida en outbox id=" + e.id(), ex);
+    }
   }
 
   private EventBusEG() {}
 }
-
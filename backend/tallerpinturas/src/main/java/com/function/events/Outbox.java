@@ -0,0 +1,171 @@
+package com.function.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.function.exception.ApplicationException;
+import com.function.json.Json;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Outbox transaccional de eventos de dominio.
+ *
+ * Las Functions llaman a {@link #enqueue} con la misma Connection (y transacción)
+ * que modifica la entidad, así el evento se guarda si y solo si el cambio se
+ * confirma. OutboxRelayFunction reclama las filas pendientes con
+ * FOR UPDATE SKIP LOCKED, las publica y las marca como enviadas o las
+ * reprograma con backoff exponencial. Al fallar el intento MAX_ATTEMPTS la fila
+ * queda en dead letter (dead_at): no se reclama más y hay que revisarla a mano
+ * (last_error) y reencolarla con dead_at = NULL, attempts = 0.
+ */
+public final class Outbox {
+
+  static final int MAX_ATTEMPTS = 12;
+  private static final long BASE_BACKOFF_MS = 2_000L;
+  private static final long MAX_BACKOFF_MS = 15 * 60_000L;
+  private static final int MAX_ERROR_LENGTH = 500;
+
+  private static final ObjectMapper MAPPER = Json.MAPPER;
+
+  private Outbox() {}
+
+  private static final String SQL_INSERT = "INSERT INTO outbox (event_type, subject, data) VALUES (?, ?, ?::jsonb)";
+
+  public static void enqueue(Connection con, String type, String subject, Object data) throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(SQL_INSERT)) {
+      ps.setString(1, type);
+      ps.setString(2, subject);
+      ps.setString(3, toJson(type, data));
+      ps.executeUpdate();
+    }
+  }
+
+  /** Varios eventos del mismo tipo y subject (p. ej. vínculos por lote) en un solo executeBatch. */
+  public static void enqueueBatch(Connection con, String type, String subject, List<?> datos) throws SQLException {
+    if (datos.isEmpty())
+      return;
+    try (PreparedStatement ps = con.prepareStatement(SQL_INSERT)) {
+      for (Object data : datos) {
+        ps.setString(1, type);
+        ps.setString(2, subject);
+        ps.setString(3, toJson(type, data));
+        ps.addBatch();
+      }
+      ps.executeBatch();
+    }
+  }
+
+  /**
+   * Variante por conjuntos para las cargas masivas: encola un evento por cada fila
+   * de {@code select}, que debe devolver las columnas subject y data (jsonb).
+   */
+  public static int enqueueAll(Connection con, String type, String select) throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(
+        "INSERT INTO outbox (event_type, subject, data) SELECT ?, s.subject, s.data FROM (" + select + ") s")) {
+      ps.setString(1, type);
+      return ps.executeUpdate();
+    }
+  }
+
+  // Reclama hasta 'limit' filas vencidas; quedan bloqueadas hasta el fin de la transacción
+  public static List<OutboxEntry> claim(Connection con, int limit) throws SQLException {
+    String sql = "SELECT id, event_id, event_type, subject, data::text AS data, created_at, attempts " +
+        "FROM outbox " +
+        "WHERE published_at IS NULL AND dead_at IS NULL AND next_attempt_at <= now() " +
+        "ORDER BY next_attempt_at, id " +
+        "LIMIT ? FOR UPDATE SKIP LOCKED";
+    try (PreparedStatement ps = con.prepareStatement(sql)) {
+      ps.setInt(1, limit);
+      try (ResultSet rs = ps.executeQuery()) {
+        List<OutboxEntry> out = new ArrayList<>();
+        while (rs.next()) {
+          Timestamp created = rs.getTimestamp("created_at");
+          out.add(new OutboxEntry(
+              rs.getLong("id"),
+              UUID.fromString(rs.getString("event_id")),
+              rs.getString("event_type"),
+              rs.getString("subject"),
+              rs.getString("data"),
+              created != null ? created.toInstant() : null,
+              rs.getInt("attempts")));
+        }
+        return out;
+      }
+    }
+  }
+
+  public static void markPublished(Connection con, List<OutboxEntry> entries) throws SQLException {
+    if (entries.isEmpty())
+      return;
+    try (PreparedStatement ps = con.prepareStatement(
+        "UPDATE outbox SET published_at = now(), last_error = NULL WHERE id = ANY(?)")) {
+      ps.setArray(1, ids(con, entries));
+      ps.executeUpdate();
+    }
+  }
+
+  /**
+   * Reprograma las filas con backoff; las que llegan a MAX_ATTEMPTS pasan a dead letter.
+   *
+   * @return las que quedaron en dead letter, para que el relay las informe
+   */
+  public static List<OutboxEntry> markFailed(Connection con, List<OutboxEntry> entries, String error)
+      throws SQLException {
+    List<OutboxEntry> muertas = new ArrayList<>();
+    if (entries.isEmpty())
+      return muertas;
+    String msg = error == null ? "error desconocido"
+        : (error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+    try (PreparedStatement ps = con.prepareStatement(
+        "UPDATE outbox SET attempts = attempts + 1, " +
+            "next_attempt_at = now() + (? * INTERVAL '1 millisecond'), last_error = ?, " +
+            "dead_at = CASE WHEN ? THEN now() END WHERE id = ?")) {
+      for (OutboxEntry e : entries) {
+        boolean muerta = e.attempts() + 1 >= MAX_ATTEMPTS;
+        ps.setLong(1, backoffMillis(e.attempts()));
+        ps.setString(2, msg);
+        ps.setBoolean(3, muerta);
+        ps.setLong(4, e.id());
+        ps.addBatch();
+        if (muerta)
+          muertas.add(e);
+      }
+      ps.executeBatch();
+    }
+    return muertas;
+  }
+
+  // Backoff exponencial con jitter: [mitad, total] de min(base * 2^intentos, máximo)
+  static long backoffMillis(int attempts) {
+    int shift = Math.min(Math.max(attempts, 0), 20);
+    long cap = Math.min(MAX_BACKOFF_MS, BASE_BACKOFF_MS << shift);
+    long half = cap / 2;
+    return half + ThreadLocalRandom.current().nextLong(half + 1);
+  }
+
+  private static String toJson(String type, Object data) {
+    try {
+      return MAPPER.writeValueAsString(data == null ? Map.of() : data);
+    } catch (JsonProcessingException e) {
+      throw new ApplicationException("No se pudo serializar el evento " + type, e);
+    }
+  }
+
+  private static Array ids(Connection con, List<OutboxEntry> entries) throws SQLException {
+    Long[] ids = new Long[entries.size()];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = entries.get(i).id();
+    }
+    return con.createArrayOf("bigint", ids);
+  }
+}
@@ -0,0 +1,15 @@
+package com.function.events;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** Fila pendiente del outbox, tal como la reclama el relay. */
+public record OutboxEntry(
+    long id,
+    UUID eventId,
+    String eventType,
+    String subject,
+    String dataJson,
+    Instant createdAt,
+    int attempts) {
+}
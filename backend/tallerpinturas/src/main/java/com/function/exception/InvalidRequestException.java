@@ -0,0 +1,8 @@
+package com.function.exception;
+
+/** Body de escritura que no se puede leer como el DTO esperado; las Functions responden 400. */
+public class InvalidRequestException extends RuntimeException {
+  public InvalidRequestException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
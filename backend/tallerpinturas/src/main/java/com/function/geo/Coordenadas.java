@@ -0,0 +1,11 @@
+package com.function.geo;
+
+/** Punto WGS84 en grados decimales. */
+public record Coordenadas(double lat, double lon) {
+
+  public Coordenadas {
+    if (lat < -90 || lat > 90 || lon < -180 || lon > 180 || Double.isNaN(lat) || Double.isNaN(lon)) {
+      throw new IllegalArgumentException("Coordenadas fuera de rango: " + lat + "," + lon);
+    }
+  }
+}
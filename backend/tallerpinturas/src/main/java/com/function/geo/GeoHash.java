@@ -0,0 +1,108 @@
+package com.function.geo;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Geohash base32 y cálculo de las celdas que cubren un círculo.
+ *
+ * eventos_feed guarda el geohash a PRECISION caracteres con índice btree
+ * (text_pattern_ops); una búsqueda por radio se traduce en la celda del centro
+ * y sus 8 vecinas, a la precisión más fina cuya celda no es más chica que el
+ * radio, y el filtro exacto por distancia se aplica solo sobre esas filas.
+ */
+public final class GeoHash {
+
+  public static final int PRECISION = 9;
+
+  private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+  private static final double RADIO_TIERRA_KM = 6371.0088;
+  private static final double KM_POR_GRADO = 111.32;
+
+  private GeoHash() {}
+
+  public static String encode(double lat, double lon, int precision) {
+    double latMin = -90, latMax = 90, lonMin = -180, lonMax = 180;
+    StringBuilder sb = new StringBuilder(precision);
+    boolean esLon = true;
+    int bit = 0, ch = 0;
+    while (sb.length() < precision) {
+      if (esLon) {
+        double mid = (lonMin + lonMax) / 2;
+        if (lon >= mid) {
+          ch = (ch << 1) | 1;
+          lonMin = mid;
+        } else {
+          ch <<= 1;
+          lonMax = mid;
+        }
+      } else {
+        double mid = (latMin + latMax) / 2;
+        if (lat >= mid) {
+          ch = (ch << 1) | 1;
+          latMin = mid;
+        } else {
+          ch <<= 1;
+          latMax = mid;
+        }
+      }
+      esLon = !esLon;
+      if (++bit == 5) {
+        sb.append(BASE32[ch]);
+        bit = 0;
+        ch = 0;
+      }
+    }
+    return sb.toString();
+  }
+
+  // las celdas tienen tamaño fijo en grados: 5p bits repartidos entre lon (techo) y lat (piso)
+  static double altoGrados(int precision) {
+    return 180.0 / (1L << (5 * precision / 2));
+  }
+
+  static double anchoGrados(int precision) {
+    return 360.0 / (1L << ((5 * precision + 1) / 2));
+  }
+
+  /** Precisión más fina cuya celda mide al menos radioKm en ambos ejes alrededor de lat. */
+  public static int precisionPara(double radioKm, double lat) {
+    // coseno en el borde del círculo más cercano al polo (donde la celda es más angosta)
+    double latBorde = Math.min(89.0, Math.abs(lat) + radioKm / KM_POR_GRADO);
+    double cos = Math.cos(Math.toRadians(latBorde));
+    for (int p = PRECISION; p >= 1; p--) {
+      if (altoGrados(p) * KM_POR_GRADO >= radioKm && anchoGrados(p) * KM_POR_GRADO * cos >= radioKm) return p;
+    }
+    return 1;
+  }
+
+  /**
+   * Prefijos a consultar: la celda del centro y sus vecinas. Todo punto a menos de
+   * radioKm del centro cae en alguna de ellas.
+   */
+  public static Set<String> cobertura(double lat, double lon, double radioKm) {
+    int p = precisionPara(radioKm, lat);
+    double dLat = altoGrados(p);
+    double dLon = anchoGrados(p);
+    Set<String> celdas = new LinkedHashSet<>();
+    for (int i = -1; i <= 1; i++) {
+      for (int j = -1; j <= 1; j++) {
+        double la = Math.max(-90, Math.min(90, lat + i * dLat));
+        double lo = lon + j * dLon;
+        if (lo >= 180) lo -= 360;
+        if (lo < -180) lo += 360;
+        celdas.add(encode(la, lo, p));
+      }
+    }
+    return celdas;
+  }
+
+  /** Distancia haversine en km. */
+  public static double distanciaKm(double lat1, double lon1, double lat2, double lon2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLon = Math.toRadians(lon2 - lon1);
+    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+    return 2 * RADIO_TIERRA_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+}
@@ -0,0 +1,27 @@
+package com.function.geo;
+
+import java.util.Optional;
+
+/**
+ * Traduce una dirección de texto libre a coordenadas. Se resuelve con
+ * {@link #fromEnv()}: GEOCODER_URL apunta a un servicio compatible con Nominatim;
+ * GEOCODER=stub usa StubGeocoder (desarrollo local y pruebas de carga); sin
+ * configuración no se geocodifica y el evento queda sin coordenadas.
+ */
+public interface Geocoder {
+
+  Optional<Coordenadas> geocode(String direccion);
+
+  Geocoder NINGUNO = direccion -> Optional.empty();
+
+  static Geocoder fromEnv() {
+    String url = System.getenv("GEOCODER_URL");
+    if (url != null && !url.isBlank()) {
+      return new NominatimGeocoder(url);
+    }
+    if ("stub".equalsIgnoreCase(System.getenv("GEOCODER"))) {
+      return new StubGeocoder();
+    }
+    return NINGUNO;
+  }
+}
@@ -0,0 +1,60 @@
+package com.function.geo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.function.json.Json;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+/**
+ * Geocodificador HTTP contra un endpoint /search compatible con Nominatim
+ * (format=json&limit=1). Un fallo de red o una dirección no encontrada no
+ * bloquea la escritura del evento: simplemente queda sin coordenadas.
+ */
+public final class NominatimGeocoder implements Geocoder {
+
+  private static final Logger LOG = Logger.getLogger(NominatimGeocoder.class.getName());
+  private static final ObjectMapper MAPPER = Json.MAPPER;
+
+  private final HttpClient http = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofSeconds(2))
+      .build();
+  private final String baseUrl;
+
+  public NominatimGeocoder(String baseUrl) {
+    this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+  }
+
+  @Override
+  public Optional<Coordenadas> geocode(String direccion) {
+    if (direccion == null || direccion.isBlank()) return Optional.empty();
+    URI uri = URI.create(baseUrl + "/search?format=json&limit=1&q="
+        + URLEncoder.encode(direccion, StandardCharsets.UTF_8));
+    try {
+      HttpResponse<String> resp = http.send(
+          HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(3))
+              .header("User-Agent", "tallerpinturas-functions")
+              .GET().build(),
+          HttpResponse.BodyHandlers.ofString());
+      if (resp.statusCode() / 100 != 2) return Optional.empty();
+      JsonNode arr = MAPPER.readTree(resp.body());
+      if (!arr.isArray() || arr.isEmpty()) return Optional.empty();
+      JsonNode r = arr.get(0);
+      return Optional.of(new Coordenadas(r.path("lat").asDouble(), r.path("lon").asDouble()));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return Optional.empty();
+    } catch (Exception e) {
+      LOG.warning("Geocodificación fallida para '" + direccion + "': " + e.getMessage());
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.function.geo;
+
+import java.util.Optional;
+
+/**
+ * Geocodificador local y determinista: la misma dirección siempre cae en el mismo
+ * punto, repartido dentro de ~25 km alrededor del centro configurado
+ * (GEOCODER_STUB_CENTER="lat,lon", por defecto Santiago).
+ */
+public final class StubGeocoder implements Geocoder {
+
+  private static final double RADIO_GRADOS = 0.22;
+
+  private final Coordenadas centro;
+
+  public StubGeocoder() {
+    this(centroDesdeEnv());
+  }
+
+  public StubGeocoder(Coordenadas centro) {
+    this.centro = centro;
+  }
+
+  @Override
+  public Optional<Coordenadas> geocode(String direccion) {
+    if (direccion == null || direccion.isBlank()) return Optional.empty();
+    long h = direccion.trim().toLowerCase().hashCode() * 0x9E3779B97F4A7C15L;
+    double dx = ((h >>> 40) / (double) (1L << 24)) * 2 - 1;
+    double dy = (((h >>> 16) & 0xFFFFFF) / (double) (1L << 24)) * 2 - 1;
+    return Optional.of(new Coordenadas(centro.lat() + dy * RADIO_GRADOS, centro.lon() + dx * RADIO_GRADOS));
+  }
+
+  private static Coordenadas centroDesdeEnv() {
+    String v = System.getenv("GEOCODER_STUB_CENTER");
+    if (v != null && v.contains(",")) {
+      String[] p = v.split(",");
+      return new Coordenadas(Double.parseDouble(p[0].trim()), Double.parseDouble(p[1].trim()));
+    }
+    return new Coordenadas(-33.4489, -70.6693);
+  }
+}
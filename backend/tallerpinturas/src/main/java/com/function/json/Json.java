@@ -0,0 +1,114 @@
+package com.function.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.function.model.Evento;
+import com.function.model.Obra;
+import com.function.model.Usuario;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * ObjectMapper único de la Function App y writers ya resueltos para las respuestas.
+ *
+ * Los writers de Obra, Evento, Usuario y sus listas se arman al cargar la clase, así
+ * la serialización no resuelve el tipo raíz en cada respuesta. {@link #bytes} escribe
+ * UTF-8 a un buffer por hilo que se reutiliza entre respuestas y solo copia el
+ * resultado final, sin String intermedio. Con JSON_BLACKBIRD=true se registra
+ * Blackbird, que reemplaza la reflexión de getters/setters por lambdas generadas.
+ */
+public final class Json {
+
+  private static final boolean BLACKBIRD = Boolean.parseBoolean(System.getenv().getOrDefault("JSON_BLACKBIRD", "false"));
+
+  public static final ObjectMapper MAPPER = nuevoMapper(BLACKBIRD);
+
+  /** Smile (JSON binario) para el tramo BFF -> Functions, si el BFF lo pide en Accept. */
+  public static final ObjectMapper SMILE = nuevoSmileMapper(BLACKBIRD);
+
+  public static final ObjectWriter OBRA = MAPPER.writerFor(Obra.class);
+  public static final ObjectWriter OBRAS = MAPPER.writerFor(new TypeReference<List<Obra>>() {
+  });
+  public static final ObjectWriter EVENTO = MAPPER.writerFor(Evento.class);
+  public static final ObjectWriter EVENTOS = MAPPER.writerFor(new TypeReference<List<Evento>>() {
+  });
+  public static final ObjectWriter USUARIO = MAPPER.writerFor(Usuario.class);
+  public static final ObjectWriter USUARIOS = MAPPER.writerFor(new TypeReference<List<Usuario>>() {
+  });
+  private static final ObjectWriter GENERICO = MAPPER.writer();
+
+  // un buffer que creció más que esto no se guarda: no retener respuestas grandes
+  private static final int MAX_BUFFER_RETENIDO = 1 << 20;
+  private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+
+  private Json() {}
+
+  // visible para los benchmarks, que comparan con y sin Blackbird
+  public static ObjectMapper nuevoMapper(boolean blackbird) {
+    JsonMapper.Builder b = JsonMapper.builder();
+    if (blackbird)
+      b.addModule(new BlackbirdModule());
+    return b.build();
+  }
+
+  public static ObjectMapper nuevoSmileMapper(boolean blackbird) {
+    SmileMapper.Builder b = SmileMapper.builder();
+    if (blackbird)
+      b.addModule(new BlackbirdModule());
+    return b.build();
+  }
+
+  /** Writer ya resuelto según el tipo del body; mapas y resultados varios van por el genérico. */
+  public static ObjectWriter writerFor(Object body) {
+    if (body instanceof Obra)
+      return OBRA;
+    if (body instanceof Evento)
+      return EVENTO;
+    if (body instanceof Usuario)
+      return USUARIO;
+    if (body instanceof List<?> l && !l.isEmpty()) {
+      Object primero = l.get(0);
+      if (primero instanceof Obra)
+        return OBRAS;
+      if (primero instanceof Evento)
+        return EVENTOS;
+      if (primero instanceof Usuario)
+        return USUARIOS;
+    }
+    return GENERICO;
+  }
+
+  /** Body de respuesta en UTF-8. */
+  public static byte[] bytes(Object body) throws IOException {
+    return bytes(writerFor(body), body);
+  }
+
+  /** Igual que {@link #bytes(Object)} con un writer dado (benchmarks). */
+  public static byte[] bytes(ObjectWriter writer, Object body) throws IOException {
+    Buffer buf = BUFFER.get();
+    buf.reset();
+    try {
+      writer.writeValue(buf, body);
+      return buf.toByteArray();
+    } finally {
+      if (buf.capacidad() > MAX_BUFFER_RETENIDO)
+        BUFFER.remove();
+    }
+  }
+
+  private static final class Buffer extends ByteArrayOutputStream {
+    Buffer() {
+      super(16 * 1024);
+    }
+
+    int capacidad() {
+      return buf.length;
+    }
+  }
+}
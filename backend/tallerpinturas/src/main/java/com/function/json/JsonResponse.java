@@ -0,0 +1,107 @@
+package com.function.json;
+
+import com.function.common.HttpConstants;
+import com.function.metrics.Metricas;
+import com.microsoft.azure.functions.HttpRequestMessage;
+import com.microsoft.azure.functions.HttpResponseMessage;
+import com.microsoft.azure.functions.HttpStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Respuesta JSON con negociación de contenido.
+ *
+ * Con {@code Accept: application/x-jackson-smile} (solo lo manda el BFF si tiene Smile
+ * activado) el body va en Smile. Si además {@code Accept-Encoding} admite gzip y el
+ * body supera COMPRESSION_MIN_BYTES (1024 por defecto), se comprime con el nivel
+ * COMPRESSION_LEVEL (1-9, 6 por defecto). El host de Functions no comprime por su
+ * cuenta, así que esto es lo que reduce los listados y las imágenes en Base64.
+ */
+public final class JsonResponse {
+
+  public static final String SMILE = "application/x-jackson-smile";
+
+  static final int MIN_BYTES = intEnv("COMPRESSION_MIN_BYTES", 1024);
+  static final int NIVEL = Math.max(Deflater.BEST_SPEED, Math.min(Deflater.BEST_COMPRESSION,
+      intEnv("COMPRESSION_LEVEL", 6)));
+
+  private JsonResponse() {}
+
+  public static HttpResponseMessage of(HttpRequestMessage<?> req, Object body, HttpStatus status) throws IOException {
+    boolean smile = acepta(header(req, "Accept"), SMILE);
+    byte[] bytes = smile ? Json.SMILE.writeValueAsBytes(body) : Json.bytes(body);
+    HttpResponseMessage.Builder b = req.createResponseBuilder(status)
+        .header(HttpConstants.CONTENT_TYPE, smile ? SMILE : HttpConstants.APPLICATION_JSON)
+        .header("Vary", "Accept, Accept-Encoding");
+    String formato = smile ? "smile" : "json";
+    if (bytes.length >= MIN_BYTES && acepta(header(req, "Accept-Encoding"), "gzip")) {
+      bytes = gzip(bytes, NIVEL);
+      b.header("Content-Encoding", "gzip");
+      formato += "+gzip";
+    }
+    Metricas.payload("response", formato, bytes.length);
+    return b.body(bytes).build();
+  }
+
+  /** true si la lista de un header Accept* incluye el valor (o *) sin q=0. */
+  static boolean acepta(String header, String valor) {
+    if (header == null)
+      return false;
+    for (String parte : header.split(",")) {
+      String[] p = parte.split(";");
+      String v = p[0].trim().toLowerCase(Locale.ROOT);
+      if (!v.equals(valor) && !v.equals("*"))
+        continue;
+      boolean q0 = false;
+      for (int i = 1; i < p.length; i++) {
+        String param = p[i].trim();
+        if (param.startsWith("q=")) {
+          try {
+            q0 = Double.parseDouble(param.substring(2)) <= 0;
+          } catch (NumberFormatException e) {
+            q0 = true;
+          }
+        }
+      }
+      if (!q0)
+        return true;
+    }
+    return false;
+  }
+
+  static byte[] gzip(byte[] in, int nivel) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, in.length / 4));
+    try (GZIPOutputStream gz = new GZIPOutputStream(out, 8192) {
+      {
+        def.setLevel(nivel);
+      }
+    }) {
+      gz.write(in);
+    }
+    return out.toByteArray();
+  }
+
+  private static String header(HttpRequestMessage<?> req, String nombre) {
+    Map<String, String> h = req.getHeaders();
+    if (h == null)
+      return null;
+    String v = h.get(nombre);
+    return v != null ? v : h.get(nombre.toLowerCase(Locale.ROOT));
+  }
+
+  private static int intEnv(String key, int def) {
+    String v = System.getenv(key);
+    if (v == null || v.isBlank())
+      return def;
+    try {
+      return Integer.parseInt(v.trim());
+    } catch (NumberFormatException e) {
+      return def;
+    }
+  }
+}
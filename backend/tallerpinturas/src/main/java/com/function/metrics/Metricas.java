@@ -0,0 +1,119 @@
+package com.function.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Métricas de las Functions sobre el registro global de Micrometer.
+ *
+ * En Azure las recoge el agente Java de Application Insights
+ * (APPLICATIONINSIGHTS_ENABLE_AGENT=true), que publica como métricas personalizadas
+ * todo lo registrado en Metrics.globalRegistry; sin agente el registro global no
+ * tiene backends y registrar cuesta muy poco. FN_METRICS=false apaga además el
+ * proxy JDBC de Db.connect().
+ *
+ * Medidores:
+ * - fn.db.query{statement, outcome}: tiempo de cada execute*, por sentencia nombrada;
+ * - fn.jwt.validate{outcome}: validación del Bearer token;
+ * - fn.eventgrid.publish{op, outcome} y fn.eventgrid.batch.size;
+ * - fn.outbox.dead: eventos que agotaron los reintentos y quedaron en dead letter;
+ * - fn.http.payload.bytes{direction, format}: tamaño de bodies.
+ */
+public final class Metricas {
+
+  public static final boolean HABILITADAS = !"false".equalsIgnoreCase(System.getenv("FN_METRICS"));
+
+  private static final MeterRegistry REGISTRY = Metrics.globalRegistry;
+  private static final Map<String, Timer> TIMERS = new ConcurrentHashMap<>();
+  private static final Map<String, DistributionSummary> RESUMENES = new ConcurrentHashMap<>();
+
+  // "/* eventos.listar */ SELECT ..." -> eventos.listar
+  private static final Pattern NOMBRE = Pattern.compile("^\\s*/\\*\\s*([\\w.:-]+)\\s*\\*/");
+  private static final Pattern VERBO = Pattern.compile("^\\s*(\\w+)");
+  private static final Pattern TABLA = Pattern.compile("\\b(?:from|into|update|copy)\\s+([a-z_][\\w.]*)", Pattern.CASE_INSENSITIVE);
+
+  @FunctionalInterface
+  public interface Medible<T, E extends Throwable> {
+    T call() throws E;
+  }
+
+  private Metricas() {}
+
+  /**
+   * Nombre de una sentencia para el tag statement: el comentario inicial si lo tiene
+   * o, si no, verbo + primera tabla ("select eventos", "insert obras").
+   */
+  public static String sentencia(String sql) {
+    if (sql == null) return "desconocida";
+    Matcher m = NOMBRE.matcher(sql);
+    if (m.find()) return m.group(1);
+    Matcher v = VERBO.matcher(sql);
+    String verbo = v.find() ? v.group(1).toLowerCase(Locale.ROOT) : "sql";
+    Matcher t = TABLA.matcher(sql);
+    return t.find() ? verbo + " " + t.group(1).toLowerCase(Locale.ROOT) : verbo;
+  }
+
+  public static <T, E extends Throwable> T sql(String sentencia, Medible<T, E> call) throws E {
+    return medir("fn.db.query", "statement", sentencia, call);
+  }
+
+  /** Para quien no puede pasar un Medible porque lanza varias checked (p. ej. COPY). */
+  public static void sql(String sentencia, long nanos, boolean ok) {
+    timer("fn.db.query", "statement", sentencia, ok ? "ok" : "error").record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  public static void jwt(long nanos, boolean ok) {
+    timer("fn.jwt.validate", null, null, ok ? "ok" : "error").record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  public static <T, E extends Throwable> T publicacion(String op, int eventos, Medible<T, E> call) throws E {
+    resumen("fn.eventgrid.batch.size", "events", "op", op).record(eventos);
+    return medir("fn.eventgrid.publish", "op", op, call);
+  }
+
+  public static void outboxMuertos(int eventos) {
+    Counter.builder("fn.outbox.dead").baseUnit("events").register(REGISTRY).increment(eventos);
+  }
+
+  /** direction: request|response; format: json, smile, gzip... */
+  public static void payload(String direction, String format, long bytes) {
+    resumen("fn.http.payload.bytes", "bytes", "direction", direction, "format", format).record(bytes);
+  }
+
+  private static <T, E extends Throwable> T medir(String nombre, String tag, String valor, Medible<T, E> call) throws E {
+    long t0 = System.nanoTime();
+    boolean ok = false;
+    try {
+      T r = call.call();
+      ok = true;
+      return r;
+    } finally {
+      timer(nombre, tag, valor, ok ? "ok" : "error").record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private static Timer timer(String nombre, String tag, String valor, String outcome) {
+    String clave = nombre + '|' + valor + '|' + outcome;
+    return TIMERS.computeIfAbsent(clave, k -> {
+      Timer.Builder b = Timer.builder(nombre).tag("outcome", outcome).publishPercentileHistogram();
+      if (tag != null) b.tag(tag, valor);
+      return b.register(REGISTRY);
+    });
+  }
+
+  private static DistributionSummary resumen(String nombre, String unidad, String... tags) {
+    String clave = nombre + '|' + String.join("|", tags);
+    return RESUMENES.computeIfAbsent(clave, k -> DistributionSummary.builder(nombre).tags(tags).baseUnit(unidad)
+        .publishPercentileHistogram().register(REGISTRY));
+  }
+}
@@ -1,5 +1,7 @@
 package com.function.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.math.BigDecimal;
 
 public class Evento {
@@ -14,6 +16,11 @@ public class Evento {
   private BigDecimal precio;
   private String direccion;
   private String id_azure;
+  private Double lat;
+  private Double lon;
+  // solo en /eventos/near
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Double distanciaKm;
 
   public Evento() {}
 
@@ -49,4 +56,13 @@ public class Evento {
 
   public String getDireccion() { return direccion; }
   public void setDireccion(String direccion) { this.direccion = direccion; }
+
+  public Double getLat() { return lat; }
+  public void setLat(Double lat) { this.lat = lat; }
+
+  public Double getLon() { return lon; }
+  public void setLon(Double lon) { this.lon = lon; }
+
+  public Double getDistanciaKm() { return distanciaKm; }
+  public void setDistanciaKm(Double distanciaKm) { this.distanciaKm = distanciaKm; }
 }
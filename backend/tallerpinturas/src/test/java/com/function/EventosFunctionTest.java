@@ -13,6 +13,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.sql.*;
+import java.time.Instant;
 import java.util.*;
 import java.util.logging.Logger;
 
@@ -80,6 +81,142 @@ class EventosFunctionTest {
         }
     }
 
+    @Test
+    void eventosRoot_porAutor_filtraPorIdAzure() throws Exception {
+        UUID autor = UUID.randomUUID();
+        when(request.getHeaders()).thenReturn(Map.of("Authorization", "Bearer token"));
+        when(request.getHttpMethod()).thenReturn(HttpMethod.GET);
+        when(request.getQueryParameters()).thenReturn(Map.of("id_azure", autor.toString()));
+
+        try (
+            MockedStatic<JwtAuthService> jwt = mockStatic(JwtAuthService.class);
+            MockedStatic<Db> db = mockStatic(Db.class)
+        ) {
+            jwt.when(() -> JwtAuthService.validate(anyString()))
+               .thenReturn(new JWTClaimsSet.Builder().subject("svc").build());
+
+            Connection con = mock(Connection.class);
+            PreparedStatement ps = mock(PreparedStatement.class);
+            ResultSet rs = mock(ResultSet.class);
+
+            db.when(Db::connect).thenReturn(con);
+            when(con.prepareStatement(anyString())).thenReturn(ps);
+            when(ps.executeQuery()).thenReturn(rs);
+            when(rs.next()).thenReturn(false);
+
+            function.eventosRoot(request, context);
+
+            verify(con).prepareStatement(contains("AND id_azure = ?"));
+            verify(ps).setObject(1, autor);
+            verify(request).createResponseBuilder(HttpStatus.OK);
+        }
+    }
+
+    @Test
+    void eventosRoot_idAzureInvalido_retorna400() throws Exception {
+        when(request.getHeaders()).thenReturn(Map.of("Authorization", "Bearer token"));
+        when(request.getHttpMethod()).thenReturn(HttpMethod.GET);
+        when(request.getQueryParameters()).thenReturn(Map.of("id_azure", "no-es-uuid"));
+
+        try (
+            MockedStatic<JwtAuthService> jwt = mockStatic(JwtAuthService.class);
+            MockedStatic<Db> db = mockStatic(Db.class)
+        ) {
+            jwt.when(() -> JwtAuthService.validate(anyString()))
+               .thenReturn(new JWTClaimsSet.Builder().subject("svc").build());
+
+            function.eventosRoot(request, context);
+
+            verify(request).createResponseBuilder(HttpStatus.BAD_REQUEST);
+            db.verifyNoInteractions();
+        }
+    }
+
+    // listar con filtros: devuelve el SQL preparado; ps queda para verificar los binds
+    private String listar(Map<String, String> query, PreparedStatement ps) throws Exception {
+        when(request.getHeaders()).thenReturn(Map.of("Authorization", "Bearer token"));
+        when(request.getHttpMethod()).thenReturn(HttpMethod.GET);
+        when(request.getQueryParameters()).thenReturn(query);
+
+        try (
+            MockedStatic<JwtAuthService> jwt = mockStatic(JwtAuthService.class);
+            MockedStatic<Db> db = mockStatic(Db.class)
+        ) {
+            jwt.when(() -> JwtAuthService.validate(anyString()))
+               .thenReturn(new JWTClaimsSet.Builder().subject("svc").build());
+
+            Connection con = mock(Connection.class);
+            ResultSet rs = mock(ResultSet.class);
+            db.when(Db::connect).thenReturn(con);
+            when(con.prepareStatement(anyString())).thenReturn(ps);
+            when(ps.executeQuery()).thenReturn(rs);
+            when(rs.next()).thenReturn(false);
+
+            function.eventosRoot(request, context);
+
+            ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+            verify(con, atMost(1)).prepareStatement(sql.capture());
+            return sql.getAllValues().isEmpty() ? null : sql.getValue();
+        }
+    }
+
+    @Test
+    void listar_proximos_desdeAhoraYElMasCercanoPrimero() throws Exception {
+        PreparedStatement ps = mock(PreparedStatement.class);
+        Instant antes = Instant.now();
+
+        String sql = listar(Map.of("cuando", "proximos", "limit", "20"), ps);
+
+        verify(request).createResponseBuilder(HttpStatus.OK);
+        assertTrue(sql.endsWith("WHERE TRUE AND fechaInicio >= ?"
+                + " ORDER BY fechaInicio ASC, id_eventos ASC LIMIT 20 OFFSET 0"), sql);
+        ArgumentCaptor<Timestamp> ahora = ArgumentCaptor.forClass(Timestamp.class);
+        verify(ps).setTimestamp(eq(1), ahora.capture());
+        assertFalse(ahora.getValue().toInstant().isBefore(antes));
+    }
+
+    @Test
+    void listar_pasados_antesDeAhoraYLosMasRecientesPrimero() throws Exception {
+        PreparedStatement ps = mock(PreparedStatement.class);
+
+        String sql = listar(Map.of("cuando", "pasados", "limit", "20", "offset", "100"), ps);
+
+        verify(request).createResponseBuilder(HttpStatus.OK);
+        assertTrue(sql.endsWith("WHERE TRUE AND fechaInicio < ?"
+                + " ORDER BY fechaInicio DESC, id_eventos DESC LIMIT 20 OFFSET 100"), sql);
+        verify(ps).setTimestamp(eq(1), any(Timestamp.class));
+    }
+
+    @Test
+    void listar_desdeHasta_fechaSolaYConHora() throws Exception {
+        PreparedStatement ps = mock(PreparedStatement.class);
+
+        String sql = listar(Map.of("desde", "2025-03-01", "hasta", "2025-04-01T12:30:00Z"), ps);
+
+        verify(request).createResponseBuilder(HttpStatus.OK);
+        assertTrue(sql.contains("WHERE TRUE AND fechaInicio >= ? AND fechaInicio < ? ORDER BY"), sql);
+        verify(ps).setTimestamp(1, Timestamp.from(Instant.parse("2025-03-01T00:00:00Z")));
+        verify(ps).setTimestamp(2, Timestamp.from(Instant.parse("2025-04-01T12:30:00Z")));
+    }
+
+    @Test
+    void listar_cuandoDesconocido_retorna400() throws Exception {
+        assertNull(listar(Map.of("cuando", "manana"), mock(PreparedStatement.class)));
+        verify(request).createResponseBuilder(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void listar_fechaInvalida_retorna400() throws Exception {
+        assertNull(listar(Map.of("desde", "01/03/2025"), mock(PreparedStatement.class)));
+        verify(request).createResponseBuilder(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void listar_hastaInvalido_retorna400() throws Exception {
+        assertNull(listar(Map.of("hasta", "2025-13-01"), mock(PreparedStatement.class)));
+        verify(request).createResponseBuilder(HttpStatus.BAD_REQUEST);
+    }
+
     // ----------------------------------------------------------------
     // eventosById - GET
     // ----------------------------------------------------------------
@@ -206,6 +343,7 @@ class EventosFunctionTest {
 
             // Delete
             when(con.prepareStatement(startsWith("DELETE FROM eventos"))).thenReturn(ps);
+            when(con.prepareStatement(startsWith("INSERT INTO outbox"))).thenReturn(ps);
             when(ps.executeUpdate()).thenReturn(1);
 
             HttpResponseMessage response = function.eventosById(request, "2", context);
@@ -215,4 +353,121 @@ class EventosFunctionTest {
         }
     }
 
+    // ----------------------------------------------------------------
+    // eventosNear
+    // ----------------------------------------------------------------
+
+    @Test
+    void eventosNear_sinCoordenadas_retorna400() {
+        when(request.getQueryParameters()).thenReturn(Map.of("radiusKm", "3"));
+
+        function.eventosNear(request, context);
+
+        verify(request).createResponseBuilder(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void eventosNear_radioFueraDeRango_retorna400() {
+        when(request.getQueryParameters()).thenReturn(Map.of("lat", "-33.44", "lon", "-70.66", "radiusKm", "5000"));
+
+        function.eventosNear(request, context);
+
+        verify(request).createResponseBuilder(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void eventosNear_consultaCeldasGeohash() throws Exception {
+        when(request.getQueryParameters()).thenReturn(Map.of("lat", "-33.4489", "lon", "-70.6693", "radiusKm", "1"));
+
+        try (MockedStatic<Db> db = mockStatic(Db.class)) {
+            Connection con = mock(Connection.class);
+            PreparedStatement ps = mock(PreparedStatement.class);
+            ResultSet rs = mock(ResultSet.class);
+            db.when(Db::connect).thenReturn(con);
+            when(con.prepareStatement(anyString())).thenReturn(ps);
+            when(ps.executeQuery()).thenReturn(rs);
+            when(rs.next()).thenReturn(false);
+
+            function.eventosNear(request, context);
+
+            verify(request).createResponseBuilder(HttpStatus.OK);
+            // centro y sus 8 vecinas a precisión 5 (~4.9 km)
+            verify(ps).setString(4, "66j9q%");
+            verify(ps).setDouble(13, 1.0);
+            verify(ps).setInt(14, 100);
+        }
+    }
+
+    // ----------------------------------------------------------------
+    // eventosById - PUT (ubicación)
+    // ----------------------------------------------------------------
+
+    private void putEvento(String body) {
+        when(request.getHeaders()).thenReturn(Map.of("Authorization", "Bearer token"));
+        when(request.getHttpMethod()).thenReturn(HttpMethod.PUT);
+        when(request.getBody()).thenReturn(Optional.of(body));
+    }
+
+    @Test
+    void actualizar_coordenadasFueraDeRango_retorna400() throws Exception {
+        putEvento("{\"titulo\":\"Feria\",\"direccion\":\"Otra 1\",\"lat\":123.0,\"lon\":-70.6}");
+
+        try (
+            MockedStatic<JwtAuthService> jwt = mockStatic(JwtAuthService.class);
+            MockedStatic<Db> db = mockStatic(Db.class)
+        ) {
+            jwt.when(() -> JwtAuthService.validate(anyString()))
+               .thenReturn(new JWTClaimsSet.Builder().build());
+
+            Connection con = mock(Connection.class);
+            PreparedStatement ps = mock(PreparedStatement.class);
+            ResultSet rs = mock(ResultSet.class);
+            db.when(Db::connect).thenReturn(con);
+            when(con.prepareStatement(anyString())).thenReturn(ps);
+            when(ps.executeQuery()).thenReturn(rs);
+            when(rs.next()).thenReturn(true);
+            when(rs.getString("direccion")).thenReturn("Av. Brasil 2950, Valparaíso");
+
+            function.eventosById(request, "7", context);
+
+            verify(request).createResponseBuilder(HttpStatus.BAD_REQUEST);
+            verify(ps, never()).executeUpdate();
+        }
+    }
+
+    @Test
+    void actualizar_mismaDireccion_noGeocodificaYConservaCoordenadas() throws Exception {
+        putEvento("{\"titulo\":\"Feria\",\"direccion\":\"Av. Brasil 2950, Valparaíso\"}");
+        com.function.geo.Geocoder previo = EventosFunction.geocoder;
+        com.function.geo.Geocoder geocoder = mock(com.function.geo.Geocoder.class);
+        EventosFunction.geocoder = geocoder;
+
+        try (
+            MockedStatic<JwtAuthService> jwt = mockStatic(JwtAuthService.class);
+            MockedStatic<Db> db = mockStatic(Db.class)
+        ) {
+            jwt.when(() -> JwtAuthService.validate(anyString()))
+               .thenReturn(new JWTClaimsSet.Builder().build());
+
+            Connection con = mock(Connection.class);
+            PreparedStatement ps = mock(PreparedStatement.class);
+            ResultSet rs = mock(ResultSet.class);
+            db.when(Db::connect).thenReturn(con);
+            when(con.prepareStatement(anyString())).thenReturn(ps);
+            when(ps.executeQuery()).thenReturn(rs);
+            when(rs.next()).thenReturn(true);
+            when(rs.getString("direccion")).thenReturn("Av. Brasil 2950, Valparaíso");
+            when(rs.getDouble("lat")).thenReturn(-33.0458);
+            when(rs.getDouble("lon")).thenReturn(-71.6197);
+            when(rs.wasNull()).thenReturn(false);
+
+            function.eventosById(request, "7", context);
+
+            verify(geocoder, never()).geocode(any());
+            verify(ps).setDouble(10, -33.0458);
+            verify(ps).setDouble(11, -71.6197);
+        } finally {
+            EventosFunction.geocoder = previo;
+        }
+    }
 }
@@ -8,18 +8,30 @@ import com.nimbusds.jwt.JWTClaimsSet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
 
+import java.io.BufferedReader;
+import java.io.Reader;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.*;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -89,6 +101,44 @@ class ObrasFunctionTest {
         }
     }
 
+    @Test
+    void listar_conCursor_paginaLasObrasAntesDelJoin() throws Exception {
+
+        HttpRequestMessage<Optional<String>> req = mockRequest(HttpMethod.GET, null, Map.of());
+        when(req.getQueryParameters()).thenReturn(Map.of("limit", "500", "cursor", "1200"));
+
+        try (MockedStatic<Db> dbMock = mockStatic(Db.class)) {
+            Connection con = mock(Connection.class);
+            PreparedStatement ps = mock(PreparedStatement.class);
+            ResultSet rs = mock(ResultSet.class);
+            dbMock.when(Db::connect).thenReturn(con);
+            when(con.prepareStatement(anyString())).thenReturn(ps);
+            when(ps.executeQuery()).thenReturn(rs);
+            when(rs.next()).thenReturn(false);
+
+            function.obrasRoot(req, context);
+
+            ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+            verify(con).prepareStatement(sql.capture());
+            // el LIMIT cuenta obras, no filas del JOIN con los dueños
+            assertTrue(sql.getValue().contains("FROM (SELECT id_obra, titulo, descripcion, id_tipo_obra FROM obras"
+                    + " WHERE id_obra < ? ORDER BY id_obra DESC LIMIT 500 OFFSET 0) o LEFT JOIN usuarios_obras"));
+            verify(ps).setLong(1, 1200L);
+            verify(req).createResponseBuilder(HttpStatus.OK);
+        }
+    }
+
+    @Test
+    void listar_cursorInvalido_devuelve400() {
+
+        HttpRequestMessage<Optional<String>> req = mockRequest(HttpMethod.GET, null, Map.of());
+        when(req.getQueryParameters()).thenReturn(Map.of("cursor", "abc"));
+
+        function.obrasRoot(req, context);
+
+        verify(req).createResponseBuilder(HttpStatus.BAD_REQUEST);
+    }
+
     /* =========================================================
        TESTS obrasById
        ========================================================= */
@@ -191,4 +241,196 @@ class ObrasFunctionTest {
             verify(req).createResponseBuilder(any(HttpStatus.class));
         }
     }
+
+    @Test
+    void crear_preferMinimal_unSoloInsertY201SinBody() throws Exception {
+
+        HttpRequestMessage<Optional<String>> req = mockRequest(HttpMethod.POST,
+                "{\"titulo\":\"Obra\",\"id_azure\":\"5f784b53-452d-438f-a2b3-3772f76f23db\"}",
+                Map.of("Authorization", "Bearer test", "Prefer", "return=minimal"));
+
+        try (
+                MockedStatic<JwtAuthService> jwtMock = mockStatic(JwtAuthService.class);
+                MockedStatic<Db> dbMock = mockStatic(Db.class)
+        ) {
+            jwtMock.when(() -> JwtAuthService.validate(anyString())).thenReturn(mock(JWTClaimsSet.class));
+
+            Connection con = mock(Connection.class);
+            dbMock.when(Db::connect).thenReturn(con);
+            PreparedStatement psCrear = mock(PreparedStatement.class);
+            ResultSet rs = mock(ResultSet.class);
+            when(con.prepareStatement(startsWith("WITH nueva AS"))).thenReturn(psCrear);
+            when(psCrear.executeQuery()).thenReturn(rs);
+            when(rs.next()).thenReturn(true);
+            when(rs.getLong("id_obra")).thenReturn(9L);
+            when(rs.getString("titulo")).thenReturn("Obra");
+            when(con.prepareStatement(startsWith("INSERT INTO outbox"))).thenReturn(mock(PreparedStatement.class));
+
+            function.obrasRoot(req, context);
+
+            verify(psCrear).setObject(5, UUID.fromString("5f784b53-452d-438f-a2b3-3772f76f23db"));
+            verify(con, never()).prepareStatement(startsWith("SELECT"));   // sin releer la obra
+            verify(con).commit();
+            verify(req).createResponseBuilder(HttpStatus.CREATED);
+        }
+    }
+
+    @Test
+    void crear_falloDelOutbox_rollbackY500ConLogSevere() throws Exception {
+
+        HttpRequestMessage<Optional<String>> req = mockRequest(HttpMethod.POST,
+                "{\"titulo\":\"Obra\"}", Map.of("Authorization", "Bearer test"));
+        List<LogRecord> logs = new ArrayList<>();
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(new Handler() {
+            @Override public void publish(LogRecord r) { logs.add(r); }
+            @Override public void flush() { }
+            @Override public void close() { }
+        });
+        when(context.getLogger()).thenReturn(logger);
+
+        try (
+                MockedStatic<JwtAuthService> jwtMock = mockStatic(JwtAuthService.class);
+                MockedStatic<Db> dbMock = mockStatic(Db.class)
+        ) {
+            jwtMock.when(() -> JwtAuthService.validate(anyString())).thenReturn(mock(JWTClaimsSet.class));
+
+            Connection con = mock(Connection.class);
+            dbMock.when(Db::connect).thenReturn(con);
+            PreparedStatement psCrear = mock(PreparedStatement.class);
+            ResultSet rs = mock(ResultSet.class);
+            when(con.prepareStatement(startsWith("WITH nueva AS"))).thenReturn(psCrear);
+            when(psCrear.executeQuery()).thenReturn(rs);
+            when(rs.next()).thenReturn(true);
+            when(rs.getLong("id_obra")).thenReturn(9L);
+            PreparedStatement psOutbox = mock(PreparedStatement.class);
+            when(con.prepareStatement(startsWith("INSERT INTO outbox"))).thenReturn(psOutbox);
+            when(psOutbox.executeUpdate()).thenThrow(new SQLException("outbox no existe", "42P01"));
+
+            function.obrasRoot(req, context);
+
+            verify(con).rollback();
+            verify(con, never()).commit();
+            verify(req).createResponseBuilder(HttpStatus.INTERNAL_SERVER_ERROR);
+            assertTrue(logs.stream().anyMatch(r -> r.getLevel() == Level.SEVERE
+                    && r.getMessage().startsWith("Error creando obra: ")));
+        }
+    }
+
+    /* =========================================================
+       TESTS obrasSearch
+       ========================================================= */
+
+    @Test
+    void search_sinTerminos_devuelve400() {
+
+        HttpRequestMessage<Optional<String>> req = mockRequest(HttpMethod.GET, null, Map.of());
+        when(req.getQueryParameters()).thenReturn(Map.of("q", "  ¿? "));
+
+        function.obrasSearch(req, context);
+
+        verify(req).createResponseBuilder(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void search_conTerminos_bindeaPrefijosYPagina() throws Exception {
+
+        HttpRequestMessage<Optional<String>> req = mockRequest(HttpMethod.GET, null, Map.of());
+        when(req.getQueryParameters()).thenReturn(Map.of("q", "Pintura az", "limit", "500", "offset", "20"));
+
+        try (MockedStatic<Db> dbMock = mockStatic(Db.class)) {
+            Connection con = mock(Connection.class);
+            PreparedStatement ps = mock(PreparedStatement.class);
+            ResultSet rs = mock(ResultSet.class);
+            dbMock.when(Db::connect).thenReturn(con);
+            when(con.prepareStatement(anyString())).thenReturn(ps);
+            when(ps.executeQuery()).thenReturn(rs);
+            when(rs.next()).thenReturn(false);
+
+            function.obrasSearch(req, context);
+
+            verify(req).createResponseBuilder(HttpStatus.OK);
+            verify(ps).setString(2, "pintura:* & az:*");   // ranking
+            verify(ps).setString(5, "pintura:* & az:*");   // filtro
+            verify(ps).setInt(7, 100);   // limit acotado a Search.MAX_LIMIT
+            verify(ps).setInt(8, 20);
+        }
+    }
+
+    /* =========================================================
+       TESTS obrasBulk
+       ========================================================= */
+
+    @Test
+    void bulk_filasInvalidas_noLleganAlCopy() throws Exception {
+
+        String ndjson = "{\"titulo\":\"Obra 1\",\"id_tipo_obra\":1}\n"
+                + "{\"descripcion\":\"sin titulo\"}\n"
+                + "{roto\n";
+        HttpRequestMessage<Optional<String>> req = mockRequest(HttpMethod.POST, ndjson,
+                Map.of("Authorization", "Bearer test", "Content-Type", "application/x-ndjson"));
+
+        try (
+                MockedStatic<JwtAuthService> jwtMock = mockStatic(JwtAuthService.class);
+                MockedStatic<Db> dbMock = mockStatic(Db.class)
+        ) {
+            jwtMock.when(() -> JwtAuthService.validate(anyString())).thenReturn(mock(JWTClaimsSet.class));
+
+            Connection con = mock(Connection.class);
+            dbMock.when(Db::connect).thenReturn(con);
+
+            // COPY a staging
+            PGConnection pg = mock(PGConnection.class);
+            CopyManager copy = mock(CopyManager.class);
+            when(con.unwrap(PGConnection.class)).thenReturn(pg);
+            when(pg.getCopyAPI()).thenReturn(copy);
+
+            // sin referencias huérfanas
+            PreparedStatement psRechazos = mock(PreparedStatement.class);
+            ResultSet rsVacio = mock(ResultSet.class);
+            when(con.prepareStatement(startsWith("DELETE FROM obras_staging"))).thenReturn(psRechazos);
+            when(psRechazos.executeQuery()).thenReturn(rsVacio);
+            when(con.prepareStatement(startsWith("INSERT INTO outbox"))).thenReturn(mock(PreparedStatement.class));
+
+            // línea 1 -> id 42
+            Statement st = mock(Statement.class);
+            ResultSet rsCreadas = mock(ResultSet.class);
+            when(con.createStatement()).thenReturn(st);
+            when(st.executeQuery(startsWith("SELECT linea"))).thenReturn(rsCreadas);
+            when(rsCreadas.next()).thenReturn(true, false);
+            when(rsCreadas.getInt(1)).thenReturn(1);
+            when(rsCreadas.getLong(2)).thenReturn(42L);
+
+            function.obrasBulk(req, context);
+
+            ArgumentCaptor<Reader> filas = ArgumentCaptor.forClass(Reader.class);
+            verify(copy).copyIn(startsWith("COPY obras_staging"), filas.capture());
+            List<String> lineas = new BufferedReader(filas.getValue()).lines().toList();
+            assertEquals(List.of("\"1\",\"1\",\"Obra 1\",,,"), lineas);
+            verify(con).commit();
+            verify(req).createResponseBuilder(HttpStatus.OK);
+        }
+    }
+
+    @Test
+    void bulk_atomicaConErrores_noAbreTransaccion() throws Exception {
+
+        String csv = "titulo,id_tipo_obra\nObra 1,1\n,2\n";
+        HttpRequestMessage<Optional<String>> req = mockRequest(HttpMethod.POST, csv,
+                Map.of("Authorization", "Bearer test", "Content-Type", "text/csv"));
+        when(req.getQueryParameters()).thenReturn(Map.of("atomic", "true"));
+
+        try (
+                MockedStatic<JwtAuthService> jwtMock = mockStatic(JwtAuthService.class);
+                MockedStatic<Db> dbMock = mockStatic(Db.class)
+        ) {
+            jwtMock.when(() -> JwtAuthService.validate(anyString())).thenReturn(mock(JWTClaimsSet.class));
+
+            function.obrasBulk(req, context);
+
+            dbMock.verify(Db::connect, never());
+            verify(req).createResponseBuilder(HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+    }
 }
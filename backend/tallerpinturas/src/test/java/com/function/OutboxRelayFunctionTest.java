@@ -0,0 +1,181 @@
+package com.function;
+
+import com.function.db.Db;
+import com.function.events.EventBusEG;
+import com.function.events.OutboxEntry;
+import com.microsoft.azure.functions.ExecutionContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class OutboxRelayFunctionTest {
+
+    private OutboxRelayFunction function;
+    private ExecutionContext context;
+    private Connection con;
+    private PreparedStatement psClaim;
+    private PreparedStatement psPublicado;
+    private PreparedStatement psFallido;
+
+    @BeforeEach
+    void setup() throws Exception {
+        function = new OutboxRelayFunction();
+        context = mock(ExecutionContext.class);
+        when(context.getLogger()).thenReturn(Logger.getLogger("test"));
+
+        con = mock(Connection.class);
+        psClaim = mock(PreparedStatement.class);
+        psPublicado = mock(PreparedStatement.class);
+        psFallido = mock(PreparedStatement.class);
+
+        // una fila pendiente en el outbox
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true, false);
+        when(rs.getLong("id")).thenReturn(7L);
+        when(rs.getString("event_id")).thenReturn("5f784b53-452d-438f-a2b3-3772f76f23db");
+        when(rs.getString("event_type")).thenReturn("Eventos.Evento.Creado");
+        when(rs.getString("subject")).thenReturn("/eventos/7");
+        when(rs.getString("data")).thenReturn("{\"id_eventos\":7}");
+        when(rs.getInt("attempts")).thenReturn(0);
+
+        when(con.prepareStatement(startsWith("SELECT id, event_id"))).thenReturn(psClaim);
+        when(psClaim.executeQuery()).thenReturn(rs);
+        when(con.prepareStatement(startsWith("UPDATE outbox SET published_at"))).thenReturn(psPublicado);
+        when(con.prepareStatement(startsWith("UPDATE outbox SET attempts"))).thenReturn(psFallido);
+    }
+
+    @Test
+    void drenarLote_publicaYMarcaComoEnviado() throws Exception {
+        try (
+                MockedStatic<Db> db = mockStatic(Db.class);
+                MockedStatic<EventBusEG> bus = mockStatic(EventBusEG.class)
+        ) {
+            db.when(Db::connect).thenReturn(con);
+
+            int publicados = function.drenarLote(context);
+
+            assertEquals(1, publicados);
+            bus.verify(() -> EventBusEG.publishAll(argThat(l -> l.size() == 1 && l.get(0).id() == 7L)));
+            verify(psPublicado).executeUpdate();
+            verify(psFallido, never()).executeBatch();
+            verify(con).commit();
+        }
+    }
+
+    @Test
+    void drenarLote_falloEventGrid_reprogramaConBackoff() throws Exception {
+        try (
+                MockedStatic<Db> db = mockStatic(Db.class);
+                MockedStatic<EventBusEG> bus = mockStatic(EventBusEG.class)
+        ) {
+            db.when(Db::connect).thenReturn(con);
+            bus.when(() -> EventBusEG.publishAll(anyList()))
+               .thenThrow(new IllegalStateException("Event Grid no disponible"));
+
+            int publicados = function.drenarLote(context);
+
+            assertEquals(0, publicados);
+            verify(psFallido).addBatch();
+            verify(psFallido).executeBatch();
+            verify(psPublicado, never()).executeUpdate();
+            verify(con).commit();
+        }
+    }
+
+    // filas pendientes con los ids dados, todas con los mismos intentos previos
+    private void pendientes(int attempts, long... ids) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        Boolean[] siguientes = new Boolean[ids.length];
+        Long[] resto = new Long[ids.length - 1];
+        for (int i = 0; i < ids.length; i++) {
+            siguientes[i] = i < ids.length - 1;
+            if (i > 0) resto[i - 1] = ids[i];
+        }
+        when(rs.next()).thenReturn(true, siguientes);
+        when(rs.getLong("id")).thenReturn(ids[0], resto);
+        when(rs.getString("event_id")).thenReturn("5f784b53-452d-438f-a2b3-3772f76f23db");
+        when(rs.getString("event_type")).thenReturn("Eventos.Evento.Creado");
+        when(rs.getString("subject")).thenReturn("/eventos/7");
+        when(rs.getString("data")).thenReturn("{}");
+        when(rs.getInt("attempts")).thenReturn(attempts);
+        when(psClaim.executeQuery()).thenReturn(rs);
+    }
+
+    @Test
+    void drenarLote_loteRechazado_aislaAlEventoQueFalla() throws Exception {
+        pendientes(0, 7L, 8L, 9L);
+        try (
+                MockedStatic<Db> db = mockStatic(Db.class);
+                MockedStatic<EventBusEG> bus = mockStatic(EventBusEG.class)
+        ) {
+            db.when(Db::connect).thenReturn(con);
+            bus.when(() -> EventBusEG.publishAll(anyList())).thenAnswer(inv -> {
+                List<OutboxEntry> l = inv.getArgument(0);
+                if (l.size() > 1 || l.get(0).id() == 8L) throw new IllegalStateException("evento inválido");
+                return null;
+            });
+
+            int publicados = function.drenarLote(context);
+
+            assertEquals(2, publicados);
+            // solo el 8 suma un intento; el 7 y el 9 quedan publicados
+            verify(psFallido).setLong(4, 8L);
+            verify(psFallido, times(1)).addBatch();
+            verify(psFallido).setBoolean(3, false);
+            verify(psPublicado).executeUpdate();
+        }
+    }
+
+    @Test
+    void drenarLote_ultimoIntento_pasaADeadLetter() throws Exception {
+        pendientes(11, 7L);
+        try (
+                MockedStatic<Db> db = mockStatic(Db.class);
+                MockedStatic<EventBusEG> bus = mockStatic(EventBusEG.class)
+        ) {
+            db.when(Db::connect).thenReturn(con);
+            bus.when(() -> EventBusEG.publishAll(anyList()))
+               .thenThrow(new IllegalStateException("evento inválido"));
+
+            assertEquals(0, function.drenarLote(context));
+
+            verify(psFallido).setBoolean(3, true);
+            verify(psFallido).executeBatch();
+        }
+    }
+
+    @Test
+    void drenarLote_eventGridCaido_noGastaIntentosDeTodoElLote() throws Exception {
+        pendientes(0, 1L, 2L, 3L, 4L, 5L, 6L);
+        try (
+                MockedStatic<Db> db = mockStatic(Db.class);
+                MockedStatic<EventBusEG> bus = mockStatic(EventBusEG.class)
+        ) {
+            db.when(Db::connect).thenReturn(con);
+            bus.when(() -> EventBusEG.publishAll(anyList()))
+               .thenThrow(new IllegalStateException("Event Grid no disponible"));
+
+            assertEquals(0, function.drenarLote(context));
+
+            // tras FALLOS_SEGUIDOS envíos individuales fallidos el resto queda como estaba
+            verify(psFallido, times(OutboxRelayFunction.FALLOS_SEGUIDOS)).addBatch();
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.function;
 
 import com.function.auth.JwtAuthService;
+import com.function.db.Db;
 import com.microsoft.azure.functions.*;
 import org.junit.jupiter.api.*;
 import org.mockito.MockedStatic;
 
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.util.*;
 import java.util.logging.Logger;
 
@@ -107,4 +112,134 @@ class UsuariosFunctionTest {
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatus());
 
     }
+
+    @Test
+    void vincularObras_lote_unSoloUpsertYEventosEnBatch() throws Exception {
+        String uid = "11111111-1111-1111-1111-111111111111";
+        String body = "[{\"id_obra\":5,\"es_principal\":true},{\"id_obra\":7},{\"id_obra\":5}]";
+        HttpRequestMessage<Optional<String>> req = mockRequest(HttpMethod.POST, body, Map.of("Authorization", "Bearer test"));
+
+        try (MockedStatic<JwtAuthService> jwt = mockStatic(JwtAuthService.class);
+             MockedStatic<Db> db = mockStatic(Db.class)) {
+            jwt.when(() -> JwtAuthService.validate(any())).thenReturn(null);
+
+            Connection con = mock(Connection.class);
+            db.when(Db::connect).thenReturn(con);
+            when(con.createArrayOf(anyString(), any())).thenReturn(mock(Array.class));
+
+            PreparedStatement psUpsert = mock(PreparedStatement.class);
+            ResultSet rs = mock(ResultSet.class);
+            when(con.prepareStatement(startsWith("INSERT INTO usuarios_obras"))).thenReturn(psUpsert);
+            when(psUpsert.executeQuery()).thenReturn(rs);
+            when(rs.next()).thenReturn(true, false);   // la obra 7 no existe
+            when(rs.getLong(1)).thenReturn(5L);
+
+            PreparedStatement psOutbox = mock(PreparedStatement.class);
+            when(con.prepareStatement(startsWith("INSERT INTO outbox"))).thenReturn(psOutbox);
+
+            function.usuariosObrasRoot(req, uid, context);
+
+            // duplicados colapsados: gana el último valor de es_principal
+            verify(con).createArrayOf("bigint", new Long[] { 5L, 7L });
+            verify(con).createArrayOf("boolean", new Boolean[] { false, false });
+            verify(psUpsert, times(1)).executeQuery();
+            verify(psOutbox, times(1)).addBatch();
+            verify(psOutbox).executeBatch();
+            verify(con).commit();
+            verify(req).createResponseBuilder(HttpStatus.OK);
+        }
+    }
+
+    @Test
+    void desvincularObras_idsInvalidos_devuelve400() throws Exception {
+        HttpRequestMessage<Optional<String>> req = mockRequest(HttpMethod.DELETE, null, Map.of("Authorization", "Bearer test"));
+        when(req.getQueryParameters()).thenReturn(Map.of("ids", "1,dos"));
+
+        try (MockedStatic<JwtAuthService> jwt = mockStatic(JwtAuthService.class)) {
+            jwt.when(() -> JwtAuthService.validate(any())).thenReturn(null);
+
+            function.usuariosObrasRoot(req, "11111111-1111-1111-1111-111111111111", context);
+
+            verify(req).createResponseBuilder(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Test
+    void usuariosSync_loginRepetido_noVuelveALaBase() throws Exception {
+        String body = "{\"id_azure\":\"22222222-2222-2222-2222-222222222222\",\"username\":\"b@b.cl\",\"nombre_completo\":\"B\"}";
+
+        try (MockedStatic<Db> db = mockStatic(Db.class)) {
+            Connection con = mock(Connection.class);
+            PreparedStatement ps = mock(PreparedStatement.class);
+            ResultSet rs = mock(ResultSet.class);
+            db.when(Db::connect).thenReturn(con);
+            when(con.prepareStatement(startsWith("WITH u AS (INSERT INTO usuarios"))).thenReturn(ps);
+            when(ps.executeQuery()).thenReturn(rs);
+            when(rs.next()).thenReturn(true, false);
+            when(rs.getBoolean("nuevo")).thenReturn(true);
+
+            function.usuariosSync(mockRequest(HttpMethod.POST, body, Map.of()), context);
+            function.usuariosSync(mockRequest(HttpMethod.POST, body, Map.of()), context);
+
+            db.verify(Db::connect, times(1));
+            verify(ps).setBoolean(4, true);
+
+            // si cambia el nombre se vuelve a sincronizar
+            String otroNombre = body.replace("\"B\"", "\"B. Bravo\"");
+            function.usuariosSync(mockRequest(HttpMethod.POST, otroNombre, Map.of()), context);
+            db.verify(Db::connect, times(2));
+        }
+    }
+
+    @Test
+    void eliminar_encolaUsuarioEliminadoEnLaMismaTransaccion() throws Exception {
+        String uid = "33333333-3333-3333-3333-333333333333";
+        HttpRequestMessage<Optional<String>> req = mockRequest(HttpMethod.DELETE, null,
+            Map.of("Authorization", "Bearer test", "x-user-roles", "admin"));
+
+        try (MockedStatic<JwtAuthService> jwt = mockStatic(JwtAuthService.class);
+             MockedStatic<Db> db = mockStatic(Db.class)) {
+            jwt.when(() -> JwtAuthService.validate(any())).thenReturn(null);
+
+            Connection con = mock(Connection.class);
+            db.when(Db::connect).thenReturn(con);
+            PreparedStatement psDelete = mock(PreparedStatement.class);
+            when(con.prepareStatement(startsWith("DELETE FROM usuarios"))).thenReturn(psDelete);
+            when(psDelete.executeUpdate()).thenReturn(1);
+            when(con.prepareStatement(startsWith("UPDATE eventos_feed"))).thenReturn(mock(PreparedStatement.class));
+            PreparedStatement psOutbox = mock(PreparedStatement.class);
+            when(con.prepareStatement(startsWith("INSERT INTO outbox"))).thenReturn(psOutbox);
+
+            function.usuariosById(req, uid, context);
+
+            // el BFF tiene copiados username/nombre en los eventos y el dueño en /api/obras
+            verify(psOutbox).setString(1, "Usuarios.Usuario.Eliminado");
+            verify(psOutbox).setString(2, "/usuarios/" + uid);
+            verify(psOutbox).executeUpdate();
+            verify(con).commit();
+            verify(req).createResponseBuilder(HttpStatus.NO_CONTENT);
+        }
+    }
+
+    @Test
+    void usuariosSync_renombre_encolaUsuarioActualizadoEnElMismoStatement() throws Exception {
+        String body = "{\"id_azure\":\"44444444-4444-4444-4444-444444444444\",\"username\":\"c@c.cl\",\"nombre_completo\":\"C\"}";
+
+        try (MockedStatic<Db> db = mockStatic(Db.class)) {
+            Connection con = mock(Connection.class);
+            PreparedStatement ps = mock(PreparedStatement.class);
+            ResultSet rs = mock(ResultSet.class);
+            db.when(Db::connect).thenReturn(con);
+            when(con.prepareStatement(anyString())).thenReturn(ps);
+            when(ps.executeQuery()).thenReturn(rs);
+
+            function.usuariosSync(mockRequest(HttpMethod.POST, body, Map.of()), context);
+
+            // solo cuando la fila ya existía (NOT u.nuevo): el alta no cambia nada cacheado
+            verify(con).prepareStatement(argThat((String sql) -> sql.contains(
+                "ev AS (INSERT INTO outbox (event_type, subject, data) SELECT 'Usuarios.Usuario.Actualizado'")
+                && sql.contains("FROM u WHERE NOT u.nuevo)")));
+            verify(con, never()).prepareStatement(startsWith("INSERT INTO outbox"));
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package com.function.auth;
+
+import com.function.exception.ApplicationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtAuthServiceTest {
+
+    @AfterEach
+    void limpiar() {
+        for (String k : new String[] { JwtAuthService.LOCAL, "AZURE_AD_B2C_JWKS", "AZURE_AD_B2C_ISSUER",
+                "API_APP_ID_URI" }) {
+            System.clearProperty(k);
+        }
+    }
+
+    @Test
+    void validate_sinBearer_rechaza() {
+        assertThrows(IllegalArgumentException.class, () -> JwtAuthService.validate("Basic abc"));
+    }
+
+    @Test
+    void jwksLocal_sinFlagNoProductivo_noSeAcepta() {
+        // alguien con acceso a las system properties no puede cambiar las claves de confianza
+        System.setProperty("AZURE_AD_B2C_JWKS", "{\"keys\":[]}");
+        System.setProperty("AZURE_AD_B2C_ISSUER", "https://tallerpinturas.b2clogin.com/test/v2.0/");
+        System.setProperty("API_APP_ID_URI", "api://tallerpinturas-test");
+
+        ApplicationException e = assertThrows(ApplicationException.class,
+                () -> JwtAuthService.validate("Bearer a.b.c"));
+
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertTrue(e.getCause().getMessage().contains(JwtAuthService.LOCAL), e.getCause().getMessage());
+    }
+}
@@ -0,0 +1,58 @@
+package com.function.bulk;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkParserTest {
+
+    @Test
+    void csv_comillasYSaltosDeLinea_conservanNumeroDeLinea() {
+        String csv = "titulo,id_tipo_obra,descripcion\n"
+                + "\"Obra, \"\"A\"\"\",1,\"dos\nlíneas\"\n"
+                + "\n"
+                + "Obra B,x,\n"
+                + "Obra C,2\n";
+
+        List<BulkParser.Fila> filas = BulkParser.parse(csv, BulkParser.Formato.CSV, Set.of("id_tipo_obra"), 100);
+
+        assertEquals(3, filas.size());
+        assertEquals(2, filas.get(0).linea());
+        assertEquals("Obra, \"A\"", filas.get(0).datos().get("titulo"));
+        assertEquals(new BigDecimal("1"), filas.get(0).datos().get("id_tipo_obra"));
+        assertEquals("dos\nlíneas", filas.get(0).datos().get("descripcion"));
+        assertEquals(5, filas.get(1).linea());
+        assertFalse(filas.get(1).valida());
+        assertEquals(6, filas.get(2).linea());
+        assertFalse(filas.get(2).valida());
+    }
+
+    @Test
+    void ndjson_lineaRota_noCortaLaCarga() {
+        String ndjson = "{\"titulo\":\"a\"}\n{roto\n\n{\"titulo\":\"b\"}";
+
+        List<BulkParser.Fila> filas = BulkParser.parse(ndjson, BulkParser.Formato.NDJSON, Set.of(), 100);
+
+        assertEquals(List.of(1, 2, 4), filas.stream().map(BulkParser.Fila::linea).toList());
+        assertTrue(filas.get(0).valida());
+        assertFalse(filas.get(1).valida());
+        assertTrue(filas.get(2).valida());
+    }
+
+    @Test
+    void masFilasQueElMaximo_rechazaLaCarga() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BulkParser.parse("{}\n{}\n{}", BulkParser.Formato.NDJSON, Set.of(), 2));
+    }
+
+    @Test
+    void formato_parametroTienePrioridadSobreContentType() {
+        assertEquals(BulkParser.Formato.CSV, BulkParser.formato(null, "text/csv; charset=utf-8"));
+        assertEquals(BulkParser.Formato.NDJSON, BulkParser.formato("ndjson", "text/csv"));
+        assertEquals(BulkParser.Formato.NDJSON, BulkParser.formato(null, null));
+    }
+}
@@ -0,0 +1,64 @@
+package com.function.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TtlCacheTest {
+
+    private static final long MS = 1_000_000L;
+
+    private final AtomicLong ahora = new AtomicLong();
+
+    @Test
+    void get_vencida_devuelveNullYLaSaca() {
+        TtlCache<String, String> c = new TtlCache<>(100, 10, ahora::get);
+        c.put("a", "1");
+        ahora.addAndGet(99 * MS);
+        assertEquals("1", c.get("a"));
+
+        ahora.addAndGet(MS);
+        assertNull(c.get("a"));
+        assertEquals(0, c.size());
+    }
+
+    @Test
+    void llena_descartaPrimeroLasVencidas() {
+        TtlCache<Integer, String> c = new TtlCache<>(100, 4, ahora::get);
+        c.put(1, "v");
+        c.put(2, "v");
+        ahora.addAndGet(100 * MS);
+        c.put(3, "v");
+        c.put(4, "v");
+
+        c.put(5, "v");
+
+        assertEquals(3, c.size());
+        assertNull(c.get(1));
+        assertNull(c.get(2));
+        assertNotNull(c.get(3));
+        assertNotNull(c.get(4));
+        assertNotNull(c.get(5));
+    }
+
+    @Test
+    void llenaSinVencidas_descartaLasMasViejasYNoTodas() {
+        TtlCache<Integer, String> c = new TtlCache<>(1_000, 20, ahora::get);
+        for (int i = 0; i < 20; i++) {
+            c.put(i, "v");
+            ahora.addAndGet(MS);
+        }
+
+        c.put(20, "v");
+
+        // deja un 10% libre: salen las 2 más viejas y entra la nueva
+        assertEquals(19, c.size());
+        assertNull(c.get(0));
+        assertNull(c.get(1));
+        for (int i = 2; i <= 20; i++) {
+            assertNotNull(c.get(i), "se perdió la " + i);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.function.db;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TimedConnectionTest {
+
+    private final SimpleMeterRegistry registro = new SimpleMeterRegistry();
+    private final Connection real = mock(Connection.class);
+
+    @BeforeEach
+    void setup() {
+        Metrics.addRegistry(registro);
+    }
+
+    @AfterEach
+    void limpiar() {
+        Metrics.removeRegistry(registro);
+    }
+
+    private long medidas(String sentencia, String outcome) {
+        Timer t = registro.find("fn.db.query").tags("statement", sentencia, "outcome", outcome).timer();
+        return t == null ? 0 : t.count();
+    }
+
+    @Test
+    void preparedStatement_mideCadaExecuteConElNombreDelSql() throws Exception {
+        PreparedStatement ps = mock(PreparedStatement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(real.prepareStatement(anyString())).thenReturn(ps);
+        when(ps.executeQuery()).thenReturn(rs);
+
+        Connection con = TimedConnection.wrap(real);
+        PreparedStatement medido = con.prepareStatement("/* timed.uno */ SELECT 1 FROM eventos WHERE id_eventos = ?");
+        medido.setLong(1, 7L);
+
+        assertSame(rs, medido.executeQuery());
+        medido.executeQuery();
+
+        verify(ps).setLong(1, 7L);
+        verify(ps, times(2)).executeQuery();
+        assertEquals(2, medidas("timed.uno", "ok"));
+    }
+
+    @Test
+    void statement_nombraCadaExecutePorSuSql() throws Exception {
+        Statement st = mock(Statement.class);
+        when(real.createStatement()).thenReturn(st);
+        when(st.executeUpdate(anyString())).thenReturn(3);
+
+        Statement medido = TimedConnection.wrap(real).createStatement();
+
+        assertEquals(3, medido.executeUpdate("DELETE FROM timed_a WHERE TRUE"));
+        medido.executeUpdate("DELETE FROM timed_b WHERE TRUE");
+
+        assertEquals(1, medidas("delete timed_a", "ok"));
+        assertEquals(1, medidas("delete timed_b", "ok"));
+    }
+
+    @Test
+    void errorDelDriver_sePropagaTalCualYSeMideComoError() throws Exception {
+        PreparedStatement ps = mock(PreparedStatement.class);
+        SQLException falla = new SQLException("duplicate key", "23505");
+        when(real.prepareStatement(anyString())).thenReturn(ps);
+        when(ps.executeUpdate()).thenThrow(falla);
+
+        PreparedStatement medido = TimedConnection.wrap(real).prepareStatement("/* timed.falla */ INSERT INTO obras");
+
+        SQLException e = assertThrows(SQLException.class, medido::executeUpdate);
+        assertSame(falla, e);
+        assertEquals(1, medidas("timed.falla", "error"));
+        assertEquals(0, medidas("timed.falla", "ok"));
+    }
+
+    @Test
+    void unwrap_llegaALaConexionReal() throws Exception {
+        PGConnection pg = mock(PGConnection.class);
+        when(real.unwrap(PGConnection.class)).thenReturn(pg);
+
+        // CopyManager necesita la PGConnection del driver, no el proxy
+        assertSame(pg, TimedConnection.wrap(real).unwrap(PGConnection.class));
+    }
+}
@@ -0,0 +1,81 @@
+package com.function.dto;
+
+import com.function.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestReadersTest {
+
+    @Test
+    void obra_tipoAnidadoYAliasDelBff() {
+        ObraDTO anidada = RequestReaders.leer(RequestReaders.OBRA,
+                "{\"tipo\":{\"id_tipo_obra\":3,\"nombre\":\"Óleo\"},\"titulo\":\"A\",\"extra\":true}");
+        ObraDTO bff = RequestReaders.leer(RequestReaders.OBRA,
+                "{\"idTipoObra\":4,\"titulo\":\"B\",\"imagenBase64\":\"AA==\",\"id_azure\":\"5f784b53-452d-438f-a2b3-3772f76f23db\"}");
+
+        assertEquals(3L, anidada.idTipo());
+        assertNull(anidada.idAzure());
+        assertEquals(4L, bff.idTipo());
+        assertEquals("AA==", bff.imagen());
+        assertEquals(UUID.fromString("5f784b53-452d-438f-a2b3-3772f76f23db"), bff.idAzure());
+    }
+
+    @Test
+    void evento_rolAnidadoYFechas() {
+        EventoDTO e = RequestReaders.leer(RequestReaders.EVENTO,
+                "{\"titulo\":\"Feria\",\"rol\":{\"id_rol\":2},\"fechaInicio\":\"2025-03-01T18:00:00Z\","
+                        + "\"fechaTermino\":\"\",\"precio\":1500.5,\"lat\":-33.45,\"lon\":-70.66}");
+
+        assertEquals(2L, e.idRol());
+        assertEquals(Instant.parse("2025-03-01T18:00:00Z"), e.fechaInicio());
+        assertNull(e.fechaTermino());
+        assertEquals(new BigDecimal("1500.5"), e.precio());
+        assertEquals(-70.66, e.lon());
+    }
+
+    @Test
+    void usuario_idRolComoTextoYAliasCamelCase() {
+        UsuarioDTO u = RequestReaders.leer(RequestReaders.USUARIO,
+                "{\"idRol\":\"2\",\"username\":\"a@a.cl\",\"nombreCompleto\":\"Ana\"}");
+
+        assertEquals(2L, u.idRol());
+        assertEquals("Ana", u.nombreCompleto());
+    }
+
+    @Test
+    void nombresDistinguenMayusculas() {
+        ObraDTO o = RequestReaders.leer(RequestReaders.OBRA, "{\"Titulo\":\"A\"}");
+
+        assertNull(o.titulo());
+    }
+
+    @Test
+    void valorInvalido_indicaElCampo() {
+        InvalidRequestException fecha = assertThrows(InvalidRequestException.class,
+                () -> RequestReaders.leer(RequestReaders.EVENTO, "{\"fechaInicio\":\"mañana\"}"));
+        InvalidRequestException rol = assertThrows(InvalidRequestException.class,
+                () -> RequestReaders.leer(RequestReaders.EVENTO, "{\"rol\":{\"id_rol\":\"x\"}}"));
+        InvalidRequestException roto = assertThrows(InvalidRequestException.class,
+                () -> RequestReaders.leer(RequestReaders.OBRA, "{roto"));
+
+        assertEquals("fechaInicio inválido", fecha.getMessage());
+        assertEquals("rol.id_rol inválido", rol.getMessage());
+        assertEquals("JSON inválido", roto.getMessage());
+    }
+
+    @Test
+    void desdeMapa_filaCsv() {
+        ObraDTO o = RequestReaders.desdeMapa(RequestReaders.OBRA,
+                Map.of("titulo", "A", "id_tipo_obra", new BigDecimal("7")));
+
+        assertEquals(7L, o.idTipo());
+        assertThrows(InvalidRequestException.class,
+                () -> RequestReaders.desdeMapa(RequestReaders.OBRA, Map.of("titulo", "A", "id_azure", "zz")));
+    }
+}
@@ -0,0 +1,69 @@
+package com.function.json;
+
+import com.microsoft.azure.functions.HttpRequestMessage;
+import com.microsoft.azure.functions.HttpResponseMessage;
+import com.microsoft.azure.functions.HttpStatus;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class JsonResponseTest {
+
+    @Test
+    void acepta_respetaQCeroYComodin() {
+        assertTrue(JsonResponse.acepta("gzip, deflate, br", "gzip"));
+        assertTrue(JsonResponse.acepta("br;q=1.0, *;q=0.5", "gzip"));
+        assertFalse(JsonResponse.acepta("gzip;q=0, deflate", "gzip"));
+        assertFalse(JsonResponse.acepta("identity", "gzip"));
+        assertFalse(JsonResponse.acepta(null, "gzip"));
+    }
+
+    @Test
+    void of_bodyGrandeConGzip_vaComprimido() throws Exception {
+        List<Map<String, String>> lista = java.util.Collections.nCopies(200, Map.of("titulo", "Atardecer"));
+        HttpResponseMessage.Builder builder = builder();
+        HttpRequestMessage<?> req = request(builder, Map.of("accept-encoding", "gzip"));
+
+        JsonResponse.of(req, lista, HttpStatus.OK);
+
+        ArgumentCaptor<Object> body = ArgumentCaptor.forClass(Object.class);
+        verify(builder).header("Content-Encoding", "gzip");
+        verify(builder).body(body.capture());
+        byte[] plano = new GZIPInputStream(new ByteArrayInputStream((byte[]) body.getValue())).readAllBytes();
+        assertEquals(Json.MAPPER.writeValueAsString(lista), new String(plano, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void of_bodyChico_sinComprimir() throws Exception {
+        HttpResponseMessage.Builder builder = builder();
+        HttpRequestMessage<?> req = request(builder, Map.of("Accept-Encoding", "gzip"));
+
+        JsonResponse.of(req, Map.of("ok", true), HttpStatus.OK);
+
+        verify(builder, never()).header(eq("Content-Encoding"), anyString());
+    }
+
+    private static HttpResponseMessage.Builder builder() {
+        HttpResponseMessage.Builder builder = mock(HttpResponseMessage.Builder.class);
+        when(builder.header(anyString(), anyString())).thenReturn(builder);
+        when(builder.body(any())).thenReturn(builder);
+        when(builder.build()).thenReturn(mock(HttpResponseMessage.class));
+        return builder;
+    }
+
+    private static HttpRequestMessage<?> request(HttpResponseMessage.Builder builder, Map<String, String> headers) {
+        HttpRequestMessage<?> req = mock(HttpRequestMessage.class);
+        when(req.getHeaders()).thenReturn(headers);
+        when(req.createResponseBuilder(any(HttpStatus.class))).thenReturn(builder);
+        return req;
+    }
+}
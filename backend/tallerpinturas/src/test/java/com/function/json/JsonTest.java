@@ -0,0 +1,34 @@
+package com.function.json;
+
+import com.function.model.Obra;
+import com.function.model.Usuario;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonTest {
+
+    @Test
+    void writerFor_usaElWriterDelTipo() {
+        assertSame(Json.OBRA, Json.writerFor(new Obra()));
+        assertSame(Json.OBRAS, Json.writerFor(List.of(new Obra())));
+        assertSame(Json.USUARIOS, Json.writerFor(List.of(new Usuario())));
+        assertNotSame(Json.OBRAS, Json.writerFor(List.of()));
+        assertNotSame(Json.OBRAS, Json.writerFor(Map.of("a", 1)));
+    }
+
+    @Test
+    void bytes_mismoJsonQueElMapper() throws Exception {
+        Obra o = new Obra();
+        o.setId_obra(7L);
+        o.setTitulo("Atardecer en Valparaíso");
+
+        String esperado = Json.MAPPER.writeValueAsString(List.of(o));
+
+        assertEquals(esperado, new String(Json.bytes(List.of(o)), StandardCharsets.UTF_8));
+    }
+}
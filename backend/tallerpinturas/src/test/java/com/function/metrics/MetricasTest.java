@@ -0,0 +1,65 @@
+package com.function.metrics;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricasTest {
+
+    private final SimpleMeterRegistry registro = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setup() {
+        Metrics.addRegistry(registro);
+    }
+
+    @AfterEach
+    void limpiar() {
+        Metrics.removeRegistry(registro);
+    }
+
+    @Test
+    void sentencia_usaElComentarioInicial() {
+        assertEquals("eventos.listar", Metricas.sentencia("/* eventos.listar */ SELECT * FROM eventos_feed"));
+        assertEquals("outbox.claim:v2", Metricas.sentencia("  /*outbox.claim:v2*/\nSELECT id FROM outbox"));
+    }
+
+    @Test
+    void sentencia_sinComentario_verboYPrimeraTabla() {
+        assertEquals("select eventos_feed",
+                Metricas.sentencia("SELECT id_eventos FROM eventos_feed WHERE id_azure = ?"));
+        assertEquals("insert obras", Metricas.sentencia("insert INTO Obras (titulo) VALUES (?)"));
+        assertEquals("update outbox", Metricas.sentencia("UPDATE outbox SET published_at = now()"));
+        assertEquals("copy obras_staging", Metricas.sentencia("COPY obras_staging (linea) FROM STDIN"));
+        assertEquals("with obras", Metricas.sentencia("WITH nueva AS (INSERT INTO obras (titulo) VALUES (?)) SELECT 1"));
+    }
+
+    @Test
+    void sentencia_sinTablaONula() {
+        assertEquals("begin", Metricas.sentencia("BEGIN"));
+        assertEquals("sql", Metricas.sentencia("   "));
+        assertEquals("desconocida", Metricas.sentencia(null));
+    }
+
+    @Test
+    void sql_mideOkYErrorPorSeparado() {
+        assertEquals(3, Metricas.sql("metricas.test", () -> 3));
+        IOException e = assertThrows(IOException.class,
+                () -> Metricas.sql("metricas.test", () -> { throw new IOException("caída"); }));
+        assertEquals("caída", e.getMessage());
+
+        Timer ok = registro.find("fn.db.query").tags("statement", "metricas.test", "outcome", "ok").timer();
+        Timer error = registro.find("fn.db.query").tags("statement", "metricas.test", "outcome", "error").timer();
+        assertNotNull(ok);
+        assertNotNull(error);
+        assertEquals(1, ok.count());
+        assertEquals(1, error.count());
+    }
+}